@@ -37,10 +37,15 @@ final class CustomServiceFactory<C, T extends Service<C>>
     }
 
     @Override
-    public T create(C client) {
+    public T create(C client, long attributeTtl) {
         Class<? extends T> implType = ReflectionUtils.loadClass(
                 interfaceType, annotation.impl());
 
         return ReflectionUtils.newInstance(implType, client);
     }
+
+    @Override
+    public boolean supportsAttributeTtl() {
+        return false;
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources;
+
+import java.util.Iterator;
+
+import com.amazonaws.AmazonServiceException;
+
+/**
+ * Splits a {@code ResourceCollection} into whole pages which can be handed
+ * to different threads, so that per-resource work can proceed in parallel
+ * while the collection itself is still paginated strictly in order.
+ * <p>
+ * A {@code PageSplitter} may be shared by any number of threads; each call
+ * to {@link #trySplit()} hands out the next page to exactly one caller:
+ * <pre>
+ * final PageSplitter&lt;Instance&gt; splitter =
+ *         PageSplitter.forCollection(ec2.getInstances());
+ *
+ * for (int i = 0; i &lt; threads; ++i) {
+ *     executor.execute(new Runnable() {
+ *         public void run() {
+ *             ResourcePage&lt;Instance&gt; page;
+ *             while ((page = splitter.trySplit()) != null) {
+ *                 for (Instance instance : page) {
+ *                     handle(instance);
+ *                 }
+ *             }
+ *         }
+ *     });
+ * }
+ * </pre>
+ * Combine with {@link ResourceCollection#withPrefetch} to have the next
+ * page already fetched when a worker asks for it.
+ *
+ * @param <T> the type of resource contained in the collection
+ */
+public final class PageSplitter<T> {
+
+    private final Iterator<ResourcePage<T>> pages;
+    private boolean exhausted;
+
+    /**
+     * Creates a new splitter over the pages of the given collection. No
+     * service calls are made until the first call to {@code trySplit}.
+     *
+     * @param collection the collection to split
+     * @return a new splitter
+     */
+    public static <T> PageSplitter<T> forCollection(
+            ResourceCollection<T> collection) {
+
+        if (collection == null) {
+            throw new NullPointerException("collection");
+        }
+        return new PageSplitter<T>(collection.pages().iterator());
+    }
+
+    private PageSplitter(Iterator<ResourcePage<T>> pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * Hands off the next page of the collection to the caller, retrieving it
+     * from the service if need be. Callers block while another thread is
+     * retrieving a page.
+     *
+     * @return the next page, or null if every page has been handed out
+     * @throws AmazonServiceException on error making the remote call
+     */
+    public synchronized ResourcePage<T> trySplit() {
+        if (exhausted) {
+            return null;
+        }
+        if (!pages.hasNext()) {
+            exhausted = true;
+            return null;
+        }
+        return pages.next();
+    }
+}
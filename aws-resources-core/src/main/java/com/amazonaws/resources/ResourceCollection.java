@@ -15,6 +15,8 @@
 package com.amazonaws.resources;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 /**
  * A collection of resources.
@@ -86,4 +88,39 @@ public interface ResourceCollection<T> extends Iterable<T> {
      * @return the first page of resources in this collection
      */
     ResourcePage<T> firstPage(ResultCapture<Object> extractor);
+
+    /**
+     * Asynchronously retrieves the first page of results from this
+     * collection; the service call is made on the given executor, or on the
+     * executor of the underlying {@code *AsyncClient} if no executor is
+     * given.
+     *
+     * @param executor the executor to call the service on, or null
+     * @return a future for the first page of resources in this collection
+     * @throws IllegalArgumentException if no executor is given and the
+     *         underlying client is not an async client
+     */
+    Future<ResourcePage<T>> firstPageAsync(Executor executor);
+
+    /**
+     * Returns a view of this collection which reads ahead while it is being
+     * iterated: while the caller consumes one page of results, up to
+     * {@code depth} following pages are fetched in the background. This
+     * overlaps the latency of listing large collections with processing of
+     * the results.
+     * <p>
+     * Read-ahead stops once {@code depth} pages are buffered, and a partly
+     * consumed iterator which is no longer referenced stops requesting
+     * further pages.
+     *
+     * @param depth the maximum number of pages to fetch ahead of the
+     *         caller; must be at least one
+     * @param executor the executor to fetch pages on, or null to use the
+     *         executor of the underlying {@code *AsyncClient}
+     * @return a read-ahead view of this collection
+     * @throws IllegalArgumentException if {@code depth} is less than one, or
+     *         no executor is given and the underlying client is not an async
+     *         client
+     */
+    ResourceCollection<T> withPrefetch(int depth, Executor executor);
 }
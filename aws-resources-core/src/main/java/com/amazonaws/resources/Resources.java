@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.internal.BatchLoader;
+import com.amazonaws.resources.internal.ResourceFacade;
+import com.amazonaws.resources.internal.ResourceImpl;
+
+/**
+ * Utility methods which operate on many resources at once.
+ */
+public final class Resources {
+
+    /**
+     * Loads each of the given resources that is not already loaded, using
+     * as few calls to the service as possible. For example, loading five
+     * hundred EC2 {@code Instance}s makes five {@code DescribeInstances}
+     * calls rather than five hundred:
+     * <pre>
+     * List&lt;Instance&gt; instances = ...;
+     * Resources.loadAll(instances);
+     * for (Instance instance : instances) {
+     *     // No further service calls.
+     *     System.out.println(instance.getState());
+     * }
+     * </pre>
+     * Resources whose load action can't be batched are loaded one at a time.
+     * If the service rejects a batch (for example, because one of the
+     * resources no longer exists), the resources in that batch are loaded one
+     * at a time so the error is reported for the right resource.
+     *
+     * @param resources the resources to load
+     * @return the number of resources that were loaded
+     * @throws IllegalArgumentException if any of the given objects is not a
+     *         resource
+     * @throws AmazonServiceException on error making the remote call
+     */
+    public static int loadAll(Collection<?> resources) {
+        return loadAll(resources, BatchLoader.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Loads each of the given resources that is not already loaded, putting
+     * at most {@code batchSize} resources in each call to the service.
+     *
+     * @param resources the resources to load
+     * @param batchSize the maximum number of resources to load per call
+     * @return the number of resources that were loaded
+     * @throws IllegalArgumentException if any of the given objects is not a
+     *         resource, or if batchSize is less than one
+     * @throws AmazonServiceException on error making the remote call
+     * @see #loadAll(Collection)
+     */
+    public static int loadAll(Collection<?> resources, int batchSize) {
+        List<ResourceImpl> impls = new ArrayList<>(resources.size());
+
+        for (Object resource : resources) {
+            if (!(resource instanceof ResourceFacade)) {
+                throw new IllegalArgumentException(
+                        "Not a resource: " + resource);
+            }
+            impls.add(((ResourceFacade) resource).getResourceImpl());
+        }
+
+        return BatchLoader.loadAll(impls, batchSize);
+    }
+
+    private Resources() {
+    }
+}
@@ -14,6 +14,8 @@
  */
 package com.amazonaws.resources;
 
+import java.util.concurrent.TimeUnit;
+
 import com.amazonaws.AmazonWebServiceClient;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -21,6 +23,7 @@ import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.regions.Region;
 import com.amazonaws.resources.internal.CustomServiceInterface;
 import com.amazonaws.resources.internal.ReflectionUtils;
+import com.amazonaws.resources.internal.ServiceImpl;
 import com.amazonaws.resources.internal.V1ServiceInterface;
 
 /**
@@ -42,6 +45,8 @@ public final class ServiceBuilder<C, T extends Service<C>> {
     private Region region;
     private String endpoint;
 
+    private long attributeTtl = ServiceImpl.NO_ATTRIBUTE_TTL;
+
     /**
      * Creates a new {@code ServiceBuilder} for the given service interface
      * type.
@@ -204,6 +209,54 @@ public final class ServiceBuilder<C, T extends Service<C>> {
         return this;
     }
 
+    /**
+     * @param unit the unit to return the TTL in
+     * @return how long attributes loaded from the service are used before
+     *         they're considered stale, or a negative number if they never
+     *         go stale
+     */
+    public long getAttributeTtl(TimeUnit unit) {
+        if (attributeTtl < 0) {
+            return attributeTtl;
+        }
+        return unit.convert(attributeTtl, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets how long resource attributes loaded from the service are used
+     * before they're considered stale. Once stale, {@code isLoaded()}
+     * returns false, and the next attribute getter or {@code load()} call
+     * loads them again. By default, attributes never go stale.
+     *
+     * @param ttl the time-to-live, or a negative number to never go stale
+     * @param unit the unit of {@code ttl}
+     * @throws UnsupportedOperationException if the service does not support
+     *         an attribute TTL
+     */
+    public void setAttributeTtl(long ttl, TimeUnit unit) {
+        if (ttl >= 0 && !factory.supportsAttributeTtl()) {
+            throw new UnsupportedOperationException(
+                    "This service does not support an attribute TTL");
+        }
+
+        if (ttl < 0) {
+            this.attributeTtl = ServiceImpl.NO_ATTRIBUTE_TTL;
+        } else {
+            this.attributeTtl = unit.toMillis(ttl);
+        }
+    }
+
+    /**
+     * @param ttl the time-to-live, or a negative number to never go stale
+     * @param unit the unit of {@code ttl}
+     * @return this object, for method chaining
+     * @see #setAttributeTtl(long, TimeUnit)
+     */
+    public ServiceBuilder<C, T> withAttributeTtl(long ttl, TimeUnit unit) {
+        setAttributeTtl(ttl, unit);
+        return this;
+    }
+
     /**
      * Builds a new service object with the given parameters.
      *
@@ -215,7 +268,7 @@ public final class ServiceBuilder<C, T extends Service<C>> {
             clientObject = createClient();
         }
 
-        return factory.create(clientObject);
+        return factory.create(clientObject, attributeTtl);
     }
 
     private C createClient() {
@@ -24,7 +24,15 @@ interface ServiceFactory<C, T extends Service<C>> {
      * Creates a new Service object wrapping the given client.
      *
      * @param client the client to wrap
+     * @param attributeTtl the number of milliseconds after which loaded
+     *         resource attributes go stale, or a negative number if never
      * @return the newly created service
      */
-    T create(C client);
+    T create(C client, long attributeTtl);
+
+    /**
+     * @return true if services created by this factory support an attribute
+     *         TTL
+     */
+    boolean supportsAttributeTtl();
 }
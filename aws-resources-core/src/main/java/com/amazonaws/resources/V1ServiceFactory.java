@@ -18,7 +18,7 @@ import com.amazonaws.resources.internal.ReflectionUtils;
 import com.amazonaws.resources.internal.ServiceImpl;
 import com.amazonaws.resources.internal.V1ServiceInterface;
 import com.amazonaws.resources.internal.model.ServiceModel;
-import com.amazonaws.resources.internal.model.V1ModelLoader;
+import com.amazonaws.resources.internal.model.ServiceModelRegistry;
 
 /**
  * @param <C> client interface type
@@ -37,7 +37,8 @@ class V1ServiceFactory<C,T extends Service<C>> implements ServiceFactory<C,T> {
         this.interfaceType = interfaceType;
         this.annotation = annotation;
 
-        this.model = V1ModelLoader.load(interfaceType, annotation.model());
+        this.model = ServiceModelRegistry.getModel(
+                interfaceType, annotation.model());
     }
 
     @Override
@@ -47,10 +48,15 @@ class V1ServiceFactory<C,T extends Service<C>> implements ServiceFactory<C,T> {
     }
 
     @Override
-    public T create(C client) {
-        ServiceImpl<C> impl = new ServiceImpl<>(model, client);
+    public T create(C client, long attributeTtl) {
+        ServiceImpl<C> impl = new ServiceImpl<>(model, client, attributeTtl);
         Class<? extends T> implType = ReflectionUtils.loadClass(
                 interfaceType, annotation.impl());
         return ReflectionUtils.newInstance(implType, impl);
     }
+
+    @Override
+    public boolean supportsAttributeTtl() {
+        return true;
+    }
 }
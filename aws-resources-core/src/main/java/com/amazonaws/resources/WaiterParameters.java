@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controls how a {@code waitUntil*} method polls the service. The delay
+ * between polls starts at the initial delay and doubles after each poll up
+ * to the maximum delay, with random jitter so that many concurrent waits
+ * don't poll in lockstep. The wait fails if it hasn't succeeded within the
+ * timeout.
+ */
+public final class WaiterParameters {
+
+    private long initialDelay = TimeUnit.SECONDS.toMillis(2);
+    private long maxDelay = TimeUnit.SECONDS.toMillis(30);
+    private long timeout = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * @param unit the unit to return the delay in
+     * @return the delay after the first poll
+     */
+    public long getInitialDelay(TimeUnit unit) {
+        return unit.convert(initialDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param delay the delay after the first poll, at least one millisecond
+     * @param unit the unit of {@code delay}
+     */
+    public void setInitialDelay(long delay, TimeUnit unit) {
+        this.initialDelay = toDelay(delay, unit, "initialDelay");
+    }
+
+    /**
+     * @param delay the delay after the first poll, at least one millisecond
+     * @param unit the unit of {@code delay}
+     * @return this object, for method chaining
+     */
+    public WaiterParameters withInitialDelay(long delay, TimeUnit unit) {
+        setInitialDelay(delay, unit);
+        return this;
+    }
+
+
+    /**
+     * @param unit the unit to return the delay in
+     * @return the longest delay between two polls
+     */
+    public long getMaxDelay(TimeUnit unit) {
+        return unit.convert(maxDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param delay the longest delay between two polls, at least one
+     *            millisecond
+     * @param unit the unit of {@code delay}
+     */
+    public void setMaxDelay(long delay, TimeUnit unit) {
+        this.maxDelay = toDelay(delay, unit, "maxDelay");
+    }
+
+    /**
+     * @param delay the longest delay between two polls, at least one
+     *            millisecond
+     * @param unit the unit of {@code delay}
+     * @return this object, for method chaining
+     */
+    public WaiterParameters withMaxDelay(long delay, TimeUnit unit) {
+        setMaxDelay(delay, unit);
+        return this;
+    }
+
+
+    /**
+     * @param unit the unit to return the timeout in
+     * @return how long to wait before giving up
+     */
+    public long getTimeout(TimeUnit unit) {
+        return unit.convert(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param timeout how long to wait before giving up
+     * @param unit the unit of {@code timeout}
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        this.timeout = toMillis(timeout, unit, "timeout");
+    }
+
+    /**
+     * @param timeout how long to wait before giving up
+     * @param unit the unit of {@code timeout}
+     * @return this object, for method chaining
+     */
+    public WaiterParameters withTimeout(long timeout, TimeUnit unit) {
+        setTimeout(timeout, unit);
+        return this;
+    }
+
+    /**
+     * Checks that the maximum delay is no shorter than the initial delay.
+     * This can't be checked as each is set without making the order they
+     * are set in matter, so it's checked when a wait starts instead.
+     *
+     * @throws IllegalArgumentException if the maximum delay is shorter than
+     *         the initial delay
+     */
+    public void validate() {
+        if (maxDelay < initialDelay) {
+            throw new IllegalArgumentException(
+                    "maxDelay (" + maxDelay + "ms) cannot be less than "
+                    + "initialDelay (" + initialDelay + "ms)");
+        }
+    }
+
+    /**
+     * Polling with no delay at all would never back off, so delays must
+     * come to at least a millisecond.
+     */
+    private static long toDelay(long value, TimeUnit unit, String name) {
+        long millis = toMillis(value, unit, name);
+        if (millis < 1) {
+            throw new IllegalArgumentException(
+                    name + " must be at least 1ms: " + value + " " + unit);
+        }
+        return millis;
+    }
+
+    private static long toMillis(long value, TimeUnit unit, String name) {
+        if (value < 0) {
+            throw new IllegalArgumentException(
+                    name + " cannot be negative: " + value);
+        }
+        return unit.toMillis(value);
+    }
+
+    @Override
+    public String toString() {
+        return "{initialDelay=" + initialDelay
+                + ", maxDelay=" + maxDelay
+                + ", timeout=" + timeout
+                + "}";
+    }
+}
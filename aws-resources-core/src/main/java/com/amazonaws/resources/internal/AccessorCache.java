@@ -0,0 +1,301 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * A cache of the accessor methods used by {@code ReflectionUtils} to evaluate
+ * path expressions. Each (class, property) pair is resolved through
+ * reflection at most once; the resulting {@code Method} is converted into a
+ * {@code MethodHandle} which is reused for every subsequent call.
+ * <p>
+ * Properties which have no accessor are cached as well (as
+ * {@link Getter#MISSING}), so the warning about a missing accessor is only
+ * logged once per class and property rather than once per call.
+ */
+final class AccessorCache {
+
+    private static final MethodHandles.Lookup LOOKUP =
+            MethodHandles.publicLookup();
+
+    private static final MethodType GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, Getter>> GETTERS =
+            new ClassValue<ConcurrentMap<String, Getter>>() {
+                @Override
+                protected ConcurrentMap<String, Getter> computeValue(
+                        Class<?> type) {
+
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final ClassValue<ConcurrentMap<String, Setter[]>> SETTERS =
+            new ClassValue<ConcurrentMap<String, Setter[]>>() {
+                @Override
+                protected ConcurrentMap<String, Setter[]> computeValue(
+                        Class<?> type) {
+
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Returns the accessor for the specified member property of the given
+     * type. For example, if the member property is "Foo", this looks for a
+     * "getFoo()" method and an "isFoo()" method.
+     *
+     * @param type the type to reflect on
+     * @param propertyName the name of the property to search for
+     * @return the accessor, or {@code Getter.MISSING} if there is none
+     */
+    public static Getter getter(Class<?> type, String propertyName) {
+        ConcurrentMap<String, Getter> getters = GETTERS.get(type);
+
+        Getter getter = getters.get(propertyName);
+        if (getter == null) {
+            getter = findGetter(type, propertyName);
+
+            Getter existing = getters.putIfAbsent(propertyName, getter);
+            if (existing != null) {
+                getter = existing;
+            }
+        }
+
+        return getter;
+    }
+
+    /**
+     * Returns a setter with the given name that will accept a parameter of
+     * the given type. If more than one method matches, returns the first such
+     * method found.
+     *
+     * @param type the type to reflect on
+     * @param name the name of the method to search for
+     * @param parameterType the type of the parameter to be passed
+     * @return the matching setter
+     * @throws IllegalStateException if no matching method is found
+     */
+    public static Setter setter(
+            Class<?> type,
+            String name,
+            Class<?> parameterType) {
+
+        ConcurrentMap<String, Setter[]> setters = SETTERS.get(type);
+
+        Setter[] candidates = setters.get(name);
+        if (candidates == null) {
+            candidates = findSetters(type, name);
+
+            Setter[] existing = setters.putIfAbsent(name, candidates);
+            if (existing != null) {
+                candidates = existing;
+            }
+        }
+
+        for (Setter setter : candidates) {
+            if (setter.accepts(parameterType)) {
+                return setter;
+            }
+        }
+
+        throw new IllegalStateException(
+                "No method '" + name + "(" + parameterType + ") on type "
+                + type);
+    }
+
+    private static Getter findGetter(Class<?> type, String propertyName) {
+        String suffix = propertyName.substring(0, 1).toUpperCase()
+                      + propertyName.substring(1);
+
+        Method method = findNoArgMethod(type, "get" + suffix);
+        if (method == null) {
+            method = findNoArgMethod(type, "is" + suffix);
+        }
+
+        if (method == null) {
+            LogFactory.getLog(ReflectionUtils.class).warn(
+                    "No accessor for property '"
+                    + suffix + "' " + "found in class "
+                    + type.getName());
+
+            return Getter.MISSING;
+        }
+
+        return new Getter(method, unreflect(method).asType(GETTER_TYPE));
+    }
+
+    private static Method findNoArgMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException nsme) {
+            return null;
+        }
+    }
+
+    private static Setter[] findSetters(Class<?> type, String name) {
+        List<Setter> result = new ArrayList<>();
+
+        for (Method method : type.getMethods()) {
+            if (!method.getName().equals(name)) {
+                continue;
+            }
+
+            Class<?>[] parameters = method.getParameterTypes();
+            if (parameters.length != 1) {
+                continue;
+            }
+
+            result.add(new Setter(
+                    method,
+                    parameters[0],
+                    unreflect(method).asType(SETTER_TYPE)));
+        }
+
+        return result.toArray(new Setter[result.size()]);
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException(
+                    "Unable to access " + method.toGenericString(),
+                    exception);
+        }
+    }
+
+    /**
+     * A cached, resolved accessor ("getFoo()" or "isFoo()") method.
+     */
+    public static final class Getter {
+
+        /**
+         * Marker for a property which has no accessor; evaluating it always
+         * returns {@code null}.
+         */
+        public static final Getter MISSING = new Getter(null, null);
+
+        private final Method method;
+        private final MethodHandle handle;
+
+        private Getter(Method method, MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+        }
+
+        /**
+         * @return true if there is no accessor for this property
+         */
+        public boolean isMissing() {
+            return (handle == null);
+        }
+
+        /**
+         * @return the declared return type of the accessor
+         */
+        public Class<?> getReturnType() {
+            return method.getReturnType();
+        }
+
+        /**
+         * Invokes the accessor on the given target object.
+         *
+         * @param target the object to invoke the accessor on
+         * @return the value returned by the accessor, or {@code null} if
+         *         there is no accessor for this property
+         */
+        public Object invoke(Object target) {
+            if (handle == null) {
+                return null;
+            }
+
+            try {
+                return (Object) handle.invokeExact(target);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable exception) {
+                throw new IllegalStateException(
+                        "Checked exception thrown from "
+                        + method.toGenericString(),
+                        exception);
+            }
+        }
+    }
+
+    /**
+     * A cached, resolved single-parameter setter method.
+     */
+    public static final class Setter {
+
+        private final Method method;
+        private final Class<?> parameterType;
+        private final MethodHandle handle;
+
+        private Setter(
+                Method method,
+                Class<?> parameterType,
+                MethodHandle handle) {
+
+            this.method = method;
+            this.parameterType = parameterType;
+            this.handle = handle;
+        }
+
+        /**
+         * @param type the type of a value to be passed to this setter
+         * @return true if this setter accepts values of the given type
+         */
+        public boolean accepts(Class<?> type) {
+            return parameterType.isAssignableFrom(type);
+        }
+
+        /**
+         * Invokes the setter on the given target object.
+         *
+         * @param target the object to invoke the setter on
+         * @param value the value to pass
+         */
+        public void invoke(Object target, Object value) {
+            try {
+                handle.invokeExact(target, value);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable exception) {
+                throw new IllegalStateException(
+                        "Checked exception thrown from "
+                        + method.toGenericString(),
+                        exception);
+            }
+        }
+    }
+
+    private AccessorCache() {
+    }
+}
@@ -32,6 +32,13 @@ public interface ActionContext {
      */
     Object getClient();
 
+    /**
+     * @return the number of milliseconds after which attributes loaded
+     *         through this context are considered stale, or a negative
+     *         number if they never go stale
+     */
+    long getAttributeTtl();
+
     /**
      * @return true if this context object has identifiers or attributes
      */
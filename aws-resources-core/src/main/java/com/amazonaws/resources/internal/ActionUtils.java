@@ -42,6 +42,30 @@ final class ActionUtils {
     // TODO: Automate keeping me up to date.
     private static final String USER_AGENT = "Resources/0.0.1";
 
+    /**
+     * The String-valued getters of each response metadata type, found once
+     * per type rather than on every call.
+     */
+    private static final ClassValue<Method[]> METADATA_GETTERS =
+            new ClassValue<Method[]>() {
+                @Override
+                protected Method[] computeValue(Class<?> type) {
+                    List<Method> getters = new ArrayList<>();
+
+                    for (Method getter : type.getMethods()) {
+                        if (getter.getName().startsWith("get")
+                                && getter.getParameterTypes().length == 0
+                                && getter.getReturnType()
+                                        .equals(String.class)) {
+
+                            getters.add(getter);
+                        }
+                    }
+
+                    return getters.toArray(new Method[getters.size()]);
+                }
+            };
+
     /**
      * Performs the given action passing the given parameters.
      *
@@ -79,8 +103,8 @@ final class ActionUtils {
 
         try {
 
-            Method method = findClientMethod(
-                    context.getClient(), action.getRequest().getMethod());
+            Method method = ClientMethods.forClient(context.getClient())
+                    .find(action.getRequest().getMethod());
 
             request = generateRequest(
                     context,
@@ -244,7 +268,8 @@ final class ActionUtils {
                     refTypeModel,
                     context.getClient(),
                     identifiers.get(i),
-                    attributes));
+                    attributes,
+                    context.getAttributeTtl()));
         }
 
         return Collections.unmodifiableList(rval);
@@ -383,8 +408,8 @@ final class ActionUtils {
             Object parameter)
                     throws IllegalAccessException, InvocationTargetException {
 
-        Method method = tryFindClientMethod(
-                context.getClient(), "getCachedResponseMetadata");
+        Method method = ClientMethods.forClient(context.getClient())
+                .tryFind("getCachedResponseMetadata");
         if (method == null) {
             return Collections.<String, String>emptyMap();
         }
@@ -396,53 +421,20 @@ final class ActionUtils {
 
         Map<String, String> metadata = new HashMap<>();
 
-        for (Method getter : result.getClass().getMethods()) {
-            String name = getter.getName();
-            if (name.startsWith("get")
-                    && getter.getParameterTypes().length == 0
-                    && getter.getReturnType().equals(String.class)) {
-
-                String value = (String) getter.invoke(result);
-                metadata.put(name.substring(3), value);
-            }
+        for (Method getter : getMetadataGetters(result.getClass())) {
+            String value = (String) getter.invoke(result);
+            metadata.put(getter.getName().substring(3), value);
         }
 
         return Collections.unmodifiableMap(metadata);
     }
 
-    private static Method findClientMethod(Object client, String name) {
-        Method result = tryFindClientMethod(client, name);
-
-        if (result == null) {
-            throw new RuntimeException("No client method named " + name);
-        }
-
-        return result;
-    }
-
-    private static Method tryFindClientMethod(Object client, String name) {
-        // TODO: Cache me.
-        for (Method method : client.getClass().getMethods()) {
-            if (!method.getName().equals(name)) {
-                continue;
-            }
-
-            Class<?>[] parameters = method.getParameterTypes();
-            if (parameters.length != 1) {
-                continue;
-            }
-
-            // This is the inverse of the normal approach of findMethod() -
-            // we're looking for a method which will accept a specific subtype
-            // of AmazonWebServiceRequest, without worrying overmuch about
-            // what subtype it is. We'll create an object of the appropriate
-            // type and fill it in.
-            if (AmazonWebServiceRequest.class.isAssignableFrom(parameters[0])) {
-                return method;
-            }
-        }
-
-        return null;
+    /**
+     * @param type the type of response metadata
+     * @return the String-valued getters of the given type
+     */
+    static Method[] getMetadataGetters(Class<?> type) {
+        return METADATA_GETTERS.get(type);
     }
 
     private ActionUtils() {
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A helper class for running actions asynchronously, either on an executor
+ * supplied by the caller or on the executor of the {@code *AsyncClient}
+ * wrapped by the resource.
+ */
+final class AsyncActions {
+
+    private static final String EXECUTOR_GETTER = "getExecutorService";
+
+    /**
+     * The {@code getExecutorService()} method of each client class, or null
+     * if the client is not an async client.
+     */
+    private static final ClassValue<Method> EXECUTOR_GETTERS =
+            new ClassValue<Method>() {
+                @Override
+                protected Method computeValue(Class<?> type) {
+                    try {
+                        Method method = type.getMethod(EXECUTOR_GETTER);
+                        if (ExecutorService.class.isAssignableFrom(
+                                method.getReturnType())) {
+                            return method;
+                        }
+                    } catch (NoSuchMethodException exception) {
+                        // Not an async client.
+                    }
+                    return null;
+                }
+            };
+
+    /**
+     * Returns the executor to run an asynchronous action on: the given
+     * executor if it is non-null, otherwise the executor of the given client.
+     *
+     * @param client the client the action will be performed with
+     * @param executor the caller-supplied executor, or null
+     * @return the executor to run the action on
+     * @throws IllegalArgumentException if no executor was supplied and the
+     *         client is not an async client
+     */
+    public static Executor getExecutor(Object client, Executor executor) {
+        if (executor != null) {
+            return executor;
+        }
+
+        Method getter = EXECUTOR_GETTERS.get(client.getClass());
+        if (getter == null) {
+            throw new IllegalArgumentException(
+                    "No executor was supplied, and the client ("
+                    + client.getClass().getName() + ") is not an async "
+                    + "client. Either pass an Executor or build the service "
+                    + "with an *AsyncClient.");
+        }
+
+        try {
+            return (Executor) getter.invoke(client);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException(
+                    "Unable to access " + EXECUTOR_GETTER,
+                    exception);
+        } catch (InvocationTargetException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw new IllegalStateException(
+                    "Unable to get the client's executor",
+                    exception);
+        }
+    }
+
+    /**
+     * Submits the given task to an executor, as chosen by
+     * {@link #getExecutor(Object, Executor)}.
+     *
+     * @param client the client the task will use
+     * @param executor the caller-supplied executor, or null
+     * @param task the task to run
+     * @return a future for the result of the task
+     */
+    public static <T> Future<T> submit(
+            Object client,
+            Executor executor,
+            Callable<T> task) {
+
+        Executor target = getExecutor(client, executor);
+
+        FutureTask<T> future = new FutureTask<>(task);
+        target.execute(future);
+        return future;
+    }
+
+    private AsyncActions() {
+    }
+}
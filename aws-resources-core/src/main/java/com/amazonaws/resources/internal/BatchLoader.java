@@ -0,0 +1,448 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.resources.internal.model.ActionModel;
+import com.amazonaws.resources.internal.model.CollectionModel;
+import com.amazonaws.resources.internal.model.DataMapping;
+import com.amazonaws.resources.internal.model.PathSourceMapping;
+import com.amazonaws.resources.internal.model.PathTargetMapping;
+import com.amazonaws.resources.internal.model.RequestModel;
+import com.amazonaws.resources.internal.model.ResourceMapping;
+import com.amazonaws.resources.internal.model.ResourceModel;
+import com.amazonaws.resources.internal.model.ResponseModel;
+import com.amazonaws.resources.internal.model.ServiceModel;
+
+/**
+ * Loads many resources with as few service calls as possible. Resources
+ * whose load action takes a single identifier as the first element of a
+ * list (for example, {@code DescribeInstances} with {@code InstanceIds.0})
+ * are grouped by type and loaded by a single request listing all of their
+ * identifiers; the results are matched back to the resources using the
+ * identifier path the service model uses when listing resources of that
+ * type. Resources of any other type are loaded one at a time.
+ */
+public final class BatchLoader {
+
+    /**
+     * The default number of identifiers to pack into a single request.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * Sentinel for resource types which can't be loaded in batches.
+     */
+    private static final Plan NOT_BATCHABLE = new Plan(null, null, null);
+
+    private static final Map<ResourceModel, Plan> PLANS =
+            Collections.synchronizedMap(new WeakHashMap<ResourceModel, Plan>());
+
+    /**
+     * Loads each of the given resources that is not already loaded.
+     *
+     * @param resources the resources to load
+     * @param batchSize the maximum number of resources to load per request
+     * @return the number of resources that were loaded
+     */
+    public static int loadAll(
+            Collection<ResourceImpl> resources,
+            int batchSize) {
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(
+                    "Batch size must be at least 1, was " + batchSize);
+        }
+
+        int loaded = 0;
+
+        for (List<ResourceImpl> group : group(resources).values()) {
+            Plan plan = getPlan(group.get(0));
+
+            for (int i = 0; i < group.size(); i += batchSize) {
+                List<ResourceImpl> batch = group.subList(
+                        i, Math.min(group.size(), i + batchSize));
+
+                if (plan == NOT_BATCHABLE || batch.size() == 1) {
+                    loaded += loadIndividually(batch);
+                } else {
+                    loaded += loadBatch(plan, batch);
+                }
+            }
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Groups the unloaded resources by type and client, preserving the
+     * order in which they were given.
+     */
+    private static Map<GroupKey, List<ResourceImpl>> group(
+            Collection<ResourceImpl> resources) {
+
+        Map<GroupKey, List<ResourceImpl>> groups = new LinkedHashMap<>();
+
+        for (ResourceImpl resource : resources) {
+            if (resource.isLoaded()) {
+                continue;
+            }
+
+            GroupKey key = new GroupKey(resource);
+            List<ResourceImpl> group = groups.get(key);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(key, group);
+            }
+            group.add(resource);
+        }
+
+        return groups;
+    }
+
+    private static int loadIndividually(List<ResourceImpl> resources) {
+        int loaded = 0;
+        for (ResourceImpl resource : resources) {
+            if (resource.load(null, null)) {
+                loaded += 1;
+            }
+        }
+        return loaded;
+    }
+
+    private static int loadBatch(Plan plan, List<ResourceImpl> resources) {
+        // Multiple objects may represent the same resource.
+        Map<Object, List<ResourceImpl>> byId = new HashMap<>();
+
+        ResourceImpl first = resources.get(0);
+        AmazonWebServiceRequest request = newRequest(first.getClient(), plan);
+
+        for (ResourceImpl resource : resources) {
+            Object id = resource.getIdentifier(plan.identifier.getSource());
+
+            List<ResourceImpl> matches = byId.get(id);
+            if (matches == null) {
+                matches = new ArrayList<>();
+                byId.put(id, matches);
+
+                // A target ending in '0' appends to the list.
+                ReflectionUtils.setByPath(
+                        request, id, plan.identifier.getTarget());
+            }
+            matches.add(resource);
+        }
+
+        ActionResult result;
+        try {
+            result = ActionUtils.perform(first, plan.action, request, null);
+
+        } catch (AmazonServiceException exception) {
+            // Typically one of the identifiers doesn't exist; load them one
+            // at a time so the failure is attributed to the right resource.
+            return loadIndividually(resources);
+        }
+
+        int loaded = 0;
+
+        List<?> items = (List<?>) result.getData();
+        if (items != null) {
+            for (Object item : items) {
+                Object id = ReflectionUtils.getByPath(item, plan.idPath);
+
+                List<ResourceImpl> matches = byId.get(id);
+                if (matches == null) {
+                    continue;
+                }
+
+                for (ResourceImpl resource : matches) {
+                    if (resource.loadFrom(item)) {
+                        loaded += 1;
+                    }
+                }
+            }
+        }
+
+        return loaded;
+    }
+
+    private static AmazonWebServiceRequest newRequest(
+            Object client,
+            Plan plan) {
+
+        Method method = ClientMethods.forClient(client)
+                .find(plan.action.getRequest().getMethod());
+
+        return (AmazonWebServiceRequest)
+                ReflectionUtils.newInstance(method.getParameterTypes()[0]);
+    }
+
+    private static Plan getPlan(ResourceImpl resource) {
+        ResourceModel model = resource.getResourceModel();
+
+        Plan plan = PLANS.get(model);
+        if (plan == null) {
+            plan = createPlan(resource.getServiceModel(), model);
+            PLANS.put(model, plan);
+        }
+
+        return plan;
+    }
+
+    /**
+     * Works out how to load resources of the given type in batches, if it's
+     * possible to do so.
+     */
+    private static Plan createPlan(
+            ServiceModel service,
+            ResourceModel model) {
+
+        ActionModel load = model.getLoadAction();
+        if (load == null) {
+            return NOT_BATCHABLE;
+        }
+
+        RequestModel request = load.getRequest();
+        ResponseModel response = load.getResponse();
+
+        // Exactly one identifier, mapped to the first element of a list.
+        if (request.getIdentifierMappings().size() != 1
+                || !request.getAttributeMappings().isEmpty()) {
+            return NOT_BATCHABLE;
+        }
+
+        PathTargetMapping idMapping = request.getIdentifierMappings().get(0);
+        List<String> target = idMapping.getTarget();
+        if (target.size() < 2 || !"0".equals(target.get(target.size() - 1))) {
+            return NOT_BATCHABLE;
+        }
+
+        // A single element of a list in the response.
+        if (response == null || response.getDataMapping() == null) {
+            return NOT_BATCHABLE;
+        }
+        DataMapping dataMapping = response.getDataMapping();
+
+        // Only a bare '*' marks the data mapping as multi-valued.
+        List<String> source = new ArrayList<>();
+        boolean multiValued = false;
+        for (String element : dataMapping.getSource()) {
+            if (stripType(element).equals("0")) {
+                source.add("*");
+                multiValued = true;
+            } else {
+                source.add(element);
+            }
+        }
+        if (!multiValued) {
+            return NOT_BATCHABLE;
+        }
+
+        List<String> idPath =
+                findIdentifierPath(service, dataMapping, idMapping, source);
+        if (idPath == null) {
+            return NOT_BATCHABLE;
+        }
+
+        List<PathTargetMapping> noIdentifiers = Collections.emptyList();
+
+        ActionModel action = new ActionModel(
+                new RequestModel(
+                        request.getMethod(),
+                        request.getClientRequestType(),
+                        request.getClientResponseType(),
+                        noIdentifiers,
+                        request.getAttributeMappings(),
+                        request.getParameterMappings(),
+                        request.getConstantMappings(),
+                        request.getConvenientMethods(),
+                        request.getTokenPath(),
+                        request.getLimitPath()),
+                new ResponseModel(
+                        null,
+                        new DataMapping(dataMapping.getType(), source),
+                        null));
+
+        return new Plan(idMapping, action, idPath);
+    }
+
+    /**
+     * Finds the path from a single item in the response to its identifier,
+     * by looking for a place in the service model where resources of this
+     * type are created from the same list of items.
+     */
+    private static List<String> findIdentifierPath(
+            ServiceModel service,
+            DataMapping dataMapping,
+            PathTargetMapping idMapping,
+            List<String> source) {
+
+        String type = null;
+        for (Map.Entry<String, ResourceModel> entry
+                : service.getResources().entrySet()) {
+
+            ActionModel load = entry.getValue().getLoadAction();
+            if (load != null && load.getResponse() != null
+                    && load.getResponse().getDataMapping() == dataMapping) {
+                type = entry.getKey();
+                break;
+            }
+        }
+        if (type == null) {
+            return null;
+        }
+
+        for (ResourceMapping mapping : getResourceMappings(service)) {
+            if (!type.equals(mapping.getType())) {
+                continue;
+            }
+
+            for (PathSourceMapping ids
+                    : mapping.getResponseIdentifierMappings()) {
+
+                if (!idMapping.getSource().equals(ids.getTarget())) {
+                    continue;
+                }
+
+                List<String> path = ids.getSource();
+                if (path.size() > source.size()
+                        && startsWith(path, source)) {
+
+                    return new ArrayList<>(
+                            path.subList(source.size(), path.size()));
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static List<ResourceMapping> getResourceMappings(
+            ServiceModel service) {
+
+        List<ActionModel> actions = new ArrayList<>();
+
+        addActions(actions,
+                service.getActions().values(),
+                service.getCollections().values());
+
+        for (ResourceModel resource : service.getResources().values()) {
+            addActions(actions,
+                    resource.getActions().values(),
+                    resource.getCollections().values());
+        }
+
+        List<ResourceMapping> mappings = new ArrayList<>();
+        for (ActionModel action : actions) {
+            if (action != null && action.getResponse() != null
+                    && action.getResponse().getResourceMapping() != null) {
+
+                mappings.add(action.getResponse().getResourceMapping());
+            }
+        }
+        return mappings;
+    }
+
+    private static void addActions(
+            List<ActionModel> result,
+            Collection<ActionModel> actions,
+            Collection<CollectionModel> collections) {
+
+        result.addAll(actions);
+        for (CollectionModel collection : collections) {
+            result.add(collection.getListAction());
+        }
+    }
+
+    /**
+     * Compares two paths element by element, ignoring any type suffixes.
+     */
+    private static boolean startsWith(List<String> path, List<String> prefix) {
+        for (int i = 0; i < prefix.size(); ++i) {
+            if (!stripType(path.get(i)).equals(stripType(prefix.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String stripType(String element) {
+        int colon = element.indexOf(':');
+        return (colon == -1 ? element : element.substring(0, colon));
+    }
+
+    /**
+     * How to load resources of a particular type in batches.
+     */
+    private static final class Plan {
+
+        private final PathTargetMapping identifier;
+        private final ActionModel action;
+        private final List<String> idPath;
+
+        public Plan(
+                PathTargetMapping identifier,
+                ActionModel action,
+                List<String> idPath) {
+
+            this.identifier = identifier;
+            this.action = action;
+            this.idPath = idPath;
+        }
+    }
+
+    /**
+     * Resources can be loaded together if they are of the same type and
+     * share a client.
+     */
+    private static final class GroupKey {
+
+        private final ResourceModel model;
+        private final Object client;
+
+        public GroupKey(ResourceImpl resource) {
+            this.model = resource.getResourceModel();
+            this.client = resource.getClient();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GroupKey)) {
+                return false;
+            }
+            GroupKey other = (GroupKey) obj;
+            return (model == other.model && client == other.client);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(model) * 31
+                    + System.identityHashCode(client);
+        }
+    }
+
+    private BatchLoader() {
+    }
+}
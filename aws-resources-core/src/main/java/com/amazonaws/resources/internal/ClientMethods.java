@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+/**
+ * An index of the methods of a low-level client class which take a single
+ * {@code AmazonWebServiceRequest} parameter, built with a single pass over
+ * {@code getMethods()} the first time a client of the given class is used.
+ * Subsequent lookups are a simple map access, and return the same
+ * {@code Method} object every time.
+ */
+final class ClientMethods {
+
+    private static final ClassValue<ClientMethods> CACHE =
+            new ClassValue<ClientMethods>() {
+                @Override
+                protected ClientMethods computeValue(Class<?> type) {
+                    return new ClientMethods(type);
+                }
+            };
+
+    private final Class<?> clientType;
+    private final Map<String, Method> methods;
+
+    /**
+     * Returns the (cached) method index for the class of the given client.
+     *
+     * @param client the client object
+     * @return the method index for the client's class
+     */
+    public static ClientMethods forClient(Object client) {
+        return CACHE.get(client.getClass());
+    }
+
+    private ClientMethods(Class<?> clientType) {
+        this.clientType = clientType;
+
+        Map<String, Method> map = new HashMap<>();
+
+        for (Method method : clientType.getMethods()) {
+            Class<?>[] parameters = method.getParameterTypes();
+            if (parameters.length != 1) {
+                continue;
+            }
+
+            // This is the inverse of the normal approach of findMethod() -
+            // we're looking for a method which will accept a specific subtype
+            // of AmazonWebServiceRequest, without worrying overmuch about
+            // what subtype it is. We'll create an object of the appropriate
+            // type and fill it in.
+            if (!AmazonWebServiceRequest.class.isAssignableFrom(
+                    parameters[0])) {
+                continue;
+            }
+
+            if (method.isBridge() || method.isSynthetic()) {
+                continue;
+            }
+
+            // getMethods() returns methods in no particular order, so when
+            // a name is overloaded prefer the most specific request type,
+            // whichever order they come in.
+            Method existing = map.get(method.getName());
+            if (existing == null || existing.getParameterTypes()[0]
+                    .isAssignableFrom(parameters[0])) {
+
+                map.put(method.getName(), method);
+            }
+        }
+
+        this.methods = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * @param name the name of the method
+     * @return the method of the given name, or null if there is none
+     */
+    public Method tryFind(String name) {
+        return methods.get(name);
+    }
+
+    /**
+     * @param name the name of the method
+     * @return the method of the given name
+     * @throws RuntimeException if there is no such method
+     */
+    public Method find(String name) {
+        Method result = methods.get(name);
+
+        if (result == null) {
+            throw new RuntimeException("No client method named " + name
+                    + " on " + clientType.getName());
+        }
+
+        return result;
+    }
+}
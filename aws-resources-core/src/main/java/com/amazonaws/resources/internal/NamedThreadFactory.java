@@ -0,0 +1,46 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Names the threads of a background helper, such as a queue consumer or
+ * an archive transfer, after what it works on and the role they play.
+ * Threads are not daemons, so a running helper keeps the JVM alive until
+ * it is shut down.
+ */
+public final class NamedThreadFactory implements ThreadFactory {
+
+    private final String prefix;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * @param kind the kind of helper, such as {@code sqs-consumer}
+     * @param source what the helper works on, such as a queue URL or a
+     *            vault name; only the part after the last slash is used
+     * @param role the role of the threads, such as {@code worker}
+     */
+    public NamedThreadFactory(String kind, String source, String role) {
+        String name = source.substring(source.lastIndexOf('/') + 1);
+        this.prefix = kind + "-" + name + "-" + role + "-";
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        return new Thread(runnable, prefix + count.incrementAndGet());
+    }
+}
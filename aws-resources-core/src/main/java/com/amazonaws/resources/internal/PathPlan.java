@@ -0,0 +1,401 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A compiled form of a path expression. Each element of the path is parsed
+ * exactly once (splitting off any ":type" suffix and parsing list offsets),
+ * and each property element remembers the accessor it last resolved along
+ * with the class it was resolved against, so evaluating the same path over
+ * objects of the same shape involves no reflective lookups at all.
+ * <p>
+ * Plans are cached by path and shared between threads; use
+ * {@link #forPath(List)} to get one.
+ */
+final class PathPlan {
+
+    private static final ConcurrentMap<List<String>, PathPlan> PLANS =
+            new ConcurrentHashMap<>();
+
+    private final Segment[] segments;
+
+    /**
+     * Returns the (cached) compiled plan for the given path expression.
+     *
+     * @param path the path expression
+     * @return the compiled plan
+     */
+    public static PathPlan forPath(List<String> path) {
+        PathPlan plan = PLANS.get(path);
+        if (plan == null) {
+            List<String> key =
+                    Collections.unmodifiableList(new ArrayList<>(path));
+
+            plan = new PathPlan(key);
+
+            PathPlan existing = PLANS.putIfAbsent(key, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    private PathPlan(List<String> path) {
+        segments = new Segment[path.size()];
+        for (int i = 0; i < segments.length; ++i) {
+            segments[i] = new Segment(path.get(i));
+        }
+    }
+
+    /**
+     * Evaluates this path on the given object and returns the object found.
+     *
+     * @param target the object to evaluate the path against
+     * @return the result of evaluating the path
+     */
+    public Object get(Object target) {
+        Object obj = target;
+
+        for (Segment segment : segments) {
+            if (obj == null) {
+                return null;
+            }
+            obj = segment.evaluate(obj);
+        }
+
+        return obj;
+    }
+
+    /**
+     * Evaluates this path on the given object, adding every matching value
+     * to the given list.
+     *
+     * @param target the object to evaluate the path against
+     * @param results the list to add matching values to
+     */
+    public void getAll(Object target, List<Object> results) {
+        getAll(target, 0, results);
+    }
+
+    private void getAll(Object target, int depth, List<Object> results) {
+        if (target == null) {
+            return;
+        }
+
+        if (depth == segments.length) {
+            results.add(target);
+            return;
+        }
+
+        Segment segment = segments[depth];
+
+        if (segment.wildcard) {
+
+            if (!(target instanceof Iterable)) {
+                throw new IllegalStateException(
+                        "Cannot evaluate '*' on object " + target);
+            }
+
+            Iterable<?> collection = (Iterable<?>) target;
+            for (Object obj : collection) {
+                getAll(obj, depth + 1, results);
+            }
+
+        } else {
+            getAll(segment.evaluate(target), depth + 1, results);
+        }
+    }
+
+    /**
+     * Sets the value at this path in the target object, creating any
+     * intermediate values (using the default constructor for the type) if
+     * need be.
+     *
+     * @param target the object to modify
+     * @param value the value to set
+     */
+    public void set(Object target, Object value) {
+        Object obj = target;
+        int last = segments.length - 1;
+
+        for (int i = 0; i < last; ++i) {
+            obj = segments[i].digIn(obj);
+        }
+
+        if (last >= 0) {
+            segments[last].setValue(obj, value);
+        }
+    }
+
+    /**
+     * A single, pre-parsed element of a path expression.
+     */
+    private static final class Segment {
+
+        private static final int NOT_AN_INDEX = Integer.MIN_VALUE;
+
+        private final String field;
+        private final String name;
+        private final String type;
+        private final boolean wildcard;
+        private final int index;
+
+        private volatile Site site;
+        private volatile Class<?> defaultType;
+
+        public Segment(String field) {
+            this.field = field;
+
+            int colon = field.indexOf(':');
+            if (colon == -1) {
+                this.name = field;
+                this.type = null;
+            } else {
+                this.name = field.substring(0, colon);
+                this.type = field.substring(colon + 1);
+            }
+
+            this.wildcard = name.equals("*");
+            this.index = parseIndex(name);
+        }
+
+        private static int parseIndex(String name) {
+            try {
+                return Integer.parseInt(name);
+            } catch (NumberFormatException exception) {
+                return NOT_AN_INDEX;
+            }
+        }
+
+        /**
+         * Evaluates this element on the given object. If the object is a
+         * list and the element is a number, this returns that element of the
+         * list. Otherwise, this invokes the "get${name}" accessor.
+         */
+        public Object evaluate(Object target) {
+            if (target instanceof List) {
+                List<?> list = (List<?>) target;
+
+                int offset = getIndex();
+                if (offset < 0) {
+                    offset += list.size();
+                }
+
+                return list.get(offset);
+            }
+
+            return getter(target).invoke(target);
+        }
+
+        /**
+         * Digs into the given object in preparation for setting a value
+         * somewhere further down the path, creating the intermediate value
+         * if it does not exist yet.
+         */
+        public Object digIn(Object target) {
+            if (target instanceof List) {
+
+                // The 'type' tells us what type of objects belong in the list.
+                @SuppressWarnings("unchecked")
+                List<Object> list = (List<Object>) target;
+                return digInList(list);
+
+            } else if (target instanceof Map) {
+
+                // The 'type' tells us what type of objects belong in the map.
+                @SuppressWarnings("unchecked")
+                Map<String, Object> map = (Map<String, Object>) target;
+                return digInMap(map);
+
+            } else {
+                return digInObject(target);
+            }
+        }
+
+        private Object digInList(List<Object> target) {
+            if (type == null) {
+                throw new IllegalStateException("Invalid path expression: "
+                        + "cannot evaluate '" + field + "' on a List");
+            }
+
+            if (wildcard) {
+                throw new UnsupportedOperationException(
+                        "What does this even mean?");
+            }
+
+            int offset = getIndex();
+            if (offset < 0) {
+                // Offset from the end of the list
+                offset += target.size();
+                if (offset < 0) {
+                    throw new IndexOutOfBoundsException(
+                            Integer.toString(offset));
+                }
+            }
+
+            if (offset < target.size()) {
+                return target.get(offset);
+            }
+
+            // Extend with default instances if need be.
+            while (offset > target.size()) {
+                target.add(createDefaultInstance());
+            }
+
+            Object result = createDefaultInstance();
+            target.add(result);
+
+            return result;
+        }
+
+        private Object digInMap(Map<String, Object> target) {
+            if (type == null) {
+                throw new IllegalStateException("Invalid path expression: "
+                        + "cannot evaluate '" + field + "' on a List");
+            }
+
+            Object result = target.get(name);
+            if (result != null) {
+                return result;
+            }
+
+            result = createDefaultInstance();
+            target.put(name, result);
+
+            return result;
+        }
+
+        private Object digInObject(Object target) {
+            AccessorCache.Getter getter = getter(target);
+            if (getter.isMissing()) {
+                throw new IllegalStateException(
+                        "No accessor found for '"
+                        + field + "' found in class "
+                        + target.getClass().getName());
+            }
+
+            Object obj = getter.invoke(target);
+            if (obj == null) {
+                obj = newInstance(getter.getReturnType());
+                AccessorCache.setter(
+                        target.getClass(), "set" + name, obj.getClass())
+                    .invoke(target, obj);
+            }
+
+            return obj;
+        }
+
+        /**
+         * Sets the value of the property named by this element on the given
+         * object.
+         */
+        public void setValue(Object target, Object value) {
+            // TODO: Should we do this for all numbers, not just '0'?
+            if ("0".equals(name)) {
+
+                if (!(target instanceof Collection)) {
+                    throw new IllegalArgumentException(
+                            "Cannot evaluate '0' on object " + target);
+                }
+
+                @SuppressWarnings("unchecked")
+                Collection<Object> collection = (Collection<Object>) target;
+                collection.add(value);
+
+            } else {
+                AccessorCache.setter(
+                        target.getClass(), "set" + name, value.getClass())
+                    .invoke(target, value);
+            }
+        }
+
+        private int getIndex() {
+            if (index == NOT_AN_INDEX) {
+                // Not a number; let parseInt throw the appropriate exception.
+                return Integer.parseInt(name);
+            }
+            return index;
+        }
+
+        /**
+         * Returns the accessor for this property of the target object,
+         * reusing the one resolved on the previous call if the target is of
+         * the same class.
+         */
+        private AccessorCache.Getter getter(Object target) {
+            Class<?> targetType = target.getClass();
+
+            Site cached = site;
+            if (cached != null && cached.type == targetType) {
+                return cached.getter;
+            }
+
+            AccessorCache.Getter getter =
+                    AccessorCache.getter(targetType, name);
+
+            site = new Site(targetType, getter);
+            return getter;
+        }
+
+        private Object createDefaultInstance() {
+            Class<?> clazz = defaultType;
+            if (clazz == null) {
+                clazz = ReflectionUtils.loadClass(
+                        ReflectionUtils.class.getClassLoader(), type);
+                defaultType = clazz;
+            }
+            return newInstance(clazz);
+        }
+
+        private static Object newInstance(Class<?> clazz) {
+            try {
+                return clazz.newInstance();
+
+            } catch (InstantiationException exception) {
+                throw new IllegalStateException(
+                        "Unable to create a new instance",
+                        exception);
+
+            } catch (IllegalAccessException exception) {
+                throw new IllegalStateException(
+                        "Unable to access constructor",
+                        exception);
+            }
+        }
+    }
+
+    /**
+     * The class an accessor was last resolved against, and the accessor.
+     */
+    private static final class Site {
+
+        private final Class<?> type;
+        private final AccessorCache.Getter getter;
+
+        public Site(Class<?> type, AccessorCache.Getter getter) {
+            this.type = type;
+            this.getter = getter;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+
+/**
+ * A page iterator which reads ahead: while the caller is consuming one page,
+ * the next is fetched in the background, up to a fixed number of buffered
+ * pages. Since each page's request needs the previous page's token, at most
+ * one fetch is in flight at a time.
+ * <p>
+ * Background fetches refer to the iterator only weakly. If the caller
+ * abandons the iterator, any fetch that is in flight is discarded and no
+ * further pages are requested, and read-ahead stops anyway once the buffer
+ * is full.
+ */
+final class PrefetchingPageIterator implements Iterator<ResourcePageImpl> {
+
+    private final ResourceCollectionImpl collection;
+    private final int depth;
+    private final Executor executor;
+
+    private final ArrayDeque<ResourcePageImpl> buffer = new ArrayDeque<>();
+
+    // The most recently fetched page, from which the next fetch continues.
+    private ResourcePageImpl tail;
+    private boolean fetching;
+    private Throwable failure;
+
+    public PrefetchingPageIterator(
+            ResourceCollectionImpl collection,
+            int depth,
+            Executor executor) {
+
+        this.collection = collection;
+        this.depth = depth;
+        this.executor = executor;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (!buffer.isEmpty() || fetching || failure != null) {
+            return true;
+        }
+        return (tail == null || tail.hasNextPage());
+    }
+
+    @Override
+    public synchronized ResourcePageImpl next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        if (buffer.isEmpty() && !fetching && failure == null) {
+            startFetch();
+        }
+
+        boolean interrupted = false;
+        try {
+
+            while (buffer.isEmpty() && failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (buffer.isEmpty()) {
+            Throwable cause = failure;
+            failure = null;
+            throw propagate(cause);
+        }
+
+        ResourcePageImpl page = buffer.poll();
+        fillBuffer();
+        return page;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Called by a background fetch when it completes.
+     */
+    private synchronized void onFetched(
+            ResourcePageImpl page,
+            Throwable error) {
+
+        fetching = false;
+
+        if (error != null) {
+            failure = error;
+        } else {
+            buffer.add(page);
+            tail = page;
+            fillBuffer();
+        }
+
+        notifyAll();
+    }
+
+    /**
+     * Starts fetching the next page if the buffer has room, nothing is in
+     * flight, and there are more pages to fetch.
+     */
+    private void fillBuffer() {
+        if (fetching || failure != null || buffer.size() >= depth) {
+            return;
+        }
+        if (tail != null && !tail.hasNextPage()) {
+            return;
+        }
+        startFetch();
+    }
+
+    private void startFetch() {
+        fetching = true;
+        try {
+            executor.execute(new Fetch(this, collection, tail));
+        } catch (RuntimeException exception) {
+            fetching = false;
+            throw exception;
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(
+                "Error fetching the next page",
+                cause);
+    }
+
+    /**
+     * Fetches a single page and hands it to the owning iterator, if the
+     * owning iterator is still in use.
+     */
+    private static final class Fetch implements Runnable {
+
+        private final WeakReference<PrefetchingPageIterator> owner;
+        private final ResourceCollectionImpl collection;
+        private final ResourcePageImpl previous;
+
+        public Fetch(
+                PrefetchingPageIterator owner,
+                ResourceCollectionImpl collection,
+                ResourcePageImpl previous) {
+
+            this.owner = new WeakReference<>(owner);
+            this.collection = collection;
+            this.previous = previous;
+        }
+
+        @Override
+        public void run() {
+            if (owner.get() == null) {
+                // Abandoned before we got started.
+                return;
+            }
+
+            ResourcePageImpl page = null;
+            Throwable error = null;
+
+            try {
+                if (previous == null) {
+                    page = collection.firstPage(null);
+                } else {
+                    page = previous.nextPage(null);
+                }
+            } catch (Throwable t) {
+                error = t;
+            }
+
+            PrefetchingPageIterator iterator = owner.get();
+            if (iterator != null) {
+                iterator.onFetched(page, error);
+            }
+        }
+    }
+}
@@ -16,6 +16,9 @@ package com.amazonaws.resources.internal;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.resources.ResultCapture;
@@ -32,20 +35,61 @@ public final class ResourceCollectionImpl {
     private final ActionModel listActionModel;
     private final AmazonWebServiceRequest request;
 
+    private final int prefetchDepth;
+    private final Executor prefetchExecutor;
+
     public ResourceCollectionImpl(
             ActionContext context,
             ActionModel listActionModel,
             AmazonWebServiceRequest request) {
 
+        this(context, listActionModel, request, 0, null);
+    }
+
+    private ResourceCollectionImpl(
+            ActionContext context,
+            ActionModel listActionModel,
+            AmazonWebServiceRequest request,
+            int prefetchDepth,
+            Executor prefetchExecutor) {
+
         this.context = context;
         this.listActionModel = listActionModel;
         this.request = request;
+        this.prefetchDepth = prefetchDepth;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Returns a view of this collection whose iterators read ahead, fetching
+     * up to {@code depth} pages in the background while earlier pages are
+     * being consumed.
+     *
+     * @param depth the maximum number of pages to buffer ahead of the
+     *         consumer; must be at least one
+     * @param executor the executor to fetch pages on, or null to use the
+     *         executor of the wrapped async client
+     * @return a read-ahead view of this collection
+     */
+    public ResourceCollectionImpl withPrefetch(int depth, Executor executor) {
+        if (depth < 1) {
+            throw new IllegalArgumentException(
+                    "Prefetch depth must be at least 1, was " + depth);
+        }
+
+        return new ResourceCollectionImpl(
+                context,
+                listActionModel,
+                request,
+                depth,
+                AsyncActions.getExecutor(context.getClient(), executor));
     }
 
     public Iterator<ResourceImpl> iterator() {
         return new Iterator<ResourceImpl>() {
 
-            private final Iterator<ResourcePageImpl> pages = new PageIterator();
+            private final Iterator<ResourcePageImpl> pages =
+                    newPageIterator();
             private Iterator<ResourceImpl> current;
 
             @Override
@@ -89,11 +133,21 @@ public final class ResourceCollectionImpl {
         return new Iterable<ResourcePageImpl>() {
             @Override
             public Iterator<ResourcePageImpl> iterator() {
-                return new PageIterator() ;
+                return newPageIterator();
             }
         };
     }
 
+    private Iterator<ResourcePageImpl> newPageIterator() {
+        if (prefetchDepth > 0) {
+            return new PrefetchingPageIterator(
+                    this,
+                    prefetchDepth,
+                    prefetchExecutor);
+        }
+        return new PageIterator();
+    }
+
     /**
      * @param extractor an optional result extractor
      * @return the first page of resources in this collection
@@ -109,6 +163,27 @@ public final class ResourceCollectionImpl {
                 result);
     }
 
+    /**
+     * @param extractor an optional result extractor
+     * @param executor the executor to call the service on, or null to use
+     *         the executor of the wrapped async client
+     * @return a future for the first page of resources in this collection
+     */
+    public Future<ResourcePageImpl> firstPageAsync(
+            final ResultCapture<Object> extractor,
+            Executor executor) {
+
+        return AsyncActions.submit(
+                context.getClient(),
+                executor,
+                new Callable<ResourcePageImpl>() {
+                    @Override
+                    public ResourcePageImpl call() {
+                        return firstPage(extractor);
+                    }
+                });
+    }
+
     private class PageIterator implements Iterator<ResourcePageImpl> {
 
         private ResourcePageImpl current;
@@ -19,9 +19,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
 import com.amazonaws.resources.internal.model.ActionModel;
 import com.amazonaws.resources.internal.model.CollectionModel;
 import com.amazonaws.resources.internal.model.FlatMapping;
@@ -32,6 +38,7 @@ import com.amazonaws.resources.internal.model.ResourceModel;
 import com.amazonaws.resources.internal.model.ServiceModel;
 import com.amazonaws.resources.internal.model.SubResourceGetterModel;
 import com.amazonaws.resources.internal.model.Utils;
+import com.amazonaws.resources.internal.model.WaiterModel;
 
 /**
  * A generic implementation of an arbitrary resource type. Wraps a set of
@@ -44,8 +51,9 @@ public final class ResourceImpl implements ActionContext {
     private final ResourceModel resourceModel;
     private final Object client;
     private final Map<String, ?> identifiers;
+    private final long attributeTtl;
 
-    private volatile Map<String, ?> attributes;
+    private volatile Attributes attributes;
 
     public ResourceImpl(
             ServiceModel serviceModel,
@@ -63,13 +71,35 @@ public final class ResourceImpl implements ActionContext {
             Map<String, ?> identifiers,
             Object data) {
 
+        this(serviceModel,
+                resourceModel,
+                client,
+                identifiers,
+                data,
+                ServiceImpl.NO_ATTRIBUTE_TTL);
+    }
+
+    /**
+     * @param attributeTtl the number of milliseconds after which attributes
+     *         loaded from the service are considered stale, or a negative
+     *         number if they never go stale
+     */
+    public ResourceImpl(
+            ServiceModel serviceModel,
+            ResourceModel resourceModel,
+            Object client,
+            Map<String, ?> identifiers,
+            Object data,
+            long attributeTtl) {
+
         this.serviceModel = serviceModel;
         this.resourceModel = resourceModel;
         this.client = client;
         this.identifiers = identifiers;
+        this.attributeTtl = attributeTtl;
 
         if (data != null) {
-            this.attributes = parseAttributes(resourceModel, data);
+            this.attributes = new Attributes(resourceModel, data);
         }
 
         for (Map.Entry<String, IdentifierModel> entry : resourceModel
@@ -104,6 +134,11 @@ public final class ResourceImpl implements ActionContext {
         return client;
     }
 
+    @Override
+    public long getAttributeTtl() {
+        return attributeTtl;
+    }
+
     /**
      * @return the set of identifiers for this resource
      */
@@ -122,13 +157,32 @@ public final class ResourceImpl implements ActionContext {
      */
     @Override
     public Object getAttribute(String name) {
-        if (attributes == null) {
-            load(null, null);
+        Attributes current = attributes;
+        if (current == null || isStale(current)) {
+            current = ensureLoaded();
         }
-        return attributes.get(name);
+        return current.getValues().get(name);
     }
 
-    private Object getAttributeDataByPath(List<String> path) {
+    /**
+     * Returns the object this resource's attributes were taken from - for
+     * example the {@code Message} in a {@code ReceiveMessageResult} - if it
+     * has been loaded and is not stale, without loading it. Facades can read
+     * attributes straight from it rather than by name through
+     * {@link #getAttribute(String)}, which has to copy every attribute out of
+     * it by reflection the first time it is called.
+     *
+     * @return the raw attribute data, or null if not loaded
+     */
+    public Object getLoadedData() {
+        Attributes current = attributes;
+        if (current == null || isStale(current)) {
+            return null;
+        }
+        return current.data;
+    }
+
+    Object getAttributeDataByPath(List<String> path) {
         Object attrObj = getAttribute(path.get(0));
 
         List<String> pathInAttr = path.subList(1, path.size());
@@ -143,12 +197,14 @@ public final class ResourceImpl implements ActionContext {
      * @return true if this resource has been loaded; false otherwise
      */
     public boolean isLoaded() {
-        return (attributes != null);
+        Attributes current = attributes;
+        return (current != null && !isStale(current));
     }
 
     /**
      * Explicitly loads a representation of this resource by calling the
-     * service to retrieve a new set of attributes.
+     * service to retrieve a new set of attributes, if this resource has not
+     * been loaded yet or its attributes have gone stale.
      *
      * @param extractor optional result extractor object
      */
@@ -156,10 +212,51 @@ public final class ResourceImpl implements ActionContext {
             AmazonWebServiceRequest request,
             ResultCapture<?> extractor) {
 
-        if (attributes != null) {
+        if (isLoaded()) {
             return false;
         }
 
+        fetch(request, extractor);
+        return true;
+    }
+
+    /**
+     * Loads a new representation of this resource by calling the service,
+     * whether or not it has already been loaded.
+     *
+     * @param request optional client-specified request object
+     * @param extractor optional result extractor object
+     */
+    public synchronized void reload(
+            AmazonWebServiceRequest request,
+            ResultCapture<?> extractor) {
+
+        fetch(request, extractor);
+    }
+
+    /**
+     * Marks the attributes of this resource stale, so that they are loaded
+     * again the next time they are needed. Has no effect on resources which
+     * can't be loaded, since their attributes couldn't be retrieved again.
+     */
+    public void invalidate() {
+        if (resourceModel.getLoadAction() != null) {
+            attributes = null;
+        }
+    }
+
+    private synchronized Attributes ensureLoaded() {
+        Attributes current = attributes;
+        if (current == null || isStale(current)) {
+            current = fetch(null, null);
+        }
+        return current;
+    }
+
+    private Attributes fetch(
+            AmazonWebServiceRequest request,
+            ResultCapture<?> extractor) {
+
         ActionModel action = resourceModel.getLoadAction();
         if (action == null) {
             throw new UnsupportedOperationException(
@@ -175,8 +272,60 @@ public final class ResourceImpl implements ActionContext {
         ActionResult result = ActionUtils.perform(
                 this, action, request, erasedExtractor);
 
-        this.attributes = parseAttributes(resourceModel, result.getData());
+        Attributes loaded = new Attributes(resourceModel, result.getData());
+        this.attributes = loaded;
+
+        return loaded;
+    }
+
+    /**
+     * Attributes which came with the resource (rather than from its load
+     * action) can't be refreshed, so never go stale.
+     */
+    private boolean isStale(Attributes current) {
+        if (attributeTtl < 0 || resourceModel.getLoadAction() == null) {
+            return false;
+        }
+        return (System.nanoTime() - current.loadedAt
+                > TimeUnit.MILLISECONDS.toNanos(attributeTtl));
+    }
+
+    /**
+     * Asynchronously loads a representation of this resource.
+     *
+     * @param request optional client-specified request object
+     * @param extractor optional result extractor object
+     * @param executor the executor to call the service on, or null to use
+     *         the executor of the wrapped async client
+     * @return a future for the result of {@code load}
+     * @see #load(AmazonWebServiceRequest, ResultCapture)
+     */
+    public Future<Boolean> loadAsync(
+            final AmazonWebServiceRequest request,
+            final ResultCapture<?> extractor,
+            Executor executor) {
+
+        return AsyncActions.submit(client, executor, new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return load(request, extractor);
+            }
+        });
+    }
 
+    /**
+     * Loads this resource from data retrieved on its behalf, for example by
+     * a batched load of several resources of the same type.
+     *
+     * @param data the data returned by the service for this resource
+     * @return true if this resource was loaded, false if it already was
+     */
+    synchronized boolean loadFrom(Object data) {
+        if (isLoaded()) {
+            return false;
+        }
+
+        this.attributes = new Attributes(resourceModel, data);
         return true;
     }
 
@@ -263,7 +412,8 @@ public final class ResourceImpl implements ActionContext {
         ResourceModel refTypeModel =
                 serviceModel.getResource(reference.getType());
 
-        return new ResourceImpl(serviceModel, refTypeModel, client, ids);
+        return new ResourceImpl(
+                serviceModel, refTypeModel, client, ids, null, attributeTtl);
     }
 
     /**
@@ -341,7 +491,12 @@ public final class ResourceImpl implements ActionContext {
                 myIds.put(entry.getKey(), entry.getValue().get(i));
             }
             rval.add(new ResourceImpl(
-                    serviceModel, refTypeModel, client, myIds));
+                    serviceModel,
+                    refTypeModel,
+                    client,
+                    myIds,
+                    null,
+                    attributeTtl));
         }
 
         return Collections.unmodifiableList(rval);
@@ -416,13 +571,15 @@ public final class ResourceImpl implements ActionContext {
 
         ResourceModel refTypeModel = serviceModel.getResource(name);
 
-        return new ResourceImpl(serviceModel, refTypeModel, client, ids);
+        return new ResourceImpl(
+                serviceModel, refTypeModel, client, ids, null, attributeTtl);
     }
 
     /**
      * Performs the given action on this resource. This always involves a
-     * request to the service. It may mark the cached attributes of this
-     * resource object dirty.
+     * request to the service. If the action succeeds and modifies the
+     * resource's attributes (see {@link ActionModel#modifiesAttributes()}),
+     * it marks the cached attributes of this resource object dirty.
      *
      * @param name the name of the action to perform
      * @param request the client-specified request object
@@ -446,13 +603,118 @@ public final class ResourceImpl implements ActionContext {
         ResultCapture<Object> erasedExtractor =
                 (ResultCapture<Object>) extractor;
 
-        return ActionUtils.perform(this, action, request, erasedExtractor);
+        ActionResult result =
+                ActionUtils.perform(this, action, request, erasedExtractor);
+
+        // A failed call is assumed to have left the resource unchanged.
+        if (action.modifiesAttributes()) {
+            invalidate();
+        }
+
+        return result;
+    }
+
+    /**
+     * Asynchronously performs the given action on this resource.
+     *
+     * @param name the name of the action to perform
+     * @param request the client-specified request object
+     * @param extractor an optional result extractor object
+     * @param executor the executor to call the service on, or null to use
+     *         the executor of the wrapped async client
+     * @return a future for the result of executing the action
+     * @see #performAction(String, AmazonWebServiceRequest, ResultCapture)
+     */
+    public Future<ActionResult> performActionAsync(
+            final String name,
+            final AmazonWebServiceRequest request,
+            final ResultCapture<?> extractor,
+            Executor executor) {
+
+        return AsyncActions.submit(
+                client,
+                executor,
+                new Callable<ActionResult>() {
+                    @Override
+                    public ActionResult call() {
+                        return performAction(name, request, extractor);
+                    }
+                });
+    }
+
+    /**
+     * Waits until the named waiter's success condition is met, polling the
+     * service with exponential backoff.
+     *
+     * @param name the name of the waiter
+     * @param parameters the polling parameters, or null for the defaults
+     * @throws IllegalStateException if the resource reaches a state in which
+     *         the wait can never succeed
+     * @throws AmazonClientException if the wait times out
+     */
+    public void waitUntil(String name, WaiterParameters parameters) {
+        Waiter.await(waitUntilAsync(name, parameters));
+    }
+
+    /**
+     * Asynchronously waits until the named waiter's success condition is
+     * met. Polls are made on a shared scheduler; no thread is tied up
+     * between polls.
+     *
+     * @param name the name of the waiter
+     * @param parameters the polling parameters, or null for the defaults
+     * @return a future which completes when the wait succeeds, and fails if
+     *         it can never succeed or times out
+     */
+    public Future<Void> waitUntilAsync(
+            String name,
+            WaiterParameters parameters) {
+
+        WaiterModel waiter = resourceModel.getWaiter(name);
+        if (waiter == null) {
+            throw new UnsupportedOperationException(
+                    "Resource does not support the waiter " + name);
+        }
+
+        return Waiter.start(this, name, waiter, parameters);
     }
 
     @Override
     public String toString() {
+        Attributes current = attributes;
         return "{identifiers=" + identifiers
-                + ", attributes=" + attributes
+                + ", attributes="
+                + (current == null ? null : current.getValues())
                 + "}";
     }
+
+    /**
+     * A set of attribute values, and when they were retrieved. The values
+     * are only copied out of the data they came in when first asked for,
+     * since resources returned in bulk are often never asked.
+     */
+    private static final class Attributes {
+
+        private final ResourceModel resourceModel;
+        private final Object data;
+        private final long loadedAt;
+
+        private volatile Map<String, ?> values;
+
+        public Attributes(ResourceModel resourceModel, Object data) {
+            this.resourceModel = resourceModel;
+            this.data = data;
+            this.loadedAt = System.nanoTime();
+        }
+
+        public Map<String, ?> getValues() {
+            Map<String, ?> current = values;
+            if (current == null) {
+                // Parsing twice in a race is harmless.
+                current = parseAttributes(resourceModel, data);
+                values = current;
+            }
+            return current;
+        }
+    }
 }
@@ -16,6 +16,9 @@ package com.amazonaws.resources.internal;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.resources.ResultCapture;
@@ -30,12 +33,34 @@ import com.amazonaws.resources.internal.model.SubResourceGetterModel;
  */
 public final class ServiceImpl<C> implements ActionContext {
 
+    /**
+     * Attribute TTL meaning that loaded attributes never go stale.
+     */
+    public static final long NO_ATTRIBUTE_TTL = -1;
+
     private final ServiceModel model;
     private final C client;
+    private final long attributeTtl;
 
     public ServiceImpl(ServiceModel model, C client) {
+        this(model, client, NO_ATTRIBUTE_TTL);
+    }
+
+    /**
+     * @param attributeTtl the number of milliseconds after which attributes
+     *         of resources created through this service are considered
+     *         stale, or {@code NO_ATTRIBUTE_TTL} if they never go stale
+     */
+    public ServiceImpl(ServiceModel model, C client, long attributeTtl) {
         this.model = model;
         this.client = client;
+        this.attributeTtl = attributeTtl;
+
+        if (client != null) {
+            // Index the client's methods up front so the first action
+            // performed through this service doesn't pay for it.
+            ClientMethods.forClient(client);
+        }
     }
 
     @Override
@@ -53,6 +78,11 @@ public final class ServiceImpl<C> implements ActionContext {
         return client;
     }
 
+    @Override
+    public long getAttributeTtl() {
+        return attributeTtl;
+    }
+
     @Override
     public Object getIdentifier(String name) {
         throw new UnsupportedOperationException();
@@ -78,7 +108,8 @@ public final class ServiceImpl<C> implements ActionContext {
 
         ResourceModel refTypeModel = model.getResource(name);
 
-        return new ResourceImpl(model, refTypeModel, client, ids);
+        return new ResourceImpl(
+                model, refTypeModel, client, ids, null, attributeTtl);
     }
 
     public ResourceCollectionImpl getCollection(
@@ -116,6 +147,33 @@ public final class ServiceImpl<C> implements ActionContext {
         return ActionUtils.perform(this, action, request, erasedExtractor);
     }
 
+    /**
+     * Asynchronously performs the given service-level action.
+     *
+     * @param name the name of the action to perform
+     * @param request the client-specified request object
+     * @param extractor an optional result extractor object
+     * @param executor the executor to call the service on, or null to use
+     *         the executor of the wrapped async client
+     * @return a future for the result of executing the action
+     */
+    public Future<ActionResult> performActionAsync(
+            final String name,
+            final AmazonWebServiceRequest request,
+            final ResultCapture<?> extractor,
+            Executor executor) {
+
+        return AsyncActions.submit(
+                client,
+                executor,
+                new Callable<ActionResult>() {
+                    @Override
+                    public ActionResult call() {
+                        return performAction(name, request, extractor);
+                    }
+                });
+    }
+
     @Override
     public String toString() {
         return model.getName();
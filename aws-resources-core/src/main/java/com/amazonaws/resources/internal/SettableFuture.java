@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@code Future} which is completed explicitly by whoever created it;
+ * used for the results of work that is batched with other work rather
+ * than run as a task of its own. Only the first call to {@code set},
+ * {@code setFailure} or {@code cancel} has any effect.
+ *
+ * @param <T> the type of the result
+ */
+public final class SettableFuture<T> implements Future<T> {
+
+    private boolean done;
+    private boolean cancelled;
+    private T value;
+    private Throwable failure;
+
+    /**
+     * Completes this future successfully.
+     *
+     * @param value the result
+     * @return true if this call completed the future
+     */
+    public synchronized boolean set(T value) {
+        if (done) {
+            return false;
+        }
+        this.done = true;
+        this.value = value;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Completes this future with a failure, which {@code get} rethrows
+     * wrapped in an {@code ExecutionException}.
+     *
+     * @param failure the cause of the failure
+     * @return true if this call completed the future
+     */
+    public synchronized boolean setFailure(Throwable failure) {
+        if (failure == null) {
+            throw new NullPointerException("failure");
+        }
+        if (done) {
+            return false;
+        }
+        this.done = true;
+        this.failure = failure;
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+        if (done) {
+            return false;
+        }
+        this.done = true;
+        this.cancelled = true;
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public synchronized T get()
+            throws InterruptedException, ExecutionException {
+
+        while (!done) {
+            wait();
+        }
+        return report();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException,
+                    TimeoutException {
+
+        long end = System.nanoTime() + unit.toNanos(timeout);
+        while (!done) {
+            long remaining = end - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return report();
+    }
+
+    private T report() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+        return value;
+    }
+}
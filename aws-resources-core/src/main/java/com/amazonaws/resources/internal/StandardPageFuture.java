@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.concurrent.Future;
+
+import com.amazonaws.resources.ResourcePage;
+
+public final class StandardPageFuture<T>
+        extends TransformingFuture<ResourcePageImpl, ResourcePage<T>> {
+
+    private final ResourceCodec<T> codec;
+
+    public StandardPageFuture(
+            Future<ResourcePageImpl> impl,
+            ResourceCodec<T> codec) {
+
+        super(impl);
+        this.codec = codec;
+    }
+
+    @Override
+    protected ResourcePage<T> transform(ResourcePageImpl page) {
+        return new StandardResourcePage<T>(page, codec);
+    }
+}
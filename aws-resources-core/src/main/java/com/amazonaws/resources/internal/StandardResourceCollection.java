@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import com.amazonaws.resources.ResourceCollection;
+import com.amazonaws.resources.ResourcePage;
+import com.amazonaws.resources.ResultCapture;
+
+/**
+ * A generic {@code ResourceCollection} over a {@code ResourceCollectionImpl},
+ * for views of a collection which don't need a service-specific type.
+ *
+ * @param <T> the type of resource contained in this collection
+ */
+public final class StandardResourceCollection<T>
+        implements ResourceCollection<T> {
+
+    private final ResourceCollectionImpl impl;
+    private final ResourceCodec<T> codec;
+
+    public StandardResourceCollection(
+            ResourceCollectionImpl impl,
+            ResourceCodec<T> codec) {
+
+        this.impl = impl;
+        this.codec = codec;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new StandardResourceIterator<T>(impl.iterator(), codec);
+    }
+
+    @Override
+    public Iterable<ResourcePage<T>> pages() {
+        return new StandardPageIterable<T>(impl.pages(), codec);
+    }
+
+    @Override
+    public ResourcePage<T> firstPage() {
+        return firstPage(null);
+    }
+
+    @Override
+    public ResourcePage<T> firstPage(ResultCapture<Object> extractor) {
+        return new StandardResourcePage<T>(impl.firstPage(extractor), codec);
+    }
+
+    @Override
+    public Future<ResourcePage<T>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<T>(
+                impl.firstPageAsync(null, executor),
+                codec);
+    }
+
+    @Override
+    public ResourceCollection<T> withPrefetch(int depth, Executor executor) {
+        return new StandardResourceCollection<T>(
+                impl.withPrefetch(depth, executor),
+                codec);
+    }
+}
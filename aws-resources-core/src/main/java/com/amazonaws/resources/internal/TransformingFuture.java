@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A view of a {@code Future} which transforms its result when it is
+ * retrieved; used to turn the generic results of asynchronous actions into
+ * the types exposed by the resource interfaces.
+ *
+ * @param <S> the type of the underlying future's result
+ * @param <T> the type of this future's result
+ */
+public abstract class TransformingFuture<S, T> implements Future<T> {
+
+    private final Future<S> source;
+
+    protected TransformingFuture(Future<S> source) {
+        this.source = source;
+    }
+
+    /**
+     * @param value the result of the underlying future
+     * @return the transformed result
+     */
+    protected abstract T transform(S value);
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return source.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return source.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return source.isDone();
+    }
+
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        return transform(source.get());
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+
+        return transform(source.get(timeout, unit));
+    }
+}
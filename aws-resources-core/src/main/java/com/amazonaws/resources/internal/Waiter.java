@@ -0,0 +1,403 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.WaiterParameters;
+import com.amazonaws.resources.internal.model.WaiterModel;
+
+/**
+ * Polls a resource until a waiter's success or failure condition is met.
+ * <p>
+ * A small shared scheduler times the polls for every waiter in the
+ * process, and hands each one off to a larger shared pool of poller
+ * threads to make the (blocking) reload; the next poll is scheduled once
+ * the reload completes. Between polls a wait holds no thread at all, so
+ * any number of waits can be in progress at once, and slow reloads never
+ * hold up the scheduler. The delay between polls grows exponentially with
+ * "equal jitter" - half of each delay is fixed and half random - so that
+ * waits started together spread out rather than polling in lockstep.
+ * <p>
+ * If the next delay would run past the timeout, one last poll is made at
+ * the deadline instead, and only if that poll doesn't end the wait does it
+ * time out.
+ * <p>
+ * A poll which fails because the resource can't be found is retried like
+ * any other, since a resource that was only just created may take a while
+ * to become visible.
+ */
+final class Waiter {
+
+    private static final WaiterParameters DEFAULTS = new WaiterParameters();
+
+    private final ResourceImpl resource;
+    private final String name;
+    private final WaiterModel model;
+    private final long maxDelay;
+    private final long deadline;
+    private final Result result = new Result();
+
+    private final Runnable poll = new Runnable() {
+        @Override
+        public void run() {
+            poll();
+        }
+    };
+
+    private final Runnable dispatch = new Runnable() {
+        @Override
+        public void run() {
+            if (!result.isDone()) {
+                result.setPending(Pollers.INSTANCE.submit(poll));
+            }
+        }
+    };
+
+    private long delay;
+    private boolean lastPoll;
+
+    /**
+     * Starts waiting for the given resource. The first poll is made right
+     * away on the shared poller threads.
+     *
+     * @param resource the resource to wait for
+     * @param name the name of the waiter, for error messages
+     * @param model the waiter model
+     * @param parameters the polling parameters, or null for the defaults
+     * @return a future which completes when the wait is over
+     */
+    public static Future<Void> start(
+            ResourceImpl resource,
+            String name,
+            WaiterModel model,
+            WaiterParameters parameters) {
+
+        if (parameters == null) {
+            parameters = DEFAULTS;
+        }
+        parameters.validate();
+
+        Waiter waiter = new Waiter(resource, name, model, parameters);
+        waiter.result.setPending(Pollers.INSTANCE.submit(waiter.poll));
+        return waiter.result;
+    }
+
+    /**
+     * Waits for a future returned from {@code start}, rethrowing any
+     * failure directly.
+     */
+    public static void await(Future<Void> future) {
+        boolean interrupted = false;
+        try {
+
+            while (true) {
+                try {
+                    future.get();
+                    return;
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Waiter(
+            ResourceImpl resource,
+            String name,
+            WaiterModel model,
+            WaiterParameters parameters) {
+
+        this.resource = resource;
+        this.name = name;
+        this.model = model;
+        this.maxDelay = parameters.getMaxDelay(TimeUnit.MILLISECONDS);
+        this.delay = parameters.getInitialDelay(TimeUnit.MILLISECONDS);
+        this.deadline = System.nanoTime()
+                + parameters.getTimeout(TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Reloads the resource and checks its state, on one of the poller
+     * threads.
+     */
+    private void poll() {
+        if (result.isDone()) {
+            return;
+        }
+
+        try {
+
+            resource.reload(null, null);
+            String value = String.valueOf(
+                    resource.getAttributeDataByPath(model.getAttributePath()));
+
+            if (model.getSuccessValues().contains(value)) {
+                result.complete(null);
+
+            } else if (model.getFailureValues().contains(value)) {
+                result.complete(new IllegalStateException(
+                        "Resource " + resource + " reached state '" + value
+                        + "' while waiting until " + name));
+
+            } else {
+                scheduleNext();
+            }
+
+        } catch (AmazonServiceException exception) {
+            // A resource that was only just created may not be visible yet.
+            if (isNotFound(exception)) {
+                scheduleNext();
+            } else {
+                result.complete(exception);
+            }
+
+        } catch (Throwable t) {
+            result.complete(t);
+        }
+    }
+
+    /**
+     * Services spell "not found" in many ways; this recognizes the common
+     * ones (e.g. {@code InvalidInstanceID.NotFound}, {@code NoSuchEntity},
+     * {@code AWS.SimpleQueueService.NonExistentQueue}).
+     */
+    static boolean isNotFound(AmazonServiceException exception) {
+        if (exception.getStatusCode() == 404) {
+            return true;
+        }
+
+        String code = exception.getErrorCode();
+        return (code != null
+                && (code.contains("NotFound")
+                        || code.startsWith("NoSuch")
+                        || code.contains("NonExistent")));
+    }
+
+    private void scheduleNext() {
+        long next = delay / 2
+                + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        delay = Math.min(maxDelay, delay * 2);
+
+        long remaining = TimeUnit.NANOSECONDS.toMillis(
+                deadline - System.nanoTime());
+
+        if (next > remaining) {
+            if (lastPoll) {
+                result.complete(new AmazonClientException(
+                        "Timed out waiting until " + name + " for resource "
+                        + resource,
+                        new TimeoutException()));
+                return;
+            }
+
+            // Check once more at the deadline before giving up.
+            lastPoll = true;
+            next = Math.max(0, remaining);
+        }
+
+        result.setPending(Scheduler.INSTANCE.schedule(
+                dispatch, next, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * The result of a wait, which can be cancelled between polls.
+     */
+    private static final class Result implements Future<Void> {
+
+        private Future<?> pending;
+        private boolean done;
+        private boolean cancelled;
+        private Throwable failure;
+
+        public synchronized void setPending(Future<?> pending) {
+            if (cancelled) {
+                pending.cancel(false);
+            } else {
+                this.pending = pending;
+            }
+        }
+
+        public synchronized void complete(Throwable failure) {
+            if (done) {
+                return;
+            }
+            this.done = true;
+            this.failure = failure;
+            this.pending = null;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (done) {
+                return false;
+            }
+            done = true;
+            cancelled = true;
+            if (pending != null) {
+                pending.cancel(false);
+                pending = null;
+            }
+            notifyAll();
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public synchronized boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public synchronized Void get()
+                throws InterruptedException, ExecutionException {
+
+            while (!done) {
+                wait();
+            }
+            return report();
+        }
+
+        @Override
+        public synchronized Void get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException,
+                        TimeoutException {
+
+            long end = System.nanoTime() + unit.toNanos(timeout);
+            while (!done) {
+                long remaining = end - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return report();
+        }
+
+        private Void report() throws ExecutionException {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The scheduler shared by all waiters, created on first use. It only
+     * times polls; the polls themselves run on {@link Pollers}.
+     */
+    private static final class Scheduler {
+
+        public static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            int threads = Math.max(
+                    2, Runtime.getRuntime().availableProcessors());
+
+            ScheduledThreadPoolExecutor executor =
+                    new ScheduledThreadPoolExecutor(
+                            threads,
+                            new DaemonThreadFactory("resource-waiter-"));
+
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    /**
+     * The bounded pool shared by all waiters to make their polls, created
+     * on first use. Polls block on the network rather than using the CPU,
+     * so there are many more pollers than scheduler threads; idle pollers
+     * exit after a minute. Polls beyond the number of pollers queue up.
+     */
+    private static final class Pollers {
+
+        private static final int THREADS = 32;
+
+        public static final ExecutorService INSTANCE = create();
+
+        private static ExecutorService create() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    THREADS,
+                    THREADS,
+                    1, TimeUnit.MINUTES,
+                    new LinkedBlockingQueue<Runnable>(),
+                    new DaemonThreadFactory("resource-waiter-poll-"));
+
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /**
+     * Makes daemon threads, so outstanding waits don't keep the JVM alive.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        public DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(
+                    runnable,
+                    prefix + count.incrementAndGet());
+
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
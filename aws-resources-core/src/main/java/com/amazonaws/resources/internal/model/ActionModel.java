@@ -25,16 +25,24 @@ public class ActionModel {
 
     private final RequestModel request;
     private final ResponseModel response;
+    private final Boolean modifiesAttributes;
+
+    public ActionModel(RequestModel request, ResponseModel response) {
+        this(request, response, null);
+    }
 
     @JsonCreator
     public ActionModel(
             @JsonProperty(value="Request", required=true)
             RequestModel request,
             @JsonProperty(value="Response", required=false)
-            ResponseModel response) {
+            ResponseModel response,
+            @JsonProperty(value="ModifiesAttributes", required=false)
+            Boolean modifiesAttributes) {
 
         this.request = request;
         this.response = response;
+        this.modifiesAttributes = modifiesAttributes;
     }
 
     /**
@@ -53,10 +61,39 @@ public class ActionModel {
         return response;
     }
 
+    /**
+     * @return whether the model says this action changes the attributes of
+     *         the resource it's performed on, or null if it doesn't say
+     */
+    @JsonProperty(value="ModifiesAttributes")
+    public Boolean getModifiesAttributes() {
+        return modifiesAttributes;
+    }
+
+    /**
+     * Whether performing this action leaves the resource's loaded
+     * attributes stale. Unless the model says otherwise, any action which
+     * isn't a describe, get or list call is assumed to.
+     *
+     * @return true if the resource's attributes should be reloaded after
+     *         this action succeeds
+     */
+    public boolean modifiesAttributes() {
+        if (modifiesAttributes != null) {
+            return modifiesAttributes;
+        }
+
+        String method = request.getMethod();
+        return !(method.startsWith("describe")
+                || method.startsWith("get")
+                || method.startsWith("list"));
+    }
+
     @Override
     public String toString() {
         return "{request=" + request
                 + ", response=" + response
+                + ", modifiesAttributes=" + modifiesAttributes
                 + "}";
     }
 }
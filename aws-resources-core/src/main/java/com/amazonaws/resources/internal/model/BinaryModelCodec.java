@@ -0,0 +1,660 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes a compact binary representation of a V1
+ * {@code ServiceModel}. The binary form is produced from {@code model.json}
+ * at build time (see {@link ModelCompiler}) so that service objects can be
+ * created without paying for Jackson tree-parsing and data binding at
+ * startup.
+ * <p>
+ * The format is a fixed header (magic number and format version) followed
+ * by the model graph written field by field in constructor order. Strings
+ * are written once and referred to by index afterwards, since the same
+ * type names and paths occur many times in a model.
+ */
+public final class BinaryModelCodec {
+
+    private static final int MAGIC = 0x41525331;  // "ARS1"
+    private static final int FORMAT_VERSION = 3;
+
+    private static final String JSON_SUFFIX = ".json";
+    private static final String BINARY_SUFFIX = ".bin";
+
+    /**
+     * Returns the path of the precompiled binary model corresponding to the
+     * given JSON model path; for example "model.bin" for "model.json".
+     *
+     * @param jsonPath the path of the JSON model
+     * @return the path of the binary model
+     */
+    public static String getBinaryPath(String jsonPath) {
+        if (jsonPath.endsWith(JSON_SUFFIX)) {
+            return jsonPath.substring(
+                    0, jsonPath.length() - JSON_SUFFIX.length())
+                    + BINARY_SUFFIX;
+        }
+        return jsonPath + BINARY_SUFFIX;
+    }
+
+    /**
+     * Writes the given model in binary form.
+     *
+     * @param model the model to write
+     * @param stream the stream to write to
+     */
+    public static void write(ServiceModel model, OutputStream stream)
+            throws IOException {
+
+        DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(stream));
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        new Writer(out).writeService(model);
+
+        out.flush();
+    }
+
+    /**
+     * Reads a model written by {@link #write(ServiceModel, OutputStream)}.
+     *
+     * @param stream the stream to read from
+     * @return the model read
+     * @throws IOException if the stream is not a binary model in a format
+     *         this version of the runtime understands, or cannot be read
+     */
+    public static ServiceModel read(InputStream stream) throws IOException {
+        DataInputStream in =
+                new DataInputStream(new BufferedInputStream(stream));
+
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary service model");
+        }
+
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(
+                    "Unsupported binary service model format version "
+                    + version);
+        }
+
+        return new Reader(in).readService();
+    }
+
+    /**
+     * String references: 0 means null, 1 means a new string follows inline,
+     * and anything else is an index (offset by two) into the strings seen
+     * so far.
+     */
+    private static final int NULL_STRING = 0;
+    private static final int NEW_STRING = 1;
+    private static final int FIRST_INDEX = 2;
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        public Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        public void writeService(ServiceModel model) throws IOException {
+            writeString(model.getName());
+            writeString(model.getAbbreviation());
+            writeString(model.getClientInterface());
+            writeString(model.getClientImplementation());
+
+            out.writeInt(model.getResources().size());
+            for (Map.Entry<String, ResourceModel> entry
+                    : model.getResources().entrySet()) {
+
+                writeString(entry.getKey());
+                writeResource(entry.getValue());
+            }
+
+            writeSubResourceGetters(model.getSubResourceGetters());
+            writeCollections(model.getCollections());
+            writeActions(model.getActions());
+        }
+
+        private void writeResource(ResourceModel model) throws IOException {
+            out.writeInt(model.getIdentifiers().size());
+            for (Map.Entry<String, IdentifierModel> entry
+                    : model.getIdentifiers().entrySet()) {
+
+                writeString(entry.getKey());
+                writeString(entry.getValue().getType());
+            }
+
+            out.writeInt(model.getAttributes().size());
+            for (Map.Entry<String, AttributeModel> entry
+                    : model.getAttributes().entrySet()) {
+
+                writeString(entry.getKey());
+                writeString(entry.getValue().getType());
+            }
+
+            out.writeInt(model.getReferences().size());
+            for (Map.Entry<String, ReferenceModel> entry
+                    : model.getReferences().entrySet()) {
+
+                ReferenceModel reference = entry.getValue();
+                writeString(entry.getKey());
+                writeString(reference.getType());
+                writeFlatMappings(reference.getIdentifierMappings());
+                writePathSourceMappings(reference.getAttributeMappings());
+            }
+
+            writeSubResourceGetters(model.getSubResourceGetters());
+            writeCollections(model.getCollections());
+            writeAction(model.getLoadAction());
+            writeActions(model.getActions());
+
+            out.writeInt(model.getWaiters().size());
+            for (Map.Entry<String, WaiterModel> entry
+                    : model.getWaiters().entrySet()) {
+
+                WaiterModel waiter = entry.getValue();
+                writeString(entry.getKey());
+                writeStrings(waiter.getAttributePath());
+                writeStrings(waiter.getSuccessValues());
+                writeStrings(waiter.getFailureValues());
+            }
+        }
+
+        private void writeSubResourceGetters(
+                Map<String, SubResourceGetterModel> getters)
+                        throws IOException {
+
+            out.writeInt(getters.size());
+            for (Map.Entry<String, SubResourceGetterModel> entry
+                    : getters.entrySet()) {
+
+                SubResourceGetterModel getter = entry.getValue();
+                writeString(entry.getKey());
+                writeString(getter.getParameterType());
+                writeFlatMapping(getter.getParameterMapping());
+                writeFlatMappings(getter.getIdentifierMappings());
+            }
+        }
+
+        private void writeCollections(Map<String, CollectionModel> collections)
+                throws IOException {
+
+            out.writeInt(collections.size());
+            for (Map.Entry<String, CollectionModel> entry
+                    : collections.entrySet()) {
+
+                writeString(entry.getKey());
+                writeString(entry.getValue().getType());
+                writeAction(entry.getValue().getListAction());
+            }
+        }
+
+        private void writeActions(Map<String, ActionModel> actions)
+                throws IOException {
+
+            out.writeInt(actions.size());
+            for (Map.Entry<String, ActionModel> entry : actions.entrySet()) {
+                writeString(entry.getKey());
+                writeAction(entry.getValue());
+            }
+        }
+
+        private void writeAction(ActionModel model) throws IOException {
+            out.writeBoolean(model != null);
+            if (model == null) {
+                return;
+            }
+
+            writeRequest(model.getRequest());
+            writeResponse(model.getResponse());
+            writeOptionalBoolean(model.getModifiesAttributes());
+        }
+
+        private void writeOptionalBoolean(Boolean value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeBoolean(value);
+            }
+        }
+
+        private void writeRequest(RequestModel model) throws IOException {
+            writeString(model.getMethod());
+            writeString(model.getClientRequestType());
+            writeString(model.getClientResponseType());
+            writePathTargetMappings(model.getIdentifierMappings());
+            writePathTargetMappings(model.getAttributeMappings());
+            writeParameters(model.getParameterMappings());
+            writePathTargetMappings(model.getConstantMappings());
+
+            out.writeInt(model.getConvenientMethods().size());
+            for (ConvenientMethod method : model.getConvenientMethods()) {
+                writeParameters(method.getArguments());
+            }
+
+            writeStrings(model.getTokenPath());
+            writeStrings(model.getLimitPath());
+        }
+
+        private void writeResponse(ResponseModel model) throws IOException {
+            out.writeBoolean(model != null);
+            if (model == null) {
+                return;
+            }
+
+            ResourceMapping resourceMapping = model.getResourceMapping();
+            out.writeBoolean(resourceMapping != null);
+            if (resourceMapping != null) {
+                writeString(resourceMapping.getType());
+                writeFlatMappings(
+                        resourceMapping.getParentIdentifierMappings());
+                writePathSourceMappings(
+                        resourceMapping.getRequestParamMappings());
+                writePathSourceMappings(
+                        resourceMapping.getResponseIdentifierMappings());
+                writeStrings(resourceMapping.getPath());
+            }
+
+            DataMapping dataMapping = model.getDataMapping();
+            out.writeBoolean(dataMapping != null);
+            if (dataMapping != null) {
+                writeString(dataMapping.getType());
+                writeStrings(dataMapping.getSource());
+            }
+
+            writeStrings(model.getNextTokenPath());
+        }
+
+        private void writeParameters(List<ParameterModel> parameters)
+                throws IOException {
+
+            out.writeInt(parameters.size());
+            for (ParameterModel parameter : parameters) {
+                writeString(parameter.getType());
+                writeString(parameter.getName());
+            }
+        }
+
+        private void writeFlatMappings(List<FlatMapping> mappings)
+                throws IOException {
+
+            out.writeInt(mappings.size());
+            for (FlatMapping mapping : mappings) {
+                writeFlatMapping(mapping);
+            }
+        }
+
+        private void writeFlatMapping(FlatMapping mapping) throws IOException {
+            out.writeBoolean(mapping != null);
+            if (mapping != null) {
+                writeString(mapping.getSource());
+                writeString(mapping.getTarget());
+            }
+        }
+
+        private void writePathSourceMappings(List<PathSourceMapping> mappings)
+                throws IOException {
+
+            out.writeInt(mappings.size());
+            for (PathSourceMapping mapping : mappings) {
+                writeStrings(mapping.getSource());
+                writeString(mapping.getTarget());
+            }
+        }
+
+        private void writePathTargetMappings(List<PathTargetMapping> mappings)
+                throws IOException {
+
+            out.writeInt(mappings.size());
+            for (PathTargetMapping mapping : mappings) {
+                writeString(mapping.getSource());
+                writeStrings(mapping.getTarget());
+            }
+        }
+
+        /**
+         * Writes a (possibly null) list of strings; null is written as a
+         * length of -1.
+         */
+        private void writeStrings(List<String> list) throws IOException {
+            if (list == null) {
+                out.writeInt(-1);
+                return;
+            }
+
+            out.writeInt(list.size());
+            for (String string : list) {
+                writeString(string);
+            }
+        }
+
+        private void writeString(String string) throws IOException {
+            if (string == null) {
+                out.writeInt(NULL_STRING);
+                return;
+            }
+
+            Integer index = strings.get(string);
+            if (index != null) {
+                out.writeInt(index + FIRST_INDEX);
+                return;
+            }
+
+            strings.put(string, strings.size());
+            out.writeInt(NEW_STRING);
+            out.writeUTF(string);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+
+        public Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        public ServiceModel readService() throws IOException {
+            String name = readString();
+            String abbreviation = readString();
+            String clientInterface = readString();
+            String clientImplementation = readString();
+
+            int size = in.readInt();
+            Map<String, ResourceModel> resources = newMap(size);
+            for (int i = 0; i < size; ++i) {
+                resources.put(readString(), readResource());
+            }
+
+            return new ServiceModel(
+                    name,
+                    abbreviation,
+                    clientInterface,
+                    clientImplementation,
+                    resources,
+                    readSubResourceGetters(),
+                    readCollections(),
+                    readActions());
+        }
+
+        private ResourceModel readResource() throws IOException {
+            int size = in.readInt();
+            Map<String, IdentifierModel> identifiers = newMap(size);
+            for (int i = 0; i < size; ++i) {
+                identifiers.put(readString(),
+                        new IdentifierModel(readString()));
+            }
+
+            size = in.readInt();
+            Map<String, AttributeModel> attributes = newMap(size);
+            for (int i = 0; i < size; ++i) {
+                attributes.put(readString(), new AttributeModel(readString()));
+            }
+
+            size = in.readInt();
+            Map<String, ReferenceModel> references = newMap(size);
+            for (int i = 0; i < size; ++i) {
+                String key = readString();
+                references.put(key, new ReferenceModel(
+                        readString(),
+                        readFlatMappings(),
+                        readPathSourceMappings()));
+            }
+
+            Map<String, SubResourceGetterModel> subResourceGetters =
+                    readSubResourceGetters();
+            Map<String, CollectionModel> collections = readCollections();
+            ActionModel loadAction = readAction();
+            Map<String, ActionModel> actions = readActions();
+
+            size = in.readInt();
+            Map<String, WaiterModel> waiters = newMap(size);
+            for (int i = 0; i < size; ++i) {
+                String key = readString();
+                waiters.put(key, new WaiterModel(
+                        readStrings(),
+                        readStrings(),
+                        readStrings()));
+            }
+
+            return new ResourceModel(
+                    identifiers,
+                    attributes,
+                    references,
+                    subResourceGetters,
+                    collections,
+                    loadAction,
+                    actions,
+                    waiters);
+        }
+
+        private Map<String, SubResourceGetterModel> readSubResourceGetters()
+                throws IOException {
+
+            int size = in.readInt();
+            Map<String, SubResourceGetterModel> getters = newMap(size);
+            for (int i = 0; i < size; ++i) {
+                String key = readString();
+                getters.put(key, new SubResourceGetterModel(
+                        readString(),
+                        readFlatMapping(),
+                        readFlatMappings()));
+            }
+            return getters;
+        }
+
+        private Map<String, CollectionModel> readCollections()
+                throws IOException {
+
+            int size = in.readInt();
+            Map<String, CollectionModel> collections = newMap(size);
+            for (int i = 0; i < size; ++i) {
+                String key = readString();
+                collections.put(key,
+                        new CollectionModel(readString(), readAction()));
+            }
+            return collections;
+        }
+
+        private Map<String, ActionModel> readActions() throws IOException {
+            int size = in.readInt();
+            Map<String, ActionModel> actions = newMap(size);
+            for (int i = 0; i < size; ++i) {
+                actions.put(readString(), readAction());
+            }
+            return actions;
+        }
+
+        private ActionModel readAction() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+
+            return new ActionModel(
+                    readRequest(), readResponse(), readOptionalBoolean());
+        }
+
+        private Boolean readOptionalBoolean() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            return in.readBoolean();
+        }
+
+        private RequestModel readRequest() throws IOException {
+            String method = readString();
+            String clientRequestType = readString();
+            String clientResponseType = readString();
+            List<PathTargetMapping> identifierMappings =
+                    readPathTargetMappings();
+            List<PathTargetMapping> attributeMappings =
+                    readPathTargetMappings();
+            List<ParameterModel> parameterMappings = readParameters();
+            List<PathTargetMapping> constantMappings =
+                    readPathTargetMappings();
+
+            int size = in.readInt();
+            List<ConvenientMethod> convenientMethods = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                convenientMethods.add(new ConvenientMethod(readParameters()));
+            }
+
+            return new RequestModel(
+                    method,
+                    clientRequestType,
+                    clientResponseType,
+                    identifierMappings,
+                    attributeMappings,
+                    parameterMappings,
+                    constantMappings,
+                    convenientMethods,
+                    readStrings(),
+                    readStrings());
+        }
+
+        private ResponseModel readResponse() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+
+            ResourceMapping resourceMapping = null;
+            if (in.readBoolean()) {
+                resourceMapping = new ResourceMapping(
+                        readString(),
+                        readFlatMappings(),
+                        readPathSourceMappings(),
+                        readPathSourceMappings(),
+                        readStrings());
+            }
+
+            DataMapping dataMapping = null;
+            if (in.readBoolean()) {
+                dataMapping = new DataMapping(readString(), readStrings());
+            }
+
+            return new ResponseModel(
+                    resourceMapping,
+                    dataMapping,
+                    readStrings());
+        }
+
+        private List<ParameterModel> readParameters() throws IOException {
+            int size = in.readInt();
+            List<ParameterModel> parameters = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                parameters.add(new ParameterModel(readString(), readString()));
+            }
+            return parameters;
+        }
+
+        private List<FlatMapping> readFlatMappings() throws IOException {
+            int size = in.readInt();
+            List<FlatMapping> mappings = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                mappings.add(readFlatMapping());
+            }
+            return mappings;
+        }
+
+        private FlatMapping readFlatMapping() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            return new FlatMapping(readString(), readString());
+        }
+
+        private List<PathSourceMapping> readPathSourceMappings()
+                throws IOException {
+
+            int size = in.readInt();
+            List<PathSourceMapping> mappings = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                mappings.add(new PathSourceMapping(readStrings(), readString()));
+            }
+            return mappings;
+        }
+
+        private List<PathTargetMapping> readPathTargetMappings()
+                throws IOException {
+
+            int size = in.readInt();
+            List<PathTargetMapping> mappings = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                mappings.add(new PathTargetMapping(readString(), readStrings()));
+            }
+            return mappings;
+        }
+
+        private List<String> readStrings() throws IOException {
+            int size = in.readInt();
+            if (size < 0) {
+                return null;
+            }
+
+            List<String> list = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                list.add(readString());
+            }
+            return list;
+        }
+
+        private String readString() throws IOException {
+            int ref = in.readInt();
+
+            if (ref == NULL_STRING) {
+                return null;
+            }
+
+            if (ref == NEW_STRING) {
+                String string = in.readUTF();
+                strings.add(string);
+                return string;
+            }
+
+            int index = ref - FIRST_INDEX;
+            if (index < 0 || index >= strings.size()) {
+                throw new IOException("Invalid string reference " + ref);
+            }
+            return strings.get(index);
+        }
+
+        private static <V> Map<String, V> newMap(int size) {
+            // Preserve the declaration order of the JSON model.
+            return new LinkedHashMap<>(Math.max(4, size * 4 / 3 + 1));
+        }
+    }
+
+    private BinaryModelCodec() {
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Build-time tool which precompiles every {@code model.json} file under the
+ * given directories into the binary form read by {@link BinaryModelCodec},
+ * writing each {@code model.bin} alongside its source. Service modules run
+ * this over their output directory after resources have been copied.
+ */
+public final class ModelCompiler {
+
+    private static final String MODEL_FILE_NAME = "model.json";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException(
+                    "Usage: ModelCompiler <directory>...");
+        }
+
+        for (String arg : args) {
+            compileAll(Paths.get(arg));
+        }
+    }
+
+    /**
+     * Compiles every model file found under the given directory.
+     *
+     * @param root the directory to search
+     */
+    public static void compileAll(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(
+                    Path file,
+                    BasicFileAttributes attributes) throws IOException {
+
+                if (MODEL_FILE_NAME.equals(file.getFileName().toString())) {
+                    compile(file, file.resolveSibling(
+                            BinaryModelCodec.getBinaryPath(MODEL_FILE_NAME)));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Compiles a single JSON model file into its binary form.
+     *
+     * @param source the JSON model file
+     * @param target the binary model file to write
+     */
+    public static void compile(Path source, Path target) throws IOException {
+        ServiceModel model;
+        try (InputStream stream = Files.newInputStream(source)) {
+            model = V1ModelLoader.load(stream);
+        }
+
+        try (OutputStream stream = Files.newOutputStream(target)) {
+            BinaryModelCodec.write(model, stream);
+        }
+    }
+
+    private ModelCompiler() {
+    }
+}
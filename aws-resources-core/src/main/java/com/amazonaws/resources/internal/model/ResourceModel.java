@@ -31,6 +31,7 @@ public class ResourceModel {
     private final Map<String, CollectionModel> collections;
     private final ActionModel loadAction;
     private final Map<String, ActionModel> actions;
+    private final Map<String, WaiterModel> waiters;
 
     // Other actions.
 
@@ -49,7 +50,9 @@ public class ResourceModel {
             @JsonProperty(value="LoadAction", required=false)
             ActionModel loadAction,
             @JsonProperty(value="Actions", required=false)
-            Map<String, ActionModel> actions) {
+            Map<String, ActionModel> actions,
+            @JsonProperty(value="Waiters", required=false)
+            Map<String, WaiterModel> waiters) {
 
         this.identifiers = Utils.makeImmutable(identifiers);
         this.attributes = Utils.makeImmutable(attributes);
@@ -58,6 +61,7 @@ public class ResourceModel {
         this.collections = Utils.makeImmutable(collections);
         this.loadAction = loadAction;
         this.actions = Utils.makeImmutable(actions);
+        this.waiters = Utils.makeImmutable(waiters);
     }
 
     /**
@@ -164,6 +168,22 @@ public class ResourceModel {
         return actions.get(name);
     }
 
+    /**
+     * @return the full set of waiters on this resource type
+     */
+    @JsonProperty(value="Waiters")
+    public Map<String, WaiterModel> getWaiters() {
+        return waiters;
+    }
+
+    /**
+     * @param name the name of a waiter on this resource
+     * @return information about the given waiter
+     */
+    public WaiterModel getWaiter(String name) {
+        return waiters.get(name);
+    }
+
     @Override
     public String toString() {
         return "{identifiers=" + identifiers
@@ -172,6 +192,7 @@ public class ResourceModel {
                 + ", subresourceGetters=" + subResourceGetters
                 + ", loadAction=" + loadAction
                 + ", actions=" + actions
+                + ", waiters=" + waiters
                 + "}";
     }
 }
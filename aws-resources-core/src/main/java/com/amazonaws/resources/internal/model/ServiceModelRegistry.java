@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A process-wide registry of parsed service models. Each model file is
+ * parsed at most once per service interface type, and the resulting
+ * (immutable) {@code ServiceModel} is shared by every service object created
+ * for that interface, however the service object is constructed.
+ * <p>
+ * Models are attached to the service interface {@code Class} itself, so a
+ * model is released along with the class loader that loaded its interface,
+ * and interfaces loaded by different class loaders never share a model.
+ */
+public final class ServiceModelRegistry {
+
+    private static final ClassValue<ConcurrentMap<String, Entry>> MODELS =
+            new ClassValue<ConcurrentMap<String, Entry>>() {
+                @Override
+                protected ConcurrentMap<String, Entry> computeValue(
+                        Class<?> type) {
+
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Returns the service model for the given service interface, loading it
+     * from the given classpath resource (relative to the interface type) the
+     * first time it is requested.
+     *
+     * @param interfaceType the service interface type
+     * @param filePath the path of the model file
+     * @return the shared service model
+     * @throws IllegalStateException if the model cannot be loaded
+     */
+    public static ServiceModel getModel(
+            Class<?> interfaceType,
+            String filePath) {
+
+        ConcurrentMap<String, Entry> models = MODELS.get(interfaceType);
+
+        Entry entry = models.get(filePath);
+        if (entry == null) {
+            entry = new Entry();
+
+            Entry existing = models.putIfAbsent(filePath, entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+
+        return entry.get(interfaceType, filePath);
+    }
+
+    /**
+     * A lazily-loaded model. Concurrent first requests for the same model
+     * wait for a single load rather than each parsing the file.
+     */
+    private static final class Entry {
+
+        private volatile ServiceModel model;
+
+        public ServiceModel get(Class<?> interfaceType, String filePath) {
+            ServiceModel result = model;
+            if (result == null) {
+                synchronized (this) {
+                    result = model;
+                    if (result == null) {
+                        result = V1ModelLoader.load(interfaceType, filePath);
+                        model = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private ServiceModelRegistry() {
+    }
+}
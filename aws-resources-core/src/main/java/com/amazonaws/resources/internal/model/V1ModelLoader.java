@@ -17,9 +17,61 @@ package com.amazonaws.resources.internal.model;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.apache.commons.logging.LogFactory;
+
 public final class V1ModelLoader {
 
+    /**
+     * Set this system property to ignore precompiled binary models and
+     * always parse the JSON model files.
+     */
+    public static final String DISABLE_BINARY_MODELS_PROPERTY =
+            "com.amazonaws.resources.disableBinaryModels";
+
+    /**
+     * Loads the model at the given path relative to the given interface
+     * type, preferring the precompiled binary form of the model if it is
+     * present on the classpath and falling back to parsing the JSON.
+     */
     public static ServiceModel load(Class<?> interfaceType, String filePath) {
+        if (System.getProperty(DISABLE_BINARY_MODELS_PROPERTY) == null) {
+            ServiceModel model = tryLoadBinary(interfaceType, filePath);
+            if (model != null) {
+                return model;
+            }
+        }
+
+        return loadJson(interfaceType, filePath);
+    }
+
+    private static ServiceModel tryLoadBinary(
+            Class<?> interfaceType,
+            String filePath) {
+
+        String binaryPath = BinaryModelCodec.getBinaryPath(filePath);
+
+        try (InputStream stream =
+                interfaceType.getResourceAsStream(binaryPath)) {
+
+            if (stream == null) {
+                return null;
+            }
+
+            return BinaryModelCodec.read(stream);
+
+        } catch (IOException | RuntimeException exception) {
+            LogFactory.getLog(V1ModelLoader.class).warn(
+                    "Unable to load binary service model " + binaryPath
+                    + ", falling back to " + filePath,
+                    exception);
+            return null;
+        }
+    }
+
+    private static ServiceModel loadJson(
+            Class<?> interfaceType,
+            String filePath) {
+
         try (InputStream stream =
                 interfaceType.getResourceAsStream(filePath)) {
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The model definition of a waiter, which polls a resource until the value
+ * at a path into its attributes reaches one of a set of values.
+ */
+public class WaiterModel {
+
+    private final List<String> attributePath;
+    private final List<String> successValues;
+    private final List<String> failureValues;
+
+    @JsonCreator
+    public WaiterModel(
+            @JsonProperty(value="AttributePath", required=true)
+            List<String> attributePath,
+            @JsonProperty(value="SuccessValues", required=true)
+            List<String> successValues,
+            @JsonProperty(value="FailureValues", required=false)
+            List<String> failureValues) {
+
+        if (attributePath == null || attributePath.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "attributePath cannot be null or empty");
+        }
+
+        this.attributePath = Utils.makeImmutable(attributePath);
+        this.successValues = Utils.makeImmutable(successValues);
+        this.failureValues = Utils.makeImmutable(failureValues);
+    }
+
+    /**
+     * @return the path to the polled value, starting with an attribute name
+     */
+    @JsonProperty(value="AttributePath")
+    public List<String> getAttributePath() {
+        return attributePath;
+    }
+
+    /**
+     * @return the values which mean the wait has succeeded
+     */
+    @JsonProperty(value="SuccessValues")
+    public List<String> getSuccessValues() {
+        return successValues;
+    }
+
+    /**
+     * @return the values which mean the wait can never succeed
+     */
+    @JsonProperty(value="FailureValues")
+    public List<String> getFailureValues() {
+        return failureValues;
+    }
+
+    @Override
+    public String toString() {
+        return "{attributePath=" + attributePath
+                + ", successValues=" + successValues
+                + ", failureValues=" + failureValues
+                + "}";
+    }
+}
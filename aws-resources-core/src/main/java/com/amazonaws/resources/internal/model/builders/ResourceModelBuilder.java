@@ -154,7 +154,7 @@ public class ResourceModelBuilder implements Builder<ResourceModel> {
     public ResourceModel build() {
 
         return new ResourceModel(identifiers, attributes, references,
-                subResourceGetters, collections, loadAction, actions);
+                subResourceGetters, collections, loadAction, actions, null);
     }
 
 }
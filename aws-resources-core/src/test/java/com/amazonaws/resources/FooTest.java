@@ -14,11 +14,16 @@
  */
 package com.amazonaws.resources;
 
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.amazonaws.resources.foo.AmazonFooClient;
 import com.amazonaws.resources.foo.Foo;
+import com.amazonaws.resources.internal.CustomServiceInterface;
+import com.amazonaws.resources.internal.model.ServiceModel;
+import com.amazonaws.resources.internal.model.ServiceModelRegistry;
 
 public class FooTest {
     @Test
@@ -28,4 +33,50 @@ public class FooTest {
         Assert.assertNotNull(foo.client());
         Assert.assertTrue(foo.client() instanceof AmazonFooClient);
     }
+
+    @Test
+    public void testModelIsShared() {
+        ServiceModel first =
+                ServiceModelRegistry.getModel(Foo.class, "model.json");
+        ServiceModel second =
+                ServiceModelRegistry.getModel(Foo.class, "model.json");
+
+        Assert.assertEquals("Foo", first.getName());
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void testAttributeTtl() {
+        ServiceBuilder<?, Foo> builder = ServiceBuilder.forService(Foo.class)
+                .withAttributeTtl(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(5000,
+                builder.getAttributeTtl(TimeUnit.MILLISECONDS));
+        Assert.assertNotNull(builder.build());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCustomServiceRejectsAttributeTtl() {
+        ServiceBuilder.forService(Custom.class)
+                .withAttributeTtl(5, TimeUnit.SECONDS);
+    }
+
+    @CustomServiceInterface(
+            client="com.amazonaws.resources.foo.AmazonFooClient",
+            impl="com.amazonaws.resources.FooTest$CustomImpl")
+    public interface Custom extends Service<AmazonFooClient> {
+    }
+
+    public static class CustomImpl implements Custom {
+        private final AmazonFooClient client;
+
+        public CustomImpl(AmazonFooClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public AmazonFooClient client() {
+            return client;
+        }
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncActionsTest {
+
+    @Test
+    public void testCallerSuppliedExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+
+            Future<String> future = AsyncActions.submit(
+                    new Object(), executor, new Callable<String>() {
+                        @Override
+                        public String call() {
+                            return Thread.currentThread().getName();
+                        }
+                    });
+
+            Assert.assertNotEquals(
+                    Thread.currentThread().getName(),
+                    future.get());
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAsyncClientExecutor() {
+        AsyncClient client = new AsyncClient();
+        try {
+
+            Executor executor = AsyncActions.getExecutor(client, null);
+            Assert.assertSame(client.getExecutorService(), executor);
+
+        } finally {
+            client.getExecutorService().shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoExecutor() {
+        AsyncActions.getExecutor(new Object(), null);
+    }
+
+    @Test
+    public void testFailurePropagates() throws Exception {
+        Executor direct = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+
+        Future<String> future = AsyncActions.submit(
+                new Object(), direct, new Callable<String>() {
+                    @Override
+                    public String call() {
+                        throw new IllegalStateException("boom");
+                    }
+                });
+
+        try {
+            future.get();
+            Assert.fail("Expected an ExecutionException");
+        } catch (ExecutionException exception) {
+            Assert.assertTrue(
+                    exception.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    public static class AsyncClient {
+        private final ExecutorService executor =
+                Executors.newSingleThreadExecutor();
+
+        public ExecutorService getExecutorService() {
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.resources.internal.model.ServiceModel;
+import com.amazonaws.resources.internal.model.V1ModelLoader;
+
+public class BatchLoaderTest {
+
+    private static final String MODEL = "{"
+            + "\"FormatVersion\":{\"Major\":1,\"Minor\":0},"
+            + "\"Service\":{"
+            + "  \"Name\":\"Test\","
+            + "  \"Abbreviation\":\"test\","
+            + "  \"ClientInterface\":\"" + Client.class.getName() + "\","
+            + "  \"ClientImplementation\":\"" + Client.class.getName() + "\","
+            + "  \"Resources\":{"
+            + "    \"Thing\":{"
+            + "      \"Identifiers\":{\"Id\":{\"Type\":\"String\"}},"
+            + "      \"Attributes\":{\"State\":{\"Type\":\"String\"}},"
+            + "      \"LoadAction\":{"
+            + "        \"Request\":{"
+            + "          \"Method\":\"describeThings\","
+            + "          \"ClientRequestType\":\""
+            + DescribeRequest.class.getName() + "\","
+            + "          \"ClientResponseType\":\""
+            + DescribeResult.class.getName() + "\","
+            + "          \"IdentifierMappings\":["
+            + "            {\"Source\":\"Id\",\"Target\":[\"ThingIds\",\"0\"]}]"
+            + "        },"
+            + "        \"Response\":{"
+            + "          \"DataMapping\":{"
+            + "            \"Type\":\"Thing\","
+            + "            \"Source\":[\"Things\",\"0\"]"
+            + "          }"
+            + "        }"
+            + "      }"
+            + "    }"
+            + "  },"
+            + "  \"Collections\":{"
+            + "    \"Things\":{"
+            + "      \"Type\":\"Thing\","
+            + "      \"ListAction\":{"
+            + "        \"Request\":{"
+            + "          \"Method\":\"describeThings\","
+            + "          \"ClientRequestType\":\""
+            + DescribeRequest.class.getName() + "\","
+            + "          \"ClientResponseType\":\""
+            + DescribeResult.class.getName() + "\""
+            + "        },"
+            + "        \"Response\":{"
+            + "          \"ResourceMapping\":{"
+            + "            \"Type\":\"Thing\","
+            + "            \"ResponseIdentifierMappings\":["
+            + "              {\"Source\":[\"Things\",\"*\",\"Id\"],"
+            + "               \"Target\":\"Id\"}]"
+            + "          }"
+            + "        }"
+            + "      }"
+            + "    }"
+            + "  }"
+            + "}}";
+
+    @Test
+    public void testBatchedLoad() throws IOException {
+        Client client = new Client();
+        List<ResourceImpl> things = getThings(client, 250);
+
+        Assert.assertEquals(250, BatchLoader.loadAll(things, 100));
+        Assert.assertEquals(3, client.calls);
+        Assert.assertEquals(50, client.lastBatchSize);
+
+        for (ResourceImpl thing : things) {
+            Assert.assertTrue(thing.isLoaded());
+            Assert.assertEquals(
+                    "state-of-" + thing.getIdentifier("Id"),
+                    thing.getAttribute("State"));
+        }
+    }
+
+    @Test
+    public void testDuplicatesAndLoaded() throws IOException {
+        ServiceModel model = loadModel();
+        Client client = new Client();
+        List<ResourceImpl> things = getThings(model, client, 3);
+        things.addAll(getThings(model, client, 3));
+
+        things.get(0).load(null, null);
+        Assert.assertEquals(1, client.calls);
+
+        Assert.assertEquals(5, BatchLoader.loadAll(things, 100));
+        Assert.assertEquals(2, client.calls);
+        Assert.assertEquals(3, client.lastBatchSize);
+    }
+
+    @Test
+    public void testMissingResourceLeftUnloaded() throws IOException {
+        Client client = new Client();
+        client.missing = "thing-1";
+        List<ResourceImpl> things = getThings(client, 3);
+
+        Assert.assertEquals(2, BatchLoader.loadAll(things, 100));
+        Assert.assertTrue(things.get(0).isLoaded());
+        Assert.assertFalse(things.get(1).isLoaded());
+        Assert.assertTrue(things.get(2).isLoaded());
+    }
+
+    @Test
+    public void testFallbackOnServiceError() throws IOException {
+        Client client = new Client();
+        client.missing = "thing-2";
+        client.strict = true;
+        List<ResourceImpl> things = getThings(client, 3);
+
+        try {
+            BatchLoader.loadAll(things, 100);
+            Assert.fail("Expected the missing resource to be reported");
+        } catch (AmazonServiceException exception) {
+            Assert.assertEquals("thing-2", exception.getErrorMessage());
+        }
+
+        // One failed batch, then one call per resource.
+        Assert.assertEquals(4, client.calls);
+        Assert.assertTrue(things.get(0).isLoaded());
+        Assert.assertTrue(things.get(1).isLoaded());
+        Assert.assertFalse(things.get(2).isLoaded());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBatchSize() throws IOException {
+        BatchLoader.loadAll(getThings(new Client(), 1), 0);
+    }
+
+    private static List<ResourceImpl> getThings(Client client, int count)
+            throws IOException {
+
+        return getThings(loadModel(), client, count);
+    }
+
+    private static List<ResourceImpl> getThings(
+            ServiceModel model,
+            Client client,
+            int count) {
+
+        List<ResourceImpl> things = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            things.add(new ResourceImpl(
+                    model,
+                    model.getResource("Thing"),
+                    client,
+                    Collections.singletonMap("Id", "thing-" + i)));
+        }
+        return things;
+    }
+
+    private static ServiceModel loadModel() throws IOException {
+        return V1ModelLoader.load(
+                new ByteArrayInputStream(MODEL.getBytes("UTF-8")));
+    }
+
+    public static class Client {
+        private int calls;
+        private int lastBatchSize;
+        private String missing;
+        private boolean strict;
+
+        public DescribeResult describeThings(DescribeRequest request) {
+            calls += 1;
+            lastBatchSize = request.getThingIds().size();
+
+            DescribeResult result = new DescribeResult();
+            for (String id : request.getThingIds()) {
+                if (id.equals(missing)) {
+                    if (strict) {
+                        throw new AmazonServiceException(id);
+                    }
+                    continue;
+                }
+                result.getThings().add(new Thing(id));
+            }
+            return result;
+        }
+    }
+
+    public static class DescribeRequest extends AmazonWebServiceRequest {
+        private final List<String> thingIds = new ArrayList<>();
+
+        public List<String> getThingIds() {
+            return thingIds;
+        }
+    }
+
+    public static class DescribeResult {
+        private final List<Thing> things = new ArrayList<>();
+
+        public List<Thing> getThings() {
+            return things;
+        }
+    }
+
+    public static class Thing {
+        private final String id;
+
+        public Thing(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getState() {
+            return "state-of-" + id;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.lang.reflect.Method;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+public class ClientMethodsTest {
+
+    @Test
+    public void testLookupsReturnTheSameMethod() {
+        Method first = ClientMethods.forClient(new Client()).find("doThing");
+        Method second = ClientMethods.forClient(new Client()).find("doThing");
+
+        Assert.assertSame(first, second);
+        Assert.assertSame(ClientMethods.forClient(new Client()),
+                ClientMethods.forClient(new Client()));
+    }
+
+    @Test
+    public void testOverloadsResolveToTheRequestMethod() throws Exception {
+        Method method = ClientMethods.forClient(new Client()).find("doThing");
+
+        Assert.assertEquals(
+                Client.class.getMethod("doThing", DoThingRequest.class),
+                method);
+    }
+
+    @Test
+    public void testOverloadsPreferTheMostSpecificRequest() throws Exception {
+        Method method =
+                ClientMethods.forClient(new Client()).find("getMetadata");
+
+        Assert.assertEquals(
+                Client.class.getMethod("getMetadata", DoThingRequest.class),
+                method);
+    }
+
+    @Test
+    public void testOverriddenMethodsResolveToTheSubclass() throws Exception {
+        Method method =
+                ClientMethods.forClient(new SubClient()).find("doThing");
+
+        Assert.assertEquals(SubClient.class, method.getDeclaringClass());
+    }
+
+    @Test
+    public void testMissingMethod() {
+        ClientMethods methods = ClientMethods.forClient(new Client());
+
+        Assert.assertNull(methods.tryFind("noSuchMethod"));
+        Assert.assertNull(methods.tryFind("notARequest"));
+
+        try {
+            methods.find("noSuchMethod");
+            Assert.fail("expected an exception");
+        } catch (RuntimeException expected) {
+        }
+    }
+
+    @Test
+    public void testMetadataGettersAreCached() throws Exception {
+        Method[] first = ActionUtils.getMetadataGetters(Metadata.class);
+        Method[] second = ActionUtils.getMetadataGetters(Metadata.class);
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, first.length);
+        Assert.assertEquals(Metadata.class.getMethod("getRequestId"),
+                first[0]);
+    }
+
+    public static class DoThingRequest extends AmazonWebServiceRequest {
+    }
+
+    public static class Client {
+
+        public String doThing() {
+            return "no-args";
+        }
+
+        public String doThing(String name) {
+            return name;
+        }
+
+        public String doThing(DoThingRequest request) {
+            return "request";
+        }
+
+        public Object getMetadata(AmazonWebServiceRequest request) {
+            return null;
+        }
+
+        public Object getMetadata(DoThingRequest request) {
+            return null;
+        }
+
+        public String notARequest(Object request) {
+            return null;
+        }
+    }
+
+    public static class SubClient extends Client {
+
+        @Override
+        public String doThing(DoThingRequest request) {
+            return "sub";
+        }
+    }
+
+    public static class Metadata {
+
+        public String getRequestId() {
+            return "id";
+        }
+
+        public int getStatus() {
+            return 200;
+        }
+
+        public String getWithArgument(String name) {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReflectionUtilsTest {
+
+    private static final String FILTER_TYPE = Filter.class.getName();
+
+    @Test
+    public void testSetAndGetByPath() {
+        Request request = new Request();
+
+        ReflectionUtils.setByPath(request, "name-0",
+                Arrays.asList("Filters", "0:" + FILTER_TYPE, "Name"));
+        ReflectionUtils.setByPath(request, "value-0",
+                Arrays.asList("Filters", "0:" + FILTER_TYPE, "Values", "0"));
+        ReflectionUtils.setByPath(request, "name-1",
+                Arrays.asList("Filters", "1:" + FILTER_TYPE, "Name"));
+        ReflectionUtils.setByPath(request, Boolean.TRUE,
+                Arrays.asList("DryRun"));
+
+        Assert.assertEquals(2, request.getFilters().size());
+
+        Assert.assertEquals("name-1", ReflectionUtils.getByPath(
+                request, Arrays.asList("Filters", "-1", "Name")));
+
+        Assert.assertEquals(Arrays.<Object>asList("name-0", "name-1"),
+                ReflectionUtils.getAllByPath(
+                        request, Arrays.asList("Filters", "*", "Name")));
+
+        Assert.assertEquals(Arrays.<Object>asList("value-0"),
+                ReflectionUtils.getAllByPath(request,
+                        Arrays.asList("Filters", "0", "Values", "*")));
+
+        Assert.assertEquals(Boolean.TRUE,
+                ReflectionUtils.getByPath(request, Arrays.asList("DryRun")));
+    }
+
+    @Test
+    public void testMissingAccessor() {
+        List<String> path = Arrays.asList("NoSuchProperty");
+
+        // Evaluated twice to exercise the cached (negative) lookup.
+        Assert.assertNull(ReflectionUtils.getByPath(new Request(), path));
+        Assert.assertNull(ReflectionUtils.getByPath(new Request(), path));
+    }
+
+    @Test
+    public void testPolymorphicTargets() {
+        List<String> path = Arrays.asList("Name");
+
+        Filter filter = new Filter();
+        filter.setName("filter");
+
+        NamedRequest request = new NamedRequest();
+        request.setName("request");
+
+        // The same path evaluated against objects of different classes.
+        Assert.assertEquals("filter", ReflectionUtils.getByPath(filter, path));
+        Assert.assertEquals("request",
+                ReflectionUtils.getByPath(request, path));
+        Assert.assertEquals("filter", ReflectionUtils.getByPath(filter, path));
+    }
+
+    public static class Request {
+        private List<Filter> filters;
+        private Boolean dryRun;
+
+        public List<Filter> getFilters() {
+            if (filters == null) {
+                filters = new ArrayList<>();
+            }
+            return filters;
+        }
+
+        public void setFilters(List<Filter> value) {
+            filters = value;
+        }
+
+        public Boolean isDryRun() {
+            return dryRun;
+        }
+
+        public void setDryRun(Boolean value) {
+            dryRun = value;
+        }
+    }
+
+    public static class NamedRequest extends Request {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String value) {
+            name = value;
+        }
+    }
+
+    public static class Filter {
+        private String name;
+        private List<String> values;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String value) {
+            name = value;
+        }
+
+        public List<String> getValues() {
+            if (values == null) {
+                values = new ArrayList<>();
+            }
+            return values;
+        }
+
+        public void setValues(List<String> value) {
+            values = value;
+        }
+    }
+}
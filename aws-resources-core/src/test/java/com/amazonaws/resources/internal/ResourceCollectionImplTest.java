@@ -0,0 +1,285 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.resources.PageSplitter;
+import com.amazonaws.resources.ResourcePage;
+import com.amazonaws.resources.internal.model.ServiceModel;
+import com.amazonaws.resources.internal.model.V1ModelLoader;
+
+public class ResourceCollectionImplTest {
+
+    private static final String MODEL = "{"
+            + "\"FormatVersion\":{\"Major\":1,\"Minor\":0},"
+            + "\"Service\":{"
+            + "  \"Name\":\"Test\","
+            + "  \"Abbreviation\":\"test\","
+            + "  \"ClientInterface\":\"" + Client.class.getName() + "\","
+            + "  \"ClientImplementation\":\"" + Client.class.getName() + "\","
+            + "  \"Resources\":{"
+            + "    \"Thing\":{\"Identifiers\":{\"Id\":{\"Type\":\"String\"}}}"
+            + "  },"
+            + "  \"Collections\":{"
+            + "    \"Things\":{"
+            + "      \"Type\":\"Thing\","
+            + "      \"ListAction\":{"
+            + "        \"Request\":{"
+            + "          \"Method\":\"listThings\","
+            + "          \"ClientRequestType\":\""
+            + ListRequest.class.getName() + "\","
+            + "          \"ClientResponseType\":\""
+            + ListResult.class.getName() + "\","
+            + "          \"TokenPath\":[\"NextToken\"]"
+            + "        },"
+            + "        \"Response\":{"
+            + "          \"ResourceMapping\":{"
+            + "            \"Type\":\"Thing\","
+            + "            \"ResponseIdentifierMappings\":["
+            + "              {\"Source\":[\"Ids\",\"*\"],\"Target\":\"Id\"}]"
+            + "          },"
+            + "          \"NextTokenPath\":[\"NextToken\"]"
+            + "        }"
+            + "      }"
+            + "    }"
+            + "  }"
+            + "}}";
+
+    private static final int PAGES = 5;
+    private static final int PAGE_SIZE = 3;
+
+    @Test
+    public void testSequentialIteration() throws IOException {
+        Client client = new Client();
+        ResourceCollectionImpl things = getThings(client);
+
+        Assert.assertEquals(expectedIds(), collectIds(things.iterator()));
+        Assert.assertEquals(PAGES, client.calls.get());
+    }
+
+    @Test
+    public void testPrefetchingIteration() throws IOException {
+        Client client = new Client();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+
+            ResourceCollectionImpl things =
+                    getThings(client).withPrefetch(2, executor);
+
+            Assert.assertEquals(
+                    expectedIds(),
+                    collectIds(things.iterator()));
+
+            Assert.assertEquals(PAGES, client.calls.get());
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPrefetchIsBounded() throws IOException {
+        Client client = new Client();
+        ResourceCollectionImpl things =
+                getThings(client).withPrefetch(2, new DirectExecutor());
+
+        Iterator<ResourcePageImpl> pages = things.pages().iterator();
+        pages.next();
+
+        // The page handed out, plus two buffered behind it.
+        Assert.assertEquals(3, client.calls.get());
+    }
+
+    @Test
+    public void testPrefetchFailure() throws IOException {
+        Client client = new Client();
+        client.failOnPage = 2;
+
+        ResourceCollectionImpl things =
+                getThings(client).withPrefetch(3, new DirectExecutor());
+
+        Iterator<ResourcePageImpl> pages = things.pages().iterator();
+        pages.next();
+        pages.next();
+
+        try {
+            pages.next();
+            Assert.fail("Expected the failed fetch to be rethrown");
+        } catch (IllegalStateException exception) {
+            Assert.assertEquals("page 2", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testPageSplitter() throws Exception {
+        Client client = new Client();
+
+        final PageSplitter<ResourceImpl> splitter = PageSplitter.forCollection(
+                new StandardResourceCollection<ResourceImpl>(
+                        getThings(client),
+                        new ResourceCodec<ResourceImpl>() {
+                            @Override
+                            public ResourceImpl transform(ResourceImpl r) {
+                                return r;
+                            }
+                        }));
+
+        final List<Object> ids =
+                Collections.synchronizedList(new ArrayList<Object>());
+
+        ExecutorService workers = Executors.newFixedThreadPool(3);
+        for (int i = 0; i < 3; ++i) {
+            workers.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ResourcePage<ResourceImpl> page;
+                    while ((page = splitter.trySplit()) != null) {
+                        for (ResourceImpl resource : page) {
+                            ids.add(resource.getIdentifier("Id"));
+                        }
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        Assert.assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<Object> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted, new Comparator<Object>() {
+            @Override
+            public int compare(Object a, Object b) {
+                return Integer.compare(index(a), index(b));
+            }
+
+            private int index(Object id) {
+                return Integer.parseInt(((String) id).substring(6));
+            }
+        });
+
+        Assert.assertEquals(expectedIds(), sorted);
+        Assert.assertEquals(PAGES, client.calls.get());
+        Assert.assertNull(splitter.trySplit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDepth() throws IOException {
+        getThings(new Client()).withPrefetch(0, new DirectExecutor());
+    }
+
+    private static ResourceCollectionImpl getThings(Client client)
+            throws IOException {
+
+        ServiceModel model = V1ModelLoader.load(
+                new ByteArrayInputStream(MODEL.getBytes("UTF-8")));
+
+        return new ServiceImpl<Client>(model, client)
+                .getCollection("Things", null);
+    }
+
+    private static List<Object> collectIds(Iterator<ResourceImpl> iterator) {
+        List<Object> ids = new ArrayList<>();
+        while (iterator.hasNext()) {
+            ids.add(iterator.next().getIdentifier("Id"));
+        }
+        return ids;
+    }
+
+    private static List<Object> expectedIds() {
+        List<Object> ids = new ArrayList<>();
+        for (int i = 0; i < PAGES * PAGE_SIZE; ++i) {
+            ids.add("thing-" + i);
+        }
+        return ids;
+    }
+
+    private static final class DirectExecutor implements Executor {
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
+
+    public static class Client {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile int failOnPage = -1;
+
+        public ListResult listThings(ListRequest request) {
+            calls.incrementAndGet();
+
+            int page = (request.getNextToken() == null
+                    ? 0
+                    : Integer.parseInt(request.getNextToken()));
+
+            if (page == failOnPage) {
+                throw new IllegalStateException("page " + page);
+            }
+
+            ListResult result = new ListResult();
+            for (int i = 0; i < PAGE_SIZE; ++i) {
+                result.getIds().add("thing-" + (page * PAGE_SIZE + i));
+            }
+            if (page + 1 < PAGES) {
+                result.setNextToken(Integer.toString(page + 1));
+            }
+            return result;
+        }
+    }
+
+    public static class ListRequest extends AmazonWebServiceRequest {
+        private String nextToken;
+
+        public String getNextToken() {
+            return nextToken;
+        }
+
+        public void setNextToken(String value) {
+            nextToken = value;
+        }
+    }
+
+    public static class ListResult {
+        private final List<String> ids = new ArrayList<>();
+        private String nextToken;
+
+        public List<String> getIds() {
+            return ids;
+        }
+
+        public String getNextToken() {
+            return nextToken;
+        }
+
+        public void setNextToken(String value) {
+            nextToken = value;
+        }
+    }
+}
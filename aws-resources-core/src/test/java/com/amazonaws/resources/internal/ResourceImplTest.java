@@ -0,0 +1,241 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.resources.internal.model.ServiceModel;
+import com.amazonaws.resources.internal.model.V1ModelLoader;
+
+public class ResourceImplTest {
+
+    private static final String MODEL = "{"
+            + "\"FormatVersion\":{\"Major\":1,\"Minor\":0},"
+            + "\"Service\":{"
+            + "  \"Name\":\"Test\","
+            + "  \"Abbreviation\":\"test\","
+            + "  \"ClientInterface\":\"" + Client.class.getName() + "\","
+            + "  \"ClientImplementation\":\"" + Client.class.getName() + "\","
+            + "  \"Resources\":{"
+            + "    \"Thing\":{"
+            + "      \"Identifiers\":{\"Id\":{\"Type\":\"String\"}},"
+            + "      \"Attributes\":{\"State\":{\"Type\":\"String\"}},"
+            + "      \"LoadAction\":" + action("getThing", "[\"Thing\"]") + ","
+            + "      \"Actions\":{"
+            + "        \"Stop\":" + action("stopThing", null) + ","
+            + "        \"Describe\":" + action("describeThing", null) + ","
+            + "        \"Poke\":" + action("pokeThing", null, false) + ","
+            + "        \"Break\":" + action("breakThing", null)
+            + "      }"
+            + "    }"
+            + "  },"
+            + "  \"SubResourceGetters\":{"
+            + "    \"Thing\":{"
+            + "      \"ParameterType\":\"java.lang.String\","
+            + "      \"ParameterMapping\":{\"Source\":\"Id\",\"Target\":\"Id\"}"
+            + "    }"
+            + "  }"
+            + "}}";
+
+    private static final long ONE_HOUR = 60 * 60 * 1000;
+
+    @Test
+    public void testNoTtl() throws IOException {
+        Client client = new Client();
+        ResourceImpl thing = getThing(client, ServiceImpl.NO_ATTRIBUTE_TTL);
+
+        Assert.assertEquals("state-0", thing.getAttribute("State"));
+        client.version += 1;
+
+        Assert.assertFalse(thing.load(null, null));
+        Assert.assertEquals("state-0", thing.getAttribute("State"));
+        Assert.assertEquals(1, client.loads);
+    }
+
+    @Test
+    public void testTtl() throws Exception {
+        Client client = new Client();
+        ResourceImpl thing = getThing(client, 0);
+
+        Assert.assertEquals("state-0", thing.getAttribute("State"));
+        client.version += 1;
+        Thread.sleep(2);
+
+        Assert.assertFalse(thing.isLoaded());
+        Assert.assertEquals("state-1", thing.getAttribute("State"));
+        Assert.assertEquals(2, client.loads);
+
+        ResourceImpl fresh = getThing(client, ONE_HOUR);
+        Assert.assertTrue(fresh.load(null, null));
+        Assert.assertTrue(fresh.isLoaded());
+        Assert.assertFalse(fresh.load(null, null));
+    }
+
+    @Test
+    public void testReload() throws IOException {
+        Client client = new Client();
+        ResourceImpl thing = getThing(client, ONE_HOUR);
+
+        Assert.assertEquals("state-0", thing.getAttribute("State"));
+        client.version += 1;
+
+        thing.reload(null, null);
+        Assert.assertEquals("state-1", thing.getAttribute("State"));
+        Assert.assertEquals(2, client.loads);
+    }
+
+    @Test
+    public void testMutatingActionInvalidates() throws IOException {
+        Client client = new Client();
+        ResourceImpl thing = getThing(client, ONE_HOUR);
+
+        Assert.assertEquals("state-0", thing.getAttribute("State"));
+
+        thing.performAction("Describe", null, null);
+        Assert.assertTrue(thing.isLoaded());
+
+        thing.performAction("Stop", null, null);
+        Assert.assertFalse(thing.isLoaded());
+        Assert.assertEquals("state-1", thing.getAttribute("State"));
+        Assert.assertEquals(2, client.loads);
+    }
+
+    @Test
+    public void testActionModelledAsNotModifyingKeepsAttributes()
+            throws IOException {
+
+        Client client = new Client();
+        ResourceImpl thing = getThing(client, ONE_HOUR);
+
+        Assert.assertEquals("state-0", thing.getAttribute("State"));
+
+        thing.performAction("Poke", null, null);
+        Assert.assertTrue(thing.isLoaded());
+        Assert.assertEquals(1, client.loads);
+    }
+
+    @Test
+    public void testFailedActionKeepsAttributes() throws IOException {
+        Client client = new Client();
+        ResourceImpl thing = getThing(client, ONE_HOUR);
+
+        Assert.assertEquals("state-0", thing.getAttribute("State"));
+
+        try {
+            thing.performAction("Break", null, null);
+            Assert.fail("expected an exception");
+        } catch (IllegalStateException expected) {
+        }
+
+        Assert.assertTrue(thing.isLoaded());
+        Assert.assertEquals(1, client.loads);
+    }
+
+    private static String action(String method, String dataPath) {
+        return action(method, dataPath, null);
+    }
+
+    private static String action(
+            String method,
+            String dataPath,
+            Boolean modifiesAttributes) {
+
+        String flag = "";
+        if (modifiesAttributes != null) {
+            flag = "\"ModifiesAttributes\":" + modifiesAttributes + ",";
+        }
+
+        String response = "";
+        if (dataPath != null) {
+            response = ",\"Response\":{\"DataMapping\":{"
+                    + "\"Type\":\"Thing\",\"Source\":" + dataPath + "}}";
+        }
+
+        return "{" + flag + "\"Request\":{"
+                + "\"Method\":\"" + method + "\","
+                + "\"ClientRequestType\":\"" + Request.class.getName() + "\","
+                + "\"ClientResponseType\":\"" + Result.class.getName() + "\""
+                + "}" + response + "}";
+    }
+
+    private static ResourceImpl getThing(Client client, long ttl)
+            throws IOException {
+
+        ServiceModel model = V1ModelLoader.load(
+                new ByteArrayInputStream(MODEL.getBytes("UTF-8")));
+
+        return new ServiceImpl<Client>(model, client, ttl)
+                .getSubResource("Thing", "thing");
+    }
+
+    public static class Client {
+        private int version;
+        private int loads;
+
+        public Result getThing(Request request) {
+            loads += 1;
+            return new Result(new Thing("state-" + version));
+        }
+
+        public Result stopThing(Request request) {
+            version += 1;
+            return new Result(null);
+        }
+
+        public Result describeThing(Request request) {
+            return new Result(null);
+        }
+
+        public Result pokeThing(Request request) {
+            return new Result(null);
+        }
+
+        public Result breakThing(Request request) {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    public static class Request extends AmazonWebServiceRequest {
+    }
+
+    public static class Result {
+        private final Thing thing;
+
+        public Result(Thing thing) {
+            this.thing = thing;
+        }
+
+        public Thing getThing() {
+            return thing;
+        }
+    }
+
+    public static class Thing {
+        private final String state;
+
+        public Thing(String state) {
+            this.state = state;
+        }
+
+        public String getState() {
+            return state;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.resources.WaiterParameters;
+import com.amazonaws.resources.internal.model.ServiceModel;
+import com.amazonaws.resources.internal.model.V1ModelLoader;
+
+public class WaiterTest {
+
+    private static final String MODEL = "{"
+            + "\"FormatVersion\":{\"Major\":1,\"Minor\":0},"
+            + "\"Service\":{"
+            + "  \"Name\":\"Test\","
+            + "  \"Abbreviation\":\"test\","
+            + "  \"ClientInterface\":\"" + Client.class.getName() + "\","
+            + "  \"ClientImplementation\":\"" + Client.class.getName() + "\","
+            + "  \"Resources\":{"
+            + "    \"Thing\":{"
+            + "      \"Identifiers\":{\"Id\":{\"Type\":\"String\"}},"
+            + "      \"Attributes\":{\"State\":{\"Type\":\"String\"}},"
+            + "      \"LoadAction\":{"
+            + "        \"Request\":{"
+            + "          \"Method\":\"getThing\","
+            + "          \"ClientRequestType\":\""
+            + Request.class.getName() + "\","
+            + "          \"ClientResponseType\":\""
+            + Thing.class.getName() + "\""
+            + "        },"
+            + "        \"Response\":{"
+            + "          \"DataMapping\":{\"Type\":\"Thing\",\"Source\":[]}"
+            + "        }"
+            + "      },"
+            + "      \"Waiters\":{"
+            + "        \"Ready\":{"
+            + "          \"AttributePath\":[\"State\"],"
+            + "          \"SuccessValues\":[\"ready\"],"
+            + "          \"FailureValues\":[\"broken\"]"
+            + "        }"
+            + "      }"
+            + "    }"
+            + "  }"
+            + "}}";
+
+    private static final String NOT_FOUND = "!not-found";
+    private static final String THROTTLED = "!throttled";
+
+    private static final WaiterParameters FAST = new WaiterParameters()
+            .withInitialDelay(1, TimeUnit.MILLISECONDS)
+            .withMaxDelay(4, TimeUnit.MILLISECONDS)
+            .withTimeout(10, TimeUnit.SECONDS);
+
+    @Test
+    public void testSuccess() throws Exception {
+        Client client = new Client("starting", "starting", "ready");
+        getThing(client).waitUntil("Ready", FAST);
+
+        Assert.assertEquals(3, client.polls.get());
+    }
+
+    @Test
+    public void testFailureState() throws Exception {
+        Client client = new Client("starting", "broken", "ready");
+        try {
+            getThing(client).waitUntil("Ready", FAST);
+            Assert.fail("Expected the failure state to end the wait");
+        } catch (IllegalStateException exception) {
+            Assert.assertTrue(exception.getMessage().contains("'broken'"));
+        }
+        Assert.assertEquals(2, client.polls.get());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        Client client = new Client("starting");
+        WaiterParameters parameters = new WaiterParameters()
+                .withInitialDelay(5, TimeUnit.MILLISECONDS)
+                .withMaxDelay(5, TimeUnit.MILLISECONDS)
+                .withTimeout(50, TimeUnit.MILLISECONDS);
+
+        try {
+            getThing(client).waitUntil("Ready", parameters);
+            Assert.fail("Expected the wait to time out");
+        } catch (AmazonClientException exception) {
+            Assert.assertTrue(exception.getMessage().contains("Timed out"));
+        }
+        Assert.assertTrue(client.polls.get() > 1);
+    }
+
+    @Test
+    public void testLastPollAtDeadline() throws Exception {
+        // Ready after the last regular poll but before the deadline.
+        LateClient client = new LateClient(220);
+        WaiterParameters parameters = new WaiterParameters()
+                .withInitialDelay(200, TimeUnit.MILLISECONDS)
+                .withMaxDelay(200, TimeUnit.MILLISECONDS)
+                .withTimeout(240, TimeUnit.MILLISECONDS);
+
+        getThing(client).waitUntil("Ready", parameters);
+    }
+
+    @Test
+    public void testSlowPollsDoNotHoldUpScheduler() throws Exception {
+        // Far more slow polls than scheduler threads; run one after the
+        // other on two scheduler threads they would take 6.4 seconds.
+        List<Future<Void>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 64; ++i) {
+            Client client = new SlowClient(100, "starting", "ready");
+            futures.add(getThing(client).waitUntilAsync("Ready", FAST));
+        }
+        for (Future<Void> future : futures) {
+            Assert.assertNull(future.get(10, TimeUnit.SECONDS));
+        }
+
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(
+                System.nanoTime() - start);
+        Assert.assertTrue("took " + elapsed + "ms", elapsed < 3000);
+    }
+
+    @Test
+    public void testManyConcurrentWaits() throws Exception {
+        List<Future<Void>> futures = new ArrayList<>();
+        List<Client> clients = new ArrayList<>();
+
+        for (int i = 0; i < 500; ++i) {
+            Client client = new Client("a", "b", "c", "ready");
+            clients.add(client);
+            futures.add(getThing(client).waitUntilAsync("Ready", FAST));
+        }
+
+        for (Future<Void> future : futures) {
+            Assert.assertNull(future.get(10, TimeUnit.SECONDS));
+        }
+        for (Client client : clients) {
+            Assert.assertEquals(4, client.polls.get());
+        }
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        Client client = new Client("starting");
+        Future<Void> future = getThing(client).waitUntilAsync(
+                "Ready",
+                new WaiterParameters()
+                        .withInitialDelay(1, TimeUnit.HOURS)
+                        .withMaxDelay(1, TimeUnit.HOURS)
+                        .withTimeout(2, TimeUnit.HOURS));
+
+        while (client.polls.get() == 0) {
+            Thread.sleep(1);
+        }
+
+        Assert.assertTrue(future.cancel(false));
+        Assert.assertTrue(future.isCancelled());
+        Assert.assertTrue(future.isDone());
+    }
+
+    @Test
+    public void testNotFoundIsRetried() throws Exception {
+        Client client = new Client(
+                NOT_FOUND, "starting", NOT_FOUND, "ready");
+        getThing(client).waitUntil("Ready", FAST);
+
+        Assert.assertEquals(4, client.polls.get());
+    }
+
+    @Test
+    public void testOtherServiceErrorsFail() throws Exception {
+        Client client = new Client("starting", THROTTLED, "ready");
+        try {
+            getThing(client).waitUntil("Ready", FAST);
+            Assert.fail("Expected the service error to end the wait");
+        } catch (AmazonServiceException exception) {
+            Assert.assertEquals("Throttling", exception.getErrorCode());
+        }
+        Assert.assertEquals(2, client.polls.get());
+    }
+
+    @Test
+    public void testIsNotFound() {
+        Assert.assertTrue(Waiter.isNotFound(
+                serviceException("InvalidInstanceID.NotFound", 400)));
+        Assert.assertTrue(Waiter.isNotFound(
+                serviceException("NoSuchEntity", 400)));
+        Assert.assertTrue(Waiter.isNotFound(serviceException(
+                "AWS.SimpleQueueService.NonExistentQueue", 400)));
+        Assert.assertTrue(Waiter.isNotFound(
+                serviceException("ResourceNotFoundException", 404)));
+        Assert.assertFalse(Waiter.isNotFound(
+                serviceException("Throttling", 400)));
+        Assert.assertFalse(Waiter.isNotFound(serviceException(null, 500)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroInitialDelay() {
+        new WaiterParameters().setInitialDelay(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSubMillisecondMaxDelay() {
+        new WaiterParameters().setMaxDelay(999, TimeUnit.MICROSECONDS);
+    }
+
+    @Test
+    public void testMaxDelayBelowInitialDelay() throws IOException {
+        Client client = new Client("ready");
+        WaiterParameters parameters = new WaiterParameters()
+                .withInitialDelay(10, TimeUnit.SECONDS)
+                .withMaxDelay(1, TimeUnit.SECONDS);
+
+        try {
+            getThing(client).waitUntilAsync("Ready", parameters);
+            Assert.fail("Expected the parameters to be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        Assert.assertEquals(0, client.polls.get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnknownWaiter() throws IOException {
+        getThing(new Client("ready")).waitUntilAsync("Gone", null);
+    }
+
+    private static ResourceImpl getThing(Client client) throws IOException {
+        ServiceModel model = V1ModelLoader.load(
+                new ByteArrayInputStream(MODEL.getBytes("UTF-8")));
+
+        return new ResourceImpl(
+                model,
+                model.getResource("Thing"),
+                client,
+                Collections.singletonMap("Id", "thing"));
+    }
+
+    private static AmazonServiceException serviceException(
+            String code,
+            int status) {
+
+        AmazonServiceException exception = new AmazonServiceException(code);
+        exception.setErrorCode(code);
+        exception.setStatusCode(status);
+        return exception;
+    }
+
+    public static class Client {
+        private final String[] states;
+        private final AtomicInteger polls = new AtomicInteger();
+
+        public Client(String... states) {
+            this.states = states;
+        }
+
+        public Thing getThing(Request request) {
+            int poll = polls.getAndIncrement();
+            String state = states[Math.min(poll, states.length - 1)];
+
+            if (state.equals(NOT_FOUND)) {
+                throw serviceException("InvalidThingID.NotFound", 400);
+            }
+            if (state.equals(THROTTLED)) {
+                throw serviceException("Throttling", 400);
+            }
+            return new Thing(state);
+        }
+    }
+
+    public static class SlowClient extends Client {
+        private final long millis;
+
+        public SlowClient(long millis, String... states) {
+            super(states);
+            this.millis = millis;
+        }
+
+        @Override
+        public Thing getThing(Request request) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return super.getThing(request);
+        }
+    }
+
+    public static class LateClient extends Client {
+        private final long readyAt;
+
+        public LateClient(long millis) {
+            super("starting");
+            this.readyAt = System.nanoTime()
+                    + TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+
+        @Override
+        public Thing getThing(Request request) {
+            super.getThing(request);
+            return new Thing(
+                    System.nanoTime() < readyAt ? "starting" : "ready");
+        }
+    }
+
+    public static class Request extends AmazonWebServiceRequest {
+    }
+
+    public static class Thing {
+        private final String state;
+
+        public Thing(String state) {
+            this.state = state;
+        }
+
+        public String getState() {
+            return state;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.internal.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class BinaryModelCodecTest {
+
+    private static final String MODEL = "{"
+            + "\"FormatVersion\":{\"Major\":1,\"Minor\":0},"
+            + "\"Service\":{"
+            + "  \"Name\":\"Foo\","
+            + "  \"Abbreviation\":\"foo\","
+            + "  \"ClientInterface\":\"com.example.AmazonFoo\","
+            + "  \"ClientImplementation\":\"com.example.AmazonFooClient\","
+            + "  \"Resources\":{"
+            + "    \"Bar\":{"
+            + "      \"Identifiers\":{\"Id\":{\"Type\":\"String\"}},"
+            + "      \"Attributes\":{\"Size\":{\"Type\":\"Integer\"}},"
+            + "      \"LoadAction\":{"
+            + "        \"Request\":{"
+            + "          \"Method\":\"describeBar\","
+            + "          \"ClientRequestType\":\"DescribeBarRequest\","
+            + "          \"ClientResponseType\":\"DescribeBarResult\","
+            + "          \"IdentifierMappings\":["
+            + "            {\"Source\":\"Id\",\"Target\":[\"BarId\"]}]"
+            + "        },"
+            + "        \"Response\":{"
+            + "          \"DataMapping\":{"
+            + "            \"Type\":\"Bar\",\"Source\":[\"Bar\"]}"
+            + "        }"
+            + "      }"
+            + "    }"
+            + "  },"
+            + "  \"Collections\":{"
+            + "    \"Bars\":{"
+            + "      \"Type\":\"Bar\","
+            + "      \"ListAction\":{"
+            + "        \"ModifiesAttributes\":false,"
+            + "        \"Request\":{"
+            + "          \"Method\":\"listBars\","
+            + "          \"ClientRequestType\":\"ListBarsRequest\","
+            + "          \"ClientResponseType\":\"ListBarsResult\","
+            + "          \"TokenPath\":[\"NextToken\"]"
+            + "        },"
+            + "        \"Response\":{"
+            + "          \"ResourceMapping\":{"
+            + "            \"Type\":\"Bar\","
+            + "            \"ResponseIdentifierMappings\":["
+            + "              {\"Source\":[\"Bars\",\"*\",\"Id\"],"
+            + "               \"Target\":\"Id\"}]"
+            + "          },"
+            + "          \"NextTokenPath\":[\"NextToken\"]"
+            + "        }"
+            + "      }"
+            + "    }"
+            + "  }"
+            + "}}";
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ServiceModel model = V1ModelLoader.load(
+                new ByteArrayInputStream(MODEL.getBytes("UTF-8")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryModelCodec.write(model, out);
+
+        ServiceModel copy = BinaryModelCodec.read(
+                new ByteArrayInputStream(out.toByteArray()));
+
+        ObjectMapper mapper = new ObjectMapper();
+        Assert.assertEquals(
+                mapper.writeValueAsString(model),
+                mapper.writeValueAsString(copy));
+
+        ResourceModel bar = copy.getResource("Bar");
+        Assert.assertNull(bar.getLoadAction().getRequest().getTokenPath());
+        Assert.assertNull(
+                bar.getLoadAction().getResponse().getResourceMapping());
+        Assert.assertNull(bar.getLoadAction().getModifiesAttributes());
+        Assert.assertEquals(Boolean.FALSE, copy.getCollection("Bars")
+                .getListAction().getModifiesAttributes());
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsJson() throws IOException {
+        BinaryModelCodec.read(
+                new ByteArrayInputStream(MODEL.getBytes("UTF-8")));
+    }
+
+    @Test
+    public void testGetBinaryPath() {
+        Assert.assertEquals("model.bin",
+                BinaryModelCodec.getBinaryPath("model.json"));
+    }
+}
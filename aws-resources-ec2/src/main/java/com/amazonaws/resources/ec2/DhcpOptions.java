@@ -99,6 +99,24 @@ public interface DhcpOptions {
     boolean load(DescribeDhcpOptionsRequest request,
             ResultCapture<DescribeDhcpOptionsResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeDhcpOptionsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeDhcpOptionsRequest
+     */
+    void reload(DescribeDhcpOptionsRequest request,
+            ResultCapture<DescribeDhcpOptionsResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
@@ -15,8 +15,11 @@
 package com.amazonaws.resources.ec2;
 
 import java.util.List;
+import java.util.concurrent.Future;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
 import com.amazonaws.services.ec2.model.BlockDeviceMapping;
 import com.amazonaws.services.ec2.model.CreateTagsRequest;
 import com.amazonaws.services.ec2.model.DeregisterImageRequest;
@@ -103,6 +106,46 @@ public interface Image {
     boolean load(DescribeImagesRequest request,
             ResultCapture<DescribeImagesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeImagesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeImagesRequest
+     */
+    void reload(DescribeImagesRequest request,
+            ResultCapture<DescribeImagesResult> extractor);
+
+    /**
+     * Waits until this resource's <code>State</code> is
+     * <code>available</code>, polling the service with exponential backoff and
+     * the default {@link WaiterParameters}.
+     *
+     * @throws IllegalStateException if the resource reaches a state from
+     *         which it can never become <code>available</code>
+     * @throws AmazonClientException if the wait times out
+     */
+    void waitUntilAvailable();
+
+    /**
+     * Asynchronously waits until this resource's <code>State</code> is
+     * <code>available</code>. The service is polled on a shared scheduler, so
+     * no thread is tied up between polls.
+     *
+     * @param parameters the polling parameters, or null for the defaults
+     * @return A future which completes when the wait succeeds.
+     * @see #waitUntilAvailable()
+     */
+    Future<Void> waitUntilAvailableAsync(WaiterParameters parameters);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
@@ -16,8 +16,12 @@ package com.amazonaws.resources.ec2;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
 import com.amazonaws.services.ec2.model.AttachVolumeRequest;
 import com.amazonaws.services.ec2.model.AttachVolumeResult;
 import com.amazonaws.services.ec2.model.CreateImageRequest;
@@ -133,6 +137,103 @@ public interface Instance {
     boolean load(DescribeInstancesRequest request,
             ResultCapture<DescribeInstancesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeInstancesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeInstancesRequest
+     */
+    void reload(DescribeInstancesRequest request,
+            ResultCapture<DescribeInstancesResult> extractor);
+
+    /**
+     * Waits until this resource's <code>State.Name</code> is
+     * <code>running</code>, polling the service with exponential backoff and
+     * the default {@link WaiterParameters}.
+     *
+     * @throws IllegalStateException if the resource reaches a state from
+     *         which it can never become <code>running</code>
+     * @throws AmazonClientException if the wait times out
+     */
+    void waitUntilRunning();
+
+    /**
+     * Asynchronously waits until this resource's <code>State.Name</code> is
+     * <code>running</code>. The service is polled on a shared scheduler, so
+     * no thread is tied up between polls.
+     *
+     * @param parameters the polling parameters, or null for the defaults
+     * @return A future which completes when the wait succeeds.
+     * @see #waitUntilRunning()
+     */
+    Future<Void> waitUntilRunningAsync(WaiterParameters parameters);
+
+    /**
+     * Waits until this resource's <code>State.Name</code> is
+     * <code>stopped</code>, polling the service with exponential backoff and
+     * the default {@link WaiterParameters}.
+     *
+     * @throws IllegalStateException if the resource reaches a state from
+     *         which it can never become <code>stopped</code>
+     * @throws AmazonClientException if the wait times out
+     */
+    void waitUntilStopped();
+
+    /**
+     * Asynchronously waits until this resource's <code>State.Name</code> is
+     * <code>stopped</code>. The service is polled on a shared scheduler, so
+     * no thread is tied up between polls.
+     *
+     * @param parameters the polling parameters, or null for the defaults
+     * @return A future which completes when the wait succeeds.
+     * @see #waitUntilStopped()
+     */
+    Future<Void> waitUntilStoppedAsync(WaiterParameters parameters);
+
+    /**
+     * Waits until this resource's <code>State.Name</code> is
+     * <code>terminated</code>, polling the service with exponential backoff and
+     * the default {@link WaiterParameters}.
+     *
+     * @throws IllegalStateException if the resource reaches a state from
+     *         which it can never become <code>terminated</code>
+     * @throws AmazonClientException if the wait times out
+     */
+    void waitUntilTerminated();
+
+    /**
+     * Asynchronously waits until this resource's <code>State.Name</code> is
+     * <code>terminated</code>. The service is polled on a shared scheduler, so
+     * no thread is tied up between polls.
+     *
+     * @param parameters the polling parameters, or null for the defaults
+     * @return A future which completes when the wait succeeds.
+     * @see #waitUntilTerminated()
+     */
+    Future<Void> waitUntilTerminatedAsync(WaiterParameters parameters);
+
+    /**
+     * Asynchronously loads this resource's attributes if they are not loaded
+     * yet. The service call is made on the given executor, or on the
+     * executor of the underlying {@code *AsyncClient} if {@code executor}
+     * is null.
+     *
+     * @return A future for the result of
+     *         {@link #load(DescribeInstancesRequest)}.
+     * @see #load(DescribeInstancesRequest)
+     */
+    Future<Boolean> loadAsync(DescribeInstancesRequest request,
+            Executor executor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
@@ -533,6 +634,18 @@ public interface Instance {
     StartInstancesResult start(StartInstancesRequest request,
             ResultCapture<StartInstancesResult> extractor);
 
+    /**
+     * Asynchronously performs the <code>Start</code> action. The service
+     * call is made on the given executor, or on the executor of the
+     * underlying {@code *AsyncClient} if {@code executor} is null.
+     *
+     * @return A future for the result of
+     *         {@link #start(StartInstancesRequest)}.
+     * @see #start(StartInstancesRequest)
+     */
+    Future<StartInstancesResult> startAsync(
+            StartInstancesRequest request, Executor executor);
+
     /**
      * The convenient method form for the <code>Start</code> action.
      *
@@ -100,6 +100,24 @@ public interface InternetGateway {
     boolean load(DescribeInternetGatewaysRequest request,
             ResultCapture<DescribeInternetGatewaysResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeInternetGatewaysRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeInternetGatewaysRequest
+     */
+    void reload(DescribeInternetGatewaysRequest request,
+            ResultCapture<DescribeInternetGatewaysResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
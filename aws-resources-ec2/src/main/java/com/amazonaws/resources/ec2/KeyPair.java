@@ -93,6 +93,24 @@ public interface KeyPair {
     boolean load(DescribeKeyPairsRequest request,
             ResultCapture<DescribeKeyPairsResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeKeyPairsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeKeyPairsRequest
+     */
+    void reload(DescribeKeyPairsRequest request,
+            ResultCapture<DescribeKeyPairsResult> extractor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -104,6 +104,24 @@ public interface NetworkAcl {
     boolean load(DescribeNetworkAclsRequest request,
             ResultCapture<DescribeNetworkAclsResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeNetworkAclsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeNetworkAclsRequest
+     */
+    void reload(DescribeNetworkAclsRequest request,
+            ResultCapture<DescribeNetworkAclsResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
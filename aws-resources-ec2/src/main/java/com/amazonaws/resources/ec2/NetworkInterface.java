@@ -111,6 +111,24 @@ public interface NetworkInterface {
     boolean load(DescribeNetworkInterfacesRequest request,
             ResultCapture<DescribeNetworkInterfacesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeNetworkInterfacesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeNetworkInterfacesRequest
+     */
+    void reload(DescribeNetworkInterfacesRequest request,
+            ResultCapture<DescribeNetworkInterfacesResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
@@ -94,6 +94,24 @@ public interface PlacementGroup {
     boolean load(DescribePlacementGroupsRequest request,
             ResultCapture<DescribePlacementGroupsResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribePlacementGroupsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribePlacementGroupsRequest
+     */
+    void reload(DescribePlacementGroupsRequest request,
+            ResultCapture<DescribePlacementGroupsResult> extractor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
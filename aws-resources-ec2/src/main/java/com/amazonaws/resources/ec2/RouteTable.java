@@ -101,6 +101,24 @@ public interface RouteTable {
     boolean load(DescribeRouteTablesRequest request,
             ResultCapture<DescribeRouteTablesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeRouteTablesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeRouteTablesRequest
+     */
+    void reload(DescribeRouteTablesRequest request,
+            ResultCapture<DescribeRouteTablesResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
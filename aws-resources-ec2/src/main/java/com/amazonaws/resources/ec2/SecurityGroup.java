@@ -102,6 +102,24 @@ public interface SecurityGroup {
     boolean load(DescribeSecurityGroupsRequest request,
             ResultCapture<DescribeSecurityGroupsResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeSecurityGroupsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeSecurityGroupsRequest
+     */
+    void reload(DescribeSecurityGroupsRequest request,
+            ResultCapture<DescribeSecurityGroupsResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
@@ -103,6 +103,24 @@ public interface Subnet {
     boolean load(DescribeSubnetsRequest request,
             ResultCapture<DescribeSubnetsResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeSubnetsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeSubnetsRequest
+     */
+    void reload(DescribeSubnetsRequest request,
+            ResultCapture<DescribeSubnetsResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
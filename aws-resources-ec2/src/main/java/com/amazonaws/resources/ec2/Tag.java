@@ -118,6 +118,24 @@ public interface Tag {
     boolean load(DescribeTagsRequest request, ResultCapture<DescribeTagsResult>
             extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeTagsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeTagsRequest
+     */
+    void reload(DescribeTagsRequest request,
+            ResultCapture<DescribeTagsResult> extractor);
+
     /**
      * Gets the value of the Value identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -120,6 +120,24 @@ public interface Vpc {
     boolean load(DescribeVpcsRequest request, ResultCapture<DescribeVpcsResult>
             extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeVpcsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeVpcsRequest
+     */
+    void reload(DescribeVpcsRequest request,
+            ResultCapture<DescribeVpcsResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
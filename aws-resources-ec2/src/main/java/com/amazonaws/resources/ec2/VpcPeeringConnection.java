@@ -104,6 +104,24 @@ public interface VpcPeeringConnection {
     boolean load(DescribeVpcPeeringConnectionsRequest request,
             ResultCapture<DescribeVpcPeeringConnectionsResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeVpcPeeringConnectionsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeVpcPeeringConnectionsRequest
+     */
+    void reload(DescribeVpcPeeringConnectionsRequest request,
+            ResultCapture<DescribeVpcPeeringConnectionsResult> extractor);
+
     /**
      * Gets the value of the Id identifier. This method always directly returns
      * the identifier and never involves a service call.
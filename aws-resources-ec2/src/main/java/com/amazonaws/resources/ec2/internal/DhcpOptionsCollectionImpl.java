@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.DhcpOptions;
 import com.amazonaws.resources.ec2.DhcpOptionsCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -57,4 +62,20 @@ class DhcpOptionsCollectionImpl implements DhcpOptionsCollection {
         return new StandardResourcePage<DhcpOptions>(impl.firstPage(extractor),
                 DhcpOptionsImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<DhcpOptions>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<DhcpOptions>(
+                impl.firstPageAsync(null, executor),
+                DhcpOptionsImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<DhcpOptions> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<DhcpOptions>(
+                impl.withPrefetch(depth, executor),
+                DhcpOptionsImpl.CODEC);
+    }
 }
@@ -21,6 +21,7 @@ import com.amazonaws.resources.ec2.DhcpOptions;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.AssociateDhcpOptionsRequest;
 import com.amazonaws.services.ec2.model.CreateTagsRequest;
@@ -30,7 +31,7 @@ import com.amazonaws.services.ec2.model.DescribeDhcpOptionsResult;
 import com.amazonaws.services.ec2.model.DhcpConfiguration;
 import com.amazonaws.services.ec2.model.Tag;
 
-class DhcpOptionsImpl implements DhcpOptions {
+class DhcpOptionsImpl implements DhcpOptions, ResourceFacade {
     public static final ResourceCodec<DhcpOptions> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -39,6 +40,11 @@ class DhcpOptionsImpl implements DhcpOptions {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -61,6 +67,18 @@ class DhcpOptionsImpl implements DhcpOptions {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeDhcpOptionsRequest request,
+            ResultCapture<DescribeDhcpOptionsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
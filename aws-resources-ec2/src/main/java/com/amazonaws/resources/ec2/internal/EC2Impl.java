@@ -59,7 +59,7 @@ import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.internal.ServiceImpl;
 import com.amazonaws.resources.internal.V1ServiceInterface;
 import com.amazonaws.resources.internal.model.ServiceModel;
-import com.amazonaws.resources.internal.model.V1ModelLoader;
+import com.amazonaws.resources.internal.model.ServiceModelRegistry;
 import com.amazonaws.services.ec2.AmazonEC2;
 import com.amazonaws.services.ec2.AmazonEC2Client;
 import com.amazonaws.services.ec2.model.CreateDhcpOptionsRequest;
@@ -138,7 +138,7 @@ public class EC2Impl implements EC2 {
      *         use to make API calls.
      */
     public EC2Impl(AmazonEC2 client) {
-        ServiceModel model = V1ModelLoader.load(EC2.class,
+        ServiceModel model = ServiceModelRegistry.getModel(EC2.class,
                 EC2.class.getAnnotation(V1ServiceInterface.class).model());
 
         this.service = new ServiceImpl<AmazonEC2>(model, client);
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.Image;
 import com.amazonaws.resources.ec2.ImageCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,20 @@ class ImageCollectionImpl implements ImageCollection {
         return new StandardResourcePage<Image>(impl.firstPage(extractor),
                 ImageImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Image>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Image>(
+                impl.firstPageAsync(null, executor),
+                ImageImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Image> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Image>(
+                impl.withPrefetch(depth, executor),
+                ImageImpl.CODEC);
+    }
 }
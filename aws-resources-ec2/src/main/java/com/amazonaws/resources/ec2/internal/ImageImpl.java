@@ -15,12 +15,15 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
 import com.amazonaws.resources.ec2.Image;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.BlockDeviceMapping;
 import com.amazonaws.services.ec2.model.CreateTagsRequest;
@@ -35,7 +38,7 @@ import com.amazonaws.services.ec2.model.ResetImageAttributeRequest;
 import com.amazonaws.services.ec2.model.StateReason;
 import com.amazonaws.services.ec2.model.Tag;
 
-class ImageImpl implements Image {
+class ImageImpl implements Image, ResourceFacade {
     public static final ResourceCodec<Image> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -44,6 +47,11 @@ class ImageImpl implements Image {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -66,6 +74,28 @@ class ImageImpl implements Image {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeImagesRequest request,
+            ResultCapture<DescribeImagesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
+    @Override
+    public void waitUntilAvailable() {
+        resource.waitUntil("Available", null);
+    }
+
+    @Override
+    public Future<Void> waitUntilAvailableAsync(WaiterParameters parameters) {
+        return resource.waitUntilAsync("Available", parameters);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.Instance;
 import com.amazonaws.resources.ec2.InstanceCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class InstanceCollectionImpl implements InstanceCollection {
         return new StandardResourcePage<Instance>(impl.firstPage(extractor),
                 InstanceImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Instance>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Instance>(
+                impl.firstPageAsync(null, executor),
+                InstanceImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Instance> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Instance>(
+                impl.withPrefetch(depth, executor),
+                InstanceImpl.CODEC);
+    }
 }
@@ -16,8 +16,11 @@ package com.amazonaws.resources.ec2.internal;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
 import com.amazonaws.resources.ec2.Image;
 import com.amazonaws.resources.ec2.Instance;
 import com.amazonaws.resources.ec2.KeyPair;
@@ -29,7 +32,9 @@ import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
+import com.amazonaws.resources.internal.TransformingFuture;
 import com.amazonaws.services.ec2.model.AttachVolumeRequest;
 import com.amazonaws.services.ec2.model.AttachVolumeResult;
 import com.amazonaws.services.ec2.model.CreateImageRequest;
@@ -71,7 +76,7 @@ import com.amazonaws.services.ec2.model.TerminateInstancesResult;
 import com.amazonaws.services.ec2.model.UnmonitorInstancesRequest;
 import com.amazonaws.services.ec2.model.UnmonitorInstancesResult;
 
-class InstanceImpl implements Instance {
+class InstanceImpl implements Instance, ResourceFacade {
     public static final ResourceCodec<Instance> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -80,6 +85,11 @@ class InstanceImpl implements Instance {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -102,6 +112,55 @@ class InstanceImpl implements Instance {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeInstancesRequest request,
+            ResultCapture<DescribeInstancesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
+    @Override
+    public void waitUntilRunning() {
+        resource.waitUntil("Running", null);
+    }
+
+    @Override
+    public Future<Void> waitUntilRunningAsync(WaiterParameters parameters) {
+        return resource.waitUntilAsync("Running", parameters);
+    }
+
+    @Override
+    public void waitUntilStopped() {
+        resource.waitUntil("Stopped", null);
+    }
+
+    @Override
+    public Future<Void> waitUntilStoppedAsync(WaiterParameters parameters) {
+        return resource.waitUntilAsync("Stopped", parameters);
+    }
+
+    @Override
+    public void waitUntilTerminated() {
+        resource.waitUntil("Terminated", null);
+    }
+
+    @Override
+    public Future<Void> waitUntilTerminatedAsync(WaiterParameters parameters) {
+        return resource.waitUntilAsync("Terminated", parameters);
+    }
+
+    @Override
+    public Future<Boolean> loadAsync(DescribeInstancesRequest request, Executor
+            executor) {
+
+        return resource.loadAsync(request, null, executor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
@@ -385,6 +444,24 @@ class InstanceImpl implements Instance {
         return (StartInstancesResult) result.getData();
     }
 
+    @Override
+    public Future<StartInstancesResult> startAsync(
+            StartInstancesRequest request, Executor executor) {
+
+        Future<ActionResult> future = resource.performActionAsync(
+                "Start", request, null, executor);
+
+        return new TransformingFuture<ActionResult,
+                StartInstancesResult>(future) {
+
+            @Override
+            protected StartInstancesResult transform(ActionResult result) {
+                if (result == null) return null;
+                return (StartInstancesResult) result.getData();
+            }
+        };
+    }
+
     @Override
     public StartInstancesResult start() {
         return start((ResultCapture<StartInstancesResult>)null);
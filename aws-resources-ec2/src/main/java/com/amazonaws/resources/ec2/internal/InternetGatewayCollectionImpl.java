@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.InternetGateway;
 import com.amazonaws.resources.ec2.InternetGatewayCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class InternetGatewayCollectionImpl implements InternetGatewayCollection {
                 StandardResourcePage<InternetGateway>(impl.firstPage(extractor),
                 InternetGatewayImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<InternetGateway>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<InternetGateway>(
+                impl.firstPageAsync(null, executor),
+                InternetGatewayImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<InternetGateway> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<InternetGateway>(
+                impl.withPrefetch(depth, executor),
+                InternetGatewayImpl.CODEC);
+    }
 }
@@ -21,6 +21,7 @@ import com.amazonaws.resources.ec2.InternetGateway;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.AttachInternetGatewayRequest;
 import com.amazonaws.services.ec2.model.CreateTagsRequest;
@@ -31,7 +32,7 @@ import com.amazonaws.services.ec2.model.DetachInternetGatewayRequest;
 import com.amazonaws.services.ec2.model.InternetGatewayAttachment;
 import com.amazonaws.services.ec2.model.Tag;
 
-class InternetGatewayImpl implements InternetGateway {
+class InternetGatewayImpl implements InternetGateway, ResourceFacade {
     public static final ResourceCodec<InternetGateway> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -40,6 +41,11 @@ class InternetGatewayImpl implements InternetGateway {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -62,6 +68,18 @@ class InternetGatewayImpl implements InternetGateway {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeInternetGatewaysRequest request,
+            ResultCapture<DescribeInternetGatewaysResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
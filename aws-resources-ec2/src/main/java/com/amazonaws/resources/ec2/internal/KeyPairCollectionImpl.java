@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.KeyPair;
 import com.amazonaws.resources.ec2.KeyPairCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class KeyPairCollectionImpl implements KeyPairCollection {
         return new StandardResourcePage<KeyPair>(impl.firstPage(extractor),
                 KeyPairImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<KeyPair>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<KeyPair>(
+                impl.firstPageAsync(null, executor),
+                KeyPairImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<KeyPair> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<KeyPair>(
+                impl.withPrefetch(depth, executor),
+                KeyPairImpl.CODEC);
+    }
 }
@@ -17,12 +17,13 @@ package com.amazonaws.resources.ec2.internal;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.KeyPair;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.DeleteKeyPairRequest;
 import com.amazonaws.services.ec2.model.DescribeKeyPairsRequest;
 import com.amazonaws.services.ec2.model.DescribeKeyPairsResult;
 
-class KeyPairImpl implements KeyPair {
+class KeyPairImpl implements KeyPair, ResourceFacade {
     public static final ResourceCodec<KeyPair> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -31,6 +32,11 @@ class KeyPairImpl implements KeyPair {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -53,6 +59,18 @@ class KeyPairImpl implements KeyPair {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeKeyPairsRequest request,
+            ResultCapture<DescribeKeyPairsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.NetworkAcl;
 import com.amazonaws.resources.ec2.NetworkAclCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class NetworkAclCollectionImpl implements NetworkAclCollection {
         return new StandardResourcePage<NetworkAcl>(impl.firstPage(extractor),
                 NetworkAclImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<NetworkAcl>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<NetworkAcl>(
+                impl.firstPageAsync(null, executor),
+                NetworkAclImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<NetworkAcl> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<NetworkAcl>(
+                impl.withPrefetch(depth, executor),
+                NetworkAclImpl.CODEC);
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.resources.ec2.Vpc;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.CreateNetworkAclEntryRequest;
 import com.amazonaws.services.ec2.model.CreateTagsRequest;
@@ -36,7 +37,7 @@ import com.amazonaws.services.ec2.model.ReplaceNetworkAclAssociationResult;
 import com.amazonaws.services.ec2.model.ReplaceNetworkAclEntryRequest;
 import com.amazonaws.services.ec2.model.Tag;
 
-class NetworkAclImpl implements NetworkAcl {
+class NetworkAclImpl implements NetworkAcl, ResourceFacade {
     public static final ResourceCodec<NetworkAcl> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -45,6 +46,11 @@ class NetworkAclImpl implements NetworkAcl {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -67,6 +73,18 @@ class NetworkAclImpl implements NetworkAcl {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeNetworkAclsRequest request,
+            ResultCapture<DescribeNetworkAclsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
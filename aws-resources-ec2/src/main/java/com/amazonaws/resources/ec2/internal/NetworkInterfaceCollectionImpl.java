@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.NetworkInterface;
 import com.amazonaws.resources.ec2.NetworkInterfaceCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class NetworkInterfaceCollectionImpl implements NetworkInterfaceCollection {
                 StandardResourcePage<NetworkInterface>(impl.firstPage(extractor),
                 NetworkInterfaceImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<NetworkInterface>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<NetworkInterface>(
+                impl.firstPageAsync(null, executor),
+                NetworkInterfaceImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<NetworkInterface> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<NetworkInterface>(
+                impl.withPrefetch(depth, executor),
+                NetworkInterfaceImpl.CODEC);
+    }
 }
@@ -23,6 +23,7 @@ import com.amazonaws.resources.ec2.Vpc;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.AssignPrivateIpAddressesRequest;
 import com.amazonaws.services.ec2.model.AttachNetworkInterfaceRequest;
@@ -44,7 +45,7 @@ import com.amazonaws.services.ec2.model.ResetNetworkInterfaceAttributeRequest;
 import com.amazonaws.services.ec2.model.Tag;
 import com.amazonaws.services.ec2.model.UnassignPrivateIpAddressesRequest;
 
-class NetworkInterfaceImpl implements NetworkInterface {
+class NetworkInterfaceImpl implements NetworkInterface, ResourceFacade {
     public static final ResourceCodec<NetworkInterface> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -53,6 +54,11 @@ class NetworkInterfaceImpl implements NetworkInterface {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -75,6 +81,18 @@ class NetworkInterfaceImpl implements NetworkInterface {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeNetworkInterfacesRequest request,
+            ResultCapture<DescribeNetworkInterfacesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
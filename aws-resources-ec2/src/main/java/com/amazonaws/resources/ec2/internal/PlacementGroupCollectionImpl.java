@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.PlacementGroup;
 import com.amazonaws.resources.ec2.PlacementGroupCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class PlacementGroupCollectionImpl implements PlacementGroupCollection {
                 StandardResourcePage<PlacementGroup>(impl.firstPage(extractor),
                 PlacementGroupImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<PlacementGroup>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<PlacementGroup>(
+                impl.firstPageAsync(null, executor),
+                PlacementGroupImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<PlacementGroup> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<PlacementGroup>(
+                impl.withPrefetch(depth, executor),
+                PlacementGroupImpl.CODEC);
+    }
 }
@@ -19,13 +19,14 @@ import com.amazonaws.resources.ec2.InstanceCollection;
 import com.amazonaws.resources.ec2.PlacementGroup;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.DeletePlacementGroupRequest;
 import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
 import com.amazonaws.services.ec2.model.DescribePlacementGroupsRequest;
 import com.amazonaws.services.ec2.model.DescribePlacementGroupsResult;
 
-class PlacementGroupImpl implements PlacementGroup {
+class PlacementGroupImpl implements PlacementGroup, ResourceFacade {
     public static final ResourceCodec<PlacementGroup> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -34,6 +35,11 @@ class PlacementGroupImpl implements PlacementGroup {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -56,6 +62,18 @@ class PlacementGroupImpl implements PlacementGroup {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribePlacementGroupsRequest request,
+            ResultCapture<DescribePlacementGroupsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.RouteTableAssociation;
 import com.amazonaws.resources.ec2.RouteTableAssociationCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -60,4 +65,22 @@ class RouteTableAssociationCollectionImpl implements
                 StandardResourcePage<RouteTableAssociation>(impl.firstPage(extractor),
                 RouteTableAssociationImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<RouteTableAssociation>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<RouteTableAssociation>(
+                impl.firstPageAsync(null, executor),
+                RouteTableAssociationImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<RouteTableAssociation> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<RouteTableAssociation>(
+                impl.withPrefetch(depth, executor),
+                RouteTableAssociationImpl.CODEC);
+    }
 }
@@ -20,12 +20,14 @@ import com.amazonaws.resources.ec2.RouteTableAssociation;
 import com.amazonaws.resources.ec2.Subnet;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.DisassociateRouteTableRequest;
 import com.amazonaws.services.ec2.model.ReplaceRouteTableAssociationRequest;
 import com.amazonaws.services.ec2.model.ReplaceRouteTableAssociationResult;
 
-class RouteTableAssociationImpl implements RouteTableAssociation {
+class RouteTableAssociationImpl implements RouteTableAssociation,
+        ResourceFacade {
     public static final ResourceCodec<RouteTableAssociation> CODEC = new Codec()
             ;
 
@@ -35,6 +37,11 @@ class RouteTableAssociationImpl implements RouteTableAssociation {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.RouteTable;
 import com.amazonaws.resources.ec2.RouteTableCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class RouteTableCollectionImpl implements RouteTableCollection {
         return new StandardResourcePage<RouteTable>(impl.firstPage(extractor),
                 RouteTableImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<RouteTable>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<RouteTable>(
+                impl.firstPageAsync(null, executor),
+                RouteTableImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<RouteTable> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<RouteTable>(
+                impl.withPrefetch(depth, executor),
+                RouteTableImpl.CODEC);
+    }
 }
@@ -25,6 +25,7 @@ import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.AssociateRouteTableRequest;
 import com.amazonaws.services.ec2.model.AssociateRouteTableResult;
@@ -36,7 +37,7 @@ import com.amazonaws.services.ec2.model.PropagatingVgw;
 import com.amazonaws.services.ec2.model.Route;
 import com.amazonaws.services.ec2.model.Tag;
 
-class RouteTableImpl implements RouteTable {
+class RouteTableImpl implements RouteTable, ResourceFacade {
     public static final ResourceCodec<RouteTable> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -45,6 +46,11 @@ class RouteTableImpl implements RouteTable {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -67,6 +73,18 @@ class RouteTableImpl implements RouteTable {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeRouteTablesRequest request,
+            ResultCapture<DescribeRouteTablesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
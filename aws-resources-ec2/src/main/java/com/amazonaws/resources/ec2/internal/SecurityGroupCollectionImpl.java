@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.SecurityGroup;
 import com.amazonaws.resources.ec2.SecurityGroupCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class SecurityGroupCollectionImpl implements SecurityGroupCollection {
                 StandardResourcePage<SecurityGroup>(impl.firstPage(extractor),
                 SecurityGroupImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<SecurityGroup>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<SecurityGroup>(
+                impl.firstPageAsync(null, executor),
+                SecurityGroupImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<SecurityGroup> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<SecurityGroup>(
+                impl.withPrefetch(depth, executor),
+                SecurityGroupImpl.CODEC);
+    }
 }
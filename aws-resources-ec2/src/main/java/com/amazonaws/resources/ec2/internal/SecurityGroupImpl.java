@@ -21,6 +21,7 @@ import com.amazonaws.resources.ec2.SecurityGroup;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.AuthorizeSecurityGroupEgressRequest;
 import com.amazonaws.services.ec2.model.AuthorizeSecurityGroupIngressRequest;
@@ -33,7 +34,7 @@ import com.amazonaws.services.ec2.model.RevokeSecurityGroupEgressRequest;
 import com.amazonaws.services.ec2.model.RevokeSecurityGroupIngressRequest;
 import com.amazonaws.services.ec2.model.Tag;
 
-class SecurityGroupImpl implements SecurityGroup {
+class SecurityGroupImpl implements SecurityGroup, ResourceFacade {
     public static final ResourceCodec<SecurityGroup> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -42,6 +43,11 @@ class SecurityGroupImpl implements SecurityGroup {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -64,6 +70,18 @@ class SecurityGroupImpl implements SecurityGroup {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeSecurityGroupsRequest request,
+            ResultCapture<DescribeSecurityGroupsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.Snapshot;
 import com.amazonaws.resources.ec2.SnapshotCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class SnapshotCollectionImpl implements SnapshotCollection {
         return new StandardResourcePage<Snapshot>(impl.firstPage(extractor),
                 SnapshotImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Snapshot>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Snapshot>(
+                impl.firstPageAsync(null, executor),
+                SnapshotImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Snapshot> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Snapshot>(
+                impl.withPrefetch(depth, executor),
+                SnapshotImpl.CODEC);
+    }
 }
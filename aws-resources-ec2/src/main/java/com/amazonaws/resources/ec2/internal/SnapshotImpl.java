@@ -16,13 +16,16 @@ package com.amazonaws.resources.ec2.internal;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
 import com.amazonaws.resources.ec2.Snapshot;
 import com.amazonaws.resources.ec2.Volume;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.CopySnapshotRequest;
 import com.amazonaws.services.ec2.model.CopySnapshotResult;
@@ -36,7 +39,7 @@ import com.amazonaws.services.ec2.model.ModifySnapshotAttributeRequest;
 import com.amazonaws.services.ec2.model.ResetSnapshotAttributeRequest;
 import com.amazonaws.services.ec2.model.Tag;
 
-class SnapshotImpl implements Snapshot {
+class SnapshotImpl implements Snapshot, ResourceFacade {
     public static final ResourceCodec<Snapshot> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -45,6 +48,11 @@ class SnapshotImpl implements Snapshot {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -67,6 +75,28 @@ class SnapshotImpl implements Snapshot {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeSnapshotsRequest request,
+            ResultCapture<DescribeSnapshotsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
+    @Override
+    public void waitUntilCompleted() {
+        resource.waitUntil("Completed", null);
+    }
+
+    @Override
+    public Future<Void> waitUntilCompletedAsync(WaiterParameters parameters) {
+        return resource.waitUntilAsync("Completed", parameters);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.Subnet;
 import com.amazonaws.resources.ec2.SubnetCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,20 @@ class SubnetCollectionImpl implements SubnetCollection {
         return new StandardResourcePage<Subnet>(impl.firstPage(extractor),
                 SubnetImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Subnet>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Subnet>(
+                impl.firstPageAsync(null, executor),
+                SubnetImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Subnet> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Subnet>(
+                impl.withPrefetch(depth, executor),
+                SubnetImpl.CODEC);
+    }
 }
@@ -17,12 +17,13 @@ package com.amazonaws.resources.ec2.internal;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.Tag;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.DeleteTagsRequest;
 import com.amazonaws.services.ec2.model.DescribeTagsRequest;
 import com.amazonaws.services.ec2.model.DescribeTagsResult;
 
-class TagImpl implements Tag {
+class TagImpl implements Tag, ResourceFacade {
     public static final ResourceCodec<Tag> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -31,6 +32,11 @@ class TagImpl implements Tag {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -53,6 +59,18 @@ class TagImpl implements Tag {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeTagsRequest request,
+            ResultCapture<DescribeTagsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getValue() {
         return (String) resource.getIdentifier("Value");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.Volume;
 import com.amazonaws.resources.ec2.VolumeCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,20 @@ class VolumeCollectionImpl implements VolumeCollection {
         return new StandardResourcePage<Volume>(impl.firstPage(extractor),
                 VolumeImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Volume>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Volume>(
+                impl.firstPageAsync(null, executor),
+                VolumeImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Volume> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Volume>(
+                impl.withPrefetch(depth, executor),
+                VolumeImpl.CODEC);
+    }
 }
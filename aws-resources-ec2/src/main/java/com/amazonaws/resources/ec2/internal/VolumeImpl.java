@@ -16,8 +16,10 @@ package com.amazonaws.resources.ec2.internal;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
 import com.amazonaws.resources.ec2.Snapshot;
 import com.amazonaws.resources.ec2.SnapshotCollection;
 import com.amazonaws.resources.ec2.Volume;
@@ -25,6 +27,7 @@ import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.AttachVolumeRequest;
 import com.amazonaws.services.ec2.model.AttachVolumeResult;
@@ -45,7 +48,7 @@ import com.amazonaws.services.ec2.model.ModifyVolumeAttributeRequest;
 import com.amazonaws.services.ec2.model.Tag;
 import com.amazonaws.services.ec2.model.VolumeAttachment;
 
-class VolumeImpl implements Volume {
+class VolumeImpl implements Volume, ResourceFacade {
     public static final ResourceCodec<Volume> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -54,6 +57,11 @@ class VolumeImpl implements Volume {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -76,6 +84,38 @@ class VolumeImpl implements Volume {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeVolumesRequest request,
+            ResultCapture<DescribeVolumesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
+    @Override
+    public void waitUntilAvailable() {
+        resource.waitUntil("Available", null);
+    }
+
+    @Override
+    public Future<Void> waitUntilAvailableAsync(WaiterParameters parameters) {
+        return resource.waitUntilAsync("Available", parameters);
+    }
+
+    @Override
+    public void waitUntilInUse() {
+        resource.waitUntil("InUse", null);
+    }
+
+    @Override
+    public Future<Void> waitUntilInUseAsync(WaiterParameters parameters) {
+        return resource.waitUntilAsync("InUse", parameters);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
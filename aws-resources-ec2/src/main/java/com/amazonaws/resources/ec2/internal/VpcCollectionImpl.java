@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.Vpc;
 import com.amazonaws.resources.ec2.VpcCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,18 @@ class VpcCollectionImpl implements VpcCollection {
         return new StandardResourcePage<Vpc>(impl.firstPage(extractor),
                 VpcImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Vpc>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Vpc>(
+                impl.firstPageAsync(null, executor),
+                VpcImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Vpc> withPrefetch(int depth, Executor executor) {
+        return new StandardResourceCollection<Vpc>(
+                impl.withPrefetch(depth, executor),
+                VpcImpl.CODEC);
+    }
 }
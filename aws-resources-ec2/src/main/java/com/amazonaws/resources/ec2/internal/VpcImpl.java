@@ -36,6 +36,7 @@ import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.AssociateDhcpOptionsRequest;
 import com.amazonaws.services.ec2.model.AttachInternetGatewayRequest;
@@ -67,7 +68,7 @@ import com.amazonaws.services.ec2.model.DetachInternetGatewayRequest;
 import com.amazonaws.services.ec2.model.ModifyVpcAttributeRequest;
 import com.amazonaws.services.ec2.model.Tag;
 
-class VpcImpl implements Vpc {
+class VpcImpl implements Vpc, ResourceFacade {
     public static final ResourceCodec<Vpc> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -76,6 +77,11 @@ class VpcImpl implements Vpc {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -98,6 +104,18 @@ class VpcImpl implements Vpc {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeVpcsRequest request,
+            ResultCapture<DescribeVpcsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
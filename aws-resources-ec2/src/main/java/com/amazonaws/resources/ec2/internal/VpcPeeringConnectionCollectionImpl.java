@@ -15,13 +15,18 @@
 package com.amazonaws.resources.ec2.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.ec2.VpcPeeringConnection;
 import com.amazonaws.resources.ec2.VpcPeeringConnectionCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -60,4 +65,22 @@ class VpcPeeringConnectionCollectionImpl implements
                 StandardResourcePage<VpcPeeringConnection>(impl.firstPage(extractor),
                 VpcPeeringConnectionImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<VpcPeeringConnection>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<VpcPeeringConnection>(
+                impl.firstPageAsync(null, executor),
+                VpcPeeringConnectionImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<VpcPeeringConnection> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<VpcPeeringConnection>(
+                impl.withPrefetch(depth, executor),
+                VpcPeeringConnectionImpl.CODEC);
+    }
 }
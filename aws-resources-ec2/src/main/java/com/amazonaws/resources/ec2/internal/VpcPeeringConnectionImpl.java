@@ -22,6 +22,7 @@ import com.amazonaws.resources.ec2.Vpc;
 import com.amazonaws.resources.ec2.VpcPeeringConnection;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.ec2.model.AcceptVpcPeeringConnectionRequest;
 import com.amazonaws.services.ec2.model.AcceptVpcPeeringConnectionResult;
@@ -35,7 +36,7 @@ import com.amazonaws.services.ec2.model.Tag;
 import com.amazonaws.services.ec2.model.VpcPeeringConnectionStateReason;
 import com.amazonaws.services.ec2.model.VpcPeeringConnectionVpcInfo;
 
-class VpcPeeringConnectionImpl implements VpcPeeringConnection {
+class VpcPeeringConnectionImpl implements VpcPeeringConnection, ResourceFacade {
     public static final ResourceCodec<VpcPeeringConnection> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -44,6 +45,11 @@ class VpcPeeringConnectionImpl implements VpcPeeringConnection {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -66,6 +72,18 @@ class VpcPeeringConnectionImpl implements VpcPeeringConnection {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeVpcPeeringConnectionsRequest request,
+            ResultCapture<DescribeVpcPeeringConnectionsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getId() {
         return (String) resource.getIdentifier("Id");
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.ec2.internal;
+
+import java.lang.management.ManagementFactory;
+
+import com.amazonaws.resources.ec2.EC2;
+import com.amazonaws.resources.ec2.Instance;
+import com.amazonaws.resources.internal.model.V1ModelLoader;
+import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Client;
+
+/**
+ * Measures time-to-first-{@code getInstance} for a cold JVM, which is
+ * dominated by loading the EC2 service model. Since the interesting cost is
+ * one-time class loading and model parsing, each mode must be measured in a
+ * fresh JVM:
+ * <pre>
+ *   java ... ModelLoadBenchmark binary
+ *   java ... ModelLoadBenchmark json
+ * </pre>
+ * The "json" mode sets {@link V1ModelLoader#DISABLE_BINARY_MODELS_PROPERTY}
+ * to force the model to be parsed from {@code model.json}. No requests are
+ * made to EC2.
+ */
+public final class ModelLoadBenchmark {
+
+    public static void main(String[] args) {
+        String mode = (args.length == 0 ? "binary" : args[0]);
+
+        if ("json".equals(mode)) {
+            System.setProperty(
+                    V1ModelLoader.DISABLE_BINARY_MODELS_PROPERTY,
+                    "true");
+        } else if (!"binary".equals(mode)) {
+            throw new IllegalArgumentException(
+                    "Usage: ModelLoadBenchmark [binary|json]");
+        }
+
+        // Create the low-level client up front; its cost is the same either
+        // way and would otherwise drown out the difference.
+        AmazonEC2 client = new AmazonEC2Client();
+
+        long start = System.nanoTime();
+
+        EC2 ec2 = new EC2Impl(client);
+        Instance instance = ec2.getInstance("i-12345678");
+
+        long elapsed = System.nanoTime() - start;
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        System.out.println("mode:                          " + mode);
+        System.out.println("first getInstance (ms):        "
+                + (elapsed / 1000000.0));
+        System.out.println("JVM start to getInstance (ms): " + uptime);
+        System.out.println("instance:                      "
+                + instance.getId());
+
+        client.shutdown();
+    }
+
+    private ModelLoadBenchmark() {
+    }
+}
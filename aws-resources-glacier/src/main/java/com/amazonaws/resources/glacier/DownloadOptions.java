@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier;
+
+/**
+ * Controls how {@link Job#downloadTo(java.nio.file.Path, DownloadOptions)}
+ * splits a job's output into ranges and downloads them.
+ * <p>
+ * Ranges are a power of two megabytes in size and start on a multiple of
+ * their size, so each one lines up with a subtree of the output's tree
+ * hash and Glacier returns a checksum for it. Each range is written
+ * straight to its place in the file as it arrives, and is checked against
+ * its checksum once it has all arrived; a range which fails, or doesn't
+ * match, is downloaded again on its own.
+ */
+public final class DownloadOptions {
+
+    private static final long MIN_RANGE_SIZE = 1024 * 1024;
+    private static final long MAX_RANGE_SIZE = 4L * 1024 * 1024 * 1024;
+
+    private long rangeSize = 64 * MIN_RANGE_SIZE;
+    private int threads = 4;
+    private int maxRetries = 3;
+
+    /**
+     * @return the size of each range of the output, in bytes
+     */
+    public long getRangeSize() {
+        return rangeSize;
+    }
+
+    /**
+     * @param bytes the size of each range of the output, which must be a
+     *            megabyte multiplied by a power of two, up to four gigabytes
+     */
+    public void setRangeSize(long bytes) {
+        if (bytes < MIN_RANGE_SIZE || bytes > MAX_RANGE_SIZE
+                || bytes % MIN_RANGE_SIZE != 0
+                || Long.bitCount(bytes / MIN_RANGE_SIZE) != 1) {
+
+            throw new IllegalArgumentException(
+                    "rangeSize must be a power of two megabytes between "
+                    + "1MB and 4GB: " + bytes);
+        }
+        this.rangeSize = bytes;
+    }
+
+    /**
+     * @param bytes the size of each range of the output, which must be a
+     *            megabyte multiplied by a power of two, up to four gigabytes
+     * @return this object, for method chaining
+     */
+    public DownloadOptions withRangeSize(long bytes) {
+        setRangeSize(bytes);
+        return this;
+    }
+
+
+    /**
+     * @return the number of threads downloading ranges
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @param threads the number of threads downloading ranges
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                    "threads must be at least 1: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * @param threads the number of threads downloading ranges
+     * @return this object, for method chaining
+     */
+    public DownloadOptions withThreads(int threads) {
+        setThreads(threads);
+        return this;
+    }
+
+
+    /**
+     * @return how many times to retry a range which fails to download or
+     *         doesn't match its checksum
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @param retries how many times to retry a range which fails to
+     *            download or doesn't match its checksum
+     */
+    public void setMaxRetries(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException(
+                    "maxRetries cannot be negative: " + retries);
+        }
+        this.maxRetries = retries;
+    }
+
+    /**
+     * @param retries how many times to retry a range which fails to
+     *            download or doesn't match its checksum
+     * @return this object, for method chaining
+     */
+    public DownloadOptions withMaxRetries(int retries) {
+        setMaxRetries(retries);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "{rangeSize=" + rangeSize
+                + ", threads=" + threads
+                + ", maxRetries=" + maxRetries + "}";
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier;
+
+/**
+ * An archive listed in a vault inventory, along with what the inventory
+ * says about it.
+ *
+ * @see InventoryReader
+ */
+public final class InventoryItem {
+
+    private final Archive archive;
+    private final String description;
+    private final String creationDate;
+    private final long size;
+    private final String sha256TreeHash;
+
+    /**
+     * @param archive the archive
+     * @param description the description of the archive
+     * @param creationDate when the archive was created, in ISO 8601 format
+     * @param size the size of the archive, in bytes
+     * @param sha256TreeHash the tree hash of the archive
+     */
+    public InventoryItem(
+            Archive archive,
+            String description,
+            String creationDate,
+            long size,
+            String sha256TreeHash) {
+
+        this.archive = archive;
+        this.description = description;
+        this.creationDate = creationDate;
+        this.size = size;
+        this.sha256TreeHash = sha256TreeHash;
+    }
+
+    /**
+     * @return the archive
+     */
+    public Archive getArchive() {
+        return archive;
+    }
+
+    /**
+     * @return the description of the archive
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return when the archive was created, in ISO 8601 format
+     */
+    public String getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * @return the size of the archive, in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the tree hash of the archive
+     */
+    public String getSHA256TreeHash() {
+        return sha256TreeHash;
+    }
+
+    @Override
+    public String toString() {
+        return "{archiveId=" + archive.getId()
+                + ", description=" + description
+                + ", creationDate=" + creationDate
+                + ", size=" + size
+                + ", sha256TreeHash=" + sha256TreeHash + "}";
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * Reads the archives listed in a vault inventory one at a time, as the
+ * output of the inventory retrieval job streams in. Only the archive being
+ * read is held in memory, so an inventory of any size can be read.
+ * <p>
+ * The reader holds the connection the output is read over open until it
+ * has read the whole inventory, so it should be closed if it is abandoned
+ * part of the way through.
+ *
+ * @see Job#readInventory()
+ */
+public interface InventoryReader extends Iterator<InventoryItem>, Closeable {
+
+    /**
+     * @return the ARN of the vault, or null if it hasn't been read yet
+     */
+    String getVaultARN();
+
+    /**
+     * @return when the inventory was taken, in ISO 8601 format, or null if
+     *         it hasn't been read yet
+     */
+    String getInventoryDate();
+
+    /**
+     * Closes the connection the output is read over. Does nothing if the
+     * whole inventory has already been read.
+     */
+    @Override
+    void close();
+}
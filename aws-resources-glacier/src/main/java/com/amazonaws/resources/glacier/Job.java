@@ -14,7 +14,12 @@
  */
 package com.amazonaws.resources.glacier;
 
+import java.nio.file.Path;
+import java.util.concurrent.Future;
+
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
 import com.amazonaws.services.glacier.model.DescribeJobRequest;
 import com.amazonaws.services.glacier.model.DescribeJobResult;
 import com.amazonaws.services.glacier.model.GetJobOutputRequest;
@@ -112,6 +117,46 @@ public interface Job {
     boolean load(DescribeJobRequest request, ResultCapture<DescribeJobResult>
             extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeJobRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeJobRequest
+     */
+    void reload(DescribeJobRequest request,
+            ResultCapture<DescribeJobResult> extractor);
+
+    /**
+     * Waits until this resource's <code>StatusCode</code> is
+     * <code>Succeeded</code>, polling the service with exponential backoff and
+     * the default {@link WaiterParameters}.
+     *
+     * @throws IllegalStateException if the resource reaches a state from
+     *         which it can never become <code>Succeeded</code>
+     * @throws AmazonClientException if the wait times out
+     */
+    void waitUntilCompleted();
+
+    /**
+     * Asynchronously waits until this resource's <code>StatusCode</code> is
+     * <code>Succeeded</code>. The service is polled on a shared scheduler, so
+     * no thread is tied up between polls.
+     *
+     * @param parameters the polling parameters, or null for the defaults
+     * @return A future which completes when the wait succeeds.
+     * @see #waitUntilCompleted()
+     */
+    Future<Void> waitUntilCompletedAsync(WaiterParameters parameters);
+
     /**
      * Gets the value of the AccountId identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -323,4 +368,29 @@ public interface Job {
      */
     GetJobOutputResult getOutput(String range, ResultCapture<GetJobOutputResult>
             extractor);
+
+    /**
+     * Downloads the output of this job to a file, replacing anything already
+     * in it. The output is split into ranges which line up with its tree
+     * hash; several ranges are downloaded at once, each written straight to
+     * its place in the file and checked against the checksum Glacier returns
+     * for it. A range which fails is retried on its own, without starting
+     * the whole download again.
+     *
+     * @param file the file to write the output to
+     * @param options the download options, or null for the defaults
+     * @throws IllegalStateException if the job has not completed
+     */
+    void downloadTo(Path file, DownloadOptions options);
+
+    /**
+     * Starts reading the output of this inventory retrieval job, an archive
+     * at a time. The output is parsed as it streams in rather than read
+     * into memory first, so inventories of any size can be read.
+     *
+     * @return a reader for the archives listed in the inventory
+     * @throws IllegalStateException if this is not a completed inventory
+     *         retrieval job with output in JSON format
+     */
+    InventoryReader readInventory();
 }
@@ -106,6 +106,24 @@ public interface Notification {
     boolean load(GetVaultNotificationsRequest request,
             ResultCapture<GetVaultNotificationsResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetVaultNotificationsRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetVaultNotificationsRequest
+     */
+    void reload(GetVaultNotificationsRequest request,
+            ResultCapture<GetVaultNotificationsResult> extractor);
+
     /**
      * Gets the value of the AccountId identifier. This method always directly
      * returns the identifier and never involves a service call.
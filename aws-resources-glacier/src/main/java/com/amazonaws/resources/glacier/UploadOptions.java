@@ -0,0 +1,236 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier;
+
+import java.nio.file.Path;
+
+/**
+ * Controls how {@link Vault#upload(java.nio.file.Path, UploadOptions)}
+ * splits an archive into parts and uploads them.
+ * <p>
+ * The archive is split into parts which are hashed and handed to a pool of
+ * uploader threads. No more parts are handed out while the parts waiting
+ * for or being uploaded add up to the in-flight byte limit, so memory use
+ * is bounded however large the archive is. Parts of a stream are read into
+ * heap buffers, which limits them to 1GB; parts of a file are mapped into
+ * memory instead, and can be as large as Glacier allows. A part which fails
+ * to upload is retried on its own; the upload as a whole fails, and is
+ * aborted, only once a part has run out of retries.
+ * <p>
+ * Uploads from a file can be made resumable by giving a journal file, in
+ * which each part is recorded as Glacier accepts it. A failed upload is
+ * then left in place rather than aborted, and uploading the same file with
+ * the same journal picks up where it left off: parts recorded in the
+ * journal are not hashed or uploaded again. The journal is deleted once
+ * the upload completes.
+ */
+public final class UploadOptions {
+
+    private static final long MIN_PART_SIZE = 1024 * 1024;
+    private static final long MAX_PART_SIZE = 4L * 1024 * 1024 * 1024;
+
+    private long partSize = 8 * MIN_PART_SIZE;
+    private int threads = 4;
+    private long maxBytesInFlight = 128 * MIN_PART_SIZE;
+    private int maxRetries = 3;
+    private String archiveDescription;
+    private Path journal;
+
+    /**
+     * @return the size of each part of the archive, in bytes
+     */
+    public long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * @param bytes the size of each part of the archive, which must be a
+     *            megabyte multiplied by a power of two, up to four gigabytes
+     */
+    public void setPartSize(long bytes) {
+        if (bytes < MIN_PART_SIZE || bytes > MAX_PART_SIZE
+                || bytes % MIN_PART_SIZE != 0
+                || Long.bitCount(bytes / MIN_PART_SIZE) != 1) {
+
+            throw new IllegalArgumentException(
+                    "partSize must be a power of two megabytes between 1MB "
+                    + "and 4GB: " + bytes);
+        }
+        this.partSize = bytes;
+    }
+
+    /**
+     * @param bytes the size of each part of the archive, which must be a
+     *            megabyte multiplied by a power of two, up to four gigabytes
+     * @return this object, for method chaining
+     */
+    public UploadOptions withPartSize(long bytes) {
+        setPartSize(bytes);
+        return this;
+    }
+
+
+    /**
+     * @return the number of threads uploading parts
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @param threads the number of threads uploading parts
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                    "threads must be at least 1: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * @param threads the number of threads uploading parts
+     * @return this object, for method chaining
+     */
+    public UploadOptions withThreads(int threads) {
+        setThreads(threads);
+        return this;
+    }
+
+
+    /**
+     * @return the most bytes of parts which have been read but not yet
+     *         uploaded; one part is always allowed, however large
+     */
+    public long getMaxBytesInFlight() {
+        return maxBytesInFlight;
+    }
+
+    /**
+     * @param bytes the most bytes of parts which have been read but not
+     *            yet uploaded; one part is always allowed, however large
+     */
+    public void setMaxBytesInFlight(long bytes) {
+        if (bytes < 1) {
+            throw new IllegalArgumentException(
+                    "maxBytesInFlight must be at least 1: " + bytes);
+        }
+        this.maxBytesInFlight = bytes;
+    }
+
+    /**
+     * @param bytes the most bytes of parts which have been read but not
+     *            yet uploaded; one part is always allowed, however large
+     * @return this object, for method chaining
+     */
+    public UploadOptions withMaxBytesInFlight(long bytes) {
+        setMaxBytesInFlight(bytes);
+        return this;
+    }
+
+
+    /**
+     * @return how many times to retry a part which fails to upload
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @param retries how many times to retry a part which fails to upload
+     */
+    public void setMaxRetries(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException(
+                    "maxRetries cannot be negative: " + retries);
+        }
+        this.maxRetries = retries;
+    }
+
+    /**
+     * @param retries how many times to retry a part which fails to upload
+     * @return this object, for method chaining
+     */
+    public UploadOptions withMaxRetries(int retries) {
+        setMaxRetries(retries);
+        return this;
+    }
+
+
+    /**
+     * @return the description to give the archive, or null for none
+     */
+    public String getArchiveDescription() {
+        return archiveDescription;
+    }
+
+    /**
+     * @param description the description to give the archive, or null for
+     *            none
+     */
+    public void setArchiveDescription(String description) {
+        this.archiveDescription = description;
+    }
+
+    /**
+     * @param description the description to give the archive, or null for
+     *            none
+     * @return this object, for method chaining
+     */
+    public UploadOptions withArchiveDescription(String description) {
+        setArchiveDescription(description);
+        return this;
+    }
+
+
+
+    /**
+     * @return the file in which to record the progress of an upload from a
+     *         file, so that it can be resumed, or null if it can't be
+     */
+    public Path getJournal() {
+        return journal;
+    }
+
+    /**
+     * @param journal the file in which to record the progress of an upload
+     *            from a file, so that it can be resumed, or null if it
+     *            can't be
+     */
+    public void setJournal(Path journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * @param journal the file in which to record the progress of an upload
+     *            from a file, so that it can be resumed, or null if it
+     *            can't be
+     * @return this object, for method chaining
+     */
+    public UploadOptions withJournal(Path journal) {
+        setJournal(journal);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "{partSize=" + partSize
+                + ", threads=" + threads
+                + ", maxBytesInFlight=" + maxBytesInFlight
+                + ", maxRetries=" + maxRetries
+                + ", archiveDescription=" + archiveDescription
+                + ", journal=" + journal + "}";
+    }
+}
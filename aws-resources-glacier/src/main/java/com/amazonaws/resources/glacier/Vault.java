@@ -15,6 +15,9 @@
 package com.amazonaws.resources.glacier;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.services.glacier.model.CreateVaultRequest;
@@ -113,6 +116,36 @@ public interface Vault {
     boolean load(DescribeVaultRequest request,
             ResultCapture<DescribeVaultResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(DescribeVaultRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see DescribeVaultRequest
+     */
+    void reload(DescribeVaultRequest request,
+            ResultCapture<DescribeVaultResult> extractor);
+
+    /**
+     * Asynchronously loads this resource's attributes if they are not loaded
+     * yet. The service call is made on the given executor, or on the
+     * executor of the underlying {@code *AsyncClient} if {@code executor}
+     * is null.
+     *
+     * @return A future for the result of
+     *         {@link #load(DescribeVaultRequest)}.
+     * @see #load(DescribeVaultRequest)
+     */
+    Future<Boolean> loadAsync(DescribeVaultRequest request, Executor executor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -382,6 +415,18 @@ public interface Vault {
     com.amazonaws.resources.glacier.Archive uploadArchive(UploadArchiveRequest
             request, ResultCapture<UploadArchiveResult> extractor);
 
+    /**
+     * Asynchronously performs the <code>UploadArchive</code> action. The
+     * service call is made on the given executor, or on the executor of the
+     * underlying {@code *AsyncClient} if {@code executor} is null.
+     *
+     * @return A future for the result of
+     *         {@link #uploadArchive(UploadArchiveRequest)}.
+     * @see #uploadArchive(UploadArchiveRequest)
+     */
+    Future<com.amazonaws.resources.glacier.Archive> uploadArchiveAsync(
+            UploadArchiveRequest request, Executor executor);
+
     /**
      * The convenient method form for the <code>UploadArchive</code> action.
      *
@@ -543,6 +588,53 @@ public interface Vault {
             String partSize, String archiveDescription,
             ResultCapture<InitiateMultipartUploadResult> extractor);
 
+    /**
+     * Uploads the contents of a file as a new archive, using a multipart
+     * upload with several parts in flight at once. Parts are mapped into
+     * memory and sent straight from the file, rather than copied onto the
+     * heap. The upload is aborted if it fails, unless the options name a
+     * journal; the upload is then resumed by calling this method again with
+     * the same file and journal.
+     *
+     * @param file the file to upload
+     * @param options the upload options, or null for the defaults
+     * @return the new archive
+     */
+    com.amazonaws.resources.glacier.Archive upload(Path file,
+            UploadOptions options);
+
+    /**
+     * Uploads everything remaining in a stream as a new archive, using a
+     * multipart upload with several parts in flight at once. The stream is
+     * not closed. The upload is aborted if it fails.
+     *
+     * @param input the stream to upload
+     * @param options the upload options, or null for the defaults
+     * @return the new archive
+     * @see #upload(Path, UploadOptions)
+     */
+    com.amazonaws.resources.glacier.Archive upload(InputStream input,
+            UploadOptions options);
+
+    /**
+     * Finishes a multipart upload of a file which was started earlier, for
+     * example one found with {@link #getMultipartUplaods()}. Each part
+     * Glacier already has is hashed locally and checked against the tree
+     * hash Glacier lists for it; only missing or mismatched parts are
+     * uploaded. If the options name the upload's journal, the parts it
+     * records are trusted without being hashed again. The upload is left
+     * in place if it fails.
+     *
+     * @param upload the upload to finish
+     * @param file the file being uploaded
+     * @param options the upload options, or null for the defaults; the
+     *            part size is taken from the upload
+     * @return the new archive
+     * @see #upload(Path, UploadOptions)
+     */
+    com.amazonaws.resources.glacier.Archive resumeUpload(
+            MultipartUpload upload, Path file, UploadOptions options);
+
     /**
      * Performs the <code>Delete</code> action.
      *
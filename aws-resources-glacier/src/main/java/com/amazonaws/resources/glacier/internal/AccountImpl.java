@@ -21,12 +21,13 @@ import com.amazonaws.resources.glacier.VaultCollection;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.glacier.model.CreateVaultRequest;
 import com.amazonaws.services.glacier.model.CreateVaultResult;
 import com.amazonaws.services.glacier.model.ListVaultsRequest;
 
-class AccountImpl implements Account {
+class AccountImpl implements Account, ResourceFacade {
     public static final ResourceCodec<Account> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -35,6 +36,11 @@ class AccountImpl implements Account {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -20,12 +20,13 @@ import com.amazonaws.resources.glacier.Job;
 import com.amazonaws.resources.glacier.Vault;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.glacier.model.DeleteArchiveRequest;
 import com.amazonaws.services.glacier.model.InitiateJobRequest;
 import com.amazonaws.services.glacier.model.InitiateJobResult;
 
-class ArchiveImpl implements Archive {
+class ArchiveImpl implements Archive, ResourceFacade {
     public static final ResourceCodec<Archive> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -34,6 +35,11 @@ class ArchiveImpl implements Archive {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
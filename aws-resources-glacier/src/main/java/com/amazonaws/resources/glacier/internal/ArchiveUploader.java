@@ -0,0 +1,907 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.glacier.Archive;
+import com.amazonaws.resources.glacier.MultipartUpload;
+import com.amazonaws.resources.glacier.UploadOptions;
+import com.amazonaws.resources.glacier.Vault;
+import com.amazonaws.resources.internal.NamedThreadFactory;
+import com.amazonaws.services.glacier.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.glacier.model.ListPartsRequest;
+import com.amazonaws.services.glacier.model.ListPartsResult;
+import com.amazonaws.services.glacier.model.PartListElement;
+import com.amazonaws.services.glacier.model.UploadMultipartPartResult;
+
+/**
+ * Uploads an archive as a multipart upload, several parts at a time.
+ * <p>
+ * When uploading from a stream, the calling thread reads the archive part
+ * by part into heap buffers, computing each part's tree hash as it goes,
+ * and hands the part to a pool of uploader threads. The calling thread
+ * blocks before reading a part that would take the bytes in flight past
+ * the limit, until enough parts have been uploaded.
+ * <p>
+ * When uploading from a file, nothing is copied onto the heap: each
+ * uploader thread maps its part of the file into memory, hashes it, and
+ * streams it to the service straight from the mapping, so the part is
+ * read from the page cache rather than from a buffer of its own.
+ * <p>
+ * Either way, the tree hash of the whole archive is built from the part
+ * hashes, so the archive is only hashed once.
+ * <p>
+ * An upload from a file can be resumed. The parts Glacier already has are
+ * listed, and each is trusted if an {@link UploadJournal} recorded the same
+ * tree hash for it, or else hashed again locally and compared; only the
+ * missing or mismatched parts are uploaded. A resumable upload is left in
+ * place, rather than aborted, if it fails.
+ */
+final class ArchiveUploader {
+
+    private static final Log LOG = LogFactory.getLog(ArchiveUploader.class);
+
+    /**
+     * The largest part which can be held in a single array.
+     */
+    private static final long MAX_HEAP_PART_SIZE = 1024 * 1024 * 1024;
+
+    /**
+     * The most of a file to map into a single buffer; larger parts are
+     * mapped as several buffers.
+     */
+    private static final long MAX_SEGMENT_SIZE = 1024 * 1024 * 1024;
+
+    private static final long INITIAL_BACKOFF = 100;
+    private static final long MAX_BACKOFF = TimeUnit.SECONDS.toMillis(20);
+
+    private final Vault vault;
+    private final UploadOptions options;
+    private final long partSize;
+    private final ByteBudget budget;
+    private final List<byte[]> partHashes = new ArrayList<>();
+    private final AtomicReference<Throwable> failure =
+            new AtomicReference<>();
+
+    private MultipartUpload upload;
+    private UploadJournal journal;
+    private boolean resumable;
+
+    /**
+     * Uploads the contents of a file as a new archive.
+     *
+     * @param vault the vault to upload to
+     * @param file the file to upload
+     * @param options the upload options, or null for the defaults
+     * @return the new archive
+     */
+    public static Archive upload(
+            Vault vault,
+            Path file,
+            UploadOptions options) {
+
+        if (file == null) {
+            throw new NullPointerException("file");
+        }
+        if (options == null) {
+            options = new UploadOptions();
+        }
+
+        try (FileChannel channel =
+                FileChannel.open(file, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            if (size == 0) {
+                throw new IllegalArgumentException(
+                        "Cannot upload an empty archive: " + file);
+            }
+
+            ArchiveUploader uploader = new ArchiveUploader(
+                    vault, options, options.getPartSize());
+            FileParts parts = uploader.new FileParts(channel, size);
+
+            if (options.getJournal() != null) {
+                uploader.openJournal(file, size, parts);
+            }
+
+            return uploader.run(parts);
+
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to read " + file, exception);
+        }
+    }
+
+    /**
+     * Finishes a multipart upload of a file which was started earlier,
+     * uploading only the parts which Glacier doesn't already have.
+     *
+     * @param vault the vault the upload is to
+     * @param upload the upload to finish
+     * @param file the file being uploaded
+     * @param options the upload options, or null for the defaults; the
+     *            part size is taken from the upload instead
+     * @return the new archive
+     */
+    public static Archive resume(
+            Vault vault,
+            MultipartUpload upload,
+            Path file,
+            UploadOptions options) {
+
+        if (upload == null) {
+            throw new NullPointerException("upload");
+        }
+        if (file == null) {
+            throw new NullPointerException("file");
+        }
+        if (options == null) {
+            options = new UploadOptions();
+        }
+
+        try (FileChannel channel =
+                FileChannel.open(file, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            ListPartsResult listing = listParts(upload);
+
+            ArchiveUploader uploader = new ArchiveUploader(
+                    vault, options, listing.getPartSizeInBytes());
+            FileParts parts = uploader.new FileParts(channel, size);
+
+            uploader.upload = upload;
+            uploader.resumable = true;
+
+            Map<Long, String> journaled = Collections.emptyMap();
+            if (options.getJournal() != null) {
+                long lastModified =
+                        Files.getLastModifiedTime(file).toMillis();
+
+                uploader.journal = UploadJournal.open(options.getJournal());
+                if (upload.getId().equals(uploader.journal.getUploadId())
+                        && uploader.journal.matches(
+                                uploader.partSize, size, lastModified)) {
+
+                    uploader.journal.resume();
+                    journaled = uploader.journal.getParts();
+                } else {
+                    uploader.journal.start(upload.getId(),
+                            uploader.partSize, size, lastModified);
+                }
+            }
+
+            parts.resumeFrom(listing, journaled);
+            return uploader.run(parts);
+
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to read " + file, exception);
+        }
+    }
+
+    /**
+     * Uploads everything remaining in a stream as a new archive. The
+     * stream is not closed.
+     *
+     * @param vault the vault to upload to
+     * @param input the stream to upload
+     * @param options the upload options, or null for the defaults
+     * @return the new archive
+     */
+    public static Archive upload(
+            Vault vault,
+            InputStream input,
+            UploadOptions options) {
+
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        if (options == null) {
+            options = new UploadOptions();
+        }
+        if (options.getPartSize() > MAX_HEAP_PART_SIZE) {
+            throw new IllegalArgumentException(
+                    "partSize cannot be more than 1GB when uploading from "
+                    + "a stream: " + options.getPartSize());
+        }
+        if (options.getJournal() != null) {
+            throw new IllegalArgumentException(
+                    "Uploads from a stream cannot be resumed, so cannot be "
+                    + "journaled");
+        }
+
+        ArchiveUploader uploader = new ArchiveUploader(
+                vault, options, options.getPartSize());
+        return uploader.run(uploader.new StreamParts(input));
+    }
+
+    private ArchiveUploader(
+            Vault vault,
+            UploadOptions options,
+            long partSize) {
+
+        this.vault = vault;
+        this.options = options;
+        this.partSize = partSize;
+        this.budget = new ByteBudget(
+                Math.max(options.getMaxBytesInFlight(), partSize));
+    }
+
+    /**
+     * Picks up the upload recorded in the journal if it is of the same
+     * file and still in progress, or else starts a new upload and journal.
+     */
+    private void openJournal(Path file, long size, FileParts parts)
+            throws IOException {
+
+        Path path = options.getJournal();
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+
+        journal = UploadJournal.open(path);
+        resumable = true;
+
+        if (journal.matches(partSize, size, lastModified)) {
+            MultipartUpload previous =
+                    vault.getMultipartUpload(journal.getUploadId());
+
+            ListPartsResult listing = null;
+            try {
+                listing = listParts(previous);
+            } catch (AmazonServiceException exception) {
+                if (exception.getStatusCode() != 404) {
+                    throw exception;
+                }
+                LOG.info("Multipart upload " + previous.getId()
+                        + " in journal " + path + " no longer exists, "
+                        + "starting again");
+            }
+
+            if (listing != null) {
+                upload = previous;
+                journal.resume();
+                parts.resumeFrom(listing, journal.getParts());
+                return;
+            }
+
+        } else if (journal.getUploadId() != null) {
+            LOG.warn("Journal " + path + " is for a different file, part "
+                    + "size or version of " + file + ", starting again");
+
+            // The journal owned the old upload, which can't be finished now.
+            try {
+                vault.getMultipartUpload(journal.getUploadId()).abort();
+            } catch (AmazonClientException exception) {
+                LOG.debug("Failed to abort stale multipart upload "
+                        + journal.getUploadId(), exception);
+            }
+        }
+
+        upload = initiate();
+        journal.start(upload.getId(), partSize, size, lastModified);
+    }
+
+    private MultipartUpload initiate() {
+        return vault.initiateMultipartUpload(
+                Long.toString(partSize),
+                options.getArchiveDescription());
+    }
+
+    /**
+     * Lists every part of an upload, following the markers, into a single
+     * result.
+     */
+    private static ListPartsResult listParts(MultipartUpload upload) {
+        ListPartsResult listing = upload.parts();
+        List<PartListElement> parts = new ArrayList<>(listing.getParts());
+
+        String marker = listing.getMarker();
+        while (marker != null) {
+            ListPartsResult page =
+                    upload.parts(new ListPartsRequest().withMarker(marker));
+            parts.addAll(page.getParts());
+            marker = page.getMarker();
+        }
+
+        listing.setParts(parts);
+        return listing;
+    }
+
+    private Archive run(PartSource source) {
+        if (upload == null) {
+            upload = initiate();
+        }
+
+        ExecutorService uploaders = Executors.newFixedThreadPool(
+                options.getThreads(),
+                new NamedThreadFactory(
+                        "glacier-upload", vault.getName(), "uploader"));
+
+        try {
+
+            long size = source.submitParts(uploaders);
+
+            uploaders.shutdown();
+            while (!uploaders.awaitTermination(1, TimeUnit.SECONDS)) {
+                // Keep waiting.
+            }
+
+            rethrowFailure();
+            if (size == 0) {
+                throw new IllegalArgumentException(
+                        "Cannot upload an empty archive");
+            }
+
+            String checksum = TreeHash.toHex(TreeHash.combine(partHashes));
+            CompleteMultipartUploadResult result =
+                    upload.complete(checksum, Long.toString(size));
+
+            LOG.debug("Uploaded " + size + " bytes in " + partHashes.size()
+                    + " parts to vault " + vault.getName() + " as archive "
+                    + result.getArchiveId());
+
+            if (journal != null) {
+                journal.delete();
+            }
+
+            return vault.getArchive(result.getArchiveId());
+
+        } catch (InterruptedException exception) {
+            uploaders.shutdownNow();
+            abandon();
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(
+                    "Interrupted while uploading to vault " + vault.getName(),
+                    exception);
+
+        } catch (RuntimeException | Error exception) {
+            uploaders.shutdownNow();
+            abandon();
+            throw exception;
+        }
+    }
+
+    /**
+     * Makes room for the hash of the next part.
+     *
+     * @return the index of the next part
+     */
+    private int addPart() {
+        synchronized (partHashes) {
+            partHashes.add(null);
+            return partHashes.size() - 1;
+        }
+    }
+
+    private void setPartHash(int index, byte[] hash) {
+        synchronized (partHashes) {
+            partHashes.set(index, hash);
+        }
+    }
+
+    private void rethrowFailure() {
+        Throwable cause = failure.get();
+        if (cause == null) {
+            return;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new AmazonClientException(
+                "Failed to upload to vault " + vault.getName(), cause);
+    }
+
+    /**
+     * Aborts a failed upload, or leaves it to be resumed later.
+     */
+    private void abandon() {
+        if (resumable) {
+            LOG.info("Leaving multipart upload " + upload.getId()
+                    + " to vault " + vault.getName() + " to be resumed");
+            if (journal != null) {
+                journal.close();
+            }
+            return;
+        }
+
+        try {
+            upload.abort();
+        } catch (AmazonClientException exception) {
+            LOG.warn("Failed to abort multipart upload " + upload.getId()
+                    + " to vault " + vault.getName(), exception);
+        }
+    }
+
+    /**
+     * Splits an archive into parts.
+     */
+    private interface PartSource {
+
+        /**
+         * Hands each part of the archive to the uploaders in turn, stopping
+         * early if an upload fails.
+         *
+         * @return the size of the archive
+         */
+        long submitParts(ExecutorService uploaders)
+                throws InterruptedException;
+    }
+
+    /**
+     * Reads and hashes parts of a stream into heap buffers.
+     */
+    private final class StreamParts implements PartSource {
+
+        private final InputStream input;
+
+        public StreamParts(InputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        public long submitParts(ExecutorService uploaders)
+                throws InterruptedException {
+
+            int partSize = (int) ArchiveUploader.this.partSize;
+            long offset = 0;
+
+            while (failure.get() == null) {
+                budget.acquire(partSize);
+
+                byte[] buffer = new byte[partSize];
+                TreeHash hash = new TreeHash();
+                int length = read(buffer, hash);
+
+                if (length == 0) {
+                    budget.release(partSize);
+                    break;
+                }
+
+                uploaders.execute(new PartUpload(new HeapPart(
+                        addPart(), offset, partSize, buffer, length,
+                        hash.digest())));
+
+                offset += length;
+                if (length < partSize) {
+                    break;
+                }
+            }
+
+            return offset;
+        }
+
+        /**
+         * Fills the buffer from the stream, hashing the bytes as they
+         * arrive.
+         *
+         * @return the number of bytes read, which is less than the size of
+         *         the buffer only at the end of the stream
+         */
+        private int read(byte[] buffer, TreeHash hash) {
+            int length = 0;
+            try {
+
+                while (length < buffer.length) {
+                    int n = input.read(
+                            buffer, length, buffer.length - length);
+                    if (n == -1) {
+                        break;
+                    }
+                    hash.update(buffer, length, n);
+                    length += n;
+                }
+
+            } catch (IOException exception) {
+                throw new AmazonClientException(
+                        "Unable to read archive data", exception);
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Splits a file into parts which are mapped, rather than read, by the
+     * uploader threads. The file should not change during the upload.
+     */
+    private final class FileParts implements PartSource {
+
+        private final FileChannel channel;
+        private final long size;
+
+        private Map<Long, String> uploaded = Collections.emptyMap();
+        private Map<Long, String> trusted = Collections.emptyMap();
+
+        public FileParts(FileChannel channel, long size) {
+            this.channel = channel;
+            this.size = size;
+        }
+
+        /**
+         * Skips the parts which have already been uploaded.
+         *
+         * @param listing every part Glacier has for the upload
+         * @param journaled the parts recorded in the journal, whose hashes
+         *            are trusted without hashing the file again
+         */
+        public void resumeFrom(
+                ListPartsResult listing,
+                Map<Long, String> journaled) {
+
+            uploaded = new HashMap<>();
+            trusted = new HashMap<>();
+
+            for (PartListElement part : listing.getParts()) {
+                String[] range = part.getRangeInBytes().split("-");
+                long offset = Long.parseLong(range[0]);
+                long length = Long.parseLong(range[1]) - offset + 1;
+
+                // Anything which doesn't line up is simply uploaded again.
+                if (offset % partSize != 0 || offset >= size
+                        || length != Math.min(partSize, size - offset)) {
+                    continue;
+                }
+
+                String hash = part.getSHA256TreeHash();
+                if (hash.equals(journaled.get(offset))) {
+                    trusted.put(offset, hash);
+                } else {
+                    uploaded.put(offset, hash);
+                }
+            }
+
+            LOG.info("Resuming multipart upload " + upload.getId()
+                    + " to vault " + vault.getName() + ": "
+                    + trusted.size() + " parts journaled, "
+                    + uploaded.size() + " more to verify");
+        }
+
+        @Override
+        public long submitParts(ExecutorService uploaders)
+                throws InterruptedException {
+
+            for (long offset = 0; offset < size && failure.get() == null;
+                    offset += partSize) {
+
+                String hash = trusted.get(offset);
+                if (hash != null) {
+                    setPartHash(addPart(), TreeHash.fromHex(hash));
+                    continue;
+                }
+
+                long length = Math.min(partSize, size - offset);
+                budget.acquire(length);
+
+                uploaders.execute(new PartUpload(new FilePart(
+                        addPart(), offset, length, channel,
+                        uploaded.get(offset))));
+            }
+
+            return size;
+        }
+    }
+
+    /**
+     * A part of the archive, ready to be uploaded.
+     */
+    private abstract static class Part {
+
+        private final int index;
+        private final long offset;
+        private final long length;
+        private final long reserved;
+        private final String uploaded;
+
+        /**
+         * @param index the index of the part
+         * @param offset the offset of the part in the archive
+         * @param length the length of the part
+         * @param reserved the bytes in flight to give back once the part
+         *            has been uploaded
+         * @param uploaded the tree hash Glacier has for this part from an
+         *            earlier attempt, or null if it has none
+         */
+        protected Part(
+                int index,
+                long offset,
+                long length,
+                long reserved,
+                String uploaded) {
+
+            this.index = index;
+            this.offset = offset;
+            this.length = length;
+            this.reserved = reserved;
+            this.uploaded = uploaded;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * @return the tree hash of the part, computing it if need be
+         */
+        public abstract byte[] getHash();
+
+        /**
+         * @return a new stream over the contents of the part
+         */
+        public abstract InputStream open();
+
+        /**
+         * Lets go of the contents of the part once it has been uploaded,
+         * or has failed to upload.
+         */
+        public abstract void release();
+
+        public String getRange() {
+            return "bytes " + offset + "-" + (offset + length - 1) + "/*";
+        }
+    }
+
+    /**
+     * A part read into a heap buffer and hashed as it was read.
+     */
+    private static final class HeapPart extends Part {
+
+        private final byte[] hash;
+        private byte[] buffer;
+
+        public HeapPart(
+                int index,
+                long offset,
+                long reserved,
+                byte[] buffer,
+                int length,
+                byte[] hash) {
+
+            super(index, offset, length, reserved, null);
+            this.buffer = buffer;
+            this.hash = hash;
+        }
+
+        @Override
+        public byte[] getHash() {
+            return hash;
+        }
+
+        @Override
+        public InputStream open() {
+            return new ByteArrayInputStream(buffer, 0, (int) getLength());
+        }
+
+        @Override
+        public void release() {
+            buffer = null;
+        }
+    }
+
+    /**
+     * A part of a file, mapped into memory when it is first needed.
+     */
+    private static final class FilePart extends Part {
+
+        private final FileChannel channel;
+        private ByteBuffer[] segments;
+
+        public FilePart(
+                int index,
+                long offset,
+                long length,
+                FileChannel channel,
+                String uploaded) {
+
+            super(index, offset, length, length, uploaded);
+            this.channel = channel;
+        }
+
+        @Override
+        public byte[] getHash() {
+            TreeHash hash = new TreeHash();
+            for (ByteBuffer segment : map()) {
+                hash.update(segment.duplicate());
+            }
+            return hash.digest();
+        }
+
+        @Override
+        public InputStream open() {
+            return new ByteBufferInputStream(map());
+        }
+
+        @Override
+        public void release() {
+            // The mapping goes away once it is garbage collected.
+            segments = null;
+        }
+
+        private ByteBuffer[] map() {
+            if (segments != null) {
+                return segments;
+            }
+
+            long offset = getOffset();
+            long length = getLength();
+
+            List<ByteBuffer> mapped = new ArrayList<>();
+            try {
+
+                for (long position = 0; position < length;
+                        position += MAX_SEGMENT_SIZE) {
+
+                    mapped.add(channel.map(
+                            FileChannel.MapMode.READ_ONLY,
+                            offset + position,
+                            Math.min(MAX_SEGMENT_SIZE, length - position)));
+                }
+
+            } catch (IOException exception) {
+                throw new AmazonClientException(
+                        "Unable to map " + getRange() + " of archive",
+                        exception);
+            }
+
+            segments = mapped.toArray(new ByteBuffer[mapped.size()]);
+            return segments;
+        }
+    }
+
+    /**
+     * Uploads a single part, retrying with exponential backoff.
+     */
+    private final class PartUpload implements Runnable {
+
+        private final Part part;
+
+        public PartUpload(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public void run() {
+            try {
+
+                byte[] hash = part.getHash();
+                String checksum = TreeHash.toHex(hash);
+
+                if (checksum.equals(part.uploaded)) {
+                    // Already uploaded by an earlier attempt.
+                    uploaded(hash, checksum);
+                    return;
+                }
+
+                long backoff = INITIAL_BACKOFF;
+                for (int attempt = 0; failure.get() == null; ++attempt) {
+                    try {
+
+                        uploadOnce(checksum);
+                        uploaded(hash, checksum);
+                        return;
+
+                    } catch (AmazonClientException exception) {
+                        if (attempt >= options.getMaxRetries()) {
+                            throw exception;
+                        }
+
+                        LOG.warn("Failed to upload " + part.getRange()
+                                + " to vault " + vault.getName()
+                                + ", retrying in " + backoff + "ms",
+                                exception);
+
+                        Thread.sleep(backoff);
+                        backoff = Math.min(MAX_BACKOFF, backoff * 2);
+                    }
+                }
+
+            } catch (InterruptedException exception) {
+                failure.compareAndSet(null, exception);
+                Thread.currentThread().interrupt();
+
+            } catch (RuntimeException | Error exception) {
+                failure.compareAndSet(null, exception);
+
+            } finally {
+                part.release();
+                budget.release(part.reserved);
+            }
+        }
+
+        private void uploaded(byte[] hash, String checksum) {
+            setPartHash(part.index, hash);
+            if (journal != null) {
+                journal.recordPart(part.offset, part.length, checksum);
+            }
+        }
+
+        private void uploadOnce(String checksum) {
+            InputStream body = part.open();
+            try {
+
+                UploadMultipartPartResult result = upload.uploadPart(
+                        checksum, body, part.getRange());
+
+                if (result != null && result.getChecksum() != null
+                        && !checksum.equals(result.getChecksum())) {
+
+                    throw new AmazonClientException(
+                            "Checksum mismatch uploading " + part.getRange()
+                            + ": expected " + checksum + ", got "
+                            + result.getChecksum());
+                }
+
+            } finally {
+                try {
+                    body.close();
+                } catch (IOException exception) {
+                    LOG.debug("Failed to close part body", exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Limits the bytes of parts in flight at once.
+     */
+    private static final class ByteBudget {
+
+        private long available;
+
+        public ByteBudget(long available) {
+            this.available = available;
+        }
+
+        public synchronized void acquire(long bytes)
+                throws InterruptedException {
+
+            while (available < bytes) {
+                wait();
+            }
+            available -= bytes;
+        }
+
+        public synchronized void release(long bytes) {
+            available += bytes;
+            notifyAll();
+        }
+    }
+}
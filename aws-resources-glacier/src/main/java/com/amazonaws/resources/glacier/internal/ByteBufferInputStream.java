@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the remaining contents of a sequence of buffers as one stream,
+ * without copying them anywhere first. Supports {@code mark} and
+ * {@code reset}, so a request can be retried from the same stream.
+ */
+final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer[] buffers;
+    private final int[] starts;
+    private int current;
+    private int markBuffer;
+    private int markPosition;
+
+    /**
+     * @param buffers the buffers to read, which are not modified; the
+     *            stream reads from duplicates of them
+     */
+    public ByteBufferInputStream(ByteBuffer... buffers) {
+        this.buffers = new ByteBuffer[buffers.length];
+        this.starts = new int[buffers.length];
+        for (int i = 0; i < buffers.length; ++i) {
+            this.buffers[i] = buffers[i].duplicate();
+            this.starts[i] = buffers[i].position();
+        }
+        mark(0);
+    }
+
+    @Override
+    public int read() {
+        ByteBuffer buffer = nextBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        ByteBuffer buffer = nextBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+
+        int n = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long count) {
+        long skipped = 0;
+        ByteBuffer buffer;
+        while (skipped < count && (buffer = nextBuffer()) != null) {
+            int n = (int) Math.min(count - skipped, buffer.remaining());
+            buffer.position(buffer.position() + n);
+            skipped += n;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long available = 0;
+        for (int i = current; i < buffers.length; ++i) {
+            available += buffers[i].remaining();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, available);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        markBuffer = current;
+        markPosition = (current < buffers.length
+                ? buffers[current].position()
+                : 0);
+    }
+
+    @Override
+    public void reset() {
+        for (int i = markBuffer; i < buffers.length; ++i) {
+            buffers[i].position(i == markBuffer ? markPosition : starts[i]);
+        }
+        current = markBuffer;
+    }
+
+    /**
+     * @return the buffer to read from next, or null at the end of the
+     *         stream
+     */
+    private ByteBuffer nextBuffer() {
+        while (current < buffers.length) {
+            if (buffers[current].hasRemaining()) {
+                return buffers[current];
+            }
+            current += 1;
+        }
+        return null;
+    }
+}
@@ -27,7 +27,7 @@ import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.internal.ServiceImpl;
 import com.amazonaws.resources.internal.V1ServiceInterface;
 import com.amazonaws.resources.internal.model.ServiceModel;
-import com.amazonaws.resources.internal.model.V1ModelLoader;
+import com.amazonaws.resources.internal.model.ServiceModelRegistry;
 import com.amazonaws.services.glacier.AmazonGlacier;
 import com.amazonaws.services.glacier.AmazonGlacierClient;
 import com.amazonaws.services.glacier.model.CreateVaultRequest;
@@ -60,7 +60,7 @@ public class GlacierImpl implements Glacier {
      *         use to make API calls.
      */
     public GlacierImpl(AmazonGlacier client) {
-        ServiceModel model = V1ModelLoader.load(Glacier.class,
+        ServiceModel model = ServiceModelRegistry.getModel(Glacier.class,
                 Glacier.class.getAnnotation(V1ServiceInterface.class).model());
 
         this.service = new ServiceImpl<AmazonGlacier>(model, client);
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.resources.glacier.InventoryItem;
+import com.amazonaws.resources.glacier.InventoryReader;
+import com.amazonaws.resources.glacier.Job;
+import com.amazonaws.resources.glacier.Vault;
+import com.amazonaws.services.glacier.model.GetJobOutputRequest;
+import com.amazonaws.services.glacier.model.InventoryRetrievalJobDescription;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Parses the JSON output of an inventory retrieval job a token at a time,
+ * reading only as far as the next archive each time one is asked for.
+ * <p>
+ * The fields of the inventory may come in any order; those before the
+ * {@code ArchiveList} are read when the reader is opened, and any after it
+ * once the last archive has been read.
+ */
+final class InventoryParser implements InventoryReader {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final String jobId;
+    private final Vault vault;
+    private final InputStream body;
+    private final JsonParser parser;
+
+    private String vaultArn;
+    private String inventoryDate;
+    private InventoryItem next;
+    private boolean inArchiveList;
+    private boolean closed;
+
+    /**
+     * Starts reading the output of a completed inventory retrieval job.
+     *
+     * @param job the inventory retrieval job
+     * @return a reader for the archives in the inventory
+     */
+    public static InventoryReader open(Job job) {
+        if (!"InventoryRetrieval".equals(job.getAction())) {
+            throw new IllegalStateException(
+                    "Job " + job.getId() + " is not an inventory retrieval");
+        }
+        if (!Boolean.TRUE.equals(job.getCompleted())) {
+            throw new IllegalStateException(
+                    "Job " + job.getId() + " has not completed");
+        }
+
+        InventoryRetrievalJobDescription parameters =
+                job.getInventoryRetrievalParameters();
+        if (parameters != null && parameters.getFormat() != null
+                && !"JSON".equals(parameters.getFormat())) {
+
+            throw new IllegalStateException(
+                    "Output of job " + job.getId() + " is in "
+                    + parameters.getFormat() + " format, not JSON");
+        }
+
+        InputStream body =
+                job.getOutput(new GetJobOutputRequest()).getBody();
+
+        try {
+
+            InventoryParser reader =
+                    new InventoryParser(job.getId(), job.getVault(), body);
+            reader.readFields();
+            return reader;
+
+        } catch (IOException | RuntimeException exception) {
+            closeQuietly(body);
+            throw failure(job.getId(), exception);
+        }
+    }
+
+    private InventoryParser(String jobId, Vault vault, InputStream body)
+            throws IOException {
+
+        this.jobId = jobId;
+        this.vault = vault;
+        this.body = body;
+        this.parser = JSON.createParser(body);
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Inventory is not a JSON object");
+        }
+    }
+
+    @Override
+    public String getVaultARN() {
+        return vaultArn;
+    }
+
+    @Override
+    public String getInventoryDate() {
+        return inventoryDate;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+
+        try {
+
+            next = readArchive();
+            if (next == null) {
+                close();
+            }
+            return (next != null);
+
+        } catch (IOException | RuntimeException exception) {
+            close();
+            throw failure(jobId, exception);
+        }
+    }
+
+    @Override
+    public InventoryItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        InventoryItem result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeQuietly(parser);
+        closeQuietly(body);
+    }
+
+    /**
+     * Reads top-level fields up to the start of the archive list, or to
+     * the end of the inventory.
+     */
+    private void readFields() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            if ("VaultARN".equals(name)) {
+                vaultArn = parser.getValueAsString();
+
+            } else if ("InventoryDate".equals(name)) {
+                inventoryDate = parser.getValueAsString();
+
+            } else if ("ArchiveList".equals(name)
+                    && parser.getCurrentToken() == JsonToken.START_ARRAY) {
+
+                inArchiveList = true;
+                return;
+
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            throw new IOException("Unexpected " + token + " in inventory");
+        }
+    }
+
+    /**
+     * @return the next archive in the list, or null at the end of the
+     *         inventory
+     */
+    private InventoryItem readArchive() throws IOException {
+        while (inArchiveList) {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                return readItem();
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new IOException(
+                        "Unexpected " + token + " in ArchiveList");
+            }
+
+            inArchiveList = false;
+            readFields();
+        }
+        return null;
+    }
+
+    private InventoryItem readItem() throws IOException {
+        String id = null;
+        String description = null;
+        String creationDate = null;
+        long size = 0;
+        String treeHash = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            if ("ArchiveId".equals(name)) {
+                id = parser.getValueAsString();
+            } else if ("ArchiveDescription".equals(name)) {
+                description = parser.getValueAsString();
+            } else if ("CreationDate".equals(name)) {
+                creationDate = parser.getValueAsString();
+            } else if ("Size".equals(name)) {
+                size = parser.getValueAsLong();
+            } else if ("SHA256TreeHash".equals(name)) {
+                treeHash = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (id == null) {
+            throw new IOException("Archive in inventory has no ArchiveId");
+        }
+
+        return new InventoryItem(
+                vault.getArchive(id),
+                description,
+                creationDate,
+                size,
+                treeHash);
+    }
+
+    private static AmazonClientException failure(
+            String jobId,
+            Exception cause) {
+
+        if (cause instanceof AmazonClientException) {
+            return (AmazonClientException) cause;
+        }
+        return new AmazonClientException(
+                "Unable to read inventory from job " + jobId, cause);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException exception) {
+            // Nothing more to read from it anyway.
+        }
+    }
+}
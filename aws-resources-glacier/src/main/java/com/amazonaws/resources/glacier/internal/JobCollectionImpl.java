@@ -15,13 +15,18 @@
 package com.amazonaws.resources.glacier.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.glacier.Job;
 import com.amazonaws.resources.glacier.JobCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,18 @@ class JobCollectionImpl implements JobCollection {
         return new StandardResourcePage<Job>(impl.firstPage(extractor),
                 JobImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Job>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Job>(
+                impl.firstPageAsync(null, executor),
+                JobImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Job> withPrefetch(int depth, Executor executor) {
+        return new StandardResourceCollection<Job>(
+                impl.withPrefetch(depth, executor),
+                JobImpl.CODEC);
+    }
 }
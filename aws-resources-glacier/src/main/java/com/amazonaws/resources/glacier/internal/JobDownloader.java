@@ -0,0 +1,333 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.resources.glacier.DownloadOptions;
+import com.amazonaws.resources.glacier.Job;
+import com.amazonaws.resources.internal.NamedThreadFactory;
+import com.amazonaws.services.glacier.model.GetJobOutputResult;
+
+/**
+ * Downloads the output of a job as several ranges at once.
+ * <p>
+ * Each range is fetched with its own {@code GetJobOutput} request and
+ * written to its place in the file with positional writes as it streams
+ * in, hashing it along the way, so memory use doesn't depend on the size
+ * of the range. Because ranges line up with the tree hash, the hash of the
+ * whole output is built from the range hashes and checked at the end
+ * without reading the file back.
+ */
+final class JobDownloader {
+
+    private static final Log LOG = LogFactory.getLog(JobDownloader.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final long INITIAL_BACKOFF = 100;
+    private static final long MAX_BACKOFF = TimeUnit.SECONDS.toMillis(20);
+
+    private final Job job;
+    private final DownloadOptions options;
+    private final FileChannel channel;
+    private final byte[][] rangeHashes;
+    private final AtomicReference<Throwable> failure =
+            new AtomicReference<>();
+
+    /**
+     * Downloads the output of a completed job to a file, replacing any
+     * existing contents.
+     *
+     * @param job the job whose output to download
+     * @param file the file to write to
+     * @param options the download options, or null for the defaults
+     */
+    public static void download(
+            Job job,
+            Path file,
+            DownloadOptions options) {
+
+        if (file == null) {
+            throw new NullPointerException("file");
+        }
+        if (options == null) {
+            options = new DownloadOptions();
+        }
+        if (!Boolean.TRUE.equals(job.getCompleted())) {
+            throw new IllegalStateException(
+                    "Job " + job.getId() + " has not completed");
+        }
+
+        Long size = getOutputSize(job);
+        if (size == null) {
+            throw new IllegalStateException(
+                    "Size of output of job " + job.getId() + " is unknown");
+        }
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            new JobDownloader(job, options, channel, size).run(size);
+
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to write " + file, exception);
+        }
+    }
+
+    /**
+     * @return the size of the job's output, or null if it isn't known
+     */
+    private static Long getOutputSize(Job job) {
+        if ("InventoryRetrieval".equals(job.getAction())) {
+            return job.getInventorySizeInBytes();
+        }
+
+        // An archive retrieval may be of just a range of the archive.
+        String range = job.getRetrievalByteRange();
+        if (range != null) {
+            String[] bounds = range.split("-");
+            return Long.parseLong(bounds[1]) - Long.parseLong(bounds[0]) + 1;
+        }
+        return job.getArchiveSizeInBytes();
+    }
+
+    private JobDownloader(
+            Job job,
+            DownloadOptions options,
+            FileChannel channel,
+            long size) {
+
+        this.job = job;
+        this.options = options;
+        this.channel = channel;
+
+        long ranges = (size + options.getRangeSize() - 1)
+                / options.getRangeSize();
+        this.rangeHashes = new byte[(int) Math.max(1, ranges)][];
+    }
+
+    private void run(long size) {
+        ExecutorService downloaders = Executors.newFixedThreadPool(
+                options.getThreads(),
+                new NamedThreadFactory(
+                        "glacier-download", job.getVaultName(), "downloader"));
+
+        try {
+
+            long rangeSize = options.getRangeSize();
+            int index = 0;
+            for (long offset = 0; offset < size; offset += rangeSize) {
+                long length = Math.min(rangeSize, size - offset);
+                downloaders.execute(new RangeDownload(index++, offset, length));
+            }
+
+            downloaders.shutdown();
+            while (!downloaders.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (failure.get() != null) {
+                    downloaders.shutdownNow();
+                }
+            }
+
+            rethrowFailure();
+            if (size == 0) {
+                return;
+            }
+            verify(TreeHash.toHex(TreeHash.combine(toList(rangeHashes))));
+
+        } catch (InterruptedException exception) {
+            downloaders.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(
+                    "Interrupted while downloading output of job "
+                    + job.getId(), exception);
+
+        } catch (RuntimeException | Error exception) {
+            downloaders.shutdownNow();
+            throw exception;
+        }
+    }
+
+    /**
+     * Checks the hash of the whole output against the one Glacier gives
+     * for the job, if it gives one.
+     */
+    private void verify(String checksum) {
+        String expected = job.getSHA256TreeHash();
+        if (expected != null && !expected.equals(checksum)) {
+            throw new AmazonClientException(
+                    "Checksum mismatch downloading output of job "
+                    + job.getId() + ": expected " + expected + ", got "
+                    + checksum);
+        }
+    }
+
+    private void rethrowFailure() {
+        Throwable cause = failure.get();
+        if (cause == null) {
+            return;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new AmazonClientException(
+                "Failed to download output of job " + job.getId(), cause);
+    }
+
+    private static List<byte[]> toList(byte[][] hashes) {
+        List<byte[]> list = new ArrayList<>(hashes.length);
+        for (byte[] hash : hashes) {
+            list.add(hash);
+        }
+        return list;
+    }
+
+    /**
+     * Downloads a single range, retrying with exponential backoff.
+     */
+    private final class RangeDownload implements Runnable {
+
+        private final int index;
+        private final long offset;
+        private final long length;
+
+        public RangeDownload(int index, long offset, long length) {
+            this.index = index;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public void run() {
+            try {
+
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long backoff = INITIAL_BACKOFF;
+
+                for (int attempt = 0; failure.get() == null; ++attempt) {
+                    try {
+
+                        rangeHashes[index] = downloadOnce(buffer);
+                        return;
+
+                    } catch (AmazonClientException exception) {
+                        if (attempt >= options.getMaxRetries()) {
+                            throw exception;
+                        }
+
+                        LOG.warn("Failed to download " + getRange()
+                                + " of job " + job.getId()
+                                + ", retrying in " + backoff + "ms",
+                                exception);
+
+                        Thread.sleep(backoff);
+                        backoff = Math.min(MAX_BACKOFF, backoff * 2);
+                    }
+                }
+
+            } catch (InterruptedException exception) {
+                failure.compareAndSet(null, exception);
+                Thread.currentThread().interrupt();
+
+            } catch (RuntimeException | Error exception) {
+                failure.compareAndSet(null, exception);
+            }
+        }
+
+        private String getRange() {
+            return "bytes=" + offset + "-" + (offset + length - 1);
+        }
+
+        /**
+         * Streams the range into the file, hashing it as it goes.
+         *
+         * @return the tree hash of the range
+         */
+        private byte[] downloadOnce(byte[] buffer) {
+            GetJobOutputResult result = job.getOutput(getRange());
+            TreeHash hash = new TreeHash();
+
+            try (InputStream body = result.getBody()) {
+
+                long position = offset;
+                int n;
+                while ((n = body.read(buffer)) != -1) {
+                    if (position + n > offset + length) {
+                        throw new AmazonClientException(
+                                "Received more than " + getRange()
+                                + " of job " + job.getId());
+                    }
+
+                    hash.update(buffer, 0, n);
+                    write(ByteBuffer.wrap(buffer, 0, n), position);
+                    position += n;
+                }
+
+            } catch (IOException exception) {
+                throw new AmazonClientException(
+                        "Unable to download " + getRange() + " of job "
+                        + job.getId(), exception);
+            }
+
+            if (hash.getLength() != length) {
+                throw new AmazonClientException(
+                        "Received " + hash.getLength() + " bytes of "
+                        + getRange() + " of job " + job.getId());
+            }
+
+            byte[] digest = hash.digest();
+            String checksum = TreeHash.toHex(digest);
+            if (result.getChecksum() != null
+                    && !result.getChecksum().equals(checksum)) {
+
+                throw new AmazonClientException(
+                        "Checksum mismatch downloading " + getRange()
+                        + " of job " + job.getId() + ": expected "
+                        + result.getChecksum() + ", got " + checksum);
+            }
+
+            return digest;
+        }
+
+        private void write(ByteBuffer bytes, long position)
+                throws IOException {
+
+            while (bytes.hasRemaining()) {
+                position += channel.write(bytes, position);
+            }
+        }
+    }
+}
@@ -14,11 +14,18 @@
  */
 package com.amazonaws.resources.glacier.internal;
 
+import java.nio.file.Path;
+import java.util.concurrent.Future;
+
 import com.amazonaws.resources.ResultCapture;
+import com.amazonaws.resources.WaiterParameters;
+import com.amazonaws.resources.glacier.DownloadOptions;
+import com.amazonaws.resources.glacier.InventoryReader;
 import com.amazonaws.resources.glacier.Job;
 import com.amazonaws.resources.glacier.Vault;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.glacier.model.DescribeJobRequest;
 import com.amazonaws.services.glacier.model.DescribeJobResult;
@@ -26,7 +33,7 @@ import com.amazonaws.services.glacier.model.GetJobOutputRequest;
 import com.amazonaws.services.glacier.model.GetJobOutputResult;
 import com.amazonaws.services.glacier.model.InventoryRetrievalJobDescription;
 
-class JobImpl implements Job {
+class JobImpl implements Job, ResourceFacade {
     public static final ResourceCodec<Job> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -35,6 +42,11 @@ class JobImpl implements Job {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -57,6 +69,28 @@ class JobImpl implements Job {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeJobRequest request,
+            ResultCapture<DescribeJobResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
+    @Override
+    public void waitUntilCompleted() {
+        resource.waitUntil("Completed", null);
+    }
+
+    @Override
+    public Future<Void> waitUntilCompletedAsync(WaiterParameters parameters) {
+        return resource.waitUntilAsync("Completed", parameters);
+    }
+
     @Override
     public String getAccountId() {
         return (String) resource.getIdentifier("AccountId");
@@ -190,6 +224,16 @@ class JobImpl implements Job {
         return getOutput(request, extractor);
     }
 
+    @Override
+    public void downloadTo(Path file, DownloadOptions options) {
+        JobDownloader.download(this, file, options);
+    }
+
+    @Override
+    public InventoryReader readInventory() {
+        return InventoryParser.open(this);
+    }
+
     private static class Codec implements ResourceCodec<Job> {
         @Override
         public Job transform(ResourceImpl resource) {
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.glacier.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.glacier.MultipartUpload;
 import com.amazonaws.resources.glacier.MultipartUploadCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class MultipartUploadCollectionImpl implements MultipartUploadCollection {
                 StandardResourcePage<MultipartUpload>(impl.firstPage(extractor),
                 MultipartUploadImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<MultipartUpload>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<MultipartUpload>(
+                impl.firstPageAsync(null, executor),
+                MultipartUploadImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<MultipartUpload> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<MultipartUpload>(
+                impl.withPrefetch(depth, executor),
+                MultipartUploadImpl.CODEC);
+    }
 }
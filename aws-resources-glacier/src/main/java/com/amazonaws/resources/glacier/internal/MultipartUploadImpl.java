@@ -21,6 +21,7 @@ import com.amazonaws.resources.glacier.MultipartUpload;
 import com.amazonaws.resources.glacier.Vault;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.glacier.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.glacier.model.CompleteMultipartUploadRequest;
@@ -30,7 +31,7 @@ import com.amazonaws.services.glacier.model.ListPartsResult;
 import com.amazonaws.services.glacier.model.UploadMultipartPartRequest;
 import com.amazonaws.services.glacier.model.UploadMultipartPartResult;
 
-class MultipartUploadImpl implements MultipartUpload {
+class MultipartUploadImpl implements MultipartUpload, ResourceFacade {
     public static final ResourceCodec<MultipartUpload> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -39,6 +40,11 @@ class MultipartUploadImpl implements MultipartUpload {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -20,6 +20,7 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.glacier.Notification;
 import com.amazonaws.resources.glacier.Vault;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.glacier.model.DeleteVaultNotificationsRequest;
 import com.amazonaws.services.glacier.model.GetVaultNotificationsRequest;
@@ -27,7 +28,7 @@ import com.amazonaws.services.glacier.model.GetVaultNotificationsResult;
 import com.amazonaws.services.glacier.model.SetVaultNotificationsRequest;
 import com.amazonaws.services.glacier.model.VaultNotificationConfig;
 
-class NotificationImpl implements Notification {
+class NotificationImpl implements Notification, ResourceFacade {
     public static final ResourceCodec<Notification> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -36,6 +37,11 @@ class NotificationImpl implements Notification {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -58,6 +64,18 @@ class NotificationImpl implements Notification {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetVaultNotificationsRequest request,
+            ResultCapture<GetVaultNotificationsResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getAccountId() {
         return (String) resource.getIdentifier("AccountId");
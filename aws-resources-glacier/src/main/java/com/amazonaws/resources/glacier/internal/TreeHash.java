@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes a Glacier SHA-256 tree hash in a single pass over the data.
+ * <p>
+ * Data is hashed in one megabyte chunks as it arrives; only the 32-byte
+ * digest of each chunk is kept, and the tree is built from those once all
+ * of the data has been seen. Because part sizes are a power of two
+ * megabytes, the tree hash of a whole archive can also be built from the
+ * tree hashes of its parts, using {@link #combine(List)}.
+ */
+final class TreeHash {
+
+    /**
+     * The size of the leaves of the tree.
+     */
+    public static final int CHUNK_SIZE = 1024 * 1024;
+
+    private final MessageDigest digest = newDigest();
+    private final List<byte[]> chunks = new ArrayList<>();
+    private int chunkBytes;
+    private long length;
+
+    /**
+     * Adds data to the hash.
+     */
+    public void update(byte[] bytes, int offset, int count) {
+        while (count > 0) {
+            int n = Math.min(count, CHUNK_SIZE - chunkBytes);
+            digest.update(bytes, offset, n);
+            advance(n);
+            offset += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Adds the remaining contents of a buffer to the hash, leaving the
+     * buffer's position at its limit.
+     */
+    public void update(ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            int n = Math.min(buffer.remaining(), CHUNK_SIZE - chunkBytes);
+
+            ByteBuffer slice = buffer.slice();
+            slice.limit(n);
+            digest.update(slice);
+
+            buffer.position(buffer.position() + n);
+            advance(n);
+        }
+    }
+
+    /**
+     * @return the number of bytes hashed so far
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Finishes the hash. The object should not be used afterwards.
+     *
+     * @return the tree hash of the data
+     */
+    public byte[] digest() {
+        if (chunkBytes > 0 || chunks.isEmpty()) {
+            chunks.add(digest.digest());
+            chunkBytes = 0;
+        }
+        return combine(chunks);
+    }
+
+    /**
+     * Builds a tree hash from the hashes of consecutive chunks of data,
+     * each of which is either a single leaf or a whole subtree.
+     *
+     * @param hashes the hashes to combine, in order
+     * @return the tree hash
+     */
+    public static byte[] combine(List<byte[]> hashes) {
+        if (hashes.isEmpty()) {
+            throw new IllegalArgumentException("No hashes to combine");
+        }
+
+        MessageDigest digest = newDigest();
+        List<byte[]> level = hashes;
+
+        while (level.size() > 1) {
+            List<byte[]> next = new ArrayList<>((level.size() + 1) / 2);
+
+            for (int i = 0; i < level.size(); i += 2) {
+                if (i + 1 == level.size()) {
+                    next.add(level.get(i));
+                } else {
+                    digest.update(level.get(i));
+                    digest.update(level.get(i + 1));
+                    next.add(digest.digest());
+                }
+            }
+
+            level = next;
+        }
+
+        return level.get(0);
+    }
+
+    /**
+     * @return the hash in the lower case hexadecimal form Glacier uses
+     */
+    public static String toHex(byte[] hash) {
+        StringBuilder builder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return the bytes of a hash in hexadecimal form
+     */
+    public static byte[] fromHex(String hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Invalid tree hash: " + hex);
+        }
+
+        byte[] hash = new byte[hex.length() / 2];
+        for (int i = 0; i < hash.length; ++i) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high == -1 || low == -1) {
+                throw new IllegalArgumentException(
+                        "Invalid tree hash: " + hex);
+            }
+            hash[i] = (byte) ((high << 4) | low);
+        }
+        return hash;
+    }
+
+    private void advance(int count) {
+        chunkBytes += count;
+        length += count;
+        if (chunkBytes == CHUNK_SIZE) {
+            chunks.add(digest.digest());
+            chunkBytes = 0;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
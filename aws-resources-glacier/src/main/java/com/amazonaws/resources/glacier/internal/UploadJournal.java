@@ -0,0 +1,223 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * A local record of a multipart upload's progress, so that an upload can
+ * be resumed without hashing again the parts that were already uploaded.
+ * <p>
+ * The journal is a text file. Its first line names the upload and
+ * describes the file being uploaded; every later line records a part that
+ * Glacier accepted, with its tree hash:
+ * <pre>
+ * upload &lt;id&gt; &lt;part size&gt; &lt;file size&gt; &lt;last modified&gt;
+ * part &lt;offset&gt; &lt;length&gt; &lt;tree hash&gt;
+ * </pre>
+ * Lines are only ever appended, and a line cut short by a crash is ignored
+ * when the journal is read back.
+ */
+final class UploadJournal {
+
+    private final Path path;
+    private final Map<Long, String> parts = new HashMap<>();
+
+    private String uploadId;
+    private long partSize;
+    private long fileSize;
+    private long lastModified;
+    private Writer writer;
+
+    /**
+     * Reads the journal at the given path, if there is one.
+     *
+     * @param path the path of the journal
+     * @return the journal, which is empty if the file does not exist
+     */
+    public static UploadJournal open(Path path) {
+        UploadJournal journal = new UploadJournal(path);
+        try (BufferedReader reader =
+                Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                journal.parse(line);
+            }
+
+        } catch (NoSuchFileException exception) {
+            // Nothing to resume.
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to read upload journal " + path, exception);
+        }
+        return journal;
+    }
+
+    private UploadJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * @return the id of the journaled upload, or null if there is none
+     */
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    /**
+     * @return true if the journaled upload is of the given file, as it is
+     *         now, in parts of the given size
+     */
+    public boolean matches(long partSize, long fileSize, long lastModified) {
+        return (uploadId != null
+                && this.partSize == partSize
+                && this.fileSize == fileSize
+                && this.lastModified == lastModified);
+    }
+
+    /**
+     * @return the tree hashes of the parts recorded as uploaded, by offset
+     */
+    public Map<Long, String> getParts() {
+        return parts;
+    }
+
+    /**
+     * Starts a new journal for an upload, replacing any previous contents.
+     */
+    public synchronized void start(
+            String uploadId,
+            long partSize,
+            long fileSize,
+            long lastModified) {
+
+        this.uploadId = uploadId;
+        this.partSize = partSize;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        parts.clear();
+
+        close();
+        try {
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to write upload journal " + path, exception);
+        }
+        append("upload " + uploadId + " " + partSize + " " + fileSize + " "
+                + lastModified);
+    }
+
+    /**
+     * Carries on appending to a journal read by {@link #open(Path)}.
+     */
+    public synchronized void resume() {
+        if (writer != null) {
+            return;
+        }
+        try {
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND);
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to write upload journal " + path, exception);
+        }
+        // Ends any line cut short by a crash, so it's not run on into.
+        append("");
+    }
+
+    /**
+     * Records a part which Glacier has accepted.
+     */
+    public synchronized void recordPart(long offset, long length, String hash) {
+        parts.put(offset, hash);
+        append("part " + offset + " " + length + " " + hash);
+    }
+
+    /**
+     * Closes the journal, leaving it in place to resume from later.
+     */
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to write upload journal " + path, exception);
+        } finally {
+            writer = null;
+        }
+    }
+
+    /**
+     * Closes and deletes the journal once the upload is complete.
+     */
+    public synchronized void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to delete upload journal " + path, exception);
+        }
+    }
+
+    private void append(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException exception) {
+            throw new AmazonClientException(
+                    "Unable to write upload journal " + path, exception);
+        }
+    }
+
+    private void parse(String line) {
+        String[] fields = line.split(" ");
+        try {
+
+            if (fields.length == 5 && fields[0].equals("upload")) {
+                uploadId = fields[1];
+                partSize = Long.parseLong(fields[2]);
+                fileSize = Long.parseLong(fields[3]);
+                lastModified = Long.parseLong(fields[4]);
+                parts.clear();
+
+            } else if (fields.length == 4 && fields[0].equals("part")
+                    && fields[3].length() == 64) {
+
+                parts.put(Long.parseLong(fields[1]), fields[3]);
+            }
+
+        } catch (NumberFormatException exception) {
+            // A line cut short; skip it.
+        }
+    }
+}
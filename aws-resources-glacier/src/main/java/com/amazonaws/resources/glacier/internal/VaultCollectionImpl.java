@@ -15,13 +15,18 @@
 package com.amazonaws.resources.glacier.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.glacier.Vault;
 import com.amazonaws.resources.glacier.VaultCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,20 @@ class VaultCollectionImpl implements VaultCollection {
         return new StandardResourcePage<Vault>(impl.firstPage(extractor),
                 VaultImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Vault>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Vault>(
+                impl.firstPageAsync(null, executor),
+                VaultImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Vault> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Vault>(
+                impl.withPrefetch(depth, executor),
+                VaultImpl.CODEC);
+    }
 }
@@ -15,6 +15,9 @@
 package com.amazonaws.resources.glacier.internal;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.glacier.Account;
@@ -24,11 +27,14 @@ import com.amazonaws.resources.glacier.JobCollection;
 import com.amazonaws.resources.glacier.MultipartUpload;
 import com.amazonaws.resources.glacier.MultipartUploadCollection;
 import com.amazonaws.resources.glacier.Notification;
+import com.amazonaws.resources.glacier.UploadOptions;
 import com.amazonaws.resources.glacier.Vault;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
+import com.amazonaws.resources.internal.TransformingFuture;
 import com.amazonaws.services.glacier.model.CreateVaultRequest;
 import com.amazonaws.services.glacier.model.CreateVaultResult;
 import com.amazonaws.services.glacier.model.DeleteVaultRequest;
@@ -43,7 +49,7 @@ import com.amazonaws.services.glacier.model.ListMultipartUploadsRequest;
 import com.amazonaws.services.glacier.model.UploadArchiveRequest;
 import com.amazonaws.services.glacier.model.UploadArchiveResult;
 
-class VaultImpl implements Vault {
+class VaultImpl implements Vault, ResourceFacade {
     public static final ResourceCodec<Vault> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -52,6 +58,11 @@ class VaultImpl implements Vault {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -74,6 +85,25 @@ class VaultImpl implements Vault {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(DescribeVaultRequest request,
+            ResultCapture<DescribeVaultResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
+    @Override
+    public Future<Boolean> loadAsync(DescribeVaultRequest request, Executor
+            executor) {
+
+        return resource.loadAsync(request, null, executor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
@@ -275,6 +305,22 @@ class VaultImpl implements Vault {
         return new ArchiveImpl(result.getResource());
     }
 
+    @Override
+    public Future<Archive> uploadArchiveAsync(UploadArchiveRequest request,
+            Executor executor) {
+
+        Future<ActionResult> future = resource.performActionAsync(
+                "UploadArchive", request, null, executor);
+
+        return new TransformingFuture<ActionResult, Archive>(future) {
+            @Override
+            protected Archive transform(ActionResult result) {
+                if (result == null) return null;
+                return new ArchiveImpl(result.getResource());
+            }
+        };
+    }
+
     @Override
     public Archive uploadArchive(String checksum, InputStream body, String
             archiveDescription) {
@@ -363,6 +409,23 @@ class VaultImpl implements Vault {
         return initiateMultipartUpload(request, extractor);
     }
 
+    @Override
+    public Archive upload(Path file, UploadOptions options) {
+        return ArchiveUploader.upload(this, file, options);
+    }
+
+    @Override
+    public Archive upload(InputStream input, UploadOptions options) {
+        return ArchiveUploader.upload(this, input, options);
+    }
+
+    @Override
+    public Archive resumeUpload(MultipartUpload upload, Path file,
+            UploadOptions options) {
+
+        return ArchiveUploader.resume(this, upload, file, options);
+    }
+
     @Override
     public void delete(DeleteVaultRequest request) {
         delete(request, null);
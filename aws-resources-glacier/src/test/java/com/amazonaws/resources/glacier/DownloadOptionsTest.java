@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DownloadOptionsTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    public void testDefaults() {
+        DownloadOptions options = new DownloadOptions();
+
+        Assert.assertEquals(64 * MB, options.getRangeSize());
+        Assert.assertEquals(4, options.getThreads());
+        Assert.assertEquals(3, options.getMaxRetries());
+    }
+
+    @Test
+    public void testAcceptsPowerOfTwoMegabytes() {
+        DownloadOptions options = new DownloadOptions();
+
+        for (long size = MB; size <= 4096 * MB; size *= 2) {
+            options.setRangeSize(size);
+            Assert.assertEquals(size, options.getRangeSize());
+        }
+    }
+
+    @Test
+    public void testRejectsOtherRangeSizes() {
+        long[] sizes = {
+                0, -MB, MB - 1, MB + 1, MB / 2, 3 * MB, 96 * MB,
+                8192 * MB, Long.MIN_VALUE, Long.MAX_VALUE };
+
+        for (long size : sizes) {
+            DownloadOptions options = new DownloadOptions();
+            try {
+                options.setRangeSize(size);
+                Assert.fail("accepted " + size);
+            } catch (IllegalArgumentException expected) {
+            }
+            Assert.assertEquals(64 * MB, options.getRangeSize());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNoThreads() {
+        new DownloadOptions().withThreads(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativeRetries() {
+        new DownloadOptions().withMaxRetries(-1);
+    }
+
+    @Test
+    public void testChaining() {
+        DownloadOptions options = new DownloadOptions()
+                .withRangeSize(MB)
+                .withThreads(1)
+                .withMaxRetries(0);
+
+        Assert.assertEquals(MB, options.getRangeSize());
+        Assert.assertEquals(1, options.getThreads());
+        Assert.assertEquals(0, options.getMaxRetries());
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.resources.glacier.Archive;
+import com.amazonaws.resources.glacier.UploadOptions;
+import com.amazonaws.resources.glacier.internal.InMemoryVault.InMemoryUpload;
+
+public class ArchiveUploaderTest {
+
+    private static final int MB = 1024 * 1024;
+
+    private InMemoryVault vault;
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        vault = new InMemoryVault();
+        directory = Files.createTempDirectory("archive-uploader");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        for (Path path : Files.newDirectoryStream(directory)) {
+            Files.delete(path);
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testUploadsFilePartsInParallel() throws IOException {
+        byte[] data = data(5 * MB + MB / 2);
+
+        // Slow enough that the uploaders overlap.
+        vault.setDelayMillis(50);
+        Archive archive = ArchiveUploader.upload(vault, write(data),
+                new UploadOptions().withPartSize(MB).withThreads(4));
+
+        InMemoryUpload upload = vault.getLastUpload();
+        assertArchive(archive, data);
+        Assert.assertEquals(
+                InMemoryVault.hash(data), upload.getCompletedChecksum());
+        Assert.assertTrue(upload.getMaxRunning() > 1);
+        Assert.assertTrue(upload.getMaxRunning() <= 4);
+
+        List<String> ranges = upload.getRanges();
+        Assert.assertEquals(6, ranges.size());
+        for (long offset = 0; offset < 5 * MB; offset += MB) {
+            Assert.assertTrue(ranges.contains(
+                    "bytes " + offset + "-" + (offset + MB - 1) + "/*"));
+        }
+        Assert.assertTrue(ranges.contains(
+                "bytes " + 5 * MB + "-" + (data.length - 1) + "/*"));
+    }
+
+    @Test
+    public void testUploadsStream() {
+        byte[] data = data(3 * MB + 17);
+
+        Archive archive = ArchiveUploader.upload(vault,
+                new ByteArrayInputStream(data),
+                new UploadOptions().withPartSize(MB).withThreads(3));
+
+        assertArchive(archive, data);
+        Assert.assertEquals(4, vault.getLastUpload().getRanges().size());
+        Assert.assertEquals(InMemoryVault.hash(data),
+                vault.getLastUpload().getCompletedChecksum());
+    }
+
+    @Test
+    public void testFailedPartIsRetriedOnItsOwn() throws IOException {
+        byte[] data = data(4 * MB);
+        vault.failPart(2 * MB, 2);
+
+        Archive archive = ArchiveUploader.upload(vault, write(data),
+                new UploadOptions().withPartSize(MB).withMaxRetries(2));
+
+        InMemoryUpload upload = vault.getLastUpload();
+        assertArchive(archive, data);
+        Assert.assertEquals(1, upload.getAttempts(0));
+        Assert.assertEquals(1, upload.getAttempts(MB));
+        Assert.assertEquals(3, upload.getAttempts(2 * MB));
+        Assert.assertEquals(1, upload.getAttempts(3 * MB));
+    }
+
+    @Test
+    public void testChecksumMismatchIsRetried() {
+        byte[] data = data(3 * MB);
+        vault.corruptPart(MB);
+
+        Archive archive = ArchiveUploader.upload(vault,
+                new ByteArrayInputStream(data),
+                new UploadOptions().withPartSize(MB));
+
+        InMemoryUpload upload = vault.getLastUpload();
+        assertArchive(archive, data);
+        Assert.assertEquals(1, upload.getAttempts(0));
+        Assert.assertEquals(2, upload.getAttempts(MB));
+        Assert.assertEquals(1, upload.getAttempts(2 * MB));
+    }
+
+    @Test
+    public void testAbortsAfterMaxRetries() throws IOException {
+        byte[] data = data(3 * MB);
+        vault.failPart(MB, Integer.MAX_VALUE);
+
+        try {
+            ArchiveUploader.upload(vault, write(data),
+                    new UploadOptions().withPartSize(MB).withMaxRetries(1));
+            Assert.fail("Expected the upload to fail");
+        } catch (AmazonClientException exception) {
+            Assert.assertTrue(exception.getMessage().contains("Injected"));
+        }
+
+        InMemoryUpload upload = vault.getLastUpload();
+        Assert.assertEquals(2, upload.getAttempts(MB));
+        Assert.assertTrue(upload.isAborted());
+        Assert.assertNull(upload.getCompletedChecksum());
+        Assert.assertTrue(vault.getUploadIds().isEmpty());
+    }
+
+    @Test
+    public void testMaxBytesInFlightBlocksReader() {
+        byte[] data = data(8 * MB);
+        vault.setDelayMillis(50);
+        AheadTracker input = new AheadTracker(data);
+
+        Archive archive = ArchiveUploader.upload(vault, input,
+                new UploadOptions()
+                        .withPartSize(MB)
+                        .withThreads(8)
+                        .withMaxBytesInFlight(2 * MB));
+
+        assertArchive(archive, data);
+        Assert.assertEquals(2, vault.getLastUpload().getMaxRunning());
+
+        // The reader waited for uploads rather than reading further ahead.
+        Assert.assertTrue("read " + input.maxAhead + " bytes ahead",
+                input.maxAhead <= 2 * MB);
+    }
+
+    @Test
+    public void testStreamOfWholeParts() {
+        byte[] data = data(3 * MB);
+
+        Archive archive = ArchiveUploader.upload(vault,
+                new ByteArrayInputStream(data),
+                new UploadOptions().withPartSize(MB));
+
+        assertArchive(archive, data);
+
+        // No empty part at the end.
+        Assert.assertEquals(3, vault.getLastUpload().getRanges().size());
+    }
+
+    @Test
+    public void testEmptyStream() {
+        try {
+            ArchiveUploader.upload(vault,
+                    new ByteArrayInputStream(new byte[0]), null);
+            Assert.fail("Expected an empty stream to be refused");
+        } catch (IllegalArgumentException expected) {
+        }
+
+        InMemoryUpload upload = vault.getLastUpload();
+        Assert.assertTrue(upload.getRanges().isEmpty());
+        Assert.assertTrue(upload.isAborted());
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        try {
+            ArchiveUploader.upload(vault, write(new byte[0]), null);
+            Assert.fail("Expected an empty file to be refused");
+        } catch (IllegalArgumentException expected) {
+        }
+        Assert.assertNull(vault.getLastUpload());
+    }
+
+    @Test
+    public void testResumesFromJournal() throws IOException {
+        byte[] data = data(5 * MB);
+        Path file = write(data);
+        Path journal = directory.resolve("journal");
+
+        InMemoryUpload upload = initiate();
+        upload.putPart(0, slice(data, 0, MB), hash(data, 0, MB));
+        // Never journaled, and doesn't match the file.
+        upload.putPart(MB, slice(data, 2 * MB, MB), hash(data, 2 * MB, MB));
+        // Cut short, so it doesn't line up with a part.
+        upload.putPart(3 * MB, slice(data, 3 * MB, MB / 2),
+                hash(data, 3 * MB, MB / 2));
+        // Journaled with a different hash, but matches the file.
+        upload.putPart(4 * MB, slice(data, 4 * MB, MB),
+                hash(data, 4 * MB, MB));
+
+        startJournal(journal, upload, file, data.length);
+        UploadJournal written = UploadJournal.open(journal);
+        written.resume();
+        written.recordPart(0, MB, hash(data, 0, MB));
+        written.recordPart(4 * MB, MB, hash(data, 0, MB));
+        written.close();
+
+        vault.setPageSize(1);
+        Archive archive = ArchiveUploader.upload(vault, file,
+                new UploadOptions().withPartSize(MB).withJournal(journal));
+
+        assertArchive(archive, data);
+        Assert.assertSame(upload, vault.getLastUpload());
+        Assert.assertEquals(4, upload.getListings());
+
+        // Only the mismatched, missing and misaligned parts are uploaded.
+        Assert.assertEquals(0, upload.getAttempts(0));
+        Assert.assertEquals(1, upload.getAttempts(MB));
+        Assert.assertEquals(1, upload.getAttempts(2 * MB));
+        Assert.assertEquals(1, upload.getAttempts(3 * MB));
+        Assert.assertEquals(0, upload.getAttempts(4 * MB));
+
+        Assert.assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void testUploadedPartsAreRehashed() throws IOException {
+        byte[] data = data(3 * MB);
+        Path file = write(data);
+
+        InMemoryUpload upload = initiate();
+        upload.putPart(0, slice(data, 0, MB), hash(data, 0, MB));
+        upload.putPart(MB, slice(data, MB, MB), hash(data, 0, MB));
+
+        Archive archive = ArchiveUploader.resume(vault, upload, file, null);
+
+        assertArchive(archive, data);
+        Assert.assertEquals(0, upload.getAttempts(0));
+        Assert.assertEquals(1, upload.getAttempts(MB));
+        Assert.assertEquals(1, upload.getAttempts(2 * MB));
+    }
+
+    @Test
+    public void testJournaledUploadIsGone() throws IOException {
+        byte[] data = data(2 * MB);
+        Path file = write(data);
+        Path journal = directory.resolve("journal");
+
+        InMemoryUpload gone = initiate();
+        startJournal(journal, gone, file, data.length);
+        gone.abort();
+
+        Archive archive = ArchiveUploader.upload(vault, file,
+                new UploadOptions().withPartSize(MB).withJournal(journal));
+
+        assertArchive(archive, data);
+        InMemoryUpload upload = vault.getLastUpload();
+        Assert.assertNotSame(gone, upload);
+        Assert.assertEquals(2, upload.getRanges().size());
+        Assert.assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void testStaleJournalAbortsItsUpload() throws IOException {
+        byte[] data = data(2 * MB);
+        Path file = write(data);
+        Path journal = directory.resolve("journal");
+
+        InMemoryUpload stale = initiate();
+        stale.putPart(0, slice(data, 0, MB), hash(data, 0, MB));
+
+        // Recorded for an earlier version of the file.
+        UploadJournal written = UploadJournal.open(journal);
+        written.start(stale.getId(), MB, data.length,
+                Files.getLastModifiedTime(file).toMillis() - 1000);
+        written.recordPart(0, MB, hash(data, 0, MB));
+        written.close();
+
+        Archive archive = ArchiveUploader.upload(vault, file,
+                new UploadOptions().withPartSize(MB).withJournal(journal));
+
+        assertArchive(archive, data);
+        Assert.assertTrue(stale.isAborted());
+        Assert.assertEquals(0, stale.getRanges().size());
+        Assert.assertEquals(2, vault.getLastUpload().getRanges().size());
+        Assert.assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void testFailedJournaledUploadIsLeftToResume() throws IOException {
+        byte[] data = data(3 * MB);
+        Path file = write(data);
+        Path journal = directory.resolve("journal");
+        vault.failPart(2 * MB, 1);
+
+        UploadOptions options = new UploadOptions()
+                .withPartSize(MB)
+                .withThreads(1)
+                .withMaxRetries(0)
+                .withJournal(journal);
+        try {
+            ArchiveUploader.upload(vault, file, options);
+            Assert.fail("Expected the upload to fail");
+        } catch (AmazonClientException expected) {
+        }
+
+        InMemoryUpload upload = vault.getLastUpload();
+        Assert.assertFalse(upload.isAborted());
+        Assert.assertEquals(2, UploadJournal.open(journal).getParts().size());
+
+        Archive archive = ArchiveUploader.upload(vault, file, options);
+
+        assertArchive(archive, data);
+        Assert.assertSame(upload, vault.getLastUpload());
+        Assert.assertEquals(1, upload.getAttempts(0));
+        Assert.assertEquals(1, upload.getAttempts(MB));
+        Assert.assertEquals(2, upload.getAttempts(2 * MB));
+    }
+
+    private Path write(byte[] data) throws IOException {
+        Path file = Files.createTempFile(directory, "archive", ".bin");
+        Files.write(file, data);
+        return file;
+    }
+
+    private InMemoryUpload initiate() {
+        return (InMemoryUpload) vault.initiateMultipartUpload(
+                Long.toString(MB), null);
+    }
+
+    private static void startJournal(
+            Path journal,
+            InMemoryUpload upload,
+            Path file,
+            long size) throws IOException {
+
+        UploadJournal written = UploadJournal.open(journal);
+        written.start(upload.getId(), MB, size,
+                Files.getLastModifiedTime(file).toMillis());
+        written.close();
+    }
+
+    private static byte[] slice(byte[] data, int offset, int length) {
+        return Arrays.copyOfRange(data, offset, offset + length);
+    }
+
+    private static String hash(byte[] data, int offset, int length) {
+        return InMemoryVault.hash(slice(data, offset, length));
+    }
+
+    private void assertArchive(Archive archive, byte[] data) {
+        Assert.assertTrue(Arrays.equals(
+                data, vault.getArchiveData(archive.getId())));
+        Assert.assertTrue(vault.getUploadIds().isEmpty());
+    }
+
+    /**
+     * @return random data, so that no two parts are alike
+     */
+    static byte[] data(int length) {
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * Records how far reading the archive gets ahead of the parts stored
+     * by the vault.
+     */
+    private final class AheadTracker extends InputStream {
+
+        private final ByteArrayInputStream data;
+        private long position;
+        private volatile long maxAhead;
+
+        public AheadTracker(byte[] data) {
+            this.data = new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            int n = data.read(buffer, offset, length);
+            if (n > 0) {
+                position += n;
+                long ahead = position
+                        - vault.getLastUpload().getBytesStored();
+                maxAhead = Math.max(maxAhead, ahead);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ByteBufferInputStreamTest {
+
+    private static final byte[] DATA = data(100);
+
+    @Test
+    public void testReadsEverySegment() {
+        ByteBufferInputStream stream = segments();
+
+        Assert.assertEquals(DATA.length, stream.available());
+        Assert.assertArrayEquals(DATA, readAll(stream, 7));
+        Assert.assertEquals(-1, stream.read());
+        Assert.assertEquals(0, stream.available());
+    }
+
+    @Test
+    public void testSingleByteReads() {
+        ByteBufferInputStream stream = segments();
+        for (byte b : DATA) {
+            Assert.assertEquals(b & 0xFF, stream.read());
+        }
+        Assert.assertEquals(-1, stream.read());
+    }
+
+    @Test
+    public void testMarkAndResetAcrossSegments() {
+        ByteBufferInputStream stream = segments();
+        Assert.assertTrue(stream.markSupported());
+
+        // Mark part way through the first segment, then read on into the
+        // last one.
+        Assert.assertEquals(15, stream.skip(15));
+        stream.mark(Integer.MAX_VALUE);
+        byte[] first = read(stream, 70);
+
+        stream.reset();
+        Assert.assertArrayEquals(first, read(stream, 70));
+        Assert.assertArrayEquals(
+                Arrays.copyOfRange(DATA, 15, 85), first);
+
+        // Reset more than once.
+        stream.reset();
+        Assert.assertArrayEquals(
+                Arrays.copyOfRange(DATA, 15, DATA.length),
+                readAll(stream, 13));
+    }
+
+    @Test
+    public void testMarkAtSegmentBoundary() {
+        ByteBufferInputStream stream = segments();
+
+        // The end of the first segment.
+        read(stream, 30);
+        stream.mark(Integer.MAX_VALUE);
+        read(stream, 50);
+
+        stream.reset();
+        Assert.assertArrayEquals(
+                Arrays.copyOfRange(DATA, 30, DATA.length),
+                readAll(stream, 64));
+    }
+
+    @Test
+    public void testResetWithoutMarkRewindsToStart() {
+        ByteBufferInputStream stream = segments();
+        readAll(stream, 10);
+
+        stream.reset();
+        Assert.assertArrayEquals(DATA, readAll(stream, 10));
+    }
+
+    @Test
+    public void testMarkAtEnd() {
+        ByteBufferInputStream stream = segments();
+        readAll(stream, 10);
+        stream.mark(0);
+
+        stream.reset();
+        Assert.assertEquals(-1, stream.read());
+    }
+
+    @Test
+    public void testSkipAcrossSegments() {
+        ByteBufferInputStream stream = segments();
+
+        Assert.assertEquals(60, stream.skip(60));
+        Assert.assertEquals(DATA[60] & 0xFF, stream.read());
+        Assert.assertEquals(39, stream.skip(1000));
+        Assert.assertEquals(0, stream.skip(1));
+    }
+
+    @Test
+    public void testBuffersAreNotModified() {
+        ByteBuffer buffer = ByteBuffer.wrap(DATA);
+        buffer.position(10);
+
+        ByteBufferInputStream stream = new ByteBufferInputStream(buffer);
+        readAll(stream, 10);
+
+        Assert.assertEquals(10, buffer.position());
+        Assert.assertEquals(DATA.length, buffer.limit());
+    }
+
+    /**
+     * The data split into segments of 30 (starting part way into a larger
+     * buffer), 0 and 70 bytes, the last of them direct.
+     */
+    private static ByteBufferInputStream segments() {
+        byte[] padded = new byte[40];
+        System.arraycopy(DATA, 0, padded, 10, 30);
+        ByteBuffer first = ByteBuffer.wrap(padded);
+        first.position(10);
+
+        ByteBuffer last = ByteBuffer.allocateDirect(70);
+        last.put(DATA, 30, 70);
+        last.flip();
+
+        return new ByteBufferInputStream(first, ByteBuffer.allocate(0), last);
+    }
+
+    private static byte[] read(ByteBufferInputStream stream, int count) {
+        byte[] bytes = new byte[count];
+        int offset = 0;
+        while (offset < count) {
+            int n = stream.read(bytes, offset, count - offset);
+            Assert.assertTrue("Unexpected end of stream", n > 0);
+            offset += n;
+        }
+        return bytes;
+    }
+
+    private static byte[] readAll(ByteBufferInputStream stream, int chunk) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] bytes = new byte[chunk];
+        int n;
+        while ((n = stream.read(bytes, 0, chunk)) != -1) {
+            out.write(bytes, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] data(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            data[i] = (byte) (i * 7 + 3);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.glacier.MultipartUpload;
+import com.amazonaws.services.glacier.AmazonGlacierClient;
+import com.amazonaws.services.glacier.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.glacier.model.ListPartsRequest;
+import com.amazonaws.services.glacier.model.ListPartsResult;
+import com.amazonaws.services.glacier.model.PartListElement;
+import com.amazonaws.services.glacier.model.UploadMultipartPartResult;
+
+/**
+ * An in-process stand-in for a vault's multipart uploads, for tests of
+ * the archive uploader that can't depend on a live AWS account.
+ * <p>
+ * Uploads are kept in memory. Parts are checked against their tree hash
+ * and range as Glacier checks them, and completing an upload checks that
+ * the parts cover the archive and match its tree hash. Every part upload
+ * is recorded, and failures can be injected into chosen parts. Any other
+ * vault operation goes to a real client and fails.
+ */
+public class InMemoryVault extends VaultImpl {
+
+    private final Map<String, InMemoryUpload> uploads =
+            new ConcurrentHashMap<>();
+    private final Map<String, byte[]> archives = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private final Map<Long, Integer> failures = new HashMap<>();
+    private final Set<Long> badChecksums = new HashSet<>();
+
+    private volatile InMemoryUpload lastUpload;
+    private volatile long delayMillis;
+    private volatile int pageSize = 1000;
+
+    public InMemoryVault() {
+        super(((VaultImpl) new GlacierImpl(new AmazonGlacierClient())
+                .getAccount("-")
+                .getVault("vault"))
+                .getResourceImpl());
+    }
+
+    @Override
+    public MultipartUpload initiateMultipartUpload(
+            String partSize,
+            String archiveDescription) {
+
+        String id = "upload-" + nextId.incrementAndGet();
+        InMemoryUpload upload =
+                new InMemoryUpload(id, Long.parseLong(partSize));
+        uploads.put(id, upload);
+        lastUpload = upload;
+        return upload;
+    }
+
+    /**
+     * @return the upload with the given id, which fails with a 404 if it
+     *         doesn't exist
+     */
+    @Override
+    public InMemoryUpload getMultipartUpload(String id) {
+        InMemoryUpload upload = uploads.get(id);
+        return (upload == null ? new InMemoryUpload(id, 0) : upload);
+    }
+
+    /**
+     * @return the upload most recently initiated
+     */
+    public InMemoryUpload getLastUpload() {
+        return lastUpload;
+    }
+
+    /**
+     * Fails the next uploads of the part at the given offset, in any
+     * upload.
+     */
+    public synchronized void failPart(long offset, int times) {
+        failures.put(offset, times);
+    }
+
+    /**
+     * Returns the wrong checksum the next time the part at the given
+     * offset is uploaded, in any upload.
+     */
+    public synchronized void corruptPart(long offset) {
+        badChecksums.add(offset);
+    }
+
+    /**
+     * @param delayMillis how long each part upload takes
+     */
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * @param pageSize the most parts listed in each page
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @return the uploads still in progress
+     */
+    public Set<String> getUploadIds() {
+        return new HashSet<>(uploads.keySet());
+    }
+
+    /**
+     * @return the contents of a completed archive, or null
+     */
+    public byte[] getArchiveData(String id) {
+        return archives.get(id);
+    }
+
+    private static AmazonServiceException error(String code, int status) {
+        AmazonServiceException exception = new AmazonServiceException(code);
+        exception.setErrorCode(code);
+        exception.setStatusCode(status);
+        return exception;
+    }
+
+    /**
+     * A multipart upload to the vault.
+     */
+    public final class InMemoryUpload extends MultipartUploadImpl {
+
+        private final String id;
+        private final long partSize;
+
+        private final NavigableMap<Long, byte[]> parts =
+                new ConcurrentSkipListMap<>();
+        private final Map<Long, String> hashes = new ConcurrentHashMap<>();
+
+        private final List<String> ranges =
+                Collections.synchronizedList(new ArrayList<String>());
+
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private final AtomicInteger listings = new AtomicInteger();
+
+        private volatile String completedChecksum;
+        private volatile boolean aborted;
+
+        private InMemoryUpload(String id, long partSize) {
+            super(((MultipartUploadImpl) InMemoryVault.super
+                    .getMultipartUpload(id))
+                    .getResourceImpl());
+            this.id = id;
+            this.partSize = partSize;
+        }
+
+        /**
+         * Stores a part as though it had been uploaded earlier, with the
+         * given tree hash whether or not it matches.
+         */
+        public void putPart(long offset, byte[] data, String hash) {
+            parts.put(offset, data);
+            hashes.put(offset, hash);
+        }
+
+        /**
+         * @return the range of every part upload, in the order they were
+         *         made
+         */
+        public List<String> getRanges() {
+            synchronized (ranges) {
+                return new ArrayList<>(ranges);
+            }
+        }
+
+        /**
+         * @return how many part uploads were made for the given offset
+         */
+        public int getAttempts(long offset) {
+            String prefix = "bytes " + offset + "-";
+            int attempts = 0;
+            for (String range : getRanges()) {
+                if (range.startsWith(prefix)) {
+                    attempts += 1;
+                }
+            }
+            return attempts;
+        }
+
+        /**
+         * @return the bytes of all the parts Glacier has
+         */
+        public long getBytesStored() {
+            long bytes = 0;
+            for (byte[] part : parts.values()) {
+                bytes += part.length;
+            }
+            return bytes;
+        }
+
+        public int getMaxRunning() {
+            return maxRunning.get();
+        }
+
+        public int getListings() {
+            return listings.get();
+        }
+
+        public String getCompletedChecksum() {
+            return completedChecksum;
+        }
+
+        public boolean isAborted() {
+            return aborted;
+        }
+
+        @Override
+        public ListPartsResult parts() {
+            return parts(new ListPartsRequest());
+        }
+
+        @Override
+        public ListPartsResult parts(ListPartsRequest request) {
+            checkExists();
+            listings.incrementAndGet();
+
+            long from = (request.getMarker() == null
+                    ? 0 : Long.parseLong(request.getMarker()));
+
+            ListPartsResult result = new ListPartsResult()
+                    .withMultipartUploadId(id)
+                    .withPartSizeInBytes(partSize);
+
+            for (Map.Entry<Long, byte[]> part
+                    : parts.tailMap(from, true).entrySet()) {
+
+                if (result.getParts().size() == pageSize) {
+                    result.setMarker(Long.toString(part.getKey()));
+                    break;
+                }
+
+                long offset = part.getKey();
+                long end = offset + part.getValue().length - 1;
+                result.getParts().add(new PartListElement()
+                        .withRangeInBytes(offset + "-" + end)
+                        .withSHA256TreeHash(hashes.get(offset)));
+            }
+            return result;
+        }
+
+        @Override
+        public UploadMultipartPartResult uploadPart(
+                String checksum,
+                InputStream body,
+                String range) {
+
+            ranges.add(range);
+            int now = running.incrementAndGet();
+            while (true) {
+                int max = maxRunning.get();
+                if (now <= max || maxRunning.compareAndSet(max, now)) {
+                    break;
+                }
+            }
+
+            try {
+
+                checkExists();
+                byte[] data = read(body);
+
+                String[] bounds = range.substring("bytes ".length())
+                        .split("[-/]");
+                long offset = Long.parseLong(bounds[0]);
+                long end = Long.parseLong(bounds[1]);
+
+                if (offset % partSize != 0
+                        || end - offset + 1 != data.length
+                        || data.length > partSize) {
+                    throw error("InvalidParameterValueException", 400);
+                }
+                if (!hash(data).equals(checksum)) {
+                    throw error("InvalidParameterValueException", 400);
+                }
+
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+
+                boolean badChecksum;
+                synchronized (InMemoryVault.this) {
+                    Integer remaining = failures.get(offset);
+                    if (remaining != null && remaining > 0) {
+                        failures.put(offset, remaining - 1);
+                        throw new AmazonClientException(
+                                "Injected failure uploading " + range);
+                    }
+                    badChecksum = badChecksums.remove(offset);
+                }
+
+                parts.put(offset, data);
+                hashes.put(offset, checksum);
+
+                return new UploadMultipartPartResult().withChecksum(
+                        badChecksum ? hash(new byte[1]) : checksum);
+
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException(exception);
+
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        @Override
+        public CompleteMultipartUploadResult complete(
+                String checksum,
+                String archiveSize) {
+
+            checkExists();
+
+            ByteArrayOutputStream archive = new ByteArrayOutputStream();
+            for (Map.Entry<Long, byte[]> part : parts.entrySet()) {
+                if (part.getKey() != archive.size()) {
+                    throw error("InvalidParameterValueException", 400);
+                }
+                archive.write(part.getValue(), 0, part.getValue().length);
+            }
+
+            byte[] data = archive.toByteArray();
+            if (data.length != Long.parseLong(archiveSize)
+                    || !hash(data).equals(checksum)) {
+                throw error("InvalidParameterValueException", 400);
+            }
+
+            String archiveId = "archive-" + id;
+            archives.put(archiveId, data);
+            uploads.remove(id);
+            completedChecksum = checksum;
+
+            return new CompleteMultipartUploadResult()
+                    .withArchiveId(archiveId)
+                    .withChecksum(checksum);
+        }
+
+        @Override
+        public void abort() {
+            checkExists();
+            aborted = true;
+            uploads.remove(id);
+        }
+
+        private void checkExists() {
+            if (!uploads.containsKey(id)) {
+                throw error("ResourceNotFoundException", 404);
+            }
+        }
+    }
+
+    /**
+     * @return the tree hash of the given data, in hex
+     */
+    public static String hash(byte[] data) {
+        TreeHash hash = new TreeHash();
+        hash.update(data, 0, data.length);
+        return TreeHash.toHex(hash.digest());
+    }
+
+    private static byte[] read(InputStream body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[64 * 1024];
+        try {
+            int n;
+            while ((n = body.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        } catch (IOException exception) {
+            throw new AmazonClientException(exception);
+        }
+        return out.toByteArray();
+    }
+}
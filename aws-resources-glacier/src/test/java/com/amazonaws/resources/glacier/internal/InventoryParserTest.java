@@ -0,0 +1,264 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.glacier.InventoryItem;
+import com.amazonaws.resources.glacier.InventoryReader;
+import com.amazonaws.resources.glacier.Vault;
+import com.amazonaws.services.glacier.AmazonGlacierClient;
+import com.amazonaws.services.glacier.model.DescribeJobRequest;
+import com.amazonaws.services.glacier.model.DescribeJobResult;
+import com.amazonaws.services.glacier.model.GetJobOutputRequest;
+import com.amazonaws.services.glacier.model.GetJobOutputResult;
+
+public class InventoryParserTest {
+
+    private static final String ARCHIVE_1 = "{"
+            + "\"ArchiveId\":\"archive-1\","
+            + "\"ArchiveDescription\":\"photos \\\"2013\\\"\","
+            + "\"CreationDate\":\"2013-01-01T00:00:00Z\","
+            + "\"Size\":5000000000,"
+            + "\"SHA256TreeHash\":\"abcd\"}";
+
+    private static final String ARCHIVE_2 = "{"
+            + "\"SHA256TreeHash\":\"ef01\","
+            + "\"Size\":1,"
+            + "\"ArchiveId\":\"archive-2\"}";
+
+    private InventoryGlacier client;
+    private Vault vault;
+
+    @Before
+    public void setUp() {
+        client = new InventoryGlacier();
+        vault = new GlacierImpl(client).getAccount("-").getVault("vault");
+    }
+
+    @Test
+    public void testReadsInventory() {
+        client.outputs.put("job", "{"
+                + "\"VaultARN\":\"arn:vault\","
+                + "\"InventoryDate\":\"2014-01-01T00:00:00Z\","
+                + "\"ArchiveList\":[" + ARCHIVE_1 + "," + ARCHIVE_2 + "]}");
+
+        InventoryReader reader = vault.getJob("job").readInventory();
+        Assert.assertEquals("arn:vault", reader.getVaultARN());
+        Assert.assertEquals("2014-01-01T00:00:00Z", reader.getInventoryDate());
+
+        InventoryItem item = reader.next();
+        Assert.assertEquals("archive-1", item.getArchive().getId());
+        Assert.assertEquals("vault", item.getArchive().getVaultName());
+        Assert.assertEquals("photos \"2013\"", item.getDescription());
+        Assert.assertEquals("2013-01-01T00:00:00Z", item.getCreationDate());
+        Assert.assertEquals(5000000000L, item.getSize());
+        Assert.assertEquals("abcd", item.getSHA256TreeHash());
+
+        item = reader.next();
+        Assert.assertEquals("archive-2", item.getArchive().getId());
+        Assert.assertNull(item.getDescription());
+        Assert.assertNull(item.getCreationDate());
+        Assert.assertEquals(1, item.getSize());
+        Assert.assertEquals("ef01", item.getSHA256TreeHash());
+
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertTrue(client.closed);
+    }
+
+    @Test
+    public void testFieldsAfterArchiveList() {
+        client.outputs.put("job", "{"
+                + "\"ArchiveList\":[" + ARCHIVE_1 + "],"
+                + "\"InventoryDate\":\"2014-01-01T00:00:00Z\","
+                + "\"VaultARN\":\"arn:vault\"}");
+
+        InventoryReader reader = vault.getJob("job").readInventory();
+        Assert.assertNull(reader.getVaultARN());
+        Assert.assertNull(reader.getInventoryDate());
+
+        Assert.assertEquals("archive-1", reader.next().getArchive().getId());
+        Assert.assertFalse(reader.hasNext());
+
+        Assert.assertEquals("arn:vault", reader.getVaultARN());
+        Assert.assertEquals("2014-01-01T00:00:00Z", reader.getInventoryDate());
+    }
+
+    @Test
+    public void testSkipsUnknownFields() {
+        client.outputs.put("job", "{"
+                + "\"Extra\":{\"Nested\":[1,{\"ArchiveList\":[]}]},"
+                + "\"VaultARN\":\"arn:vault\","
+                + "\"ArchiveList\":[{"
+                + "\"New\":[{\"ArchiveId\":\"wrong\"}],"
+                + "\"ArchiveId\":\"archive-1\","
+                + "\"Tags\":{\"a\":\"b\"},"
+                + "\"Size\":7}],"
+                + "\"More\":[true,null],"
+                + "\"InventoryDate\":\"2014-01-01T00:00:00Z\"}");
+
+        InventoryReader reader = vault.getJob("job").readInventory();
+        Assert.assertEquals("arn:vault", reader.getVaultARN());
+
+        InventoryItem item = reader.next();
+        Assert.assertEquals("archive-1", item.getArchive().getId());
+        Assert.assertEquals(7, item.getSize());
+
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertEquals("2014-01-01T00:00:00Z", reader.getInventoryDate());
+    }
+
+    @Test
+    public void testEmptyArchiveList() {
+        client.outputs.put("job", "{"
+                + "\"VaultARN\":\"arn:vault\","
+                + "\"ArchiveList\":[],"
+                + "\"InventoryDate\":\"2014-01-01T00:00:00Z\"}");
+
+        InventoryReader reader = vault.getJob("job").readInventory();
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertEquals("2014-01-01T00:00:00Z", reader.getInventoryDate());
+        Assert.assertTrue(client.closed);
+
+        try {
+            reader.next();
+            Assert.fail();
+        } catch (NoSuchElementException expected) {
+        }
+    }
+
+    @Test
+    public void testNoArchiveList() {
+        client.outputs.put("job", "{\"VaultARN\":\"arn:vault\"}");
+
+        InventoryReader reader = vault.getJob("job").readInventory();
+        Assert.assertEquals("arn:vault", reader.getVaultARN());
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testTruncatedInventory() {
+        client.outputs.put("job", "{\"ArchiveList\":[" + ARCHIVE_1 + ",");
+
+        InventoryReader reader = vault.getJob("job").readInventory();
+        Assert.assertTrue(reader.hasNext());
+        reader.next();
+
+        try {
+            reader.hasNext();
+            Assert.fail();
+        } catch (AmazonClientException expected) {
+        }
+        Assert.assertTrue(client.closed);
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testArchiveWithoutId() {
+        client.outputs.put("job", "{\"ArchiveList\":[{\"Size\":1}]}");
+
+        InventoryReader reader = vault.getJob("job").readInventory();
+        try {
+            reader.hasNext();
+            Assert.fail();
+        } catch (AmazonClientException expected) {
+        }
+    }
+
+    @Test
+    public void testNotAnObject() {
+        client.outputs.put("job", "[]");
+
+        try {
+            vault.getJob("job").readInventory();
+            Assert.fail();
+        } catch (AmazonClientException expected) {
+        }
+        Assert.assertTrue(client.closed);
+    }
+
+    @Test
+    public void testCloseBeforeEnd() {
+        client.outputs.put("job",
+                "{\"ArchiveList\":[" + ARCHIVE_1 + "," + ARCHIVE_2 + "]}");
+
+        InventoryReader reader = vault.getJob("job").readInventory();
+        reader.next();
+        reader.close();
+
+        Assert.assertTrue(client.closed);
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNotAnInventoryRetrieval() {
+        client.outputs.put("job", "{}");
+        client.action = "ArchiveRetrieval";
+
+        vault.getJob("job").readInventory();
+    }
+
+    /**
+     * Describes every job as a completed inventory retrieval, and returns
+     * its output from a map.
+     */
+    public static class InventoryGlacier extends AmazonGlacierClient {
+
+        private final Map<String, String> outputs =
+                new HashMap<String, String>();
+
+        private String action = "InventoryRetrieval";
+        private volatile boolean closed;
+
+        @Override
+        public DescribeJobResult describeJob(DescribeJobRequest request) {
+            if (!outputs.containsKey(request.getJobId())) {
+                throw new AmazonServiceException("No such job");
+            }
+            return new DescribeJobResult()
+                    .withJobId(request.getJobId())
+                    .withAction(action)
+                    .withCompleted(true)
+                    .withStatusCode("Succeeded");
+        }
+
+        @Override
+        public GetJobOutputResult getJobOutput(
+                GetJobOutputRequest request) {
+
+            byte[] output = outputs.get(request.getJobId())
+                    .getBytes(StandardCharsets.UTF_8);
+
+            return new GetJobOutputResult()
+                    .withStatus(200)
+                    .withBody(new ByteArrayInputStream(output) {
+                        @Override
+                        public void close() {
+                            closed = true;
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.resources.glacier.DownloadOptions;
+import com.amazonaws.services.glacier.AmazonGlacierClient;
+import com.amazonaws.services.glacier.model.GetJobOutputResult;
+
+public class JobDownloaderTest {
+
+    private static final int MB = 1024 * 1024;
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("job-output", ".bin");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testDownloadsRangesInPlace() throws IOException {
+        byte[] output = ArchiveUploaderTest.data(5 * MB + MB / 2);
+        InMemoryJob job = new InMemoryJob(output);
+
+        // Anything already in the file is replaced.
+        Files.write(file, new byte[7 * MB]);
+
+        job.downloadTo(file, new DownloadOptions()
+                .withRangeSize(MB)
+                .withThreads(3));
+
+        Assert.assertTrue(Arrays.equals(output, Files.readAllBytes(file)));
+
+        List<String> ranges = job.getRanges();
+        Collections.sort(ranges);
+        List<String> expected = new ArrayList<>();
+        for (long offset = 0; offset < 5 * MB; offset += MB) {
+            expected.add("bytes=" + offset + "-" + (offset + MB - 1));
+        }
+        expected.add("bytes=" + 5 * MB + "-" + (output.length - 1));
+        Collections.sort(expected);
+        Assert.assertEquals(expected, ranges);
+    }
+
+    @Test
+    public void testRangesOfSeveralMegabytes() throws IOException {
+        byte[] output = ArchiveUploaderTest.data(9 * MB + 5);
+        InMemoryJob job = new InMemoryJob(output);
+
+        job.downloadTo(file, new DownloadOptions().withRangeSize(4 * MB));
+
+        Assert.assertTrue(Arrays.equals(output, Files.readAllBytes(file)));
+        Assert.assertEquals(3, job.getRanges().size());
+        Assert.assertEquals(1, job.getAttempts(8 * MB));
+    }
+
+    @Test
+    public void testCorruptRangeIsRetriedOnItsOwn() throws IOException {
+        byte[] output = ArchiveUploaderTest.data(4 * MB);
+        InMemoryJob job = new InMemoryJob(output);
+        job.corrupt(2 * MB, 1);
+
+        job.downloadTo(file, new DownloadOptions().withRangeSize(MB));
+
+        Assert.assertTrue(Arrays.equals(output, Files.readAllBytes(file)));
+        Assert.assertEquals(1, job.getAttempts(0));
+        Assert.assertEquals(1, job.getAttempts(MB));
+        Assert.assertEquals(2, job.getAttempts(2 * MB));
+        Assert.assertEquals(1, job.getAttempts(3 * MB));
+    }
+
+    @Test
+    public void testShortBodyIsRetriedOnItsOwn() throws IOException {
+        byte[] output = ArchiveUploaderTest.data(3 * MB);
+        InMemoryJob job = new InMemoryJob(output);
+        job.truncate(MB, 2);
+
+        job.downloadTo(file, new DownloadOptions().withRangeSize(MB));
+
+        Assert.assertTrue(Arrays.equals(output, Files.readAllBytes(file)));
+        Assert.assertEquals(1, job.getAttempts(0));
+        Assert.assertEquals(3, job.getAttempts(MB));
+        Assert.assertEquals(1, job.getAttempts(2 * MB));
+    }
+
+    @Test
+    public void testFailsAfterMaxRetries() {
+        InMemoryJob job = new InMemoryJob(ArchiveUploaderTest.data(3 * MB));
+        job.corrupt(MB, Integer.MAX_VALUE);
+
+        try {
+            job.downloadTo(file, new DownloadOptions()
+                    .withRangeSize(MB)
+                    .withMaxRetries(1));
+            Assert.fail("Expected the download to fail");
+        } catch (AmazonClientException exception) {
+            Assert.assertTrue(exception.getMessage().contains(
+                    "Checksum mismatch downloading bytes=1048576-"));
+        }
+        Assert.assertEquals(2, job.getAttempts(MB));
+    }
+
+    @Test
+    public void testWholeOutputMismatchFails() {
+        byte[] output = ArchiveUploaderTest.data(3 * MB);
+        InMemoryJob job = new InMemoryJob(output);
+        job.treeHash = InMemoryVault.hash(new byte[1]);
+
+        try {
+            job.downloadTo(file, new DownloadOptions().withRangeSize(MB));
+            Assert.fail("Expected the download to fail");
+        } catch (AmazonClientException exception) {
+            Assert.assertTrue(exception.getMessage().contains(
+                    "Checksum mismatch downloading output of job"));
+        }
+
+        // Every range matched its own checksum, so none was retried.
+        Assert.assertEquals(3, job.getRanges().size());
+    }
+
+    @Test
+    public void testRetrievalOfByteRange() throws IOException {
+        byte[] archive = ArchiveUploaderTest.data(10 * MB);
+        byte[] output = Arrays.copyOfRange(archive, 2 * MB, 5 * MB);
+
+        InMemoryJob job = new InMemoryJob(output);
+        job.archiveSize = (long) archive.length;
+        job.byteRange = (2 * MB) + "-" + (5 * MB - 1);
+
+        job.downloadTo(file, new DownloadOptions().withRangeSize(2 * MB));
+
+        Assert.assertTrue(Arrays.equals(output, Files.readAllBytes(file)));
+        Assert.assertEquals(1, job.getAttempts(0));
+        Assert.assertEquals(1, job.getAttempts(2 * MB));
+        Assert.assertEquals(2, job.getRanges().size());
+    }
+
+    @Test
+    public void testInventoryRetrieval() throws IOException {
+        byte[] output = ArchiveUploaderTest.data(MB + 1);
+        InMemoryJob job = new InMemoryJob(output);
+        job.action = "InventoryRetrieval";
+        job.archiveSize = null;
+        job.inventorySize = (long) output.length;
+
+        job.downloadTo(file, new DownloadOptions().withRangeSize(MB));
+
+        Assert.assertTrue(Arrays.equals(output, Files.readAllBytes(file)));
+        Assert.assertEquals(2, job.getRanges().size());
+    }
+
+    @Test
+    public void testEmptyOutput() throws IOException {
+        InMemoryJob job = new InMemoryJob(new byte[0]);
+        Files.write(file, new byte[10]);
+
+        job.downloadTo(file, null);
+
+        Assert.assertEquals(0, Files.size(file));
+        Assert.assertTrue(job.getRanges().isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testJobNotCompleted() {
+        InMemoryJob job = new InMemoryJob(new byte[1]);
+        job.completed = false;
+
+        job.downloadTo(file, null);
+    }
+
+    /**
+     * A job whose output is served from memory. Like Glacier, it gives the
+     * tree hash of each range it serves, and of the whole output; ranges
+     * can be made to arrive corrupted or cut short.
+     */
+    public static class InMemoryJob extends JobImpl {
+
+        private final byte[] output;
+        private final List<String> ranges =
+                Collections.synchronizedList(new ArrayList<String>());
+        private final Map<Long, Integer> corrupt = new HashMap<>();
+        private final Map<Long, Integer> truncated = new HashMap<>();
+
+        private volatile boolean completed = true;
+        private volatile String action = "ArchiveRetrieval";
+        private volatile Long archiveSize;
+        private volatile Long inventorySize;
+        private volatile String byteRange;
+        private volatile String treeHash;
+
+        public InMemoryJob(byte[] output) {
+            super(((JobImpl) new GlacierImpl(new AmazonGlacierClient())
+                    .getAccount("-")
+                    .getVault("vault")
+                    .getJob("job"))
+                    .getResourceImpl());
+
+            this.output = output;
+            this.archiveSize = (long) output.length;
+            this.treeHash = InMemoryVault.hash(output);
+        }
+
+        /**
+         * Flips a byte of the range at the given offset the next times it
+         * is served.
+         */
+        public synchronized void corrupt(long offset, int times) {
+            corrupt.put(offset, times);
+        }
+
+        /**
+         * Cuts the range at the given offset short the next times it is
+         * served.
+         */
+        public synchronized void truncate(long offset, int times) {
+            truncated.put(offset, times);
+        }
+
+        /**
+         * @return every range requested, in the order they were requested
+         */
+        public List<String> getRanges() {
+            synchronized (ranges) {
+                return new ArrayList<>(ranges);
+            }
+        }
+
+        /**
+         * @return how many times the range at the given offset was
+         *         requested
+         */
+        public int getAttempts(long offset) {
+            String prefix = "bytes=" + offset + "-";
+            int attempts = 0;
+            for (String range : getRanges()) {
+                if (range.startsWith(prefix)) {
+                    attempts += 1;
+                }
+            }
+            return attempts;
+        }
+
+        @Override
+        public Boolean getCompleted() {
+            return completed;
+        }
+
+        @Override
+        public String getAction() {
+            return action;
+        }
+
+        @Override
+        public Long getArchiveSizeInBytes() {
+            return archiveSize;
+        }
+
+        @Override
+        public Long getInventorySizeInBytes() {
+            return inventorySize;
+        }
+
+        @Override
+        public String getRetrievalByteRange() {
+            return byteRange;
+        }
+
+        @Override
+        public String getSHA256TreeHash() {
+            return treeHash;
+        }
+
+        @Override
+        public GetJobOutputResult getOutput(String range) {
+            ranges.add(range);
+
+            String[] bounds = range.substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(bounds[0]);
+            int end = Integer.parseInt(bounds[1]);
+
+            byte[] body = Arrays.copyOfRange(output, start, end + 1);
+            String checksum = InMemoryVault.hash(body);
+
+            if (take(corrupt, start)) {
+                body[body.length / 2] ^= 1;
+            }
+            if (take(truncated, start)) {
+                body = Arrays.copyOf(body, body.length - 1);
+            }
+
+            return new GetJobOutputResult()
+                    .withStatus(206)
+                    .withContentRange("bytes " + start + "-" + end + "/"
+                            + output.length)
+                    .withChecksum(checksum)
+                    .withBody(new ByteArrayInputStream(body));
+        }
+
+        private synchronized boolean take(Map<Long, Integer> faults, long at) {
+            Integer remaining = faults.get(at);
+            if (remaining == null || remaining == 0) {
+                return false;
+            }
+            faults.put(at, remaining - 1);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TreeHashTest {
+
+    private static final int MB = TreeHash.CHUNK_SIZE;
+
+    /**
+     * The tree hash of {@code data(5.5 MB)}, worked out independently.
+     */
+    private static final String ARCHIVE_HASH =
+            "3c902c684bc56a294572cc137c9f5c154741dd935a8a36f2ecc537dd297ce6e0";
+
+    /**
+     * A single chunk's tree hash is just its SHA-256.
+     */
+    private static final String CHUNK_HASH =
+            "06b7bbfb7824aa03382051691630eb26de85102d1b08a81e907ec0744cd8a286";
+
+    private static final String EMPTY_HASH =
+            "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    @Test
+    public void testKnownHashes() {
+        Assert.assertEquals(EMPTY_HASH, hash(new byte[0]));
+        Assert.assertEquals(CHUNK_HASH, hash(data(MB)));
+        Assert.assertEquals(ARCHIVE_HASH, hash(data(5 * MB + MB / 2)));
+    }
+
+    @Test
+    public void testUpdateInPieces() {
+        byte[] data = data(5 * MB + MB / 2);
+
+        // Pieces which straddle chunk boundaries in every possible way.
+        TreeHash bytes = new TreeHash();
+        TreeHash buffers = new TreeHash();
+        int offset = 0;
+        int size = 1;
+        while (offset < data.length) {
+            int n = Math.min(size, data.length - offset);
+            bytes.update(data, offset, n);
+            buffers.update(ByteBuffer.wrap(data, offset, n));
+            offset += n;
+            size = size * 3 + 17;
+        }
+
+        Assert.assertEquals(data.length, bytes.getLength());
+        Assert.assertEquals(ARCHIVE_HASH, TreeHash.toHex(bytes.digest()));
+        Assert.assertEquals(ARCHIVE_HASH, TreeHash.toHex(buffers.digest()));
+    }
+
+    @Test
+    public void testUpdateLeavesBufferAtLimit() {
+        ByteBuffer buffer = ByteBuffer.wrap(data(MB + 10));
+        buffer.position(5);
+
+        new TreeHash().update(buffer);
+        Assert.assertEquals(buffer.limit(), buffer.position());
+    }
+
+    @Test
+    public void testCombinePartHashes() {
+        byte[] data = data(5 * MB + MB / 2);
+
+        // Parts are a power of two megabytes; the last may be short.
+        for (int partSize : new int[] { MB, 2 * MB, 4 * MB, 8 * MB }) {
+            List<byte[]> parts = new ArrayList<>();
+            for (int offset = 0; offset < data.length; offset += partSize) {
+                TreeHash part = new TreeHash();
+                part.update(data, offset,
+                        Math.min(partSize, data.length - offset));
+                parts.add(part.digest());
+            }
+
+            Assert.assertEquals("Part size " + partSize,
+                    ARCHIVE_HASH, TreeHash.toHex(TreeHash.combine(parts)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCombineNothing() {
+        TreeHash.combine(new ArrayList<byte[]>());
+    }
+
+    @Test
+    public void testHex() {
+        byte[] hash = TreeHash.fromHex(ARCHIVE_HASH);
+        Assert.assertEquals(32, hash.length);
+        Assert.assertEquals(ARCHIVE_HASH, TreeHash.toHex(hash));
+        Assert.assertTrue(Arrays.equals(
+                hash, TreeHash.fromHex(ARCHIVE_HASH.toUpperCase())));
+
+        for (String invalid : new String[] { "abc", "zz", "0g" }) {
+            try {
+                TreeHash.fromHex(invalid);
+                Assert.fail("Expected " + invalid + " to be rejected");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+    }
+
+    private static String hash(byte[] data) {
+        TreeHash hash = new TreeHash();
+        hash.update(data, 0, data.length);
+        return TreeHash.toHex(hash.digest());
+    }
+
+    private static byte[] data(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            data[i] = (byte) (i * 31 + 7);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.glacier.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UploadJournalTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private static final String HASH_1 =
+            "3c902c684bc56a294572cc137c9f5c154741dd935a8a36f2ecc537dd297ce6e0";
+    private static final String HASH_2 =
+            "06b7bbfb7824aa03382051691630eb26de85102d1b08a81e907ec0744cd8a286";
+    private static final String HASH_3 =
+            "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static final String HEADER =
+            "upload abc123 1048576 3000000 1400000000000\n";
+
+    private Path directory;
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("upload-journal");
+        path = directory.resolve("journal");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void testReadsCompleteJournal() throws IOException {
+        write(HEADER
+                + "part 0 1048576 " + HASH_1 + "\n"
+                + "part 1048576 1048576 " + HASH_2 + "\n"
+                + "part 2097152 902848 " + HASH_3 + "\n");
+
+        UploadJournal journal = UploadJournal.open(path);
+
+        Assert.assertEquals("abc123", journal.getUploadId());
+        Assert.assertTrue(journal.matches(MB, 3000000, 1400000000000L));
+        Assert.assertEquals(3, journal.getParts().size());
+        Assert.assertEquals(HASH_1, journal.getParts().get(0L));
+        Assert.assertEquals(HASH_2, journal.getParts().get(MB));
+        Assert.assertEquals(HASH_3, journal.getParts().get(2 * MB));
+    }
+
+    @Test
+    public void testIgnoresPartLineCutShortInHash() throws IOException {
+        write(HEADER
+                + "part 0 1048576 " + HASH_1 + "\n"
+                + "part 1048576 1048576 " + HASH_2.substring(0, 40));
+
+        UploadJournal journal = UploadJournal.open(path);
+
+        Assert.assertEquals(1, journal.getParts().size());
+        Assert.assertEquals(HASH_1, journal.getParts().get(0L));
+    }
+
+    @Test
+    public void testIgnoresPartLineCutShortEarlier() throws IOException {
+        for (String torn : new String[] {
+                "p", "part", "part ", "part 104", "part 1048576 10485",
+                "part 1048576 1048576 ", "part 1048576 1048576 3c" }) {
+
+            write(HEADER + "part 0 1048576 " + HASH_1 + "\n" + torn);
+
+            UploadJournal journal = UploadJournal.open(path);
+            Assert.assertEquals(torn, 1, journal.getParts().size());
+            Assert.assertEquals(torn, HASH_1, journal.getParts().get(0L));
+        }
+    }
+
+    @Test
+    public void testIgnoresHeaderCutShort() throws IOException {
+        for (String torn : new String[] {
+                "up", "upload abc123", "upload abc123 1048576 30" }) {
+
+            write(torn);
+
+            UploadJournal journal = UploadJournal.open(path);
+            Assert.assertNull(torn, journal.getUploadId());
+            Assert.assertFalse(torn,
+                    journal.matches(MB, 3000000, 1400000000000L));
+        }
+    }
+
+    @Test
+    public void testHeaderCutShortInLastFieldDoesNotMatch()
+            throws IOException {
+
+        // Still parses, but as a different file; the upload starts over.
+        write(HEADER.substring(0, HEADER.length() - 4));
+
+        UploadJournal journal = UploadJournal.open(path);
+        Assert.assertFalse(journal.matches(MB, 3000000, 1400000000000L));
+    }
+
+    @Test
+    public void testResumeAfterTornLine() throws IOException {
+        write(HEADER
+                + "part 0 1048576 " + HASH_1 + "\n"
+                + "part 1048576 1048576 " + HASH_2.substring(0, 10));
+
+        UploadJournal journal = UploadJournal.open(path);
+        journal.resume();
+        journal.recordPart(MB, MB, HASH_2);
+        journal.recordPart(2 * MB, 902848, HASH_3);
+        journal.close();
+
+        // The new line isn't run on into the torn one.
+        UploadJournal resumed = UploadJournal.open(path);
+        Assert.assertEquals("abc123", resumed.getUploadId());
+        Assert.assertEquals(3, resumed.getParts().size());
+        Assert.assertEquals(HASH_2, resumed.getParts().get(MB));
+        Assert.assertEquals(HASH_3, resumed.getParts().get(2 * MB));
+    }
+
+    @Test
+    public void testStartReplacesJournal() throws IOException {
+        write(HEADER + "part 0 1048576 " + HASH_1 + "\n");
+
+        UploadJournal journal = UploadJournal.open(path);
+        journal.start("def456", 2 * MB, 5000000, 1500000000000L);
+        journal.recordPart(0, 2 * MB, HASH_2);
+        journal.close();
+
+        UploadJournal reopened = UploadJournal.open(path);
+        Assert.assertEquals("def456", reopened.getUploadId());
+        Assert.assertTrue(
+                reopened.matches(2 * MB, 5000000, 1500000000000L));
+        Assert.assertEquals(1, reopened.getParts().size());
+        Assert.assertEquals(HASH_2, reopened.getParts().get(0L));
+    }
+
+    @Test
+    public void testMissingJournal() {
+        UploadJournal journal = UploadJournal.open(path);
+
+        Assert.assertNull(journal.getUploadId());
+        Assert.assertTrue(journal.getParts().isEmpty());
+    }
+
+    @Test
+    public void testDelete() throws IOException {
+        UploadJournal journal = UploadJournal.open(path);
+        journal.start("abc123", MB, 3000000, 1400000000000L);
+        Assert.assertTrue(Files.exists(path));
+
+        journal.delete();
+        Assert.assertFalse(Files.exists(path));
+    }
+
+    private void write(String contents) throws IOException {
+        Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
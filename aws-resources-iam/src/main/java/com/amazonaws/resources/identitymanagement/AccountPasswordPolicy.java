@@ -77,6 +77,24 @@ public interface AccountPasswordPolicy {
     boolean load(GetAccountPasswordPolicyRequest request,
             ResultCapture<GetAccountPasswordPolicyResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetAccountPasswordPolicyRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetAccountPasswordPolicyRequest
+     */
+    void reload(GetAccountPasswordPolicyRequest request,
+            ResultCapture<GetAccountPasswordPolicyResult> extractor);
+
     /**
      * Gets the value of the MaxPasswordAge attribute. If this resource is not
      * yet loaded, a call to {@code load()} is made to retrieve the value of the
@@ -71,6 +71,24 @@ public interface AccountSummary {
     boolean load(GetAccountSummaryRequest request,
             ResultCapture<GetAccountSummaryResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetAccountSummaryRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetAccountSummaryRequest
+     */
+    void reload(GetAccountSummaryRequest request,
+            ResultCapture<GetAccountSummaryResult> extractor);
+
     /**
      * Gets the value of the SummaryMap attribute. If this resource is not yet
      * loaded, a call to {@code load()} is made to retrieve the value of the
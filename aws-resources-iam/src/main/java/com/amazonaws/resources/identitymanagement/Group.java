@@ -102,6 +102,24 @@ public interface Group {
     boolean load(GetGroupRequest request, ResultCapture<GetGroupResult>
             extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetGroupRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetGroupRequest
+     */
+    void reload(GetGroupRequest request,
+            ResultCapture<GetGroupResult> extractor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -103,6 +103,24 @@ public interface GroupPolicy {
     boolean load(GetGroupPolicyRequest request,
             ResultCapture<GetGroupPolicyResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetGroupPolicyRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetGroupPolicyRequest
+     */
+    void reload(GetGroupPolicyRequest request,
+            ResultCapture<GetGroupPolicyResult> extractor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -101,6 +101,24 @@ public interface LoginProfile {
     boolean load(GetLoginProfileRequest request,
             ResultCapture<GetLoginProfileResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetLoginProfileRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetLoginProfileRequest
+     */
+    void reload(GetLoginProfileRequest request,
+            ResultCapture<GetLoginProfileResult> extractor);
+
     /**
      * Gets the value of the UserName identifier. This method always directly
      * returns the identifier and never involves a service call.
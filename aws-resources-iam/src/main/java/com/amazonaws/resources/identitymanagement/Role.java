@@ -100,6 +100,24 @@ public interface Role {
     boolean load(GetRoleRequest request, ResultCapture<GetRoleResult> extractor)
             ;
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetRoleRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetRoleRequest
+     */
+    void reload(GetRoleRequest request,
+            ResultCapture<GetRoleResult> extractor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -103,6 +103,24 @@ public interface RolePolicy {
     boolean load(GetRolePolicyRequest request,
             ResultCapture<GetRolePolicyResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetRolePolicyRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetRolePolicyRequest
+     */
+    void reload(GetRolePolicyRequest request,
+            ResultCapture<GetRolePolicyResult> extractor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -99,6 +99,24 @@ public interface SamlProvider {
     boolean load(GetSAMLProviderRequest request,
             ResultCapture<GetSAMLProviderResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetSAMLProviderRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetSAMLProviderRequest
+     */
+    void reload(GetSAMLProviderRequest request,
+            ResultCapture<GetSAMLProviderResult> extractor);
+
     /**
      * Gets the value of the Arn identifier. This method always directly returns
      * the identifier and never involves a service call.
@@ -106,6 +106,24 @@ public interface User {
     boolean load(GetUserRequest request, ResultCapture<GetUserResult> extractor)
             ;
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetUserRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetUserRequest
+     */
+    void reload(GetUserRequest request,
+            ResultCapture<GetUserResult> extractor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
@@ -103,6 +103,24 @@ public interface UserPolicy {
     boolean load(GetUserPolicyRequest request,
             ResultCapture<GetUserPolicyResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetUserPolicyRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetUserPolicyRequest
+     */
+    void reload(GetUserPolicyRequest request,
+            ResultCapture<GetUserPolicyResult> extractor);
+
     /**
      * Gets the value of the Name identifier. This method always directly
      * returns the identifier and never involves a service call.
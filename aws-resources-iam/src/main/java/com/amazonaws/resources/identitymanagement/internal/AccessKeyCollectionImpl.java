@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.AccessKey;
 import com.amazonaws.resources.identitymanagement.AccessKeyCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class AccessKeyCollectionImpl implements AccessKeyCollection {
         return new StandardResourcePage<AccessKey>(impl.firstPage(extractor),
                 AccessKeyImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<AccessKey>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<AccessKey>(
+                impl.firstPageAsync(null, executor),
+                AccessKeyImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<AccessKey> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<AccessKey>(
+                impl.withPrefetch(depth, executor),
+                AccessKeyImpl.CODEC);
+    }
 }
@@ -20,11 +20,12 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.AccessKey;
 import com.amazonaws.resources.identitymanagement.User;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.DeleteAccessKeyRequest;
 import com.amazonaws.services.identitymanagement.model.UpdateAccessKeyRequest;
 
-class AccessKeyImpl implements AccessKey {
+class AccessKeyImpl implements AccessKey, ResourceFacade {
     public static final ResourceCodec<AccessKey> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -33,6 +34,11 @@ class AccessKeyImpl implements AccessKey {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
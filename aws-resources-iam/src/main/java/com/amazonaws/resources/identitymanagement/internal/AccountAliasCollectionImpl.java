@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.AccountAlias;
 import com.amazonaws.resources.identitymanagement.AccountAliasCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -57,4 +62,22 @@ class AccountAliasCollectionImpl implements AccountAliasCollection {
         return new StandardResourcePage<AccountAlias>(impl.firstPage(extractor),
                 AccountAliasImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<AccountAlias>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<AccountAlias>(
+                impl.firstPageAsync(null, executor),
+                AccountAliasImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<AccountAlias> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<AccountAlias>(
+                impl.withPrefetch(depth, executor),
+                AccountAliasImpl.CODEC);
+    }
 }
@@ -17,11 +17,12 @@ package com.amazonaws.resources.identitymanagement.internal;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.AccountAlias;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.DeleteAccountAliasRequest
 ;
 
-class AccountAliasImpl implements AccountAlias {
+class AccountAliasImpl implements AccountAlias, ResourceFacade {
     public static final ResourceCodec<AccountAlias> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -30,6 +31,11 @@ class AccountAliasImpl implements AccountAlias {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
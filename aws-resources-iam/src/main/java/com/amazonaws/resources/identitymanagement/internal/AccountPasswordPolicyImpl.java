@@ -17,6 +17,7 @@ package com.amazonaws.resources.identitymanagement.internal;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.AccountPasswordPolicy;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import
 com.amazonaws.services.identitymanagement.model.DeleteAccountPasswordPolicyRequest
@@ -29,7 +30,8 @@ import
 com.amazonaws.services.identitymanagement.model.UpdateAccountPasswordPolicyRequest
 ;
 
-class AccountPasswordPolicyImpl implements AccountPasswordPolicy {
+class AccountPasswordPolicyImpl implements AccountPasswordPolicy,
+        ResourceFacade {
     public static final ResourceCodec<AccountPasswordPolicy> CODEC = new Codec()
             ;
 
@@ -39,6 +41,11 @@ class AccountPasswordPolicyImpl implements AccountPasswordPolicy {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -61,6 +68,18 @@ class AccountPasswordPolicyImpl implements AccountPasswordPolicy {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetAccountPasswordPolicyRequest request,
+            ResultCapture<GetAccountPasswordPolicyResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public Integer getMaxPasswordAge() {
         return (Integer) resource.getAttribute("MaxPasswordAge");
@@ -19,11 +19,12 @@ import java.util.Map;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.AccountSummary;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.GetAccountSummaryRequest;
 import com.amazonaws.services.identitymanagement.model.GetAccountSummaryResult;
 
-class AccountSummaryImpl implements AccountSummary {
+class AccountSummaryImpl implements AccountSummary, ResourceFacade {
     public static final ResourceCodec<AccountSummary> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -32,6 +33,11 @@ class AccountSummaryImpl implements AccountSummary {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -54,6 +60,18 @@ class AccountSummaryImpl implements AccountSummary {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetAccountSummaryRequest request,
+            ResultCapture<GetAccountSummaryResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public Map<String, Integer> getSummaryMap() {
         return (Map<String, Integer>) resource.getAttribute("SummaryMap");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.Group;
 import com.amazonaws.resources.identitymanagement.GroupCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,20 @@ class GroupCollectionImpl implements GroupCollection {
         return new StandardResourcePage<Group>(impl.firstPage(extractor),
                 GroupImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Group>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Group>(
+                impl.firstPageAsync(null, executor),
+                GroupImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Group> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Group>(
+                impl.withPrefetch(depth, executor),
+                GroupImpl.CODEC);
+    }
 }
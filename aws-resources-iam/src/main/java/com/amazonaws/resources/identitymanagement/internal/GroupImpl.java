@@ -24,6 +24,7 @@ import com.amazonaws.resources.identitymanagement.UserCollection;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.AddUserToGroupRequest;
 import com.amazonaws.services.identitymanagement.model.CreateGroupRequest;
@@ -37,7 +38,7 @@ import
 com.amazonaws.services.identitymanagement.model.RemoveUserFromGroupRequest;
 import com.amazonaws.services.identitymanagement.model.UpdateGroupRequest;
 
-class GroupImpl implements Group {
+class GroupImpl implements Group, ResourceFacade {
     public static final ResourceCodec<Group> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -46,6 +47,11 @@ class GroupImpl implements Group {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -68,6 +74,18 @@ class GroupImpl implements Group {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetGroupRequest request,
+            ResultCapture<GetGroupResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.GroupPolicy;
 import com.amazonaws.resources.identitymanagement.GroupPolicyCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -57,4 +62,20 @@ class GroupPolicyCollectionImpl implements GroupPolicyCollection {
         return new StandardResourcePage<GroupPolicy>(impl.firstPage(extractor),
                 GroupPolicyImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<GroupPolicy>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<GroupPolicy>(
+                impl.firstPageAsync(null, executor),
+                GroupPolicyImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<GroupPolicy> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<GroupPolicy>(
+                impl.withPrefetch(depth, executor),
+                GroupPolicyImpl.CODEC);
+    }
 }
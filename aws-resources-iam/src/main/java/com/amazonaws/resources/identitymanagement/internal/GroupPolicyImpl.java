@@ -18,13 +18,14 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.Group;
 import com.amazonaws.resources.identitymanagement.GroupPolicy;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.DeleteGroupPolicyRequest;
 import com.amazonaws.services.identitymanagement.model.GetGroupPolicyRequest;
 import com.amazonaws.services.identitymanagement.model.GetGroupPolicyResult;
 import com.amazonaws.services.identitymanagement.model.PutGroupPolicyRequest;
 
-class GroupPolicyImpl implements GroupPolicy {
+class GroupPolicyImpl implements GroupPolicy, ResourceFacade {
     public static final ResourceCodec<GroupPolicy> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -33,6 +34,11 @@ class GroupPolicyImpl implements GroupPolicy {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -55,6 +61,18 @@ class GroupPolicyImpl implements GroupPolicy {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetGroupPolicyRequest request,
+            ResultCapture<GetGroupPolicyResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
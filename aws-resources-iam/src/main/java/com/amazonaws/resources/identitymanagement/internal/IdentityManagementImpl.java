@@ -44,7 +44,7 @@ import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.internal.ServiceImpl;
 import com.amazonaws.resources.internal.V1ServiceInterface;
 import com.amazonaws.resources.internal.model.ServiceModel;
-import com.amazonaws.resources.internal.model.V1ModelLoader;
+import com.amazonaws.resources.internal.model.ServiceModelRegistry;
 import com.amazonaws.services.identitymanagement.AmazonIdentityManagement;
 import com.amazonaws.services.identitymanagement.AmazonIdentityManagementClient;
 import com.amazonaws.services.identitymanagement.model.ChangePasswordRequest;
@@ -119,7 +119,7 @@ public class IdentityManagementImpl implements IdentityManagement {
      *         use to make API calls.
      */
     public IdentityManagementImpl(AmazonIdentityManagement client) {
-        ServiceModel model = V1ModelLoader.load(IdentityManagement.class,
+        ServiceModel model = ServiceModelRegistry.getModel(IdentityManagement.class,
                 IdentityManagement.class.getAnnotation(V1ServiceInterface.class).model());
 
         this.service = new ServiceImpl<AmazonIdentityManagement>(model, client);
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.InstanceProfile;
 import com.amazonaws.resources.identitymanagement.InstanceProfileCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class InstanceProfileCollectionImpl implements InstanceProfileCollection {
                 StandardResourcePage<InstanceProfile>(impl.firstPage(extractor),
                 InstanceProfileImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<InstanceProfile>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<InstanceProfile>(
+                impl.firstPageAsync(null, executor),
+                InstanceProfileImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<InstanceProfile> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<InstanceProfile>(
+                impl.withPrefetch(depth, executor),
+                InstanceProfileImpl.CODEC);
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.InstanceProfile;
 import com.amazonaws.resources.identitymanagement.Role;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import
 com.amazonaws.services.identitymanagement.model.AddRoleToInstanceProfileRequest;
@@ -34,7 +35,7 @@ import
 com.amazonaws.services.identitymanagement.model.RemoveRoleFromInstanceProfileRequest
 ;
 
-class InstanceProfileImpl implements InstanceProfile {
+class InstanceProfileImpl implements InstanceProfile, ResourceFacade {
     public static final ResourceCodec<InstanceProfile> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -43,6 +44,11 @@ class InstanceProfileImpl implements InstanceProfile {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -65,6 +71,18 @@ class InstanceProfileImpl implements InstanceProfile {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetInstanceProfileRequest request,
+            ResultCapture<GetInstanceProfileResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
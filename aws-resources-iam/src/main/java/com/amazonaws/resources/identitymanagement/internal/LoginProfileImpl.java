@@ -21,6 +21,7 @@ import com.amazonaws.resources.identitymanagement.LoginProfile;
 import com.amazonaws.resources.identitymanagement.User;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.CreateLoginProfileRequest
 ;
@@ -32,7 +33,7 @@ import com.amazonaws.services.identitymanagement.model.GetLoginProfileResult;
 import com.amazonaws.services.identitymanagement.model.UpdateLoginProfileRequest
 ;
 
-class LoginProfileImpl implements LoginProfile {
+class LoginProfileImpl implements LoginProfile, ResourceFacade {
     public static final ResourceCodec<LoginProfile> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -41,6 +42,11 @@ class LoginProfileImpl implements LoginProfile {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -63,6 +69,18 @@ class LoginProfileImpl implements LoginProfile {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetLoginProfileRequest request,
+            ResultCapture<GetLoginProfileResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getUserName() {
         return (String) resource.getIdentifier("UserName");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.MfaDevice;
 import com.amazonaws.resources.identitymanagement.MfaDeviceCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class MfaDeviceCollectionImpl implements MfaDeviceCollection {
         return new StandardResourcePage<MfaDevice>(impl.firstPage(extractor),
                 MfaDeviceImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<MfaDevice>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<MfaDevice>(
+                impl.firstPageAsync(null, executor),
+                MfaDeviceImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<MfaDevice> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<MfaDevice>(
+                impl.withPrefetch(depth, executor),
+                MfaDeviceImpl.CODEC);
+    }
 }
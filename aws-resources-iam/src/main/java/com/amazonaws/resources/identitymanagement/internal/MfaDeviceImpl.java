@@ -20,13 +20,14 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.MfaDevice;
 import com.amazonaws.resources.identitymanagement.User;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import
 com.amazonaws.services.identitymanagement.model.DeactivateMFADeviceRequest;
 import com.amazonaws.services.identitymanagement.model.EnableMFADeviceRequest;
 import com.amazonaws.services.identitymanagement.model.ResyncMFADeviceRequest;
 
-class MfaDeviceImpl implements MfaDevice {
+class MfaDeviceImpl implements MfaDevice, ResourceFacade {
     public static final ResourceCodec<MfaDevice> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -35,6 +36,11 @@ class MfaDeviceImpl implements MfaDevice {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.Role;
 import com.amazonaws.resources.identitymanagement.RoleCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,18 @@ class RoleCollectionImpl implements RoleCollection {
         return new StandardResourcePage<Role>(impl.firstPage(extractor),
                 RoleImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Role>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Role>(
+                impl.firstPageAsync(null, executor),
+                RoleImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Role> withPrefetch(int depth, Executor executor) {
+        return new StandardResourceCollection<Role>(
+                impl.withPrefetch(depth, executor),
+                RoleImpl.CODEC);
+    }
 }
@@ -23,6 +23,7 @@ import com.amazonaws.resources.identitymanagement.RolePolicy;
 import com.amazonaws.resources.identitymanagement.RolePolicyCollection;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.DeleteRoleRequest;
 import com.amazonaws.services.identitymanagement.model.GetRoleRequest;
@@ -34,7 +35,7 @@ import com.amazonaws.services.identitymanagement.model.ListRolePoliciesRequest;
 import
 com.amazonaws.services.identitymanagement.model.UpdateAssumeRolePolicyRequest;
 
-class RoleImpl implements Role {
+class RoleImpl implements Role, ResourceFacade {
     public static final ResourceCodec<Role> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -43,6 +44,11 @@ class RoleImpl implements Role {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -65,6 +71,18 @@ class RoleImpl implements Role {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetRoleRequest request,
+            ResultCapture<GetRoleResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
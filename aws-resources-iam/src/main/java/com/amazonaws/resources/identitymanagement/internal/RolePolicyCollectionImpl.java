@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.RolePolicy;
 import com.amazonaws.resources.identitymanagement.RolePolicyCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class RolePolicyCollectionImpl implements RolePolicyCollection {
         return new StandardResourcePage<RolePolicy>(impl.firstPage(extractor),
                 RolePolicyImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<RolePolicy>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<RolePolicy>(
+                impl.firstPageAsync(null, executor),
+                RolePolicyImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<RolePolicy> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<RolePolicy>(
+                impl.withPrefetch(depth, executor),
+                RolePolicyImpl.CODEC);
+    }
 }
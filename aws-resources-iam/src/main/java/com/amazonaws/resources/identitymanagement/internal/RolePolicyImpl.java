@@ -18,13 +18,14 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.Role;
 import com.amazonaws.resources.identitymanagement.RolePolicy;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.DeleteRolePolicyRequest;
 import com.amazonaws.services.identitymanagement.model.GetRolePolicyRequest;
 import com.amazonaws.services.identitymanagement.model.GetRolePolicyResult;
 import com.amazonaws.services.identitymanagement.model.PutRolePolicyRequest;
 
-class RolePolicyImpl implements RolePolicy {
+class RolePolicyImpl implements RolePolicy, ResourceFacade {
     public static final ResourceCodec<RolePolicy> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -33,6 +34,11 @@ class RolePolicyImpl implements RolePolicy {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -55,6 +61,18 @@ class RolePolicyImpl implements RolePolicy {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetRolePolicyRequest request,
+            ResultCapture<GetRolePolicyResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
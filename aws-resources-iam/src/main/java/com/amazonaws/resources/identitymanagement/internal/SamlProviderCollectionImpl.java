@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.SamlProvider;
 import com.amazonaws.resources.identitymanagement.SamlProviderCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -57,4 +62,22 @@ class SamlProviderCollectionImpl implements SamlProviderCollection {
         return new StandardResourcePage<SamlProvider>(impl.firstPage(extractor),
                 SamlProviderImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<SamlProvider>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<SamlProvider>(
+                impl.firstPageAsync(null, executor),
+                SamlProviderImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<SamlProvider> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<SamlProvider>(
+                impl.withPrefetch(depth, executor),
+                SamlProviderImpl.CODEC);
+    }
 }
@@ -20,6 +20,7 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.SamlProvider;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.DeleteSAMLProviderRequest
 ;
@@ -29,7 +30,7 @@ import com.amazonaws.services.identitymanagement.model.UpdateSAMLProviderRequest
 ;
 import com.amazonaws.services.identitymanagement.model.UpdateSAMLProviderResult;
 
-class SamlProviderImpl implements SamlProvider {
+class SamlProviderImpl implements SamlProvider, ResourceFacade {
     public static final ResourceCodec<SamlProvider> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -38,6 +39,11 @@ class SamlProviderImpl implements SamlProvider {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -60,6 +66,18 @@ class SamlProviderImpl implements SamlProvider {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetSAMLProviderRequest request,
+            ResultCapture<GetSAMLProviderResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getArn() {
         return (String) resource.getIdentifier("Arn");
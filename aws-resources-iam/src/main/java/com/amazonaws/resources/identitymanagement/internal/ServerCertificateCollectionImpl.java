@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.ServerCertificate;
 import com.amazonaws.resources.identitymanagement.ServerCertificateCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class ServerCertificateCollectionImpl implements ServerCertificateCollection {
                 StandardResourcePage<ServerCertificate>(impl.firstPage(extractor),
                 ServerCertificateImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<ServerCertificate>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<ServerCertificate>(
+                impl.firstPageAsync(null, executor),
+                ServerCertificateImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<ServerCertificate> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<ServerCertificate>(
+                impl.withPrefetch(depth, executor),
+                ServerCertificateImpl.CODEC);
+    }
 }
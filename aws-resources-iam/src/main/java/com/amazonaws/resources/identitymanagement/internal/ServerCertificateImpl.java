@@ -18,6 +18,7 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.ServerCertificate;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import
 com.amazonaws.services.identitymanagement.model.DeleteServerCertificateRequest;
@@ -30,7 +31,7 @@ import com.amazonaws.services.identitymanagement.model.ServerCertificateMetadata
 import
 com.amazonaws.services.identitymanagement.model.UpdateServerCertificateRequest;
 
-class ServerCertificateImpl implements ServerCertificate {
+class ServerCertificateImpl implements ServerCertificate, ResourceFacade {
     public static final ResourceCodec<ServerCertificate> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -39,6 +40,11 @@ class ServerCertificateImpl implements ServerCertificate {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -61,6 +67,18 @@ class ServerCertificateImpl implements ServerCertificate {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetServerCertificateRequest request,
+            ResultCapture<GetServerCertificateResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
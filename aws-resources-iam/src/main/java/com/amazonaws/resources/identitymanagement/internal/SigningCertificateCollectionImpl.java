@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.SigningCertificate;
 import com.amazonaws.resources.identitymanagement.SigningCertificateCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class SigningCertificateCollectionImpl implements SigningCertificateCollection {
                 StandardResourcePage<SigningCertificate>(impl.firstPage(extractor),
                 SigningCertificateImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<SigningCertificate>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<SigningCertificate>(
+                impl.firstPageAsync(null, executor),
+                SigningCertificateImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<SigningCertificate> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<SigningCertificate>(
+                impl.withPrefetch(depth, executor),
+                SigningCertificateImpl.CODEC);
+    }
 }
@@ -19,13 +19,14 @@ import java.util.Date;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.SigningCertificate;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import
 com.amazonaws.services.identitymanagement.model.DeleteSigningCertificateRequest;
 import
 com.amazonaws.services.identitymanagement.model.UpdateSigningCertificateRequest;
 
-class SigningCertificateImpl implements SigningCertificate {
+class SigningCertificateImpl implements SigningCertificate, ResourceFacade {
     public static final ResourceCodec<SigningCertificate> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -34,6 +35,11 @@ class SigningCertificateImpl implements SigningCertificate {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
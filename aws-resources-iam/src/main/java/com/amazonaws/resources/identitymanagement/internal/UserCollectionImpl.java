@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.User;
 import com.amazonaws.resources.identitymanagement.UserCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -54,4 +59,18 @@ class UserCollectionImpl implements UserCollection {
         return new StandardResourcePage<User>(impl.firstPage(extractor),
                 UserImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<User>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<User>(
+                impl.firstPageAsync(null, executor),
+                UserImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<User> withPrefetch(int depth, Executor executor) {
+        return new StandardResourceCollection<User>(
+                impl.withPrefetch(depth, executor),
+                UserImpl.CODEC);
+    }
 }
@@ -29,6 +29,7 @@ import com.amazonaws.resources.identitymanagement.UserPolicyCollection;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.AddUserToGroupRequest;
 import com.amazonaws.services.identitymanagement.model.CreateAccessKeyRequest;
@@ -46,7 +47,7 @@ import
 com.amazonaws.services.identitymanagement.model.RemoveUserFromGroupRequest;
 import com.amazonaws.services.identitymanagement.model.UpdateUserRequest;
 
-class UserImpl implements User {
+class UserImpl implements User, ResourceFacade {
     public static final ResourceCodec<User> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -55,6 +56,11 @@ class UserImpl implements User {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -77,6 +83,18 @@ class UserImpl implements User {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetUserRequest request,
+            ResultCapture<GetUserResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.UserPolicy;
 import com.amazonaws.resources.identitymanagement.UserPolicyCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -55,4 +60,20 @@ class UserPolicyCollectionImpl implements UserPolicyCollection {
         return new StandardResourcePage<UserPolicy>(impl.firstPage(extractor),
                 UserPolicyImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<UserPolicy>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<UserPolicy>(
+                impl.firstPageAsync(null, executor),
+                UserPolicyImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<UserPolicy> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<UserPolicy>(
+                impl.withPrefetch(depth, executor),
+                UserPolicyImpl.CODEC);
+    }
 }
@@ -18,13 +18,14 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.User;
 import com.amazonaws.resources.identitymanagement.UserPolicy;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.services.identitymanagement.model.DeleteUserPolicyRequest;
 import com.amazonaws.services.identitymanagement.model.GetUserPolicyRequest;
 import com.amazonaws.services.identitymanagement.model.GetUserPolicyResult;
 import com.amazonaws.services.identitymanagement.model.PutUserPolicyRequest;
 
-class UserPolicyImpl implements UserPolicy {
+class UserPolicyImpl implements UserPolicy, ResourceFacade {
     public static final ResourceCodec<UserPolicy> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -33,6 +34,11 @@ class UserPolicyImpl implements UserPolicy {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -55,6 +61,18 @@ class UserPolicyImpl implements UserPolicy {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetUserPolicyRequest request,
+            ResultCapture<GetUserPolicyResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getName() {
         return (String) resource.getIdentifier("Name");
@@ -15,13 +15,18 @@
 package com.amazonaws.resources.identitymanagement.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.VirtualMfaDevice;
 import com.amazonaws.resources.identitymanagement.VirtualMfaDeviceCollection;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 
@@ -58,4 +63,22 @@ class VirtualMfaDeviceCollectionImpl implements VirtualMfaDeviceCollection {
                 StandardResourcePage<VirtualMfaDevice>(impl.firstPage(extractor),
                 VirtualMfaDeviceImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<VirtualMfaDevice>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<VirtualMfaDevice>(
+                impl.firstPageAsync(null, executor),
+                VirtualMfaDeviceImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<VirtualMfaDevice> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<VirtualMfaDevice>(
+                impl.withPrefetch(depth, executor),
+                VirtualMfaDeviceImpl.CODEC);
+    }
 }
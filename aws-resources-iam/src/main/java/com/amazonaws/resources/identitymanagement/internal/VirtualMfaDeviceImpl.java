@@ -21,11 +21,12 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.identitymanagement.User;
 import com.amazonaws.resources.identitymanagement.VirtualMfaDevice;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import
 com.amazonaws.services.identitymanagement.model.DeleteVirtualMFADeviceRequest;
 
-class VirtualMfaDeviceImpl implements VirtualMfaDevice {
+class VirtualMfaDeviceImpl implements VirtualMfaDevice, ResourceFacade {
     public static final ResourceCodec<VirtualMfaDevice> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -34,6 +35,11 @@ class VirtualMfaDeviceImpl implements VirtualMfaDevice {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -100,6 +100,24 @@ public interface PlatformApplication {
     boolean load(GetPlatformApplicationAttributesRequest request,
             ResultCapture<GetPlatformApplicationAttributesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetPlatformApplicationAttributesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetPlatformApplicationAttributesRequest
+     */
+    void reload(GetPlatformApplicationAttributesRequest request,
+            ResultCapture<GetPlatformApplicationAttributesResult> extractor);
+
     /**
      * Gets the value of the Arn identifier. This method always directly returns
      * the identifier and never involves a service call.
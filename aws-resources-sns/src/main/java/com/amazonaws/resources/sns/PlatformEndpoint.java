@@ -98,6 +98,24 @@ public interface PlatformEndpoint {
     boolean load(GetEndpointAttributesRequest request,
             ResultCapture<GetEndpointAttributesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetEndpointAttributesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetEndpointAttributesRequest
+     */
+    void reload(GetEndpointAttributesRequest request,
+            ResultCapture<GetEndpointAttributesResult> extractor);
+
     /**
      * Gets the value of the Arn identifier. This method always directly returns
      * the identifier and never involves a service call.
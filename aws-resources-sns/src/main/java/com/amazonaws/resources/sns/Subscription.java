@@ -97,6 +97,24 @@ public interface Subscription {
     boolean load(GetSubscriptionAttributesRequest request,
             ResultCapture<GetSubscriptionAttributesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetSubscriptionAttributesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetSubscriptionAttributesRequest
+     */
+    void reload(GetSubscriptionAttributesRequest request,
+            ResultCapture<GetSubscriptionAttributesResult> extractor);
+
     /**
      * Gets the value of the Arn identifier. This method always directly returns
      * the identifier and never involves a service call.
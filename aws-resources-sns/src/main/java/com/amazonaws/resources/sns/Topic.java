@@ -105,6 +105,24 @@ public interface Topic {
     boolean load(GetTopicAttributesRequest request,
             ResultCapture<GetTopicAttributesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetTopicAttributesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetTopicAttributesRequest
+     */
+    void reload(GetTopicAttributesRequest request,
+            ResultCapture<GetTopicAttributesResult> extractor);
+
     /**
      * Gets the value of the Arn identifier. This method always directly returns
      * the identifier and never involves a service call.
@@ -15,11 +15,16 @@
 package com.amazonaws.resources.sns.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 import com.amazonaws.resources.sns.PlatformApplication;
@@ -60,4 +65,22 @@ class PlatformApplicationCollectionImpl implements PlatformApplicationCollection
                 StandardResourcePage<PlatformApplication>(impl.firstPage(extractor),
                 PlatformApplicationImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<PlatformApplication>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<PlatformApplication>(
+                impl.firstPageAsync(null, executor),
+                PlatformApplicationImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<PlatformApplication> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<PlatformApplication>(
+                impl.withPrefetch(depth, executor),
+                PlatformApplicationImpl.CODEC);
+    }
 }
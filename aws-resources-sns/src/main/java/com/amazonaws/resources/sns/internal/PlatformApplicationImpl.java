@@ -20,6 +20,7 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.sns.PlatformApplication;
 import com.amazonaws.resources.sns.PlatformEndpoint;
@@ -33,7 +34,7 @@ import
 com.amazonaws.services.sns.model.ListEndpointsByPlatformApplicationRequest;
 import com.amazonaws.services.sns.model.SetPlatformApplicationAttributesRequest;
 
-class PlatformApplicationImpl implements PlatformApplication {
+class PlatformApplicationImpl implements PlatformApplication, ResourceFacade {
     public static final ResourceCodec<PlatformApplication> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -42,6 +43,11 @@ class PlatformApplicationImpl implements PlatformApplication {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -64,6 +70,18 @@ class PlatformApplicationImpl implements PlatformApplication {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetPlatformApplicationAttributesRequest request,
+            ResultCapture<GetPlatformApplicationAttributesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getArn() {
         return (String) resource.getIdentifier("Arn");
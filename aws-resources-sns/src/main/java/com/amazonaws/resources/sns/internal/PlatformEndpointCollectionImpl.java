@@ -15,11 +15,16 @@
 package com.amazonaws.resources.sns.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 import com.amazonaws.resources.sns.PlatformEndpoint;
@@ -58,4 +63,22 @@ class PlatformEndpointCollectionImpl implements PlatformEndpointCollection {
                 StandardResourcePage<PlatformEndpoint>(impl.firstPage(extractor),
                 PlatformEndpointImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<PlatformEndpoint>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<PlatformEndpoint>(
+                impl.firstPageAsync(null, executor),
+                PlatformEndpointImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<PlatformEndpoint> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<PlatformEndpoint>(
+                impl.withPrefetch(depth, executor),
+                PlatformEndpointImpl.CODEC);
+    }
 }
@@ -19,6 +19,7 @@ import java.util.Map;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.sns.PlatformEndpoint;
 import com.amazonaws.services.sns.model.DeleteEndpointRequest;
@@ -28,7 +29,7 @@ import com.amazonaws.services.sns.model.PublishRequest;
 import com.amazonaws.services.sns.model.PublishResult;
 import com.amazonaws.services.sns.model.SetEndpointAttributesRequest;
 
-class PlatformEndpointImpl implements PlatformEndpoint {
+class PlatformEndpointImpl implements PlatformEndpoint, ResourceFacade {
     public static final ResourceCodec<PlatformEndpoint> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -37,6 +38,11 @@ class PlatformEndpointImpl implements PlatformEndpoint {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -59,6 +65,18 @@ class PlatformEndpointImpl implements PlatformEndpoint {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetEndpointAttributesRequest request,
+            ResultCapture<GetEndpointAttributesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getArn() {
         return (String) resource.getIdentifier("Arn");
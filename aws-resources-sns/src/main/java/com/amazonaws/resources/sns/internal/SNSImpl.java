@@ -23,7 +23,7 @@ import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.internal.ServiceImpl;
 import com.amazonaws.resources.internal.V1ServiceInterface;
 import com.amazonaws.resources.internal.model.ServiceModel;
-import com.amazonaws.resources.internal.model.V1ModelLoader;
+import com.amazonaws.resources.internal.model.ServiceModelRegistry;
 import com.amazonaws.resources.sns.PlatformApplication;
 import com.amazonaws.resources.sns.PlatformApplicationCollection;
 import com.amazonaws.resources.sns.PlatformEndpoint;
@@ -67,7 +67,7 @@ public class SNSImpl implements SNS {
      *         use to make API calls.
      */
     public SNSImpl(AmazonSNS client) {
-        ServiceModel model = V1ModelLoader.load(SNS.class,
+        ServiceModel model = ServiceModelRegistry.getModel(SNS.class,
                 SNS.class.getAnnotation(V1ServiceInterface.class).model());
 
         this.service = new ServiceImpl<AmazonSNS>(model, client);
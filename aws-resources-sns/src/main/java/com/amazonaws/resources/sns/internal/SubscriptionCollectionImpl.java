@@ -15,11 +15,16 @@
 package com.amazonaws.resources.sns.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 import com.amazonaws.resources.sns.Subscription;
@@ -57,4 +62,22 @@ class SubscriptionCollectionImpl implements SubscriptionCollection {
         return new StandardResourcePage<Subscription>(impl.firstPage(extractor),
                 SubscriptionImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Subscription>> firstPageAsync(
+            Executor executor) {
+
+        return new StandardPageFuture<Subscription>(
+                impl.firstPageAsync(null, executor),
+                SubscriptionImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Subscription> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Subscription>(
+                impl.withPrefetch(depth, executor),
+                SubscriptionImpl.CODEC);
+    }
 }
@@ -18,6 +18,7 @@ import java.util.Map;
 
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.sns.Subscription;
 import com.amazonaws.resources.sns.Topic;
@@ -26,7 +27,7 @@ import com.amazonaws.services.sns.model.GetSubscriptionAttributesResult;
 import com.amazonaws.services.sns.model.SetSubscriptionAttributesRequest;
 import com.amazonaws.services.sns.model.UnsubscribeRequest;
 
-class SubscriptionImpl implements Subscription {
+class SubscriptionImpl implements Subscription, ResourceFacade {
     public static final ResourceCodec<Subscription> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -35,6 +36,11 @@ class SubscriptionImpl implements Subscription {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -57,6 +63,18 @@ class SubscriptionImpl implements Subscription {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetSubscriptionAttributesRequest request,
+            ResultCapture<GetSubscriptionAttributesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getArn() {
         return (String) resource.getIdentifier("Arn");
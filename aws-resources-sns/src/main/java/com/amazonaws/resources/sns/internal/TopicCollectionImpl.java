@@ -15,11 +15,16 @@
 package com.amazonaws.resources.sns.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 import com.amazonaws.resources.sns.Topic;
@@ -54,4 +59,20 @@ class TopicCollectionImpl implements TopicCollection {
         return new StandardResourcePage<Topic>(impl.firstPage(extractor),
                 TopicImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Topic>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Topic>(
+                impl.firstPageAsync(null, executor),
+                TopicImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Topic> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Topic>(
+                impl.withPrefetch(depth, executor),
+                TopicImpl.CODEC);
+    }
 }
@@ -21,6 +21,7 @@ import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.sns.Subscription;
 import com.amazonaws.resources.sns.SubscriptionCollection;
@@ -39,7 +40,7 @@ import com.amazonaws.services.sns.model.SetTopicAttributesRequest;
 import com.amazonaws.services.sns.model.SubscribeRequest;
 import com.amazonaws.services.sns.model.SubscribeResult;
 
-class TopicImpl implements Topic {
+class TopicImpl implements Topic, ResourceFacade {
     public static final ResourceCodec<Topic> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -48,6 +49,11 @@ class TopicImpl implements Topic {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -70,6 +76,18 @@ class TopicImpl implements Topic {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetTopicAttributesRequest request,
+            ResultCapture<GetTopicAttributesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
     @Override
     public String getArn() {
         return (String) resource.getIdentifier("Arn");
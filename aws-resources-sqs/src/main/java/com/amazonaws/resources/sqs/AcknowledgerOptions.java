@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controls how a {@link MessageAcknowledger} batches requests. An entry
+ * waits at most {@code maxLinger} for nine others to join it before it is
+ * sent in a smaller batch. Entries which fail on the service side are
+ * retried in a later batch up to {@code maxRetries} times.
+ */
+public final class AcknowledgerOptions {
+
+    private long maxLinger = 200;
+    private int maxRetries = 3;
+
+    /**
+     * @param unit the unit to return the linger time in
+     * @return the longest time an entry waits for a batch to fill up
+     */
+    public long getMaxLinger(TimeUnit unit) {
+        return unit.convert(maxLinger, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param linger the longest time an entry waits for a batch to fill up
+     * @param unit the unit of {@code linger}
+     */
+    public void setMaxLinger(long linger, TimeUnit unit) {
+        if (linger < 0) {
+            throw new IllegalArgumentException(
+                    "linger cannot be negative: " + linger);
+        }
+        this.maxLinger = unit.toMillis(linger);
+    }
+
+    /**
+     * @param linger the longest time an entry waits for a batch to fill up
+     * @param unit the unit of {@code linger}
+     * @return this object, for method chaining
+     */
+    public AcknowledgerOptions withMaxLinger(long linger, TimeUnit unit) {
+        setMaxLinger(linger, unit);
+        return this;
+    }
+
+
+    /**
+     * @return how many times an entry which failed on the service side is
+     *         retried
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @param retries how many times an entry which failed on the service
+     *            side is retried
+     */
+    public void setMaxRetries(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException(
+                    "retries cannot be negative: " + retries);
+        }
+        this.maxRetries = retries;
+    }
+
+    /**
+     * @param retries how many times an entry which failed on the service
+     *            side is retried
+     * @return this object, for method chaining
+     */
+    public AcknowledgerOptions withMaxRetries(int retries) {
+        setMaxRetries(retries);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "{maxLinger=" + maxLinger
+                + ", maxRetries=" + maxRetries + "}";
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+/**
+ * Controls how a {@link QueueConsumer} receives and handles messages.
+ * <p>
+ * Each receiver thread repeatedly long-polls the queue for up to ten
+ * messages at a time and hands them to a fixed pool of worker threads.
+ * At most {@code maxInFlight} messages are held by the consumer at once -
+ * received but not yet handled - so receivers stop polling while the
+ * workers are behind.
+ */
+public final class ConsumerOptions {
+
+    private int receivers = 2;
+    private int workers = 10;
+    private int maxInFlight = 100;
+    private int waitTimeSeconds = 20;
+    private Integer visibilityTimeout;
+    private Integer heartbeatTimeout;
+    private AcknowledgerOptions acknowledgerOptions;
+
+    /**
+     * @return the number of threads long-polling the queue
+     */
+    public int getReceivers() {
+        return receivers;
+    }
+
+    /**
+     * @param receivers the number of threads long-polling the queue
+     */
+    public void setReceivers(int receivers) {
+        this.receivers = checkPositive(receivers, "receivers");
+    }
+
+    /**
+     * @param receivers the number of threads long-polling the queue
+     * @return this object, for method chaining
+     */
+    public ConsumerOptions withReceivers(int receivers) {
+        setReceivers(receivers);
+        return this;
+    }
+
+
+    /**
+     * @return the number of threads handling messages
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @param workers the number of threads handling messages
+     */
+    public void setWorkers(int workers) {
+        this.workers = checkPositive(workers, "workers");
+    }
+
+    /**
+     * @param workers the number of threads handling messages
+     * @return this object, for method chaining
+     */
+    public ConsumerOptions withWorkers(int workers) {
+        setWorkers(workers);
+        return this;
+    }
+
+
+    /**
+     * @return the most messages that may be received but not yet handled
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @param maxInFlight the most messages that may be received but not yet
+     *            handled
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = checkPositive(maxInFlight, "maxInFlight");
+    }
+
+    /**
+     * @param maxInFlight the most messages that may be received but not yet
+     *            handled
+     * @return this object, for method chaining
+     */
+    public ConsumerOptions withMaxInFlight(int maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        return this;
+    }
+
+
+    /**
+     * @return how long each receive waits for messages to arrive
+     */
+    public int getWaitTimeSeconds() {
+        return waitTimeSeconds;
+    }
+
+    /**
+     * @param seconds how long each receive waits for messages to arrive,
+     *            from 0 to 20
+     */
+    public void setWaitTimeSeconds(int seconds) {
+        if (seconds < 0 || seconds > 20) {
+            throw new IllegalArgumentException(
+                    "waitTimeSeconds must be between 0 and 20: " + seconds);
+        }
+        this.waitTimeSeconds = seconds;
+    }
+
+    /**
+     * @param seconds how long each receive waits for messages to arrive,
+     *            from 0 to 20
+     * @return this object, for method chaining
+     */
+    public ConsumerOptions withWaitTimeSeconds(int seconds) {
+        setWaitTimeSeconds(seconds);
+        return this;
+    }
+
+
+    /**
+     * @return the visibility timeout for received messages, or null to use
+     *         the queue's default; ignored if a heartbeat timeout is set
+     */
+    public Integer getVisibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    /**
+     * @param seconds the visibility timeout for received messages, or null
+     *            to use the queue's default; ignored if a heartbeat timeout
+     *            is set
+     */
+    public void setVisibilityTimeout(Integer seconds) {
+        if (seconds != null && seconds < 0) {
+            throw new IllegalArgumentException(
+                    "visibilityTimeout cannot be negative: " + seconds);
+        }
+        this.visibilityTimeout = seconds;
+    }
+
+    /**
+     * @param seconds the visibility timeout for received messages, or null
+     *            to use the queue's default; ignored if a heartbeat timeout
+     *            is set
+     * @return this object, for method chaining
+     */
+    public ConsumerOptions withVisibilityTimeout(Integer seconds) {
+        setVisibilityTimeout(seconds);
+        return this;
+    }
+
+
+    /**
+     * @return the visibility timeout that messages are received with and
+     *         kept extended to while being handled, or null to not extend
+     *         it
+     * @see MessageHeartbeat
+     */
+    public Integer getHeartbeatTimeout() {
+        return heartbeatTimeout;
+    }
+
+    /**
+     * @param seconds the visibility timeout that messages are received with
+     *            and kept extended to while being handled, or null to not
+     *            extend it
+     */
+    public void setHeartbeatTimeout(Integer seconds) {
+        if (seconds != null && seconds < 2) {
+            throw new IllegalArgumentException(
+                    "heartbeatTimeout must be at least 2: " + seconds);
+        }
+        this.heartbeatTimeout = seconds;
+    }
+
+    /**
+     * @param seconds the visibility timeout that messages are received with
+     *            and kept extended to while being handled, or null to not
+     *            extend it
+     * @return this object, for method chaining
+     */
+    public ConsumerOptions withHeartbeatTimeout(Integer seconds) {
+        setHeartbeatTimeout(seconds);
+        return this;
+    }
+
+
+    /**
+     * @return the options for batching deletes, or null for the defaults
+     */
+    public AcknowledgerOptions getAcknowledgerOptions() {
+        return acknowledgerOptions;
+    }
+
+    /**
+     * @param options the options for batching deletes, or null for the
+     *            defaults
+     */
+    public void setAcknowledgerOptions(AcknowledgerOptions options) {
+        this.acknowledgerOptions = options;
+    }
+
+    /**
+     * @param options the options for batching deletes, or null for the
+     *            defaults
+     * @return this object, for method chaining
+     */
+    public ConsumerOptions withAcknowledgerOptions(
+            AcknowledgerOptions options) {
+
+        setAcknowledgerOptions(options);
+        return this;
+    }
+
+    private static int checkPositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(
+                    name + " must be at least 1: " + value);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "{receivers=" + receivers
+                + ", workers=" + workers
+                + ", maxInFlight=" + maxInFlight
+                + ", waitTimeSeconds=" + waitTimeSeconds
+                + ", visibilityTimeout=" + visibilityTimeout
+                + ", heartbeatTimeout=" + heartbeatTimeout
+                + ", acknowledgerOptions=" + acknowledgerOptions + "}";
+    }
+}
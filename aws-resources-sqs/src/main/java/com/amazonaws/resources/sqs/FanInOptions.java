@@ -0,0 +1,287 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controls how a consumer started by {@link SQS#consumeQueues(String,
+ * MessageHandler, FanInOptions)} shares its threads between queues.
+ * <p>
+ * A fixed number of poller threads is shared by every queue. Each poll
+ * goes to the queue that has recently been yielding the most messages, and
+ * a busy queue may be polled by several pollers at once; queues that yield
+ * nothing are polled without waiting and then skipped for a while, for up
+ * to {@code maxIdleBackoff}, so a few pollers can keep watch over many
+ * idle queues. At most {@code maxInFlight} messages from all queues are
+ * held by the consumer at once. The set of queues is refreshed every
+ * {@code refreshInterval}.
+ */
+public final class FanInOptions {
+
+    private int pollers = 10;
+    private int workers = 10;
+    private int maxInFlight = 100;
+    private int waitTimeSeconds = 20;
+    private Integer visibilityTimeout;
+    private long maxIdleBackoff = TimeUnit.SECONDS.toMillis(30);
+    private long refreshInterval = TimeUnit.MINUTES.toMillis(1);
+    private AcknowledgerOptions acknowledgerOptions;
+
+    /**
+     * @return the number of threads polling the queues
+     */
+    public int getPollers() {
+        return pollers;
+    }
+
+    /**
+     * @param pollers the number of threads polling the queues
+     */
+    public void setPollers(int pollers) {
+        this.pollers = checkPositive(pollers, "pollers");
+    }
+
+    /**
+     * @param pollers the number of threads polling the queues
+     * @return this object, for method chaining
+     */
+    public FanInOptions withPollers(int pollers) {
+        setPollers(pollers);
+        return this;
+    }
+
+
+    /**
+     * @return the number of threads handling messages
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @param workers the number of threads handling messages
+     */
+    public void setWorkers(int workers) {
+        this.workers = checkPositive(workers, "workers");
+    }
+
+    /**
+     * @param workers the number of threads handling messages
+     * @return this object, for method chaining
+     */
+    public FanInOptions withWorkers(int workers) {
+        setWorkers(workers);
+        return this;
+    }
+
+
+    /**
+     * @return the most messages that may be received but not yet handled
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @param maxInFlight the most messages that may be received but not yet
+     *            handled
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = checkPositive(maxInFlight, "maxInFlight");
+    }
+
+    /**
+     * @param maxInFlight the most messages that may be received but not yet
+     *            handled
+     * @return this object, for method chaining
+     */
+    public FanInOptions withMaxInFlight(int maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        return this;
+    }
+
+
+    /**
+     * @return how long each poll of a busy queue waits for messages to
+     *         arrive
+     */
+    public int getWaitTimeSeconds() {
+        return waitTimeSeconds;
+    }
+
+    /**
+     * @param seconds how long each poll of a busy queue waits for messages
+     *            to arrive, from 1 to 20
+     */
+    public void setWaitTimeSeconds(int seconds) {
+        if (seconds < 1 || seconds > 20) {
+            throw new IllegalArgumentException(
+                    "waitTimeSeconds must be between 1 and 20: " + seconds);
+        }
+        this.waitTimeSeconds = seconds;
+    }
+
+    /**
+     * @param seconds how long each poll of a busy queue waits for messages
+     *            to arrive, from 1 to 20
+     * @return this object, for method chaining
+     */
+    public FanInOptions withWaitTimeSeconds(int seconds) {
+        setWaitTimeSeconds(seconds);
+        return this;
+    }
+
+
+    /**
+     * @return the visibility timeout for received messages, or null to use
+     *         each queue's default
+     */
+    public Integer getVisibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    /**
+     * @param seconds the visibility timeout for received messages, or null
+     *            to use each queue's default
+     */
+    public void setVisibilityTimeout(Integer seconds) {
+        if (seconds != null && seconds < 0) {
+            throw new IllegalArgumentException(
+                    "visibilityTimeout cannot be negative: " + seconds);
+        }
+        this.visibilityTimeout = seconds;
+    }
+
+    /**
+     * @param seconds the visibility timeout for received messages, or null
+     *            to use each queue's default
+     * @return this object, for method chaining
+     */
+    public FanInOptions withVisibilityTimeout(Integer seconds) {
+        setVisibilityTimeout(seconds);
+        return this;
+    }
+
+
+    /**
+     * @param unit the unit to return the backoff in
+     * @return the longest time an idle queue is skipped between polls
+     */
+    public long getMaxIdleBackoff(TimeUnit unit) {
+        return unit.convert(maxIdleBackoff, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param backoff the longest time an idle queue is skipped between
+     *            polls
+     * @param unit the unit of {@code backoff}
+     */
+    public void setMaxIdleBackoff(long backoff, TimeUnit unit) {
+        if (backoff < 0) {
+            throw new IllegalArgumentException(
+                    "backoff cannot be negative: " + backoff);
+        }
+        this.maxIdleBackoff = unit.toMillis(backoff);
+    }
+
+    /**
+     * @param backoff the longest time an idle queue is skipped between
+     *            polls
+     * @param unit the unit of {@code backoff}
+     * @return this object, for method chaining
+     */
+    public FanInOptions withMaxIdleBackoff(long backoff, TimeUnit unit) {
+        setMaxIdleBackoff(backoff, unit);
+        return this;
+    }
+
+
+    /**
+     * @param unit the unit to return the interval in
+     * @return how often the set of queues is listed again
+     */
+    public long getRefreshInterval(TimeUnit unit) {
+        return unit.convert(refreshInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param interval how often the set of queues is listed again
+     * @param unit the unit of {@code interval}
+     */
+    public void setRefreshInterval(long interval, TimeUnit unit) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException(
+                    "interval must be positive: " + interval);
+        }
+        this.refreshInterval = unit.toMillis(interval);
+    }
+
+    /**
+     * @param interval how often the set of queues is listed again
+     * @param unit the unit of {@code interval}
+     * @return this object, for method chaining
+     */
+    public FanInOptions withRefreshInterval(long interval, TimeUnit unit) {
+        setRefreshInterval(interval, unit);
+        return this;
+    }
+
+
+    /**
+     * @return the options for batching deletes, or null for the defaults
+     */
+    public AcknowledgerOptions getAcknowledgerOptions() {
+        return acknowledgerOptions;
+    }
+
+    /**
+     * @param options the options for batching deletes, or null for the
+     *            defaults
+     */
+    public void setAcknowledgerOptions(AcknowledgerOptions options) {
+        this.acknowledgerOptions = options;
+    }
+
+    /**
+     * @param options the options for batching deletes, or null for the
+     *            defaults
+     * @return this object, for method chaining
+     */
+    public FanInOptions withAcknowledgerOptions(AcknowledgerOptions options) {
+        setAcknowledgerOptions(options);
+        return this;
+    }
+
+    private static int checkPositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(
+                    name + " must be at least 1: " + value);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "{pollers=" + pollers
+                + ", workers=" + workers
+                + ", maxInFlight=" + maxInFlight
+                + ", waitTimeSeconds=" + waitTimeSeconds
+                + ", visibilityTimeout=" + visibilityTimeout
+                + ", maxIdleBackoff=" + maxIdleBackoff
+                + ", refreshInterval=" + refreshInterval
+                + ", acknowledgerOptions=" + acknowledgerOptions + "}";
+    }
+}
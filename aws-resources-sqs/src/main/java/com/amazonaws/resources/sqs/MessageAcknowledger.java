@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+import java.util.concurrent.Future;
+
+/**
+ * Deletes messages and changes their visibility in batches. Each call
+ * queues a single entry and returns right away; entries are sent ten at a
+ * time with {@code DeleteMessageBatch} or {@code ChangeMessageVisibilityBatch}
+ * as soon as a batch is full, or once the first entry in a partial batch
+ * has waited for the configured linger time.
+ * <p>
+ * Acknowledgers are thread-safe. Entries still waiting to be sent are lost
+ * if the JVM exits, so call {@link #close()} when done with one.
+ *
+ * @see Queue#createAcknowledger(AcknowledgerOptions)
+ */
+public interface MessageAcknowledger {
+
+    /**
+     * Queues a message for deletion.
+     *
+     * @param message a message received from this acknowledger's queue
+     * @return a future which completes when the message has been deleted,
+     *         or fails with the reason it could not be
+     */
+    Future<Void> delete(Message message);
+
+    /**
+     * Queues a change to a message's visibility timeout.
+     *
+     * @param message a message received from this acknowledger's queue
+     * @param visibilityTimeout the new visibility timeout, in seconds
+     * @return a future which completes when the timeout has been changed,
+     *         or fails with the reason it could not be
+     */
+    Future<Void> changeVisibility(Message message, int visibilityTimeout);
+
+    /**
+     * Sends every queued entry right away, without waiting for batches to
+     * fill up.
+     */
+    void flush();
+
+    /**
+     * Sends every queued entry and waits until all of them are complete,
+     * including any retries. Further calls to {@code delete} or
+     * {@code changeVisibility} fail with an {@code IllegalStateException}.
+     */
+    void close();
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+/**
+ * Handles messages delivered by a {@link QueueConsumer}.
+ * <p>
+ * A message is acknowledged - deleted from the queue - if and only if
+ * {@code handle} returns normally. If it throws, the message is left on the
+ * queue and will be delivered again once its visibility timeout expires.
+ * Handlers are called concurrently from the consumer's worker threads and
+ * must be thread-safe.
+ */
+public interface MessageHandler {
+
+    /**
+     * Handles a single message.
+     *
+     * @param message the message to handle
+     * @throws Exception to leave the message on the queue for redelivery
+     */
+    void handle(Message message) throws Exception;
+}
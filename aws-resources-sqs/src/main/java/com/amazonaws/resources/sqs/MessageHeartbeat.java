@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+/**
+ * Keeps messages invisible to other consumers while they are being
+ * handled, by extending their visibility timeout before it runs out.
+ * <p>
+ * A single heartbeat can track any number of messages from its queue. It
+ * checks them on a shared scheduler, and every message that has used up
+ * half of its visibility timeout since it was tracked or last extended has
+ * its timeout reset, in {@code ChangeMessageVisibilityBatch} requests of
+ * up to ten messages. A message is tracked until it is released, deleted
+ * (with {@link Message#delete()} or through a {@link MessageAcknowledger}
+ * for the same queue), or found to be gone when its timeout is next
+ * extended.
+ *
+ * @see Queue#createHeartbeat(int)
+ */
+public interface MessageHeartbeat {
+
+    /**
+     * Starts extending a message's visibility timeout. The message is
+     * assumed to have just been received with a visibility timeout at
+     * least as long as this heartbeat's.
+     *
+     * @param message a message received from this heartbeat's queue
+     */
+    void track(Message message);
+
+    /**
+     * Stops extending a message's visibility timeout.
+     *
+     * @param message the message to release
+     * @return true if the message was being tracked
+     */
+    boolean release(Message message);
+
+    /**
+     * @return the number of messages currently being tracked
+     */
+    int getTrackedCount();
+
+    /**
+     * Stops extending the visibility timeout of every tracked message,
+     * waiting for any extensions in progress to complete.
+     */
+    void close();
+}
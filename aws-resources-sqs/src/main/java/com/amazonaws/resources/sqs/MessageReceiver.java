@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives messages from a queue ahead of time, so that most calls to
+ * {@code receive} are answered from a local buffer without waiting for a
+ * round trip to the service.
+ * <p>
+ * A background thread long-polls the queue whenever the buffer has room.
+ * Messages are handed out in the order they were received, and never once
+ * so little of their visibility timeout remains that another consumer may
+ * soon receive them too; see {@link ReceiverOptions}. Messages handed out
+ * are the caller's to delete, exactly as if they had come from
+ * {@link Queue#receiveMessages()}.
+ *
+ * @see Queue#createReceiver(ReceiverOptions)
+ */
+public interface MessageReceiver {
+
+    /**
+     * Takes the next message from the buffer, waiting for one to arrive if
+     * the buffer is empty.
+     *
+     * @return the next message, or null if the receiver has been closed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Message receive() throws InterruptedException;
+
+    /**
+     * Takes the next message from the buffer, waiting up to the given time
+     * for one to arrive if the buffer is empty.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of {@code timeout}
+     * @return the next message, or null if none arrived in time or the
+     *         receiver has been closed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Message receive(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * @return the number of messages currently buffered
+     */
+    int getBufferedCount();
+
+    /**
+     * Stops receiving messages and makes any buffered messages visible to
+     * other consumers again.
+     */
+    void close();
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controls how a {@link QueueProducer} batches messages. A message waits
+ * at most {@code flushInterval} for a batch to fill up before it is sent in
+ * a smaller batch. Messages which fail on the service side are resent in a
+ * later batch up to {@code maxRetries} times.
+ */
+public final class ProducerOptions {
+
+    private long flushInterval = 200;
+    private int maxRetries = 3;
+
+    /**
+     * @param unit the unit to return the interval in
+     * @return the longest time a message waits for a batch to fill up
+     */
+    public long getFlushInterval(TimeUnit unit) {
+        return unit.convert(flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param interval the longest time a message waits for a batch to fill
+     *            up
+     * @param unit the unit of {@code interval}
+     */
+    public void setFlushInterval(long interval, TimeUnit unit) {
+        if (interval < 0) {
+            throw new IllegalArgumentException(
+                    "interval cannot be negative: " + interval);
+        }
+        this.flushInterval = unit.toMillis(interval);
+    }
+
+    /**
+     * @param interval the longest time a message waits for a batch to fill
+     *            up
+     * @param unit the unit of {@code interval}
+     * @return this object, for method chaining
+     */
+    public ProducerOptions withFlushInterval(long interval, TimeUnit unit) {
+        setFlushInterval(interval, unit);
+        return this;
+    }
+
+
+    /**
+     * @return how many times a message which failed on the service side is
+     *         resent
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @param retries how many times a message which failed on the service
+     *            side is resent
+     */
+    public void setMaxRetries(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException(
+                    "retries cannot be negative: " + retries);
+        }
+        this.maxRetries = retries;
+    }
+
+    /**
+     * @param retries how many times a message which failed on the service
+     *            side is resent
+     * @return this object, for method chaining
+     */
+    public ProducerOptions withMaxRetries(int retries) {
+        setMaxRetries(retries);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "{flushInterval=" + flushInterval
+                + ", maxRetries=" + maxRetries + "}";
+    }
+}
@@ -16,6 +16,8 @@ package com.amazonaws.resources.sqs;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.services.sqs.model.AddPermissionRequest;
@@ -121,6 +123,37 @@ public interface Queue {
     boolean load(GetQueueAttributesRequest request,
             ResultCapture<GetQueueAttributesResult> extractor);
 
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values.
+     *
+     * @see #reload(GetQueueAttributesRequest, ResultCapture)
+     */
+    void reload();
+
+    /**
+     * Makes a call to the service to load this resource's attributes, even
+     * if they are already loaded, replacing any cached values, and use a
+     * ResultCapture to retrieve the low-level client response.
+     *
+     * @see GetQueueAttributesRequest
+     */
+    void reload(GetQueueAttributesRequest request,
+            ResultCapture<GetQueueAttributesResult> extractor);
+
+    /**
+     * Asynchronously loads this resource's attributes if they are not loaded
+     * yet. The service call is made on the given executor, or on the
+     * executor of the underlying {@code *AsyncClient} if {@code executor}
+     * is null.
+     *
+     * @return A future for the result of
+     *         {@link #load(GetQueueAttributesRequest)}.
+     * @see #load(GetQueueAttributesRequest)
+     */
+    Future<Boolean> loadAsync(GetQueueAttributesRequest request,
+            Executor executor);
+
     /**
      * Gets the value of the Url identifier. This method always directly returns
      * the identifier and never involves a service call.
@@ -313,6 +346,18 @@ public interface Queue {
     SendMessageResult sendMessage(SendMessageRequest request,
             ResultCapture<SendMessageResult> extractor);
 
+    /**
+     * Asynchronously performs the <code>SendMessage</code> action. The service
+     * call is made on the given executor, or on the executor of the
+     * underlying {@code *AsyncClient} if {@code executor} is null.
+     *
+     * @return A future for the result of
+     *         {@link #sendMessage(SendMessageRequest)}.
+     * @see #sendMessage(SendMessageRequest)
+     */
+    Future<SendMessageResult> sendMessageAsync(
+            SendMessageRequest request, Executor executor);
+
     /**
      * The convenient method form for the <code>SendMessage</code> action.
      *
@@ -468,6 +513,92 @@ public interface Queue {
     List<com.amazonaws.resources.sqs.Message> receiveMessages(
             ResultCapture<ReceiveMessageResult> extractor);
 
+    /**
+     * Starts consuming messages from this queue with the default options.
+     *
+     * @see #consume(MessageHandler, ConsumerOptions)
+     */
+    QueueConsumer consume(MessageHandler handler);
+
+    /**
+     * Starts consuming messages from this queue. Messages are received on
+     * {@code options.getReceivers()} long-polling threads and passed to the
+     * handler on a pool of {@code options.getWorkers()} threads; each message
+     * the handler handles successfully is deleted from the queue through a
+     * {@link MessageAcknowledger}.
+     *
+     * @param handler the handler to pass messages to
+     * @param options the consumer options, or null for the defaults
+     * @return the running consumer, which must be shut down when no longer
+     *         needed
+     */
+    QueueConsumer consume(MessageHandler handler, ConsumerOptions options);
+
+    /**
+     * Creates an acknowledger which deletes messages received from this
+     * queue and changes their visibility in batches of up to ten.
+     *
+     * @param options the batching options, or null for the defaults
+     * @return a new acknowledger, which should be closed when no longer
+     *         needed
+     */
+    MessageAcknowledger createAcknowledger(AcknowledgerOptions options);
+
+    /**
+     * Creates a producer which sends messages to this queue in batches of
+     * up to ten messages.
+     *
+     * @param options the batching options, or null for the defaults
+     * @return a new producer, which should be closed when no longer needed
+     */
+    QueueProducer createProducer(ProducerOptions options);
+
+    /**
+     * Creates a heartbeat which keeps messages received from this queue
+     * invisible for as long as they are tracked.
+     *
+     * @param visibilityTimeout the visibility timeout to give tracked
+     *            messages each time they are extended, in seconds
+     * @return a new heartbeat, which should be closed when no longer needed
+     */
+    MessageHeartbeat createHeartbeat(int visibilityTimeout);
+
+    /**
+     * Creates a receiver which keeps a local buffer of messages received
+     * from this queue, so that most receives don't wait on the service.
+     *
+     * @param options the buffering options, or null for the defaults
+     * @return a new receiver, which should be closed when no longer needed
+     */
+    MessageReceiver createReceiver(ReceiverOptions options);
+
+    /**
+     * Moves every message in this queue to another queue, typically to
+     * return messages from a dead letter queue to the queue they came from.
+     * Each message is deleted from this queue only after it has been sent
+     * to the target, and the call returns once this queue is empty. A
+     * message which fails to send is tried again once its visibility
+     * timeout runs out, and is left in this queue if it fails three times;
+     * see {@link RedriveResult}.
+     *
+     * @param target the queue to move messages to
+     * @param options the redrive options, or null for the defaults
+     * @return a summary of the messages moved
+     */
+    RedriveResult redrive(Queue target, RedriveOptions options);
+
+    /**
+     * Moves every message in this dead letter queue back to the queue that
+     * sends its dead letters here.
+     *
+     * @param options the redrive options, or null for the defaults
+     * @return a summary of the messages moved
+     * @throws IllegalStateException if this queue is not the dead letter
+     *            queue of exactly one other queue
+     * @see #redrive(Queue, RedriveOptions)
+     */
+    RedriveResult redrive(RedriveOptions options);
+
     /**
      * Performs the <code>Delete</code> action.
      *
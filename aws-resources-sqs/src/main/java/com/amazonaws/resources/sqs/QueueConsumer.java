@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A consumer started by {@link Queue#consume(MessageHandler,
+ * ConsumerOptions)} or {@link SQS#consumeQueues(String, MessageHandler,
+ * FanInOptions)}, which keeps receiving and handling messages until it is
+ * shut down.
+ */
+public interface QueueConsumer {
+
+    /**
+     * Stops receiving new messages. Messages that have already been
+     * received are still handled and acknowledged; receives in progress
+     * finish their long poll first.
+     */
+    void shutdown();
+
+    /**
+     * @return true if {@link #shutdown()} has been called
+     */
+    boolean isShutdown();
+
+    /**
+     * @return true if the consumer has shut down and every message it
+     *         received has been handled
+     */
+    boolean isTerminated();
+
+    /**
+     * Blocks until the consumer has terminated after a call to
+     * {@link #shutdown()}, or until the timeout elapses.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of {@code timeout}
+     * @return true if the consumer terminated, false if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException;
+}
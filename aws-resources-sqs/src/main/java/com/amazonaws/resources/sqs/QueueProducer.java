@@ -0,0 +1,88 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+import java.util.concurrent.Future;
+
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+
+/**
+ * Sends messages to a queue in batches. Each call to {@code send} queues a
+ * single message and returns right away; messages are sent with
+ * {@code SendMessageBatch} as soon as a batch holds ten messages or 256 KB,
+ * or once the first message in a partial batch has waited for the
+ * configured flush interval.
+ * <p>
+ * Producers are thread-safe. Messages still waiting to be sent are lost if
+ * the JVM exits, so call {@link #close()} when done with one.
+ *
+ * @see Queue#createProducer(ProducerOptions)
+ */
+public interface QueueProducer {
+
+    /**
+     * Queues a message with the given body.
+     *
+     * @param messageBody the body of the message
+     * @return a future for the result of sending the message
+     */
+    Future<SendMessageResult> send(String messageBody);
+
+    /**
+     * Queues a message. The body, delay and message attributes are taken
+     * from the request; its queue URL is ignored.
+     *
+     * @param request the message to send
+     * @return a future for the result of sending the message
+     * @throws IllegalArgumentException if the message is larger than a
+     *             whole batch
+     */
+    Future<SendMessageResult> send(SendMessageRequest request);
+
+    /**
+     * Sends every queued message right away, without waiting for batches to
+     * fill up.
+     */
+    void flush();
+
+    /**
+     * Sends every queued message and waits until all of them are complete,
+     * including any retries. Further calls to {@code send} fail with an
+     * {@code IllegalStateException}.
+     */
+    void close();
+
+    /**
+     * @return the number of messages queued or being sent
+     */
+    int getQueueDepth();
+
+    /**
+     * @return the number of batch requests sent so far
+     */
+    long getBatchesSent();
+
+    /**
+     * @return the average number of messages per batch request, from 0 to
+     *         10
+     */
+    double getAverageBatchFill();
+
+    /**
+     * @return the average size of a batch request in bytes
+     */
+    double getAverageBatchBytes();
+}
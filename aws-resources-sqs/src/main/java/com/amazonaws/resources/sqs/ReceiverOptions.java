@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+/**
+ * Controls how a {@link MessageReceiver} keeps its buffer of messages
+ * topped up.
+ * <p>
+ * Messages sit in the buffer with their visibility timeout already
+ * running, so a message is only handed out while at least
+ * {@code minRemainingVisibility} seconds of its timeout remain. Messages
+ * that outlive that are made visible again right away; like any message
+ * that is received and not deleted, they count towards the queue's
+ * redrive policy, so a buffer that is rarely drained should be kept small.
+ */
+public final class ReceiverOptions {
+
+    private int bufferSize = 10;
+    private int waitTimeSeconds = 20;
+    private int visibilityTimeout = 30;
+    private int minRemainingVisibility = 5;
+
+    /**
+     * @return the most messages to hold in the buffer
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @param bufferSize the most messages to hold in the buffer
+     */
+    public void setBufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException(
+                    "bufferSize must be at least 1: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @param bufferSize the most messages to hold in the buffer
+     * @return this object, for method chaining
+     */
+    public ReceiverOptions withBufferSize(int bufferSize) {
+        setBufferSize(bufferSize);
+        return this;
+    }
+
+
+    /**
+     * @return how long each receive waits for messages to arrive
+     */
+    public int getWaitTimeSeconds() {
+        return waitTimeSeconds;
+    }
+
+    /**
+     * @param seconds how long each receive waits for messages to arrive,
+     *            from 0 to 20
+     */
+    public void setWaitTimeSeconds(int seconds) {
+        if (seconds < 0 || seconds > 20) {
+            throw new IllegalArgumentException(
+                    "waitTimeSeconds must be between 0 and 20: " + seconds);
+        }
+        this.waitTimeSeconds = seconds;
+    }
+
+    /**
+     * @param seconds how long each receive waits for messages to arrive,
+     *            from 0 to 20
+     * @return this object, for method chaining
+     */
+    public ReceiverOptions withWaitTimeSeconds(int seconds) {
+        setWaitTimeSeconds(seconds);
+        return this;
+    }
+
+
+    /**
+     * @return the visibility timeout for received messages
+     */
+    public int getVisibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    /**
+     * @param seconds the visibility timeout for received messages; always
+     *            sent with each receive, since the receiver must know when
+     *            buffered messages expire
+     */
+    public void setVisibilityTimeout(int seconds) {
+        if (seconds < 1) {
+            throw new IllegalArgumentException(
+                    "visibilityTimeout must be at least 1: " + seconds);
+        }
+        this.visibilityTimeout = seconds;
+    }
+
+    /**
+     * @param seconds the visibility timeout for received messages
+     * @return this object, for method chaining
+     */
+    public ReceiverOptions withVisibilityTimeout(int seconds) {
+        setVisibilityTimeout(seconds);
+        return this;
+    }
+
+
+    /**
+     * @return the least visibility timeout a message must have left to be
+     *         handed out of the buffer
+     */
+    public int getMinRemainingVisibility() {
+        return minRemainingVisibility;
+    }
+
+    /**
+     * @param seconds the least visibility timeout a message must have left
+     *            to be handed out of the buffer; less than the visibility
+     *            timeout
+     */
+    public void setMinRemainingVisibility(int seconds) {
+        if (seconds < 0) {
+            throw new IllegalArgumentException(
+                    "minRemainingVisibility cannot be negative: " + seconds);
+        }
+        this.minRemainingVisibility = seconds;
+    }
+
+    /**
+     * @param seconds the least visibility timeout a message must have left
+     *            to be handed out of the buffer
+     * @return this object, for method chaining
+     */
+    public ReceiverOptions withMinRemainingVisibility(int seconds) {
+        setMinRemainingVisibility(seconds);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "{bufferSize=" + bufferSize
+                + ", waitTimeSeconds=" + waitTimeSeconds
+                + ", visibilityTimeout=" + visibilityTimeout
+                + ", minRemainingVisibility=" + minRemainingVisibility + "}";
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+/**
+ * Controls how {@link Queue#redrive(Queue, RedriveOptions)} moves messages
+ * out of a dead letter queue.
+ * <p>
+ * Each mover thread repeatedly receives up to ten messages, sends them to
+ * the target queue in a single batch, and deletes from the dead letter
+ * queue only those which were sent successfully. A mover stops once a
+ * receive comes back empty and no message which failed to send is still
+ * to become visible again, and the redrive is over once every mover has
+ * stopped. Throughput grows with the number of movers, up to the optional
+ * rate limit shared between them.
+ */
+public final class RedriveOptions {
+
+    private int movers = 10;
+    private int maxMessagesPerSecond;
+    private int waitTimeSeconds = 2;
+    private int visibilityTimeout = 60;
+
+    /**
+     * @return the number of threads moving messages
+     */
+    public int getMovers() {
+        return movers;
+    }
+
+    /**
+     * @param movers the number of threads moving messages
+     */
+    public void setMovers(int movers) {
+        if (movers < 1) {
+            throw new IllegalArgumentException(
+                    "movers must be at least 1: " + movers);
+        }
+        this.movers = movers;
+    }
+
+    /**
+     * @param movers the number of threads moving messages
+     * @return this object, for method chaining
+     */
+    public RedriveOptions withMovers(int movers) {
+        setMovers(movers);
+        return this;
+    }
+
+
+    /**
+     * @return the most messages to send per second, or zero for no limit
+     */
+    public int getMaxMessagesPerSecond() {
+        return maxMessagesPerSecond;
+    }
+
+    /**
+     * @param rate the most messages to send per second, or zero for no
+     *            limit
+     */
+    public void setMaxMessagesPerSecond(int rate) {
+        if (rate < 0) {
+            throw new IllegalArgumentException(
+                    "maxMessagesPerSecond cannot be negative: " + rate);
+        }
+        this.maxMessagesPerSecond = rate;
+    }
+
+    /**
+     * @param rate the most messages to send per second, or zero for no
+     *            limit
+     * @return this object, for method chaining
+     */
+    public RedriveOptions withMaxMessagesPerSecond(int rate) {
+        setMaxMessagesPerSecond(rate);
+        return this;
+    }
+
+
+    /**
+     * @return how long each receive waits for messages before the dead
+     *         letter queue is taken to be drained
+     */
+    public int getWaitTimeSeconds() {
+        return waitTimeSeconds;
+    }
+
+    /**
+     * @param seconds how long each receive waits for messages before the
+     *            dead letter queue is taken to be drained, from 1 to 20
+     */
+    public void setWaitTimeSeconds(int seconds) {
+        if (seconds < 1 || seconds > 20) {
+            throw new IllegalArgumentException(
+                    "waitTimeSeconds must be between 1 and 20: " + seconds);
+        }
+        this.waitTimeSeconds = seconds;
+    }
+
+    /**
+     * @param seconds how long each receive waits for messages before the
+     *            dead letter queue is taken to be drained, from 1 to 20
+     * @return this object, for method chaining
+     */
+    public RedriveOptions withWaitTimeSeconds(int seconds) {
+        setWaitTimeSeconds(seconds);
+        return this;
+    }
+
+
+    /**
+     * @return the visibility timeout for received messages, which must
+     *         outlast sending and deleting them
+     */
+    public int getVisibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    /**
+     * @param seconds the visibility timeout for received messages, which
+     *            must outlast sending and deleting them
+     */
+    public void setVisibilityTimeout(int seconds) {
+        if (seconds < 1) {
+            throw new IllegalArgumentException(
+                    "visibilityTimeout must be at least 1: " + seconds);
+        }
+        this.visibilityTimeout = seconds;
+    }
+
+    /**
+     * @param seconds the visibility timeout for received messages, which
+     *            must outlast sending and deleting them
+     * @return this object, for method chaining
+     */
+    public RedriveOptions withVisibilityTimeout(int seconds) {
+        setVisibilityTimeout(seconds);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "{movers=" + movers
+                + ", maxMessagesPerSecond=" + maxMessagesPerSecond
+                + ", waitTimeSeconds=" + waitTimeSeconds
+                + ", visibilityTimeout=" + visibilityTimeout + "}";
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of moving messages out of a dead letter queue.
+ * <p>
+ * A message which fails to send is tried again once its visibility
+ * timeout runs out, and the redrive waits for it to do so; a message which
+ * fails three times is left in the dead letter queue, and counted as a
+ * send failure. Messages which were sent but failed to delete have been
+ * moved, but will also become visible in the dead letter queue again, and
+ * be moved a second time by a later redrive.
+ *
+ * @see Queue#redrive(Queue, RedriveOptions)
+ */
+public final class RedriveResult {
+
+    private final long moved;
+    private final long sendFailures;
+    private final long deleteFailures;
+    private final long elapsed;
+
+    /**
+     * @param moved the number of messages sent to the target queue
+     * @param sendFailures the number of messages which failed every
+     *            attempt to send, and were left in the dead letter queue
+     * @param deleteFailures the number of sent messages which failed to
+     *            delete from the dead letter queue
+     * @param elapsed how long the redrive took, in milliseconds
+     */
+    public RedriveResult(
+            long moved,
+            long sendFailures,
+            long deleteFailures,
+            long elapsed) {
+
+        this.moved = moved;
+        this.sendFailures = sendFailures;
+        this.deleteFailures = deleteFailures;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return the number of messages sent to the target queue
+     */
+    public long getMoved() {
+        return moved;
+    }
+
+    /**
+     * @return the number of messages which failed every attempt to send,
+     *         and were left in the dead letter queue
+     */
+    public long getSendFailures() {
+        return sendFailures;
+    }
+
+    /**
+     * @return the number of sent messages which failed to delete from the
+     *         dead letter queue
+     */
+    public long getDeleteFailures() {
+        return deleteFailures;
+    }
+
+    /**
+     * @param unit the unit to return the time in
+     * @return how long the redrive took
+     */
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsed, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the number of messages moved per second
+     */
+    public double getThroughput() {
+        return (elapsed == 0 ? 0 : moved * 1000.0 / elapsed);
+    }
+
+    @Override
+    public String toString() {
+        return "{moved=" + moved
+                + ", sendFailures=" + sendFailures
+                + ", deleteFailures=" + deleteFailures
+                + ", elapsed=" + elapsed
+                + ", throughput=" + String.format("%.1f", getThroughput())
+                + "}";
+    }
+}
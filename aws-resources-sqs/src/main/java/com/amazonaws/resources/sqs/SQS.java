@@ -133,4 +133,33 @@ public interface SQS extends Service<AmazonSQS> {
      */
     com.amazonaws.resources.sqs.Queue createQueue(String queueName,
             ResultCapture<CreateQueueResult> extractor);
+
+    /**
+     * Starts consuming messages from every queue whose name starts with the
+     * given prefix, with the default options.
+     *
+     * @see #consumeQueues(String, MessageHandler, FanInOptions)
+     */
+    QueueConsumer consumeQueues(String queueNamePrefix,
+            MessageHandler handler);
+
+    /**
+     * Starts consuming messages from every queue whose name starts with the
+     * given prefix. The queues share {@code options.getPollers()} polling
+     * threads, which are allocated to queues according to how many messages
+     * each has recently been yielding; messages are passed to the handler
+     * on a pool of {@code options.getWorkers()} threads, and deleted once
+     * handled successfully. Queues are listed again every
+     * {@code options.getRefreshInterval()} to pick up new queues and drop
+     * deleted ones.
+     *
+     * @param queueNamePrefix the prefix of the names of the queues to
+     *            consume from
+     * @param handler the handler to pass messages to
+     * @param options the consumer options, or null for the defaults
+     * @return the running consumer, which must be shut down when no longer
+     *         needed
+     */
+    QueueConsumer consumeQueues(String queueNamePrefix,
+            MessageHandler handler, FanInOptions options);
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+
+/**
+ * Buffers entries for one of the SQS batch actions and sends them in
+ * batches, for the client-side batching helpers.
+ * <p>
+ * A batch is sent on the shared scheduler as soon as it is full - it has
+ * {@code maxEntries} entries, or adding the next entry would take it past
+ * {@code maxBytes} - and otherwise by a timer once its first entry has
+ * waited for the linger time. Subclasses send a batch and report each
+ * entry as either complete or to be retried; retried entries go back into
+ * the buffer behind any new ones.
+ *
+ * @param <E> the type of entry
+ */
+abstract class Batcher<E> {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxLinger;
+
+    private List<E> pending = new ArrayList<>();
+    private long pendingBytes;
+    private Linger linger;
+
+    private int outstanding;
+    private boolean closed;
+
+    /**
+     * @param maxEntries the most entries in a single batch
+     * @param maxBytes the most bytes in a single batch
+     * @param maxLinger the longest an entry waits for a batch to fill up,
+     *            in milliseconds
+     */
+    protected Batcher(int maxEntries, long maxBytes, long maxLinger) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.maxLinger = maxLinger;
+    }
+
+    /**
+     * Sends a single batch. Implementations must call either
+     * {@link #complete()} or {@link #retry(Object)} once for every entry in
+     * the batch, even if the request fails.
+     */
+    protected abstract void send(List<E> batch);
+
+    /**
+     * @return the size of the given entry, counted against
+     *         {@code maxBytes}
+     */
+    protected long sizeOf(E entry) {
+        return 0;
+    }
+
+    /**
+     * Adds a new entry to the buffer.
+     *
+     * @throws IllegalStateException if this batcher has been closed
+     */
+    public void add(E entry) {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException(
+                        "No more entries can be added after close");
+            }
+            outstanding += 1;
+        }
+        buffer(entry);
+    }
+
+    /**
+     * Puts an entry from a batch that was just sent back into the buffer,
+     * to be sent again.
+     */
+    protected void retry(E entry) {
+        buffer(entry);
+    }
+
+    /**
+     * Marks an entry from a batch that was just sent as complete.
+     */
+    protected synchronized void complete() {
+        outstanding -= 1;
+        if (outstanding == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return the number of entries which have been added but are not yet
+     *         complete
+     */
+    public synchronized int getOutstanding() {
+        return outstanding;
+    }
+
+    /**
+     * Sends everything in the buffer right away, on the calling thread.
+     */
+    public void flush() {
+        List<E> batch;
+        synchronized (this) {
+            batch = take();
+        }
+        sendIfNotEmpty(batch);
+    }
+
+    /**
+     * Stops accepting new entries, and sends everything in the buffer and
+     * waits until every entry is complete, including any retries.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+
+        boolean interrupted = false;
+        try {
+
+            while (true) {
+                flush();
+
+                synchronized (this) {
+                    if (outstanding == 0) {
+                        return;
+                    }
+                    try {
+                        // Wake up to flush again if entries are retried.
+                        wait(Math.max(1, maxLinger));
+                    } catch (InterruptedException exception) {
+                        interrupted = true;
+                    }
+                }
+            }
+
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return true if a batch entry failed because of something wrong with
+     *         the entry itself, so there's no point retrying it
+     */
+    protected static boolean isSenderFault(BatchResultErrorEntry error) {
+        return Boolean.TRUE.equals(error.getSenderFault());
+    }
+
+    /**
+     * @return an exception describing a failed batch entry
+     */
+    protected static AmazonServiceException toException(
+            BatchResultErrorEntry error) {
+
+        AmazonServiceException exception =
+                new AmazonServiceException(error.getMessage());
+
+        exception.setErrorCode(error.getCode());
+        exception.setErrorType(isSenderFault(error)
+                ? ErrorType.Client
+                : ErrorType.Service);
+        exception.setServiceName("AmazonSQS");
+        return exception;
+    }
+
+    private void buffer(E entry) {
+        long size = sizeOf(entry);
+        List<E> overflow = null;
+        List<E> full = null;
+
+        synchronized (this) {
+            if (!pending.isEmpty() && pendingBytes + size > maxBytes) {
+                overflow = take();
+            }
+
+            pending.add(entry);
+            pendingBytes += size;
+
+            if (pending.size() >= maxEntries || pendingBytes >= maxBytes) {
+                full = take();
+            } else if (linger == null) {
+                linger = new Linger();
+                linger.future = SharedScheduler.INSTANCE.schedule(
+                        linger, maxLinger, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        sendLater(overflow);
+        sendLater(full);
+    }
+
+    private void expire(Linger expired) {
+        List<E> batch;
+        synchronized (this) {
+            if (linger != expired) {
+                // Already sent because it filled up or was flushed.
+                return;
+            }
+            batch = take();
+        }
+        sendIfNotEmpty(batch);
+    }
+
+    /**
+     * Takes everything in the buffer and cancels the linger timer. Callers
+     * must hold the lock.
+     */
+    private List<E> take() {
+        if (linger != null) {
+            linger.future.cancel(false);
+            linger = null;
+        }
+
+        List<E> taken = pending;
+        pending = new ArrayList<>();
+        pendingBytes = 0;
+        return taken;
+    }
+
+    private void sendLater(final List<E> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        SharedScheduler.INSTANCE.execute(new Runnable() {
+            @Override
+            public void run() {
+                send(batch);
+            }
+        });
+    }
+
+    private void sendIfNotEmpty(List<E> batch) {
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Sends a partial batch once its first entry has waited long enough.
+     */
+    private final class Linger implements Runnable {
+
+        private Future<?> future;
+
+        @Override
+        public void run() {
+            expire(this);
+        }
+    }
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.internal.NamedThreadFactory;
+import com.amazonaws.resources.sqs.FanInOptions;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageAcknowledger;
+import com.amazonaws.resources.sqs.MessageHandler;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.QueueConsumer;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+
+/**
+ * Consumes messages from every queue whose name starts with a prefix,
+ * sharing a fixed number of poller threads between them.
+ * <p>
+ * Each queue keeps a moving average of how many messages its recent polls
+ * returned. A free poller first looks for a queue that is due to be polled
+ * and isn't being polled at all, and only if there is none does it add a
+ * further poll to a queue already being polled, up to as many as the
+ * queue's average allows: one for a queue that yields nothing, up to all
+ * but one of the pollers for a queue whose polls come back full. Either
+ * way it takes the queue with the highest average, ties going to the
+ * queue that was polled least recently.
+ * <p>
+ * Queues which have been yielding nothing are probed with short polls,
+ * which return at once, so a few pollers can sweep many idle queues;
+ * queues which yield messages get long polls. A poll that returns nothing
+ * doubles the time until the queue is next due, up to the maximum idle
+ * backoff; one that returns messages resets it.
+ * <p>
+ * Messages are handled and deleted as by {@link QueueConsumerImpl}, with
+ * one {@code MessageAcknowledger} per queue.
+ */
+class FanInConsumerImpl implements QueueConsumer {
+
+    private static final Log LOG = LogFactory.getLog(FanInConsumerImpl.class);
+
+    /**
+     * The most messages a single receive can return.
+     */
+    private static final int MAX_MESSAGES = 10;
+
+    /**
+     * How long a poll of a queue which has been yielding nothing waits;
+     * such polls are short polls.
+     */
+    private static final int PROBE_WAIT_SECONDS = 0;
+
+    /**
+     * The weight of the latest poll in a queue's moving average.
+     */
+    private static final double YIELD_WEIGHT = 0.3;
+
+    private static final long INITIAL_BACKOFF = 500;
+    private static final long MAX_WAIT = TimeUnit.SECONDS.toMillis(1);
+
+    private final SQS sqs;
+    private final String queueNamePrefix;
+    private final MessageHandler handler;
+    private final FanInOptions options;
+    private final int maxPollsPerQueue;
+
+    private final Map<String, QueueState> queues = new HashMap<>();
+    private final List<QueueState> retired = new ArrayList<>();
+
+    private final Semaphore inFlight;
+    private final ThreadPoolExecutor workers;
+    private final List<Thread> pollers;
+    private final CountDownLatch pollersDone;
+    private final Future<?> refresher;
+
+    private volatile boolean shutdown;
+
+    /**
+     * Lists the queues, then starts consuming from them.
+     *
+     * @param sqs the service to list queues from
+     * @param queueNamePrefix the prefix of the names of the queues to
+     *            consume from
+     * @param handler the handler to pass messages to
+     * @param options the consumer options, or null for the defaults
+     */
+    public FanInConsumerImpl(
+            SQS sqs,
+            String queueNamePrefix,
+            MessageHandler handler,
+            FanInOptions options) {
+
+        if (queueNamePrefix == null) {
+            throw new NullPointerException("queueNamePrefix");
+        }
+        if (handler == null) {
+            throw new NullPointerException("handler");
+        }
+        if (options == null) {
+            options = new FanInOptions();
+        }
+
+        this.sqs = sqs;
+        this.queueNamePrefix = queueNamePrefix;
+        this.handler = handler;
+        this.options = options;
+        this.maxPollsPerQueue = Math.max(1, options.getPollers() - 1);
+
+        refresh();
+
+        this.inFlight = new Semaphore(options.getMaxInFlight());
+
+        // Never fills: each queued task holds one of the in-flight permits.
+        this.workers = new ThreadPoolExecutor(
+                options.getWorkers(),
+                options.getWorkers(),
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(options.getMaxInFlight()),
+                new NamedThreadFactory(
+                        "sqs-fan-in", queueNamePrefix, "worker")) {
+
+            @Override
+            protected void terminated() {
+                closeAcknowledgers();
+            }
+        };
+
+        long interval = options.getRefreshInterval(TimeUnit.MILLISECONDS);
+        this.refresher = SharedScheduler.INSTANCE.scheduleWithFixedDelay(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            refresh();
+                        } catch (RuntimeException exception) {
+                            LOG.warn("Failed to list queues starting with "
+                                    + FanInConsumerImpl.this.queueNamePrefix,
+                                    exception);
+                        }
+                    }
+                },
+                interval,
+                interval,
+                TimeUnit.MILLISECONDS);
+
+        ThreadFactory factory = new NamedThreadFactory(
+                "sqs-fan-in", queueNamePrefix, "poller");
+
+        this.pollers = new ArrayList<>(options.getPollers());
+        this.pollersDone = new CountDownLatch(options.getPollers());
+
+        for (int i = 0; i < options.getPollers(); ++i) {
+            pollers.add(factory.newThread(new Poller()));
+        }
+        for (Thread poller : pollers) {
+            poller.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        refresher.cancel(false);
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return (pollersDone.getCount() == 0 && workers.isTerminated());
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        if (!pollersDone.await(timeout, unit)) {
+            return false;
+        }
+
+        return workers.awaitTermination(
+                deadline - System.nanoTime(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Lists the queues again, starting to poll new queues and retiring
+     * those which are gone.
+     */
+    private void refresh() {
+        Set<String> urls = new HashSet<>();
+        List<Queue> found = new ArrayList<>();
+        for (Queue queue : sqs.getQueues(queueNamePrefix)) {
+            if (urls.add(queue.getUrl())) {
+                found.add(queue);
+            }
+        }
+
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+
+            for (Queue queue : found) {
+                if (!queues.containsKey(queue.getUrl())) {
+                    queues.put(queue.getUrl(), new QueueState(queue));
+                }
+            }
+
+            for (QueueState state : new ArrayList<>(queues.values())) {
+                if (!urls.contains(state.url)) {
+                    retire(state);
+                }
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops polling a queue. Its acknowledger stays open until the
+     * consumer terminates, for messages from it still being handled.
+     */
+    private void retire(QueueState state) {
+        if (queues.remove(state.url) != null) {
+            retired.add(state);
+        }
+    }
+
+    private void closeAcknowledgers() {
+        List<QueueState> states;
+        synchronized (this) {
+            states = new ArrayList<>(queues.values());
+            states.addAll(retired);
+        }
+        for (QueueState state : states) {
+            state.acknowledger.close();
+        }
+    }
+
+    /**
+     * Takes at least one and at most {@code MAX_MESSAGES} in-flight permits,
+     * waiting for the first one if need be.
+     *
+     * @return the number of permits taken, or zero if the consumer was shut
+     *         down while waiting
+     */
+    private int acquirePermits() throws InterruptedException {
+        while (!inFlight.tryAcquire(1, TimeUnit.SECONDS)) {
+            if (shutdown) {
+                return 0;
+            }
+        }
+
+        int permits = 1;
+        while (permits < MAX_MESSAGES && inFlight.tryAcquire()) {
+            permits += 1;
+        }
+        return permits;
+    }
+
+    /**
+     * Waits until some queue can be polled, and claims a poll of it.
+     *
+     * @return the queue to poll, or null if the consumer was shut down
+     */
+    private synchronized QueueState claimQueue() throws InterruptedException {
+        while (!shutdown) {
+            long now = System.nanoTime();
+
+            QueueState unpolled = null;
+            QueueState extra = null;
+            long wake = now + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT);
+
+            for (QueueState state : queues.values()) {
+                if (state.polling >= state.getAllowedPolls()) {
+                    continue;
+                }
+                if (state.idleUntil - now > 0) {
+                    if (state.idleUntil - wake < 0) {
+                        wake = state.idleUntil;
+                    }
+                    continue;
+                }
+                if (state.polling == 0) {
+                    unpolled = better(unpolled, state);
+                } else {
+                    extra = better(extra, state);
+                }
+            }
+
+            QueueState best = (unpolled == null ? extra : unpolled);
+            if (best != null) {
+                best.polling += 1;
+                best.lastPolled = now;
+                return best;
+            }
+
+            TimeUnit.NANOSECONDS.timedWait(this, Math.max(1, wake - now));
+        }
+        return null;
+    }
+
+    private static QueueState better(QueueState best, QueueState state) {
+        if (best == null
+                || state.yield > best.yield
+                || (state.yield == best.yield
+                        && state.lastPolled - best.lastPolled < 0)) {
+            return state;
+        }
+        return best;
+    }
+
+    /**
+     * Records the outcome of a poll, and wakes pollers waiting for a queue.
+     *
+     * @param state the queue that was polled
+     * @param received the number of messages received, or -1 on error
+     */
+    private synchronized void pollDone(QueueState state, int received) {
+        state.polling -= 1;
+
+        if (received > 0) {
+            state.yield += YIELD_WEIGHT * (received - state.yield);
+            state.backoff = 0;
+            state.idleUntil = System.nanoTime();
+
+        } else {
+            if (received == 0) {
+                state.yield -= YIELD_WEIGHT * state.yield;
+            }
+            state.backoff = Math.min(
+                    options.getMaxIdleBackoff(TimeUnit.MILLISECONDS),
+                    state.backoff == 0 ? INITIAL_BACKOFF : state.backoff * 2);
+            state.idleUntil = System.nanoTime()
+                    + TimeUnit.MILLISECONDS.toNanos(state.backoff);
+        }
+
+        notifyAll();
+    }
+
+    private synchronized void queueGone(QueueState state) {
+        retire(state);
+    }
+
+    /**
+     * Polls whichever queue is most deserving until the consumer is shut
+     * down. The last poller to stop shuts down the worker pool.
+     */
+    private final class Poller implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+
+                while (!shutdown) {
+                    int permits = acquirePermits();
+                    if (permits == 0) {
+                        break;
+                    }
+
+                    QueueState state = claimQueue();
+                    if (state == null) {
+                        inFlight.release(permits);
+                        break;
+                    }
+
+                    List<Message> messages = poll(state, permits);
+
+                    inFlight.release(permits - messages.size());
+                    for (Message message : messages) {
+                        workers.execute(new Work(state, message));
+                    }
+                }
+
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+
+            } finally {
+                pollersDone.countDown();
+                if (pollersDone.getCount() == 0) {
+                    workers.shutdown();
+                }
+            }
+        }
+
+        private List<Message> poll(QueueState state, int maxMessages) {
+            int waitTimeSeconds = (state.yield >= 1
+                    ? options.getWaitTimeSeconds()
+                    : PROBE_WAIT_SECONDS);
+
+            ReceiveMessageRequest request = new ReceiveMessageRequest()
+                    .withMaxNumberOfMessages(maxMessages)
+                    .withWaitTimeSeconds(waitTimeSeconds)
+                    .withVisibilityTimeout(options.getVisibilityTimeout())
+                    .withAttributeNames("All")
+                    .withMessageAttributeNames("All");
+
+            List<Message> messages = Collections.emptyList();
+            int received = -1;
+            try {
+
+                List<Message> result = state.queue.receiveMessages(request);
+                if (result != null) {
+                    messages = result;
+                }
+                received = messages.size();
+
+            } catch (AmazonServiceException exception) {
+                if (QueueUrlCache.isNonExistentQueue(exception)) {
+                    LOG.info("Queue " + state.url + " no longer exists");
+                    queueGone(state);
+                } else {
+                    LOG.warn("Failed to receive messages from " + state.url,
+                            exception);
+                }
+
+            } catch (RuntimeException exception) {
+                // Anything else from the client, the resource layer or a
+                // codec; letting it end the poller would leak its permits.
+                // The queue backs off as for any failed poll.
+                LOG.warn("Failed to receive messages from " + state.url,
+                        exception);
+
+            } finally {
+                pollDone(state, received);
+            }
+
+            return messages;
+        }
+    }
+
+    /**
+     * Handles a single message, then returns its in-flight permit.
+     */
+    private final class Work implements Runnable {
+
+        private final QueueState state;
+        private final Message message;
+
+        public Work(QueueState state, Message message) {
+            this.state = state;
+            this.message = message;
+        }
+
+        @Override
+        public void run() {
+            try {
+
+                handler.handle(message);
+                state.acknowledger.delete(message);
+
+            } catch (Exception exception) {
+                LOG.warn("Error handling message " + message.getMessageId()
+                        + " from " + state.url, exception);
+
+            } finally {
+                inFlight.release();
+            }
+        }
+    }
+
+    /**
+     * What the consumer knows about one of its queues. Guarded by the
+     * consumer's lock.
+     */
+    private final class QueueState {
+
+        private final Queue queue;
+        private final String url;
+        private final MessageAcknowledger acknowledger;
+
+        private double yield;
+        private int polling;
+        private long idleUntil = System.nanoTime();
+        private long lastPolled = idleUntil;
+        private long backoff;
+
+        public QueueState(Queue queue) {
+            this.queue = queue;
+            this.url = queue.getUrl();
+            this.acknowledger =
+                    queue.createAcknowledger(options.getAcknowledgerOptions());
+        }
+
+        /**
+         * @return how many pollers may poll this queue at once, in
+         *         proportion to how full its recent polls have been
+         */
+        public int getAllowedPolls() {
+            return 1 + (int) (yield / MAX_MESSAGES * (maxPollsPerQueue - 1));
+        }
+    }
+}
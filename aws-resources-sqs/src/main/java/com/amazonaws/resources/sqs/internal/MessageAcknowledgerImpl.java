@@ -0,0 +1,282 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.resources.internal.SettableFuture;
+import com.amazonaws.resources.sqs.AcknowledgerOptions;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageAcknowledger;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry
+;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResultEntry
+;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResultEntry;
+
+/**
+ * Buffers deletes and visibility changes for a single queue and sends
+ * them in batches of up to ten entries.
+ * <p>
+ * Only the entries listed as failed in a batch result are retried;
+ * entries which failed because of something wrong with the request itself
+ * (a sender fault, such as an expired receipt handle) fail straight away,
+ * as do entries the result doesn't mention at all. A deleted message is
+ * released from any heartbeat once its delete has succeeded.
+ */
+class MessageAcknowledgerImpl implements MessageAcknowledger {
+
+    private static final int MAX_BATCH_SIZE = 10;
+
+    private final Queue queue;
+    private final int maxRetries;
+
+    private final Batcher<Entry> deletes;
+    private final Batcher<Entry> visibilityChanges;
+
+    /**
+     * @param queue the queue whose messages to acknowledge
+     * @param options the batching options, or null for the defaults
+     */
+    public MessageAcknowledgerImpl(Queue queue, AcknowledgerOptions options) {
+        if (options == null) {
+            options = new AcknowledgerOptions();
+        }
+
+        this.queue = queue;
+        this.maxRetries = options.getMaxRetries();
+
+        long maxLinger = options.getMaxLinger(TimeUnit.MILLISECONDS);
+
+        this.deletes = new EntryBatcher(maxLinger) {
+            @Override
+            protected List<BatchResultErrorEntry> sendEntries(
+                    List<Entry> batch,
+                    boolean[] succeeded) {
+
+                List<DeleteMessageBatchRequestEntry> entries =
+                        new ArrayList<>(batch.size());
+
+                for (int i = 0; i < batch.size(); ++i) {
+                    entries.add(new DeleteMessageBatchRequestEntry(
+                            Integer.toString(i),
+                            batch.get(i).receiptHandle));
+                }
+
+                DeleteMessageBatchResult result =
+                        MessageAcknowledgerImpl.this.queue
+                                .deleteMessages(entries);
+
+                for (DeleteMessageBatchResultEntry entry
+                        : result.getSuccessful()) {
+
+                    succeeded[Integer.parseInt(entry.getId())] = true;
+                }
+                return result.getFailed();
+            }
+
+            @Override
+            protected void succeeded(Entry entry) {
+                MessageHeartbeatImpl.released(
+                        MessageAcknowledgerImpl.this.queue.getUrl(),
+                        entry.receiptHandle);
+
+                super.succeeded(entry);
+            }
+        };
+
+        this.visibilityChanges = new EntryBatcher(maxLinger) {
+            @Override
+            protected List<BatchResultErrorEntry> sendEntries(
+                    List<Entry> batch,
+                    boolean[] succeeded) {
+
+                List<ChangeMessageVisibilityBatchRequestEntry> entries =
+                        new ArrayList<>(batch.size());
+
+                for (int i = 0; i < batch.size(); ++i) {
+                    entries.add(new ChangeMessageVisibilityBatchRequestEntry(
+                                    Integer.toString(i),
+                                    batch.get(i).receiptHandle)
+                            .withVisibilityTimeout(
+                                    batch.get(i).visibilityTimeout));
+                }
+
+                ChangeMessageVisibilityBatchResult result =
+                        MessageAcknowledgerImpl.this.queue
+                                .changeMessageVisibilityBatch(entries);
+
+                for (ChangeMessageVisibilityBatchResultEntry entry
+                        : result.getSuccessful()) {
+
+                    succeeded[Integer.parseInt(entry.getId())] = true;
+                }
+                return result.getFailed();
+            }
+        };
+    }
+
+    @Override
+    public Future<Void> delete(Message message) {
+        Entry entry = newEntry(message, null);
+        deletes.add(entry);
+        return entry.future;
+    }
+
+    @Override
+    public Future<Void> changeVisibility(
+            Message message,
+            int visibilityTimeout) {
+
+        if (visibilityTimeout < 0) {
+            throw new IllegalArgumentException(
+                    "visibilityTimeout cannot be negative: "
+                    + visibilityTimeout);
+        }
+
+        Entry entry = newEntry(message, visibilityTimeout);
+        visibilityChanges.add(entry);
+        return entry.future;
+    }
+
+    @Override
+    public void flush() {
+        deletes.flush();
+        visibilityChanges.flush();
+    }
+
+    @Override
+    public void close() {
+        deletes.close();
+        visibilityChanges.close();
+    }
+
+    private Entry newEntry(Message message, Integer visibilityTimeout) {
+        if (!queue.getUrl().equals(message.getQueueUrl())) {
+            throw new IllegalArgumentException(
+                    "Message is from " + message.getQueueUrl()
+                    + ", not " + queue.getUrl());
+        }
+        return new Entry(message.getReceiptHandle(), visibilityTimeout);
+    }
+
+    /**
+     * A single queued delete or visibility change.
+     */
+    private static final class Entry {
+
+        private final String receiptHandle;
+        private final Integer visibilityTimeout;
+        private final SettableFuture<Void> future =
+                new SettableFuture<Void>();
+
+        private int attempts;
+
+        public Entry(String receiptHandle, Integer visibilityTimeout) {
+            this.receiptHandle = receiptHandle;
+            this.visibilityTimeout = visibilityTimeout;
+        }
+    }
+
+    /**
+     * Sends batches of entries and works through the results, which have
+     * the same shape for both kinds of entry.
+     */
+    private abstract class EntryBatcher extends Batcher<Entry> {
+
+        public EntryBatcher(long maxLinger) {
+            super(MAX_BATCH_SIZE, Long.MAX_VALUE, maxLinger);
+        }
+
+        /**
+         * Sends a single batch, using the entries' indexes as their ids.
+         *
+         * @param succeeded set to true for each entry which succeeded
+         * @return the entries which failed
+         */
+        protected abstract List<BatchResultErrorEntry> sendEntries(
+                List<Entry> batch,
+                boolean[] succeeded);
+
+        /**
+         * Called once for each entry which succeeded.
+         */
+        protected void succeeded(Entry entry) {
+            entry.future.set(null);
+            complete();
+        }
+
+        @Override
+        protected void send(List<Entry> batch) {
+            boolean[] succeeded = new boolean[batch.size()];
+            List<BatchResultErrorEntry> failed;
+            try {
+                failed = sendEntries(batch, succeeded);
+            } catch (RuntimeException exception) {
+                for (Entry entry : batch) {
+                    fail(entry, exception);
+                }
+                return;
+            }
+
+            boolean[] reported = succeeded.clone();
+            for (int i = 0; i < batch.size(); ++i) {
+                if (succeeded[i]) {
+                    succeeded(batch.get(i));
+                }
+            }
+
+            for (BatchResultErrorEntry error : failed) {
+                int index = Integer.parseInt(error.getId());
+                if (reported[index]) {
+                    continue;
+                }
+                reported[index] = true;
+
+                Entry entry = batch.get(index);
+                if (!isSenderFault(error) && entry.attempts < maxRetries) {
+                    entry.attempts += 1;
+                    retry(entry);
+                } else {
+                    fail(entry, toException(error));
+                }
+            }
+
+            // Every entry has to be completed exactly once, or close() will
+            // wait forever; fail any the result didn't mention at all.
+            for (int i = 0; i < reported.length; ++i) {
+                if (!reported[i]) {
+                    fail(batch.get(i), new AmazonClientException(
+                            "Unable to acknowledge message: it is missing "
+                            + "from the batch result"));
+                }
+            }
+        }
+
+        private void fail(Entry entry, Throwable failure) {
+            entry.future.setFailure(failure);
+            complete();
+        }
+    }
+}
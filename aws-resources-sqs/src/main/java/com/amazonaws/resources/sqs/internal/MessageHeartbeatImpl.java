@@ -0,0 +1,310 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageHeartbeat;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry
+;
+
+/**
+ * Extends the visibility timeout of tracked messages from a single queue.
+ * <p>
+ * Every message is extended by the same amount, half a timeout after it
+ * was last extended, so the leases kept in insertion order are also in
+ * order of when they are next due: each check only has to look at the
+ * leases at the head of the map, and an extended lease simply moves to
+ * the tail. The check runs once a second on the shared scheduler, however
+ * many messages are tracked.
+ */
+class MessageHeartbeatImpl implements MessageHeartbeat {
+
+    private static final Log LOG =
+            LogFactory.getLog(MessageHeartbeatImpl.class);
+
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final int MAX_VISIBILITY_TIMEOUT = 43200;
+    private static final long CHECK_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+    /**
+     * The open heartbeats for each queue URL, so that deleting a message,
+     * directly or through an acknowledger, can release it from them.
+     */
+    private static final ConcurrentMap<String, Set<MessageHeartbeatImpl>>
+            HEARTBEATS = new ConcurrentHashMap<>();
+
+    private final Queue queue;
+    private final String queueUrl;
+    private final int visibilityTimeout;
+    private final long extendAfter;
+
+    private final Map<String, Lease> leases = new LinkedHashMap<>();
+    private final LeaseBatcher batcher = new LeaseBatcher();
+    private final Future<?> check;
+
+    private boolean closed;
+
+    /**
+     * Releases a message from every open heartbeat for its queue; called
+     * when the message is deleted.
+     *
+     * @param queueUrl the URL of the message's queue
+     * @param receiptHandle the message's receipt handle
+     */
+    public static void released(String queueUrl, String receiptHandle) {
+        Set<MessageHeartbeatImpl> heartbeats = HEARTBEATS.get(queueUrl);
+        if (heartbeats == null) {
+            return;
+        }
+        for (MessageHeartbeatImpl heartbeat : heartbeats) {
+            heartbeat.release(receiptHandle);
+        }
+    }
+
+    /**
+     * Creates and starts a new heartbeat.
+     *
+     * @param queue the queue whose messages to track
+     * @param visibilityTimeout the visibility timeout to give tracked
+     *            messages, in seconds
+     */
+    public MessageHeartbeatImpl(Queue queue, int visibilityTimeout) {
+        if (visibilityTimeout < 2
+                || visibilityTimeout > MAX_VISIBILITY_TIMEOUT) {
+
+            throw new IllegalArgumentException(
+                    "visibilityTimeout must be between 2 and "
+                    + MAX_VISIBILITY_TIMEOUT + ": " + visibilityTimeout);
+        }
+
+        this.queue = queue;
+        this.queueUrl = queue.getUrl();
+        this.visibilityTimeout = visibilityTimeout;
+        this.extendAfter = TimeUnit.SECONDS.toNanos(visibilityTimeout) / 2;
+
+        register();
+
+        long interval = Math.min(
+                CHECK_INTERVAL,
+                TimeUnit.SECONDS.toMillis(visibilityTimeout) / 4);
+
+        this.check = SharedScheduler.INSTANCE.scheduleWithFixedDelay(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        extendDue();
+                    }
+                },
+                interval,
+                interval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void track(Message message) {
+        if (!queueUrl.equals(message.getQueueUrl())) {
+            throw new IllegalArgumentException(
+                    "Message is from " + message.getQueueUrl()
+                    + ", not " + queueUrl);
+        }
+
+        String receiptHandle = message.getReceiptHandle();
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Heartbeat has been closed");
+            }
+            Lease lease = new Lease(receiptHandle, System.nanoTime());
+
+            // Re-tracking a message moves it to the tail.
+            leases.remove(receiptHandle);
+            leases.put(receiptHandle, lease);
+        }
+    }
+
+    @Override
+    public boolean release(Message message) {
+        return release(message.getReceiptHandle());
+    }
+
+    private synchronized boolean release(String receiptHandle) {
+        return (leases.remove(receiptHandle) != null);
+    }
+
+    @Override
+    public synchronized int getTrackedCount() {
+        return leases.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            leases.clear();
+        }
+
+        check.cancel(false);
+        unregister();
+        batcher.close();
+    }
+
+    private void register() {
+        Set<MessageHeartbeatImpl> heartbeats = HEARTBEATS.get(queueUrl);
+        while (heartbeats == null) {
+            HEARTBEATS.putIfAbsent(queueUrl, Collections.newSetFromMap(
+                    new ConcurrentHashMap<MessageHeartbeatImpl, Boolean>()));
+            heartbeats = HEARTBEATS.get(queueUrl);
+        }
+        heartbeats.add(this);
+    }
+
+    private void unregister() {
+        Set<MessageHeartbeatImpl> heartbeats = HEARTBEATS.get(queueUrl);
+        if (heartbeats != null) {
+            // Empty sets are left behind; there's one per queue URL at most.
+            heartbeats.remove(this);
+        }
+    }
+
+    /**
+     * Sends an extension for every lease which is due, and moves each of
+     * them to the tail.
+     */
+    private void extendDue() {
+        long now = System.nanoTime();
+        List<Lease> due = new ArrayList<>();
+
+        synchronized (this) {
+            Iterator<Lease> iterator = leases.values().iterator();
+            while (iterator.hasNext()) {
+                Lease lease = iterator.next();
+                if (now - lease.extendedAt < extendAfter) {
+                    break;
+                }
+                iterator.remove();
+                due.add(lease);
+            }
+
+            for (Lease lease : due) {
+                lease.extendedAt = now;
+                leases.put(lease.receiptHandle, lease);
+            }
+        }
+
+        try {
+
+            for (Lease lease : due) {
+                batcher.add(lease);
+            }
+            batcher.flush();
+
+        } catch (IllegalStateException exception) {
+            // Closed while extending.
+        }
+    }
+
+    /**
+     * Stops tracking a lease if it hasn't since been replaced by a new one
+     * for the same message.
+     */
+    private synchronized void drop(Lease lease) {
+        if (leases.get(lease.receiptHandle) == lease) {
+            leases.remove(lease.receiptHandle);
+        }
+    }
+
+    /**
+     * A tracked message.
+     */
+    private static final class Lease {
+
+        private final String receiptHandle;
+        private long extendedAt;
+
+        public Lease(String receiptHandle, long extendedAt) {
+            this.receiptHandle = receiptHandle;
+            this.extendedAt = extendedAt;
+        }
+    }
+
+    /**
+     * Sends extensions in batches. Extensions that fail are not retried
+     * right away; unless the message is gone, it is tried again on the next
+     * check after half a timeout.
+     */
+    private final class LeaseBatcher extends Batcher<Lease> {
+
+        public LeaseBatcher() {
+            super(MAX_BATCH_SIZE, Long.MAX_VALUE, CHECK_INTERVAL);
+        }
+
+        @Override
+        protected void send(List<Lease> batch) {
+            List<ChangeMessageVisibilityBatchRequestEntry> entries =
+                    new ArrayList<>(batch.size());
+
+            for (int i = 0; i < batch.size(); ++i) {
+                entries.add(new ChangeMessageVisibilityBatchRequestEntry(
+                                Integer.toString(i),
+                                batch.get(i).receiptHandle)
+                        .withVisibilityTimeout(visibilityTimeout));
+            }
+
+            try {
+
+                List<BatchResultErrorEntry> failed = queue
+                        .changeMessageVisibilityBatch(entries).getFailed();
+
+                for (BatchResultErrorEntry error : failed) {
+                    Lease lease = batch.get(Integer.parseInt(error.getId()));
+                    if (isSenderFault(error)) {
+                        // Typically deleted, or its receipt handle expired.
+                        drop(lease);
+                    }
+                }
+
+            } catch (RuntimeException exception) {
+                LOG.warn("Failed to extend the visibility timeout of "
+                        + batch.size() + " messages in " + queueUrl,
+                        exception);
+
+            } finally {
+                for (int i = 0; i < batch.size(); ++i) {
+                    complete();
+                }
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Map;
 
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ResourceCodec;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.sqs.Message;
 import com.amazonaws.resources.sqs.Queue;
@@ -25,7 +26,7 @@ import com.amazonaws.services.sqs.model.ChangeMessageVisibilityRequest;
 import com.amazonaws.services.sqs.model.DeleteMessageRequest;
 import com.amazonaws.services.sqs.model.MessageAttributeValue;
 
-class MessageImpl implements Message {
+class MessageImpl implements Message, ResourceFacade {
     public static final ResourceCodec<Message> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -34,6 +35,11 @@ class MessageImpl implements Message {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -51,32 +57,56 @@ class MessageImpl implements Message {
 
     @Override
     public Map<String, String> getAttributes() {
+        com.amazonaws.services.sqs.model.Message data = getMessageData();
+        if (data != null) {
+            return data.getAttributes();
+        }
         return (Map<String, String>) resource.getAttribute("Attributes");
     }
 
     @Override
     public String getBody() {
+        com.amazonaws.services.sqs.model.Message data = getMessageData();
+        if (data != null) {
+            return data.getBody();
+        }
         return (String) resource.getAttribute("Body");
     }
 
     @Override
     public String getMD5OfMessageAttributes() {
+        com.amazonaws.services.sqs.model.Message data = getMessageData();
+        if (data != null) {
+            return data.getMD5OfMessageAttributes();
+        }
         return (String) resource.getAttribute("MD5OfMessageAttributes");
     }
 
     @Override
     public Map<String, MessageAttributeValue> getMessageAttributes() {
+        com.amazonaws.services.sqs.model.Message data = getMessageData();
+        if (data != null) {
+            return data.getMessageAttributes();
+        }
         return (Map<String, MessageAttributeValue>)
                 resource.getAttribute("MessageAttributes");
     }
 
     @Override
     public String getMessageId() {
+        com.amazonaws.services.sqs.model.Message data = getMessageData();
+        if (data != null) {
+            return data.getMessageId();
+        }
         return (String) resource.getAttribute("MessageId");
     }
 
     @Override
     public String getMD5OfBody() {
+        com.amazonaws.services.sqs.model.Message data = getMessageData();
+        if (data != null) {
+            return data.getMD5OfBody();
+        }
         return (String) resource.getAttribute("MD5OfBody");
     }
 
@@ -125,6 +155,9 @@ class MessageImpl implements Message {
             extractor) {
 
         resource.performAction("Delete", request, extractor);
+
+        // The message is gone, so there's nothing left to keep invisible.
+        MessageHeartbeatImpl.released(getQueueUrl(), getReceiptHandle());
     }
 
     @Override
@@ -138,6 +171,20 @@ class MessageImpl implements Message {
         delete(request, extractor);
     }
 
+    /**
+     * Returns the message this resource was created from by
+     * {@code ReceiveMessage}, if any. Reading attributes straight from it
+     * saves copying all of them into a map by reflection for every message
+     * received.
+     */
+    private com.amazonaws.services.sqs.model.Message getMessageData() {
+        Object data = resource.getLoadedData();
+        if (data instanceof com.amazonaws.services.sqs.model.Message) {
+            return (com.amazonaws.services.sqs.model.Message) data;
+        }
+        return null;
+    }
+
     private static class Codec implements ResourceCodec<Message> {
         @Override
         public Message transform(ResourceImpl resource) {
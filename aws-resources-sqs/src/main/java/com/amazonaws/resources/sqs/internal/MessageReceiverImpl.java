@@ -0,0 +1,323 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageAcknowledger;
+import com.amazonaws.resources.sqs.MessageReceiver;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.ReceiverOptions;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+
+/**
+ * Keeps a buffer of messages received from a queue topped up on a single
+ * background thread.
+ * <p>
+ * Every message is stamped with a deadline when it is buffered: the time
+ * the receive that returned it was started, plus its visibility timeout,
+ * less the minimum remaining visibility. Since messages are buffered in
+ * the order they were received, expired messages are always at the head
+ * of the buffer. They are dropped whenever the buffer is looked at, and
+ * made visible again through a {@code MessageAcknowledger}, which the
+ * background thread closes once it stops.
+ */
+class MessageReceiverImpl implements MessageReceiver {
+
+    private static final Log LOG = LogFactory.getLog(MessageReceiverImpl.class);
+
+    /**
+     * The most messages a single receive can return.
+     */
+    private static final int MAX_MESSAGES = 10;
+
+    private static final long MAX_BACKOFF = TimeUnit.SECONDS.toMillis(20);
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private final Queue queue;
+    private final ReceiverOptions options;
+    private final long window;
+
+    private final MessageAcknowledger acknowledger;
+    private final Deque<Buffered> buffer = new ArrayDeque<>();
+    private final Thread fetcher;
+
+    private boolean closed;
+
+    /**
+     * Creates a new receiver and starts filling its buffer.
+     *
+     * @param queue the queue to receive messages from
+     * @param options the receiver options, or null for the defaults
+     */
+    public MessageReceiverImpl(Queue queue, ReceiverOptions options) {
+        if (options == null) {
+            options = new ReceiverOptions();
+        }
+        if (options.getMinRemainingVisibility()
+                >= options.getVisibilityTimeout()) {
+
+            throw new IllegalArgumentException(
+                    "minRemainingVisibility must be less than "
+                    + "visibilityTimeout: " + options);
+        }
+
+        this.queue = queue;
+        this.options = options;
+        this.window = TimeUnit.SECONDS.toNanos(options.getVisibilityTimeout()
+                - options.getMinRemainingVisibility());
+
+        this.acknowledger = queue.createAcknowledger(null);
+
+        String url = queue.getUrl();
+        this.fetcher = new Thread(
+                new Fetcher(),
+                "sqs-receiver-" + url.substring(url.lastIndexOf('/') + 1)
+                + "-" + COUNT.incrementAndGet());
+
+        // Buffered messages time out by themselves, so an unclosed receiver
+        // shouldn't keep the JVM alive.
+        fetcher.setDaemon(true);
+        fetcher.start();
+    }
+
+    @Override
+    public Message receive() throws InterruptedException {
+        synchronized (this) {
+            while (true) {
+                Message message = poll();
+                if (message != null || closed) {
+                    return message;
+                }
+                wait();
+            }
+        }
+    }
+
+    @Override
+    public Message receive(long timeout, TimeUnit unit)
+            throws InterruptedException {
+
+        long end = System.nanoTime() + unit.toNanos(timeout);
+
+        synchronized (this) {
+            while (true) {
+                Message message = poll();
+                if (message != null || closed) {
+                    return message;
+                }
+
+                long remaining = end - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+    }
+
+    @Override
+    public synchronized int getBufferedCount() {
+        expire();
+        return buffer.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            while (!buffer.isEmpty()) {
+                release(buffer.removeFirst().message);
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Takes the first unexpired message from the buffer, if there is one.
+     */
+    private Message poll() {
+        expire();
+
+        Buffered head = buffer.pollFirst();
+        if (head == null) {
+            return null;
+        }
+
+        // Wake the fetcher, now that there's room.
+        notifyAll();
+        return head.message;
+    }
+
+    /**
+     * Drops expired messages from the head of the buffer.
+     */
+    private void expire() {
+        long now = System.nanoTime();
+        while (!buffer.isEmpty() && now - buffer.peekFirst().deadline >= 0) {
+            release(buffer.removeFirst().message);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Makes a message visible again. Only enqueues the change, so is safe
+     * to call holding the lock; and since the fetcher closes the
+     * acknowledger only after seeing {@code closed} under the lock, the
+     * acknowledger is always still open.
+     */
+    private void release(Message message) {
+        acknowledger.changeVisibility(message, 0);
+    }
+
+    private ReceiveMessageRequest newRequest(int maxMessages) {
+        return new ReceiveMessageRequest()
+                .withMaxNumberOfMessages(maxMessages)
+                .withWaitTimeSeconds(options.getWaitTimeSeconds())
+                .withVisibilityTimeout(options.getVisibilityTimeout())
+                .withAttributeNames("All")
+                .withMessageAttributeNames("All");
+    }
+
+    /**
+     * Long-polls the queue whenever the buffer has room, until the
+     * receiver is closed.
+     */
+    private final class Fetcher implements Runnable {
+
+        private long backoff;
+
+        @Override
+        public void run() {
+            try {
+
+                while (true) {
+                    int room = awaitRoom();
+                    if (room == 0) {
+                        break;
+                    }
+
+                    long started = System.nanoTime();
+                    List<Message> messages = receive(room);
+
+                    synchronized (MessageReceiverImpl.this) {
+                        for (Message message : messages) {
+                            if (closed) {
+                                release(message);
+                            } else {
+                                long deadline = started + window;
+                                buffer.addLast(new Buffered(message, deadline));
+                            }
+                        }
+                        MessageReceiverImpl.this.notifyAll();
+                    }
+                }
+
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+
+            } finally {
+                close();
+                acknowledger.close();
+            }
+        }
+
+        /**
+         * Waits until the buffer has room, releasing any messages that
+         * expire in the meantime.
+         *
+         * @return the number of messages to ask for, or zero once the
+         *         receiver has been closed
+         */
+        private int awaitRoom() throws InterruptedException {
+            synchronized (MessageReceiverImpl.this) {
+                while (true) {
+                    expire();
+                    if (closed) {
+                        return 0;
+                    }
+
+                    int room = options.getBufferSize() - buffer.size();
+                    if (room > 0) {
+                        return Math.min(MAX_MESSAGES, room);
+                    }
+
+                    long untilExpiry =
+                            buffer.peekFirst().deadline - System.nanoTime();
+                    TimeUnit.NANOSECONDS.timedWait(
+                            MessageReceiverImpl.this,
+                            Math.max(1, untilExpiry));
+                }
+            }
+        }
+
+        private List<Message> receive(int maxMessages)
+                throws InterruptedException {
+
+            try {
+
+                List<Message> messages =
+                        queue.receiveMessages(newRequest(maxMessages));
+
+                backoff = 0;
+                return (messages == null
+                        ? Collections.<Message>emptyList()
+                        : messages);
+
+            } catch (RuntimeException exception) {
+                // Anything from the client, the resource layer or a codec;
+                // letting it end the fetcher would leave the receiver
+                // empty for good.
+                backoff = (backoff == 0
+                        ? 100
+                        : Math.min(MAX_BACKOFF, backoff * 2));
+
+                LOG.warn("Failed to receive messages from " + queue.getUrl()
+                        + ", retrying in " + backoff + "ms", exception);
+
+                Thread.sleep(backoff);
+                return Collections.emptyList();
+            }
+        }
+    }
+
+    /**
+     * A buffered message, and when it must no longer be handed out.
+     */
+    private static final class Buffered {
+
+        private final Message message;
+        private final long deadline;
+
+        public Buffered(Message message, long deadline) {
+            this.message = message;
+            this.deadline = deadline;
+        }
+    }
+}
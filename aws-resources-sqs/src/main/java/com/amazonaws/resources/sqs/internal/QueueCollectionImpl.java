@@ -15,11 +15,16 @@
 package com.amazonaws.resources.sqs.internal;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.resources.ResourceCollection;
 import com.amazonaws.resources.ResourcePage;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.StandardPageFuture;
 import com.amazonaws.resources.internal.StandardPageIterable;
+import com.amazonaws.resources.internal.StandardResourceCollection;
 import com.amazonaws.resources.internal.StandardResourceIterator;
 import com.amazonaws.resources.internal.StandardResourcePage;
 import com.amazonaws.resources.sqs.Queue;
@@ -54,4 +59,20 @@ class QueueCollectionImpl implements QueueCollection {
         return new StandardResourcePage<Queue>(impl.firstPage(extractor),
                 QueueImpl.CODEC);
     }
+
+    @Override
+    public Future<ResourcePage<Queue>> firstPageAsync(Executor executor) {
+        return new StandardPageFuture<Queue>(
+                impl.firstPageAsync(null, executor),
+                QueueImpl.CODEC);
+    }
+
+    @Override
+    public ResourceCollection<Queue> withPrefetch(int depth,
+            Executor executor) {
+
+        return new StandardResourceCollection<Queue>(
+                impl.withPrefetch(depth, executor),
+                QueueImpl.CODEC);
+    }
 }
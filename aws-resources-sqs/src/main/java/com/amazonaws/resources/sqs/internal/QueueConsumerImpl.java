@@ -0,0 +1,314 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.resources.internal.NamedThreadFactory;
+import com.amazonaws.resources.sqs.ConsumerOptions;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageAcknowledger;
+import com.amazonaws.resources.sqs.MessageHandler;
+import com.amazonaws.resources.sqs.MessageHeartbeat;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.QueueConsumer;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+
+/**
+ * Receives messages from a queue on a few long-polling threads and handles
+ * them on a pool of worker threads.
+ * <p>
+ * A semaphore with one permit per in-flight message provides backpressure:
+ * a receiver takes permits before each receive, asking for no more messages
+ * than it holds permits for, and a permit is returned once its message has
+ * been handled. Handled messages are deleted through a
+ * {@code MessageAcknowledger}, which is closed once the last worker has
+ * finished. If a heartbeat timeout is set, messages are tracked by a
+ * {@code MessageHeartbeat} from when they are received until they have
+ * been handled, and are received with the heartbeat timeout as their
+ * visibility timeout so that none expires before its first extension.
+ */
+class QueueConsumerImpl implements QueueConsumer {
+
+    private static final Log LOG = LogFactory.getLog(QueueConsumerImpl.class);
+
+    /**
+     * The most messages a single receive can return.
+     */
+    private static final int MAX_MESSAGES = 10;
+
+    private static final long MAX_BACKOFF = TimeUnit.SECONDS.toMillis(20);
+
+    private final Queue queue;
+    private final MessageHandler handler;
+    private final ConsumerOptions options;
+
+    private final MessageAcknowledger acknowledger;
+    private final MessageHeartbeat heartbeat;
+    private final Semaphore inFlight;
+    private final ThreadPoolExecutor workers;
+    private final List<Thread> receivers;
+    private final CountDownLatch receiversDone;
+
+    private volatile boolean shutdown;
+
+    /**
+     * Creates and starts a new consumer.
+     *
+     * @param queue the queue to consume from
+     * @param handler the handler to pass messages to
+     * @param options the consumer options, or null for the defaults
+     */
+    public QueueConsumerImpl(
+            Queue queue,
+            MessageHandler handler,
+            ConsumerOptions options) {
+
+        if (handler == null) {
+            throw new NullPointerException("handler");
+        }
+        if (options == null) {
+            options = new ConsumerOptions();
+        }
+
+        this.queue = queue;
+        this.handler = handler;
+        this.options = options;
+
+        this.acknowledger =
+                queue.createAcknowledger(options.getAcknowledgerOptions());
+
+        this.heartbeat = (options.getHeartbeatTimeout() == null
+                ? null
+                : queue.createHeartbeat(options.getHeartbeatTimeout()));
+
+        this.inFlight = new Semaphore(options.getMaxInFlight());
+
+        // Never fills: each queued task holds one of the in-flight permits.
+        this.workers = new ThreadPoolExecutor(
+                options.getWorkers(),
+                options.getWorkers(),
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(options.getMaxInFlight()),
+                new NamedThreadFactory(
+                        "sqs-consumer", queue.getUrl(), "worker")) {
+
+            @Override
+            protected void terminated() {
+                acknowledger.close();
+                if (heartbeat != null) {
+                    heartbeat.close();
+                }
+            }
+        };
+
+        ThreadFactory factory = new NamedThreadFactory(
+                "sqs-consumer", queue.getUrl(), "receiver");
+
+        this.receivers = new ArrayList<>(options.getReceivers());
+        this.receiversDone = new CountDownLatch(options.getReceivers());
+
+        for (int i = 0; i < options.getReceivers(); ++i) {
+            receivers.add(factory.newThread(new Receiver()));
+        }
+        for (Thread receiver : receivers) {
+            receiver.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return (receiversDone.getCount() == 0 && workers.isTerminated());
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        if (!receiversDone.await(timeout, unit)) {
+            return false;
+        }
+
+        return workers.awaitTermination(
+                deadline - System.nanoTime(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Takes at least one and at most {@code MAX_MESSAGES} in-flight permits,
+     * waiting for the first one if need be.
+     *
+     * @return the number of permits taken, or zero if the consumer was shut
+     *         down while waiting
+     */
+    private int acquirePermits() throws InterruptedException {
+        while (!inFlight.tryAcquire(1, TimeUnit.SECONDS)) {
+            if (shutdown) {
+                return 0;
+            }
+        }
+
+        int permits = 1;
+        while (permits < MAX_MESSAGES && inFlight.tryAcquire()) {
+            permits += 1;
+        }
+        return permits;
+    }
+
+    private ReceiveMessageRequest newRequest(int maxMessages) {
+        Integer visibilityTimeout = (heartbeat == null
+                ? options.getVisibilityTimeout()
+                : options.getHeartbeatTimeout());
+
+        return new ReceiveMessageRequest()
+                .withMaxNumberOfMessages(maxMessages)
+                .withWaitTimeSeconds(options.getWaitTimeSeconds())
+                .withVisibilityTimeout(visibilityTimeout)
+                .withAttributeNames("All")
+                .withMessageAttributeNames("All");
+    }
+
+    private void dispatch(List<Message> messages) {
+        for (Message message : messages) {
+            if (heartbeat != null) {
+                heartbeat.track(message);
+            }
+            workers.execute(new Work(message));
+        }
+    }
+
+    /**
+     * Long-polls the queue until the consumer is shut down. The last
+     * receiver to stop shuts down the worker pool.
+     */
+    private final class Receiver implements Runnable {
+
+        private long backoff;
+
+        @Override
+        public void run() {
+            try {
+
+                while (!shutdown) {
+                    int permits = acquirePermits();
+                    if (permits == 0) {
+                        break;
+                    }
+
+                    List<Message> messages = receive(permits);
+
+                    inFlight.release(permits - messages.size());
+                    if (!messages.isEmpty()) {
+                        dispatch(messages);
+                    }
+                }
+
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+
+            } finally {
+                receiversDone.countDown();
+                if (receiversDone.getCount() == 0) {
+                    workers.shutdown();
+                }
+            }
+        }
+
+        private List<Message> receive(int maxMessages)
+                throws InterruptedException {
+
+            try {
+
+                List<Message> messages =
+                        queue.receiveMessages(newRequest(maxMessages));
+
+                backoff = 0;
+                return (messages == null
+                        ? new ArrayList<Message>()
+                        : messages);
+
+            } catch (RuntimeException exception) {
+                // Anything from the client, the resource layer or a codec;
+                // letting it end the receiver would leak its permits.
+                backoff = (backoff == 0
+                        ? 100
+                        : Math.min(MAX_BACKOFF, backoff * 2));
+
+                LOG.warn("Failed to receive messages from " + queue.getUrl()
+                        + ", retrying in " + backoff + "ms", exception);
+
+                Thread.sleep(backoff);
+                return new ArrayList<Message>();
+            }
+        }
+    }
+
+    /**
+     * Handles a single message, then returns its in-flight permit.
+     */
+    private final class Work implements Runnable {
+
+        private final Message message;
+
+        public Work(Message message) {
+            this.message = message;
+        }
+
+        @Override
+        public void run() {
+            boolean deleted = false;
+            try {
+
+                handler.handle(message);
+                acknowledger.delete(message);
+                deleted = true;
+
+            } catch (Exception exception) {
+                LOG.warn("Error handling message " + message.getMessageId()
+                        + " from " + queue.getUrl(), exception);
+
+            } finally {
+                // Deleting releases the message from the heartbeat.
+                if (!deleted && heartbeat != null) {
+                    heartbeat.release(message);
+                }
+                inFlight.release();
+            }
+        }
+    }
+}
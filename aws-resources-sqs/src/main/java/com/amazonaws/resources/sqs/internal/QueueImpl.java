@@ -16,16 +16,34 @@ package com.amazonaws.resources.sqs.internal;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.resources.ResultCapture;
 import com.amazonaws.resources.internal.ActionResult;
 import com.amazonaws.resources.internal.CodecUtils;
 import com.amazonaws.resources.internal.ResourceCodec;
 import com.amazonaws.resources.internal.ResourceCollectionImpl;
+import com.amazonaws.resources.internal.ResourceFacade;
 import com.amazonaws.resources.internal.ResourceImpl;
+import com.amazonaws.resources.internal.TransformingFuture;
+import com.amazonaws.resources.sqs.AcknowledgerOptions;
+import com.amazonaws.resources.sqs.ConsumerOptions;
 import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageAcknowledger;
+import com.amazonaws.resources.sqs.MessageHandler;
+import com.amazonaws.resources.sqs.MessageHeartbeat;
+import com.amazonaws.resources.sqs.MessageReceiver;
+import com.amazonaws.resources.sqs.ProducerOptions;
 import com.amazonaws.resources.sqs.Queue;
 import com.amazonaws.resources.sqs.QueueCollection;
+import com.amazonaws.resources.sqs.QueueConsumer;
+import com.amazonaws.resources.sqs.QueueProducer;
+import com.amazonaws.resources.sqs.ReceiverOptions;
+import com.amazonaws.resources.sqs.RedriveOptions;
+import com.amazonaws.resources.sqs.RedriveResult;
 import com.amazonaws.services.sqs.model.AddPermissionRequest;
 import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
 import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry
@@ -48,7 +66,7 @@ import com.amazonaws.services.sqs.model.SendMessageRequest;
 import com.amazonaws.services.sqs.model.SendMessageResult;
 import com.amazonaws.services.sqs.model.SetQueueAttributesRequest;
 
-class QueueImpl implements Queue {
+class QueueImpl implements Queue, ResourceFacade {
     public static final ResourceCodec<Queue> CODEC = new Codec();
 
     private final ResourceImpl resource;
@@ -57,6 +75,11 @@ class QueueImpl implements Queue {
         this.resource = resource;
     }
 
+    @Override
+    public ResourceImpl getResourceImpl() {
+        return resource;
+    }
+
     @Override
     public boolean isLoaded() {
         return resource.isLoaded();
@@ -79,6 +102,25 @@ class QueueImpl implements Queue {
         return resource.load(request, extractor);
     }
 
+    @Override
+    public void reload() {
+        reload(null, null);
+    }
+
+    @Override
+    public void reload(GetQueueAttributesRequest request,
+            ResultCapture<GetQueueAttributesResult> extractor) {
+
+        resource.reload(request, extractor);
+    }
+
+    @Override
+    public Future<Boolean> loadAsync(GetQueueAttributesRequest request, Executor
+            executor) {
+
+        return resource.loadAsync(request, null, executor);
+    }
+
     @Override
     public String getUrl() {
         return (String) resource.getIdentifier("Url");
@@ -121,7 +163,7 @@ class QueueImpl implements Queue {
     public void setAttributes(SetQueueAttributesRequest request,
             ResultCapture<Void> extractor) {
 
-        resource.performAction("SetAttributes", request, extractor);
+        performAction("SetAttributes", request, extractor);
     }
 
     @Override
@@ -147,7 +189,7 @@ class QueueImpl implements Queue {
     public void addPermission(AddPermissionRequest request, ResultCapture<Void>
             extractor) {
 
-        resource.performAction("AddPermission", request, extractor);
+        performAction("AddPermission", request, extractor);
     }
 
     @Override
@@ -177,13 +219,29 @@ class QueueImpl implements Queue {
     public SendMessageResult sendMessage(SendMessageRequest request,
             ResultCapture<SendMessageResult> extractor) {
 
-        ActionResult result = resource.performAction("SendMessage", request,
+        ActionResult result = performAction("SendMessage", request,
                 extractor);
 
         if (result == null) return null;
         return (SendMessageResult) result.getData();
     }
 
+    @Override
+    public Future<SendMessageResult> sendMessageAsync(
+            SendMessageRequest request, Executor executor) {
+
+        Future<ActionResult> future = resource.performActionAsync(
+                "SendMessage", request, null, executor);
+
+        return new TransformingFuture<ActionResult, SendMessageResult>(future) {
+            @Override
+            protected SendMessageResult transform(ActionResult result) {
+                if (result == null) return null;
+                return (SendMessageResult) result.getData();
+            }
+        };
+    }
+
     @Override
     public SendMessageResult sendMessage(String messageBody) {
         return sendMessage(messageBody, (ResultCapture<SendMessageResult>)null);
@@ -209,7 +267,7 @@ class QueueImpl implements Queue {
     public DeleteMessageBatchResult deleteMessages(DeleteMessageBatchRequest
             request, ResultCapture<DeleteMessageBatchResult> extractor) {
 
-        ActionResult result = resource.performAction("DeleteMessages", request,
+        ActionResult result = performAction("DeleteMessages", request,
                 extractor);
 
         if (result == null) return null;
@@ -256,7 +314,7 @@ class QueueImpl implements Queue {
     public List<Message> receiveMessages(ReceiveMessageRequest request,
             ResultCapture<ReceiveMessageResult> extractor) {
 
-        ActionResult result = resource.performAction("ReceiveMessages", request,
+        ActionResult result = performAction("ReceiveMessages", request,
                 extractor);
 
         if (result == null) return null;
@@ -276,6 +334,65 @@ class QueueImpl implements Queue {
         return receiveMessages(request, extractor);
     }
 
+    @Override
+    public QueueConsumer consume(MessageHandler handler) {
+        return consume(handler, null);
+    }
+
+    @Override
+    public QueueConsumer consume(
+            MessageHandler handler,
+            ConsumerOptions options) {
+
+        return new QueueConsumerImpl(this, handler, options);
+    }
+
+    @Override
+    public MessageAcknowledger createAcknowledger(
+            AcknowledgerOptions options) {
+
+        return new MessageAcknowledgerImpl(this, options);
+    }
+
+    @Override
+    public QueueProducer createProducer(ProducerOptions options) {
+        return new QueueProducerImpl(this, options);
+    }
+
+    @Override
+    public MessageHeartbeat createHeartbeat(int visibilityTimeout) {
+        return new MessageHeartbeatImpl(this, visibilityTimeout);
+    }
+
+    @Override
+    public MessageReceiver createReceiver(ReceiverOptions options) {
+        return new MessageReceiverImpl(this, options);
+    }
+
+    @Override
+    public RedriveResult redrive(Queue target, RedriveOptions options) {
+        return Redriver.redrive(this, target, options);
+    }
+
+    @Override
+    public RedriveResult redrive(RedriveOptions options) {
+        Queue target = null;
+        for (Queue source : getDeadLetterSourceQueues()) {
+            if (target != null) {
+                throw new IllegalStateException(
+                        "Queue " + getUrl() + " is the dead letter queue of "
+                        + "more than one queue; pass the target explicitly");
+            }
+            target = source;
+        }
+        if (target == null) {
+            throw new IllegalStateException(
+                    "Queue " + getUrl() + " is not a dead letter queue");
+        }
+
+        return Redriver.redrive(this, target, options);
+    }
+
     @Override
     public void delete(DeleteQueueRequest request) {
         delete(request, null);
@@ -285,7 +402,8 @@ class QueueImpl implements Queue {
     public void delete(DeleteQueueRequest request, ResultCapture<Void> extractor
             ) {
 
-        resource.performAction("Delete", request, extractor);
+        performAction("Delete", request, extractor);
+        QueueUrlCache.invalidate(resource.getClient(), getUrl());
     }
 
     @Override
@@ -312,7 +430,7 @@ class QueueImpl implements Queue {
             ResultCapture<ChangeMessageVisibilityBatchResult> extractor) {
 
         ActionResult result =
-                resource.performAction("ChangeMessageVisibilityBatch", request,
+                performAction("ChangeMessageVisibilityBatch", request,
                 extractor);
 
         if (result == null) return null;
@@ -350,7 +468,7 @@ class QueueImpl implements Queue {
     public SendMessageBatchResult sendMessages(SendMessageBatchRequest request,
             ResultCapture<SendMessageBatchResult> extractor) {
 
-        ActionResult result = resource.performAction("SendMessages", request,
+        ActionResult result = performAction("SendMessages", request,
                 extractor);
 
         if (result == null) return null;
@@ -397,7 +515,7 @@ class QueueImpl implements Queue {
     public void removePermission(RemovePermissionRequest request,
             ResultCapture<Void> extractor) {
 
-        resource.performAction("RemovePermission", request, extractor);
+        performAction("RemovePermission", request, extractor);
     }
 
     @Override
@@ -412,6 +530,25 @@ class QueueImpl implements Queue {
         removePermission(request, extractor);
     }
 
+    /**
+     * Performs an action on this queue, dropping its URL from the cache of
+     * queue names if the service says the queue no longer exists.
+     */
+    private ActionResult performAction(
+            String name,
+            AmazonWebServiceRequest request,
+            ResultCapture<?> extractor) {
+
+        try {
+            return resource.performAction(name, request, extractor);
+        } catch (AmazonServiceException exception) {
+            if (QueueUrlCache.isNonExistentQueue(exception)) {
+                QueueUrlCache.invalidate(resource.getClient(), getUrl());
+            }
+            throw exception;
+        }
+    }
+
     private static class Codec implements ResourceCodec<Queue> {
         @Override
         public Queue transform(ResourceImpl resource) {
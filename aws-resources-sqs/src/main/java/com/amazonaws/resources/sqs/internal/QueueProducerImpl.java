@@ -0,0 +1,268 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.resources.internal.SettableFuture;
+import com.amazonaws.resources.sqs.ProducerOptions;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.QueueProducer;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+
+/**
+ * Buffers messages for a single queue and sends them in batches of up to
+ * ten messages and 256 KB. Only the messages listed as failed in a batch
+ * result are resent.
+ */
+class QueueProducerImpl implements QueueProducer {
+
+    private static final int MAX_BATCH_SIZE = 10;
+    static final int MAX_BATCH_BYTES = 256 * 1024;
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final Queue queue;
+    private final int maxRetries;
+    private final EntryBatcher batcher;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * @param queue the queue to send messages to
+     * @param options the batching options, or null for the defaults
+     */
+    public QueueProducerImpl(Queue queue, ProducerOptions options) {
+        if (options == null) {
+            options = new ProducerOptions();
+        }
+
+        this.queue = queue;
+        this.maxRetries = options.getMaxRetries();
+        this.batcher = new EntryBatcher(
+                options.getFlushInterval(TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public Future<SendMessageResult> send(String messageBody) {
+        return send(new SendMessageRequest().withMessageBody(messageBody));
+    }
+
+    @Override
+    public Future<SendMessageResult> send(SendMessageRequest request) {
+        SendMessageBatchRequestEntry message =
+                new SendMessageBatchRequestEntry()
+                        .withMessageBody(request.getMessageBody())
+                        .withDelaySeconds(request.getDelaySeconds())
+                        .withMessageAttributes(request.getMessageAttributes());
+
+        Entry entry = new Entry(message, messageSize(message));
+        if (entry.size > MAX_BATCH_BYTES) {
+            throw new IllegalArgumentException(
+                    "Message is " + entry.size + " bytes, which is more than "
+                    + "the limit of " + MAX_BATCH_BYTES);
+        }
+
+        batcher.add(entry);
+        return entry.future;
+    }
+
+    @Override
+    public void flush() {
+        batcher.flush();
+    }
+
+    @Override
+    public void close() {
+        batcher.close();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return batcher.getOutstanding();
+    }
+
+    @Override
+    public long getBatchesSent() {
+        return batches.get();
+    }
+
+    @Override
+    public double getAverageBatchFill() {
+        long count = batches.get();
+        return (count == 0 ? 0 : (double) messages.get() / count);
+    }
+
+    @Override
+    public double getAverageBatchBytes() {
+        long count = batches.get();
+        return (count == 0 ? 0 : (double) bytes.get() / count);
+    }
+
+    /**
+     * Works out the size of a message as SQS counts it against the batch
+     * limit: its body plus the names, types and values of its attributes.
+     */
+    static long messageSize(SendMessageBatchRequestEntry message) {
+        long size = utf8Length(message.getMessageBody());
+
+        Map<String, MessageAttributeValue> attributes =
+                message.getMessageAttributes();
+
+        if (attributes != null) {
+            for (Map.Entry<String, MessageAttributeValue> attribute
+                    : attributes.entrySet()) {
+
+                MessageAttributeValue value = attribute.getValue();
+
+                size += utf8Length(attribute.getKey());
+                size += utf8Length(value.getDataType());
+                size += utf8Length(value.getStringValue());
+                if (value.getBinaryValue() != null) {
+                    size += value.getBinaryValue().remaining();
+                }
+            }
+        }
+
+        return size;
+    }
+
+    private static long utf8Length(String value) {
+        return (value == null ? 0 : value.getBytes(UTF8).length);
+    }
+
+    /**
+     * A single queued message.
+     */
+    private static final class Entry {
+
+        private final SendMessageBatchRequestEntry message;
+        private final long size;
+        private final SettableFuture<SendMessageResult> future =
+                new SettableFuture<SendMessageResult>();
+
+        private int attempts;
+
+        public Entry(SendMessageBatchRequestEntry message, long size) {
+            this.message = message;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Sends batches of messages and works through the results.
+     */
+    private final class EntryBatcher extends Batcher<Entry> {
+
+        public EntryBatcher(long flushInterval) {
+            super(MAX_BATCH_SIZE, MAX_BATCH_BYTES, flushInterval);
+        }
+
+        @Override
+        protected long sizeOf(Entry entry) {
+            return entry.size;
+        }
+
+        @Override
+        protected void send(List<Entry> batch) {
+            List<SendMessageBatchRequestEntry> entries =
+                    new ArrayList<>(batch.size());
+
+            long size = 0;
+            for (int i = 0; i < batch.size(); ++i) {
+                Entry entry = batch.get(i);
+                entries.add(entry.message.withId(Integer.toString(i)));
+                size += entry.size;
+            }
+
+            batches.incrementAndGet();
+            messages.addAndGet(batch.size());
+            bytes.addAndGet(size);
+
+            SendMessageBatchResult result;
+            try {
+                result = queue.sendMessages(entries);
+            } catch (RuntimeException exception) {
+                for (Entry entry : batch) {
+                    fail(entry, exception);
+                }
+                return;
+            }
+
+            boolean[] reported = new boolean[batch.size()];
+
+            for (SendMessageBatchResultEntry sent : result.getSuccessful()) {
+                int index = Integer.parseInt(sent.getId());
+                if (reported[index]) {
+                    continue;
+                }
+                reported[index] = true;
+
+                batch.get(index).future.set(new SendMessageResult()
+                        .withMessageId(sent.getMessageId())
+                        .withMD5OfMessageBody(sent.getMD5OfMessageBody())
+                        .withMD5OfMessageAttributes(
+                                sent.getMD5OfMessageAttributes()));
+                complete();
+            }
+
+            for (BatchResultErrorEntry error : result.getFailed()) {
+                int index = Integer.parseInt(error.getId());
+                if (reported[index]) {
+                    continue;
+                }
+                reported[index] = true;
+
+                Entry entry = batch.get(index);
+                if (!isSenderFault(error) && entry.attempts < maxRetries) {
+                    entry.attempts += 1;
+                    retry(entry);
+                } else {
+                    fail(entry, toException(error));
+                }
+            }
+
+            // Every entry has to be completed exactly once, or close() will
+            // wait forever; fail any the result didn't mention at all.
+            for (int i = 0; i < reported.length; ++i) {
+                if (!reported[i]) {
+                    fail(batch.get(i), new AmazonClientException(
+                            "Unable to send message: it is missing from "
+                            + "the batch result"));
+                }
+            }
+        }
+
+        private void fail(Entry entry, Throwable failure) {
+            entry.future.setFailure(failure);
+            complete();
+        }
+    }
+}
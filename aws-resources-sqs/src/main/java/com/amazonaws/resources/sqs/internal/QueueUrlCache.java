@@ -0,0 +1,269 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.internal.SettableFuture;
+
+/**
+ * Remembers the URLs that queue names resolved to, so that looking a queue
+ * up by name doesn't cost a {@code GetQueueUrl} call every time.
+ * <p>
+ * There is one cache per client, since the same name can resolve to
+ * different queues for different accounts or regions. Entries expire after
+ * a fixed time, the least recently used entries are dropped once the cache
+ * is full, and entries are removed as soon as their queue is deleted or
+ * reported as not existing. Concurrent lookups of a name that isn't cached
+ * share a single call to the service.
+ */
+final class QueueUrlCache {
+
+    /**
+     * The error code SQS returns for operations on a queue that doesn't
+     * exist.
+     */
+    public static final String NON_EXISTENT_QUEUE =
+            "AWS.SimpleQueueService.NonExistentQueue";
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    public static final long DEFAULT_TTL = TimeUnit.MINUTES.toMillis(5);
+
+    private static final Map<Object, QueueUrlCache> CACHES =
+            Collections.synchronizedMap(
+                    new WeakHashMap<Object, QueueUrlCache>());
+
+    /**
+     * Looks up the URL of a queue on a cache miss.
+     */
+    public interface Loader {
+        String load(String queueName);
+    }
+
+    private final int maxSize;
+    private final long ttl;
+    private final Map<String, CachedUrl> entries;
+    private final Map<String, SettableFuture<String>> inFlight =
+            new HashMap<>();
+
+    /**
+     * Incremented by every invalidation, so that a lookup which was in
+     * flight while its queue was deleted doesn't cache a stale URL.
+     */
+    private long generation;
+
+    /**
+     * Returns the cache for the given client, creating it if need be.
+     *
+     * @param client the low-level client
+     * @return the client's cache
+     */
+    public static QueueUrlCache forClient(Object client) {
+        synchronized (CACHES) {
+            QueueUrlCache cache = CACHES.get(client);
+            if (cache == null) {
+                cache = new QueueUrlCache(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+                CACHES.put(client, cache);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Removes the given queue from the client's cache, if it has one;
+     * called when the queue is deleted or found not to exist.
+     *
+     * @param client the low-level client
+     * @param queueUrl the URL of the queue
+     */
+    public static void invalidate(Object client, String queueUrl) {
+        QueueUrlCache cache = CACHES.get(client);
+        if (cache != null) {
+            cache.invalidateUrl(queueUrl);
+        }
+    }
+
+    /**
+     * Tells whether the given exception means that a queue doesn't exist.
+     */
+    public static boolean isNonExistentQueue(AmazonServiceException e) {
+        return NON_EXISTENT_QUEUE.equals(e.getErrorCode());
+    }
+
+    QueueUrlCache(int maxSize, long ttl) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(
+                    "Max size must be at least 1, was " + maxSize);
+        }
+        if (ttl < 0) {
+            throw new IllegalArgumentException(
+                    "TTL must not be negative, was " + ttl);
+        }
+
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.entries = new LinkedHashMap<String, CachedUrl>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<String, CachedUrl> eldest) {
+
+                return size() > QueueUrlCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the URL of the named queue, loading it if it isn't cached. A
+     * lookup that finds another lookup of the same name in flight waits for
+     * its result rather than making a call of its own.
+     *
+     * @param queueName the name of the queue
+     * @param loader looks up the URL on a cache miss
+     * @return the URL of the queue
+     */
+    public String get(String queueName, Loader loader) {
+        SettableFuture<String> flight;
+        boolean leader = false;
+        long expected;
+
+        synchronized (this) {
+            CachedUrl entry = entries.get(queueName);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loaded < ttlNanos()) {
+                    return entry.url;
+                }
+                entries.remove(queueName);
+            }
+
+            flight = inFlight.get(queueName);
+            if (flight == null) {
+                flight = new SettableFuture<>();
+                inFlight.put(queueName, flight);
+                leader = true;
+            }
+            expected = generation;
+        }
+
+        if (!leader) {
+            return await(flight);
+        }
+
+        try {
+
+            String url = loader.load(queueName);
+
+            synchronized (this) {
+                inFlight.remove(queueName);
+                if (url != null && generation == expected) {
+                    entries.put(queueName,
+                            new CachedUrl(url, System.nanoTime()));
+                }
+            }
+            flight.set(url);
+            return url;
+
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                inFlight.remove(queueName);
+            }
+            flight.setFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes any entry for the named queue.
+     */
+    public synchronized void invalidateName(String queueName) {
+        generation += 1;
+        entries.remove(queueName);
+    }
+
+    /**
+     * Removes any entries which resolved to the given URL.
+     */
+    public synchronized void invalidateUrl(String queueUrl) {
+        generation += 1;
+        Iterator<CachedUrl> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().url.equals(queueUrl)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the number of names currently cached
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private long ttlNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(ttl);
+    }
+
+    /**
+     * Waits for a lookup made by another thread, rethrowing its failure
+     * directly.
+     */
+    private static String await(SettableFuture<String> flight) {
+        boolean interrupted = false;
+        try {
+
+            while (true) {
+                try {
+                    return flight.get();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class CachedUrl {
+
+        private final String url;
+        private final long loaded;
+
+        public CachedUrl(String url, long loaded) {
+            this.url = url;
+            this.loaded = loaded;
+        }
+    }
+}
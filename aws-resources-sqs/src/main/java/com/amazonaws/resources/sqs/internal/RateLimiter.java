@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out permits evenly at a fixed rate, shared between threads. Each
+ * caller reserves its permits at the end of the schedule and sleeps until
+ * its turn comes, so a burst of callers is spread out rather than let
+ * through at once; time when no one asked for permits is not saved up.
+ */
+final class RateLimiter {
+
+    private final long interval;
+    private long next = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond the rate at which permits are handed out
+     */
+    public RateLimiter(int permitsPerSecond) {
+        if (permitsPerSecond < 1) {
+            throw new IllegalArgumentException(
+                    "permitsPerSecond must be at least 1: "
+                    + permitsPerSecond);
+        }
+        this.interval = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+    }
+
+    /**
+     * Waits until the given number of permits is available.
+     *
+     * @param permits the number of permits to take
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long start;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (next - now < 0) {
+                next = now;
+            }
+            start = next;
+            next += interval * permits;
+        }
+
+        long wait = start - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
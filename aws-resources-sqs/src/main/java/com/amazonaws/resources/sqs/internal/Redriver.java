@@ -0,0 +1,443 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.resources.internal.NamedThreadFactory;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.RedriveOptions;
+import com.amazonaws.resources.sqs.RedriveResult;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
+
+/**
+ * Moves every message out of a dead letter queue and back into a source
+ * queue.
+ * <p>
+ * Each mover receives a batch, sends it on with its body and message
+ * attributes intact, and then deletes just the messages that were sent;
+ * if a mover dies part way through, nothing has been deleted that wasn't
+ * sent first. Batch entry ids are indexes into the received batch, so
+ * results map straight back to messages. Progress is logged every ten
+ * seconds.
+ * <p>
+ * A message that fails to send stays invisible in the source queue until
+ * its visibility timeout runs out. Until then, movers keep polling even
+ * once a receive comes back empty, so that it is tried again; after
+ * {@code MAX_SEND_ATTEMPTS} failures it is left where it is, and a receive
+ * of nothing but such messages counts as empty.
+ */
+final class Redriver {
+
+    private static final Log LOG = LogFactory.getLog(Redriver.class);
+
+    /**
+     * The most messages a single receive or batch can hold.
+     */
+    private static final int MAX_MESSAGES = 10;
+
+    /**
+     * The most times a message is sent before it is left in the source
+     * queue.
+     */
+    private static final int MAX_SEND_ATTEMPTS = 3;
+
+    private static final long MAX_BACKOFF = TimeUnit.SECONDS.toMillis(20);
+    private static final long PROGRESS_INTERVAL = 10;
+
+    private final Queue source;
+    private final Queue target;
+    private final RedriveOptions options;
+    private final RateLimiter limiter;
+
+    private final AtomicLong moved = new AtomicLong();
+    private final AtomicLong sendFailures = new AtomicLong();
+    private final AtomicLong deleteFailures = new AtomicLong();
+
+    /**
+     * The number of failed sends of each message which has failed to send,
+     * by message id; guarded by this object's lock.
+     */
+    private final Map<String, Integer> failedSends = new HashMap<>();
+
+    /**
+     * The number of messages which have failed to send, but fewer than
+     * {@code MAX_SEND_ATTEMPTS} times.
+     */
+    private int pendingRetries;
+
+    /**
+     * When the last message which failed to send and is still to be tried
+     * again becomes visible, as a {@code System.nanoTime()}.
+     */
+    private long retryUntil = System.nanoTime();
+
+    /**
+     * Moves every message from one queue to another, returning once the
+     * source queue has been drained.
+     *
+     * @param source the dead letter queue to drain
+     * @param target the queue to move messages to
+     * @param options the redrive options, or null for the defaults
+     * @return the outcome of the redrive
+     */
+    public static RedriveResult redrive(
+            Queue source,
+            Queue target,
+            RedriveOptions options) {
+
+        if (target == null) {
+            throw new NullPointerException("target");
+        }
+        if (target.getUrl().equals(source.getUrl())) {
+            throw new IllegalArgumentException(
+                    "Cannot redrive a queue into itself: " + source.getUrl());
+        }
+        if (options == null) {
+            options = new RedriveOptions();
+        }
+
+        return new Redriver(source, target, options).run();
+    }
+
+    private Redriver(Queue source, Queue target, RedriveOptions options) {
+        this.source = source;
+        this.target = target;
+        this.options = options;
+        this.limiter = (options.getMaxMessagesPerSecond() == 0
+                ? null
+                : new RateLimiter(options.getMaxMessagesPerSecond()));
+    }
+
+    private RedriveResult run() {
+        final long start = System.nanoTime();
+
+        ExecutorService movers = Executors.newFixedThreadPool(
+                options.getMovers(),
+                new NamedThreadFactory(
+                        "sqs-redrive", source.getUrl(), "mover"));
+
+        Future<?> progress = SharedScheduler.INSTANCE.scheduleAtFixedRate(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        LOG.info("Redriving " + source.getUrl() + " to "
+                                + target.getUrl() + ": " + result(start));
+                    }
+                },
+                PROGRESS_INTERVAL,
+                PROGRESS_INTERVAL,
+                TimeUnit.SECONDS);
+
+        try {
+
+            for (int i = 0; i < options.getMovers(); ++i) {
+                movers.execute(new Mover());
+            }
+            movers.shutdown();
+
+            while (!movers.awaitTermination(1, TimeUnit.SECONDS)) {
+                // Keep waiting.
+            }
+
+        } catch (InterruptedException exception) {
+            movers.shutdownNow();
+            Thread.currentThread().interrupt();
+
+        } finally {
+            progress.cancel(false);
+        }
+
+        RedriveResult result = result(start);
+        LOG.info("Redrove " + source.getUrl() + " to " + target.getUrl()
+                + ": " + result);
+        return result;
+    }
+
+    /**
+     * Records a failed send of a message. The movers wait for it to become
+     * visible again unless it has now failed too many times.
+     */
+    private synchronized void sendFailed(Message message) {
+        Integer previous = failedSends.get(message.getMessageId());
+        int failures = (previous == null ? 1 : previous + 1);
+        failedSends.put(message.getMessageId(), failures);
+
+        if (previous != null) {
+            pendingRetries -= 1;
+        }
+        if (failures >= MAX_SEND_ATTEMPTS) {
+            sendFailures.incrementAndGet();
+            return;
+        }
+        pendingRetries += 1;
+
+        // Received at most this long ago, so visible by then at the latest.
+        long visibleBy = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(options.getVisibilityTimeout());
+
+        if (visibleBy - retryUntil > 0) {
+            retryUntil = visibleBy;
+        }
+    }
+
+    /**
+     * Records that a message was sent, after failing before if need be.
+     */
+    private synchronized void sent(Message message) {
+        if (failedSends.remove(message.getMessageId()) != null) {
+            pendingRetries -= 1;
+        }
+    }
+
+    /**
+     * @return true if a message has failed to send too many times, and is
+     *         to be left in the source queue
+     */
+    private synchronized boolean givenUp(Message message) {
+        Integer failures = failedSends.get(message.getMessageId());
+        return (failures != null && failures >= MAX_SEND_ATTEMPTS);
+    }
+
+    /**
+     * @return true if a message which failed to send may yet become visible
+     *         again, so an empty receive doesn't mean the queue is drained
+     */
+    private synchronized boolean awaitingRetries() {
+        return (pendingRetries > 0 && System.nanoTime() - retryUntil < 0);
+    }
+
+    private RedriveResult result(long start) {
+        return new RedriveResult(
+                moved.get(),
+                sendFailures.get(),
+                deleteFailures.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Moves batches of messages until a receive comes back empty with no
+     * failed sends left to retry.
+     */
+    private final class Mover implements Runnable {
+
+        private long backoff;
+
+        @Override
+        public void run() {
+            try {
+
+                while (!Thread.currentThread().isInterrupted()) {
+                    List<Message> messages = receive();
+                    if (messages == null) {
+                        continue;
+                    }
+                    if (messages.isEmpty()) {
+                        if (awaitingRetries()) {
+                            continue;
+                        }
+                        break;
+                    }
+
+                    List<Message> sent = send(messages);
+                    if (!sent.isEmpty()) {
+                        delete(sent);
+                    }
+                }
+
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * @return the messages received, less any which are to be left in
+         *         the source queue, or null if the receive failed
+         */
+        private List<Message> receive() throws InterruptedException {
+            try {
+
+                List<Message> messages = source.receiveMessages(
+                        new ReceiveMessageRequest()
+                                .withMaxNumberOfMessages(MAX_MESSAGES)
+                                .withWaitTimeSeconds(
+                                        options.getWaitTimeSeconds())
+                                .withVisibilityTimeout(
+                                        options.getVisibilityTimeout())
+                                .withMessageAttributeNames("All"));
+
+                backoff = 0;
+
+                // A receive of nothing but messages which keep failing is
+                // as good as an empty one.
+                List<Message> result = new ArrayList<>();
+                if (messages != null) {
+                    for (Message message : messages) {
+                        if (!givenUp(message)) {
+                            result.add(message);
+                        }
+                    }
+                }
+                return result;
+
+            } catch (AmazonClientException exception) {
+                backOff("receive messages from " + source.getUrl(),
+                        exception);
+                return null;
+            }
+        }
+
+        /**
+         * Sends messages to the target queue, in more than one batch if
+         * they are too big for one.
+         *
+         * @return the messages which were sent successfully
+         */
+        private List<Message> send(List<Message> messages)
+                throws InterruptedException {
+
+            List<Message> sent = new ArrayList<>(messages.size());
+
+            List<SendMessageBatchRequestEntry> batch = new ArrayList<>();
+            long bytes = 0;
+
+            for (int i = 0; i < messages.size(); ++i) {
+                Message message = messages.get(i);
+
+                SendMessageBatchRequestEntry entry =
+                        new SendMessageBatchRequestEntry()
+                                .withId(Integer.toString(i))
+                                .withMessageBody(message.getBody())
+                                .withMessageAttributes(
+                                        message.getMessageAttributes());
+
+                long size = QueueProducerImpl.messageSize(entry);
+                if (!batch.isEmpty() && bytes + size
+                        > QueueProducerImpl.MAX_BATCH_BYTES) {
+
+                    sendBatch(batch, messages, sent);
+                    batch = new ArrayList<>();
+                    bytes = 0;
+                }
+
+                batch.add(entry);
+                bytes += size;
+            }
+            sendBatch(batch, messages, sent);
+
+            return sent;
+        }
+
+        private void sendBatch(
+                List<SendMessageBatchRequestEntry> batch,
+                List<Message> messages,
+                List<Message> sent) throws InterruptedException {
+
+            if (limiter != null) {
+                limiter.acquire(batch.size());
+            }
+
+            SendMessageBatchResult result;
+            try {
+
+                result = target.sendMessages(
+                        new SendMessageBatchRequest().withEntries(batch));
+
+            } catch (AmazonClientException exception) {
+                for (SendMessageBatchRequestEntry entry : batch) {
+                    sendFailed(messages.get(Integer.parseInt(entry.getId())));
+                }
+                backOff("send messages to " + target.getUrl(), exception);
+                return;
+            }
+
+            for (SendMessageBatchResultEntry entry : result.getSuccessful()) {
+                Message message = messages.get(Integer.parseInt(entry.getId()));
+                sent(message);
+                sent.add(message);
+            }
+
+            for (BatchResultErrorEntry entry : result.getFailed()) {
+                Message message = messages.get(Integer.parseInt(entry.getId()));
+                LOG.warn("Failed to send message " + message.getMessageId()
+                        + " to " + target.getUrl() + ": " + entry.getCode()
+                        + " " + entry.getMessage());
+                sendFailed(message);
+            }
+        }
+
+        private void delete(List<Message> sent) throws InterruptedException {
+            List<DeleteMessageBatchRequestEntry> entries =
+                    new ArrayList<>(sent.size());
+
+            for (int i = 0; i < sent.size(); ++i) {
+                entries.add(new DeleteMessageBatchRequestEntry()
+                        .withId(Integer.toString(i))
+                        .withReceiptHandle(sent.get(i).getReceiptHandle()));
+            }
+
+            moved.addAndGet(sent.size());
+
+            DeleteMessageBatchResult result;
+            try {
+
+                result = source.deleteMessages(
+                        new DeleteMessageBatchRequest().withEntries(entries));
+
+            } catch (AmazonClientException exception) {
+                deleteFailures.addAndGet(sent.size());
+                backOff("delete messages from " + source.getUrl(),
+                        exception);
+                return;
+            }
+
+            deleteFailures.addAndGet(result.getFailed().size());
+        }
+
+        private void backOff(String action, AmazonClientException exception)
+                throws InterruptedException {
+
+            backoff = (backoff == 0
+                    ? 100
+                    : Math.min(MAX_BACKOFF, backoff * 2));
+
+            LOG.warn("Failed to " + action + ", retrying in " + backoff
+                    + "ms", exception);
+
+            Thread.sleep(backoff);
+        }
+    }
+}
@@ -23,9 +23,12 @@ import com.amazonaws.resources.internal.ResourceImpl;
 import com.amazonaws.resources.internal.ServiceImpl;
 import com.amazonaws.resources.internal.V1ServiceInterface;
 import com.amazonaws.resources.internal.model.ServiceModel;
-import com.amazonaws.resources.internal.model.V1ModelLoader;
+import com.amazonaws.resources.internal.model.ServiceModelRegistry;
+import com.amazonaws.resources.sqs.FanInOptions;
+import com.amazonaws.resources.sqs.MessageHandler;
 import com.amazonaws.resources.sqs.Queue;
 import com.amazonaws.resources.sqs.QueueCollection;
+import com.amazonaws.resources.sqs.QueueConsumer;
 import com.amazonaws.resources.sqs.SQS;
 import com.amazonaws.services.sqs.AmazonSQS;
 import com.amazonaws.services.sqs.AmazonSQSClient;
@@ -61,7 +64,7 @@ public class SQSImpl implements SQS {
      *         use to make API calls.
      */
     public SQSImpl(AmazonSQS client) {
-        ServiceModel model = V1ModelLoader.load(SQS.class,
+        ServiceModel model = ServiceModelRegistry.getModel(SQS.class,
                 SQS.class.getAnnotation(V1ServiceInterface.class).model());
 
         this.service = new ServiceImpl<AmazonSQS>(model, client);
@@ -118,10 +121,29 @@ public class SQSImpl implements SQS {
         return new QueueImpl(result.getResource());
     }
 
+    /**
+     * Looks up a queue by name, using the URL the name resolved to last
+     * time if it is still cached; see {@link QueueUrlCache}. The overloads
+     * taking a request or a result capture always call the service.
+     */
     @Override
-    public Queue getQueueByName(String queueName) {
-        return getQueueByName(queueName,
-                (ResultCapture<GetQueueUrlResult>)null);
+    public Queue getQueueByName(final String queueName) {
+        if (queueName == null) {
+            throw new NullPointerException("queueName");
+        }
+
+        QueueUrlCache cache = QueueUrlCache.forClient(client());
+        String url = cache.get(queueName, new QueueUrlCache.Loader() {
+            @Override
+            public String load(String name) {
+                Queue queue = getQueueByName(name,
+                        (ResultCapture<GetQueueUrlResult>)null);
+                return (queue == null ? null : queue.getUrl());
+            }
+        });
+
+        if (url == null) return null;
+        return getQueue(url);
     }
 
     @Override
@@ -162,4 +184,18 @@ public class SQSImpl implements SQS {
             .withQueueName(queueName);
         return createQueue(request, extractor);
     }
+
+    @Override
+    public QueueConsumer consumeQueues(String queueNamePrefix,
+            MessageHandler handler) {
+
+        return consumeQueues(queueNamePrefix, handler, null);
+    }
+
+    @Override
+    public QueueConsumer consumeQueues(String queueNamePrefix,
+            MessageHandler handler, FanInOptions options) {
+
+        return new FanInConsumerImpl(this, queueNamePrefix, handler, options);
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The scheduler shared by the client-side batching helpers, created on
+ * first use. It runs both their linger timers and the batch requests
+ * themselves. Its threads are daemons, so helpers which are never closed
+ * don't keep the JVM alive.
+ */
+final class SharedScheduler implements ThreadFactory {
+
+    public static final ScheduledExecutorService INSTANCE = create();
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    private static ScheduledExecutorService create() {
+        int threads = Math.max(
+                4, Runtime.getRuntime().availableProcessors());
+
+        ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(threads, new SharedScheduler());
+
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(
+                runnable,
+                "sqs-batching-" + count.incrementAndGet());
+
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private SharedScheduler() {
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.FanInOptions;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageHandler;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.QueueConsumer;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+public class FanInConsumerImplTest {
+
+    private PollCountingSQS client;
+    private SQS sqs;
+
+    @Before
+    public void setUp() {
+        client = new PollCountingSQS();
+        sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+    }
+
+    @Test
+    public void testConsumesFromEveryMatchingQueue() throws Exception {
+        Queue[] matching = {
+                sqs.createQueue("orders-1"),
+                sqs.createQueue("orders-2"),
+                sqs.createQueue("orders-3")
+        };
+        Queue other = sqs.createQueue("payments");
+
+        for (Queue queue : matching) {
+            send(queue, 10);
+        }
+        send(other, 10);
+
+        final Set<String> bodies = Collections.newSetFromMap(
+                new ConcurrentHashMap<String, Boolean>());
+        final CountDownLatch handled = new CountDownLatch(30);
+
+        QueueConsumer consumer = sqs.consumeQueues(
+                "orders-",
+                new MessageHandler() {
+                    @Override
+                    public void handle(Message message) {
+                        bodies.add(message.getQueueUrl() + " "
+                                + message.getBody());
+                        handled.countDown();
+                    }
+                },
+                options());
+
+        Assert.assertTrue(handled.await(10, TimeUnit.SECONDS));
+        shutdown(consumer);
+
+        Assert.assertEquals(30, bodies.size());
+        for (Queue queue : matching) {
+            Assert.assertEquals(0, count(queue));
+        }
+        Assert.assertEquals(10, count(other));
+        Assert.assertEquals(0, client.polls(other.getUrl()));
+    }
+
+    @Test
+    public void testBusyQueueGetsMorePollers() throws Exception {
+        Queue busy = sqs.createQueue("work-busy");
+        sqs.createQueue("work-idle-1");
+        sqs.createQueue("work-idle-2");
+        send(busy, 300);
+
+        client.pollMillis = 50;
+        final CountDownLatch handled = new CountDownLatch(300);
+
+        QueueConsumer consumer = sqs.consumeQueues(
+                "work-",
+                new MessageHandler() {
+                    @Override
+                    public void handle(Message message) {
+                        handled.countDown();
+                    }
+                },
+                options().withMaxIdleBackoff(1, TimeUnit.SECONDS));
+
+        Assert.assertTrue(handled.await(20, TimeUnit.SECONDS));
+        shutdown(consumer);
+
+        // Polls that come back full earn a queue concurrent polls; polls
+        // that come back empty never do.
+        Assert.assertTrue(client.maxConcurrent(busy.getUrl()) > 1);
+        for (String url : client.polls.keySet()) {
+            if (!url.equals(busy.getUrl())) {
+                Assert.assertEquals(1, client.maxConcurrent(url));
+            }
+        }
+    }
+
+    @Test
+    public void testIdleQueuesBackOff() throws Exception {
+        Queue idle = sqs.createQueue("quiet-1");
+
+        QueueConsumer consumer = sqs.consumeQueues(
+                "quiet-",
+                new MessageHandler() {
+                    @Override
+                    public void handle(Message message) {
+                    }
+                },
+                options()
+                        .withMaxIdleBackoff(2, TimeUnit.SECONDS));
+
+        Thread.sleep(2500);
+        shutdown(consumer);
+
+        // Probes at 0, 0.5, 1.5 and 3.5 seconds, rather than as fast as
+        // four pollers can manage short polls.
+        int polls = client.polls(idle.getUrl());
+        Assert.assertTrue("Polled " + polls + " times", polls <= 4);
+    }
+
+    @Test
+    public void testPollersSurviveUnexpectedExceptions() throws Exception {
+        Queue queue = sqs.createQueue("flaky-1");
+        client.receiveFailures.set(6);
+        send(queue, 10);
+
+        final CountDownLatch handled = new CountDownLatch(10);
+        QueueConsumer consumer = sqs.consumeQueues(
+                "flaky-",
+                new MessageHandler() {
+                    @Override
+                    public void handle(Message message) {
+                        handled.countDown();
+                    }
+                },
+                options()
+                        .withMaxInFlight(10)
+                        .withMaxIdleBackoff(1, TimeUnit.SECONDS));
+
+        Assert.assertTrue(handled.await(20, TimeUnit.SECONDS));
+        Assert.assertFalse(consumer.isShutdown());
+        Assert.assertFalse(consumer.isTerminated());
+
+        shutdown(consumer);
+        Assert.assertTrue(client.receiveFailures.get() <= 0);
+    }
+
+    @Test
+    public void testDeletedQueuesAreDropped() throws Exception {
+        Queue doomed = sqs.createQueue("jobs-1");
+        Queue kept = sqs.createQueue("jobs-2");
+
+        final AtomicInteger handled = new AtomicInteger();
+        QueueConsumer consumer = sqs.consumeQueues(
+                "jobs-",
+                new MessageHandler() {
+                    @Override
+                    public void handle(Message message) {
+                        handled.incrementAndGet();
+                    }
+                },
+                options()
+                        .withMaxIdleBackoff(1, TimeUnit.SECONDS));
+
+        doomed.delete();
+        send(kept, 5);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (handled.get() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(5, handled.get());
+
+        // Once found to be gone, the queue is not polled again.
+        int polls = client.polls(doomed.getUrl());
+        Thread.sleep(1500);
+        Assert.assertEquals(polls, client.polls(doomed.getUrl()));
+
+        shutdown(consumer);
+    }
+
+    private static FanInOptions options() {
+        return new FanInOptions()
+                .withPollers(4)
+                .withWorkers(4)
+                .withWaitTimeSeconds(1);
+    }
+
+    private static void send(Queue queue, int count) {
+        for (int i = 0; i < count; ++i) {
+            queue.sendMessage("message " + i);
+        }
+    }
+
+    private int count(Queue queue) {
+        String visible = "ApproximateNumberOfMessages";
+        String hidden = "ApproximateNumberOfMessagesNotVisible";
+
+        Map<String, String> attributes = client.getQueueAttributes(
+                new GetQueueAttributesRequest(queue.getUrl())
+                        .withAttributeNames(visible, hidden))
+                .getAttributes();
+
+        return Integer.parseInt(attributes.get(visible))
+                + Integer.parseInt(attributes.get(hidden));
+    }
+
+    private static void shutdown(QueueConsumer consumer)
+            throws InterruptedException {
+
+        consumer.shutdown();
+        Assert.assertTrue(consumer.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * A stand-in which counts polls of each queue and how many were in
+     * progress at once, can make every poll take a while, and can make
+     * polls fail with an exception that isn't an
+     * {@code AmazonClientException}.
+     */
+    public static class PollCountingSQS extends InMemorySQS {
+
+        private final ConcurrentMap<String, Polls> polls =
+                new ConcurrentHashMap<>();
+        private final AtomicInteger receiveFailures = new AtomicInteger();
+        private volatile long pollMillis;
+
+        @Override
+        public ReceiveMessageResult receiveMessage(
+                ReceiveMessageRequest request) {
+
+            Polls counts = polls.get(request.getQueueUrl());
+            if (counts == null) {
+                polls.putIfAbsent(request.getQueueUrl(), new Polls());
+                counts = polls.get(request.getQueueUrl());
+            }
+            counts.started();
+
+            try {
+
+                if (receiveFailures.getAndDecrement() > 0) {
+                    throw new IllegalStateException("unexpected failure");
+                }
+                if (pollMillis > 0) {
+                    Thread.sleep(pollMillis);
+                }
+                return super.receiveMessage(request);
+
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return new ReceiveMessageResult();
+
+            } finally {
+                counts.finished();
+            }
+        }
+
+        public int polls(String url) {
+            Polls counts = polls.get(url);
+            return (counts == null ? 0 : counts.getTotal());
+        }
+
+        public int maxConcurrent(String url) {
+            Polls counts = polls.get(url);
+            return (counts == null ? 0 : counts.getMaxRunning());
+        }
+    }
+
+    private static final class Polls {
+
+        private int total;
+        private int running;
+        private int maxRunning;
+
+        public synchronized void started() {
+            total += 1;
+            running += 1;
+            maxRunning = Math.max(maxRunning, running);
+        }
+
+        public synchronized void finished() {
+            running -= 1;
+        }
+
+        public synchronized int getTotal() {
+            return total;
+        }
+
+        public synchronized int getMaxRunning() {
+            return maxRunning;
+        }
+    }
+}
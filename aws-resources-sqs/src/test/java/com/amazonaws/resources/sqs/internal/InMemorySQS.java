@@ -0,0 +1,1065 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.regions.Region;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.AddPermissionRequest;
+import com.amazonaws.services.sqs.model.BatchEntryIdsNotDistinctException;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry
+;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResultEntry
+;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityRequest;
+import com.amazonaws.services.sqs.model.CreateQueueRequest;
+import com.amazonaws.services.sqs.model.CreateQueueResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageRequest;
+import com.amazonaws.services.sqs.model.DeleteQueueRequest;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
+import com.amazonaws.services.sqs.model.GetQueueUrlRequest;
+import com.amazonaws.services.sqs.model.GetQueueUrlResult;
+import com.amazonaws.services.sqs.model.ListDeadLetterSourceQueuesRequest;
+import com.amazonaws.services.sqs.model.ListDeadLetterSourceQueuesResult;
+import com.amazonaws.services.sqs.model.ListQueuesRequest;
+import com.amazonaws.services.sqs.model.ListQueuesResult;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.QueueDoesNotExistException;
+import com.amazonaws.services.sqs.model.ReceiptHandleIsInvalidException;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.RemovePermissionRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+import com.amazonaws.services.sqs.model.SetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.TooManyEntriesInBatchRequestException;
+
+/**
+ * An in-process stand-in for SQS, for tests and benchmarks of the resource
+ * layer that can't depend on a live AWS account. Pass one to
+ * {@code ServiceBuilder.withClient} (or {@code new SQSImpl(client)}) in
+ * place of a real client:
+ * <pre>
+ * SQS sqs = ServiceBuilder.forService(SQS.class)
+ *         .withClient(new InMemorySQS())
+ *         .build();
+ * </pre>
+ * Queues, message delays, visibility timeouts, receipt handles, long
+ * polling, the batch actions and redrive policies behave as they do in
+ * SQS, and invalid requests fail with the same error codes. Unlike SQS,
+ * messages are received in exactly the order they became visible and
+ * never more than once at a time, so tests are deterministic; time is
+ * read through {@link #currentTimeMillis()}, which tests can override to
+ * control it. Permissions and message retention are not modelled, and no
+ * {@code MD5OfMessageAttributes} digests are computed.
+ * <p>
+ * Every operation runs on the calling thread, under the lock of the queue
+ * it operates on. A long poll on an interrupted thread fails with an
+ * {@code AbortedException}.
+ */
+public class InMemorySQS extends AmazonSQSClient {
+
+    public static final String DEFAULT_ENDPOINT = "https://sqs.local/";
+    public static final String ACCOUNT_ID = "123456789012";
+
+    private static final int MAX_BATCH_ENTRIES = 10;
+    private static final int MAX_MESSAGE_SIZE = 256 * 1024;
+    private static final int MAX_WAIT_TIME_SECONDS = 20;
+    private static final int MAX_VISIBILITY_TIMEOUT = 43200;
+    private static final int MAX_DELAY_SECONDS = 900;
+
+    private static final Pattern QUEUE_NAME = Pattern.compile("[\\w-]{1,80}");
+
+    private static final Pattern MAX_RECEIVE_COUNT =
+            Pattern.compile("\"maxReceiveCount\"\\s*:\\s*\"?(\\d+)");
+
+    private static final Pattern DEAD_LETTER_TARGET_ARN =
+            Pattern.compile("\"deadLetterTargetArn\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final Map<String, String> DEFAULT_ATTRIBUTES;
+    static {
+        Map<String, String> defaults = new HashMap<>();
+        defaults.put("DelaySeconds", "0");
+        defaults.put("MaximumMessageSize", Integer.toString(MAX_MESSAGE_SIZE));
+        defaults.put("MessageRetentionPeriod", "345600");
+        defaults.put("ReceiveMessageWaitTimeSeconds", "0");
+        defaults.put("VisibilityTimeout", "30");
+        DEFAULT_ATTRIBUTES = Collections.unmodifiableMap(defaults);
+    }
+
+    private final String endpoint;
+    private final ConcurrentMap<String, LocalQueue> queues =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a stand-in whose queue URLs start with
+     * {@value #DEFAULT_ENDPOINT}.
+     */
+    public InMemorySQS() {
+        this(DEFAULT_ENDPOINT);
+    }
+
+    /**
+     * @param endpoint the prefix of the URLs of queues, ending in a slash
+     */
+    public InMemorySQS(String endpoint) {
+        if (!endpoint.endsWith("/")) {
+            throw new IllegalArgumentException(
+                    "endpoint must end in a slash: " + endpoint);
+        }
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * The current time, used for delays, visibility timeouts and long
+     * polls. Override to control time in tests; long polls still wait in
+     * real time, so should be avoided when time is controlled.
+     *
+     * @return the current time in milliseconds
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Deletes every message in a queue.
+     *
+     * @param queueUrl the URL of the queue
+     */
+    public void purge(String queueUrl) {
+        LocalQueue queue = getQueue(queueUrl);
+        synchronized (queue) {
+            queue.messages.clear();
+            queue.visible.clear();
+            queue.hidden.clear();
+        }
+    }
+
+    @Override
+    public void setEndpoint(String endpoint) {
+    }
+
+    @Override
+    public void setRegion(Region region) {
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public CreateQueueResult createQueue(CreateQueueRequest request) {
+        String name = request.getQueueName();
+        if (name == null || !QUEUE_NAME.matcher(name).matches()) {
+            throw error(new AmazonServiceException(
+                    "Invalid queue name: " + name), "InvalidParameterValue");
+        }
+
+        Map<String, String> attributes = new HashMap<>(DEFAULT_ATTRIBUTES);
+        if (request.getAttributes() != null) {
+            checkAttributes(request.getAttributes());
+            attributes.putAll(request.getAttributes());
+        }
+
+        LocalQueue queue = new LocalQueue(name, attributes);
+        LocalQueue existing = queues.putIfAbsent(name, queue);
+
+        if (existing != null) {
+            synchronized (existing) {
+                if (!existing.attributes.equals(attributes)) {
+                    throw error(new AmazonServiceException(
+                            "A queue already exists with the same name and a "
+                            + "different value for attribute(s)"),
+                            "QueueAlreadyExists");
+                }
+            }
+            return new CreateQueueResult().withQueueUrl(existing.url);
+        }
+
+        return new CreateQueueResult().withQueueUrl(queue.url);
+    }
+
+    @Override
+    public GetQueueUrlResult getQueueUrl(GetQueueUrlRequest request) {
+        LocalQueue queue = queues.get(String.valueOf(request.getQueueName()));
+        if (queue == null) {
+            throw nonExistentQueue();
+        }
+        return new GetQueueUrlResult().withQueueUrl(queue.url);
+    }
+
+    @Override
+    public ListQueuesResult listQueues(ListQueuesRequest request) {
+        String prefix = request.getQueueNamePrefix();
+
+        Map<String, String> urls = new TreeMap<>();
+        for (LocalQueue queue : queues.values()) {
+            if (prefix == null || queue.name.startsWith(prefix)) {
+                urls.put(queue.name, queue.url);
+            }
+        }
+
+        return new ListQueuesResult()
+                .withQueueUrls(new ArrayList<>(urls.values()));
+    }
+
+    @Override
+    public void deleteQueue(DeleteQueueRequest request) {
+        LocalQueue queue = getQueue(request.getQueueUrl());
+        queues.remove(queue.name, queue);
+
+        synchronized (queue) {
+            queue.deleted = true;
+            queue.notifyAll();
+        }
+    }
+
+    @Override
+    public GetQueueAttributesResult getQueueAttributes(
+            GetQueueAttributesRequest request) {
+
+        LocalQueue queue = getQueue(request.getQueueUrl());
+
+        Set<String> names = new HashSet<>();
+        if (request.getAttributeNames() != null) {
+            names.addAll(request.getAttributeNames());
+        }
+        boolean all = names.contains("All");
+
+        Map<String, String> result = new HashMap<>();
+        synchronized (queue) {
+            Map<String, String> attributes = queue.getAttributes(
+                    currentTimeMillis());
+
+            for (Map.Entry<String, String> entry : attributes.entrySet()) {
+                if (all || names.contains(entry.getKey())) {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        return new GetQueueAttributesResult().withAttributes(result);
+    }
+
+    @Override
+    public void setQueueAttributes(SetQueueAttributesRequest request) {
+        LocalQueue queue = getQueue(request.getQueueUrl());
+        checkAttributes(request.getAttributes());
+
+        synchronized (queue) {
+            queue.attributes.putAll(request.getAttributes());
+            queue.modified = currentTimeMillis();
+            queue.notifyAll();
+        }
+    }
+
+    @Override
+    public ListDeadLetterSourceQueuesResult listDeadLetterSourceQueues(
+            ListDeadLetterSourceQueuesRequest request) {
+
+        LocalQueue target = getQueue(request.getQueueUrl());
+
+        Set<String> urls = new HashSet<>();
+        for (LocalQueue queue : queues.values()) {
+            synchronized (queue) {
+                if (target.arn.equals(queue.getDeadLetterTargetArn())) {
+                    urls.add(queue.url);
+                }
+            }
+        }
+
+        return new ListDeadLetterSourceQueuesResult()
+                .withQueueUrls(new ArrayList<>(urls));
+    }
+
+    @Override
+    public SendMessageResult sendMessage(SendMessageRequest request) {
+        LocalQueue queue = getQueue(request.getQueueUrl());
+
+        StoredMessage message = send(
+                queue,
+                request.getMessageBody(),
+                request.getMessageAttributes(),
+                request.getDelaySeconds());
+
+        return new SendMessageResult()
+                .withMessageId(message.id)
+                .withMD5OfMessageBody(message.md5OfBody);
+    }
+
+    @Override
+    public SendMessageBatchResult sendMessageBatch(
+            SendMessageBatchRequest request) {
+
+        LocalQueue queue = getQueue(request.getQueueUrl());
+
+        List<String> ids = new ArrayList<>();
+        long size = 0;
+        for (SendMessageBatchRequestEntry entry : request.getEntries()) {
+            ids.add(entry.getId());
+            size += sizeOf(
+                    entry.getMessageBody(), entry.getMessageAttributes());
+        }
+        checkBatch(ids);
+
+        if (size > MAX_MESSAGE_SIZE) {
+            throw error(new AmazonServiceException(
+                    "Batch requests cannot be longer than " + MAX_MESSAGE_SIZE
+                    + " bytes"), "AWS.SimpleQueueService.BatchRequestTooLong");
+        }
+
+        SendMessageBatchResult result = new SendMessageBatchResult();
+        for (SendMessageBatchRequestEntry entry : request.getEntries()) {
+            try {
+
+                StoredMessage message = send(
+                        queue,
+                        entry.getMessageBody(),
+                        entry.getMessageAttributes(),
+                        entry.getDelaySeconds());
+
+                result.getSuccessful().add(new SendMessageBatchResultEntry()
+                        .withId(entry.getId())
+                        .withMessageId(message.id)
+                        .withMD5OfMessageBody(message.md5OfBody));
+
+            } catch (AmazonServiceException exception) {
+                result.getFailed().add(toErrorEntry(entry.getId(), exception));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ReceiveMessageResult receiveMessage(ReceiveMessageRequest request) {
+        LocalQueue queue = getQueue(request.getQueueUrl());
+
+        int maxMessages = check(
+                request.getMaxNumberOfMessages(), 1, MAX_BATCH_ENTRIES, 1,
+                "MaxNumberOfMessages");
+
+        List<StoredMessage> received = new ArrayList<>();
+        List<StoredMessage> redriven = new ArrayList<>();
+        String deadLetterTargetArn;
+
+        synchronized (queue) {
+            int visibilityTimeout = check(
+                    request.getVisibilityTimeout(), 0, MAX_VISIBILITY_TIMEOUT,
+                    queue.getInt("VisibilityTimeout"), "VisibilityTimeout");
+
+            int waitTimeSeconds = check(
+                    request.getWaitTimeSeconds(), 0, MAX_WAIT_TIME_SECONDS,
+                    queue.getInt("ReceiveMessageWaitTimeSeconds"),
+                    "WaitTimeSeconds");
+
+            long now = currentTimeMillis();
+            long deadline = now + TimeUnit.SECONDS.toMillis(waitTimeSeconds);
+
+            deadLetterTargetArn = queue.getDeadLetterTargetArn();
+            int maxReceiveCount = (deadLetterTargetArn == null
+                    ? Integer.MAX_VALUE
+                    : queue.getMaxReceiveCount());
+
+            while (true) {
+                if (queue.deleted) {
+                    throw nonExistentQueue();
+                }
+
+                queue.promote(now);
+
+                StoredMessage message;
+                while (received.size() < maxMessages
+                        && (message = queue.visible.pollFirst()) != null) {
+
+                    if (message.deleted) {
+                        continue;
+                    }
+                    if (message.receiveCount >= maxReceiveCount) {
+                        queue.remove(message);
+                        redriven.add(message);
+                        continue;
+                    }
+
+                    queue.receive(message, now, visibilityTimeout);
+                    received.add(message);
+                }
+
+                if (!received.isEmpty() || now >= deadline) {
+                    break;
+                }
+
+                long wake = deadline;
+                if (!queue.hidden.isEmpty()) {
+                    wake = Math.min(wake, queue.hidden.peek().visibleAt);
+                }
+                await(queue, Math.max(1, wake - now));
+                now = currentTimeMillis();
+            }
+        }
+
+        if (!redriven.isEmpty()) {
+            redrive(deadLetterTargetArn, redriven);
+        }
+
+        Set<String> attributeNames = toSet(request.getAttributeNames());
+        Set<String> messageAttributeNames =
+                toSet(request.getMessageAttributeNames());
+
+        List<Message> messages = new ArrayList<>(received.size());
+        for (StoredMessage message : received) {
+            messages.add(message.toMessage(
+                    attributeNames, messageAttributeNames));
+        }
+        return new ReceiveMessageResult().withMessages(messages);
+    }
+
+    @Override
+    public void deleteMessage(DeleteMessageRequest request) {
+        LocalQueue queue = getQueue(request.getQueueUrl());
+        String id = parseReceiptHandle(request.getReceiptHandle());
+
+        synchronized (queue) {
+            StoredMessage message = queue.messages.get(id);
+            if (message != null) {
+                queue.remove(message);
+            }
+        }
+    }
+
+    @Override
+    public DeleteMessageBatchResult deleteMessageBatch(
+            DeleteMessageBatchRequest request) {
+
+        List<String> ids = new ArrayList<>();
+        for (DeleteMessageBatchRequestEntry entry : request.getEntries()) {
+            ids.add(entry.getId());
+        }
+        checkBatch(ids);
+
+        DeleteMessageBatchResult result = new DeleteMessageBatchResult();
+        for (DeleteMessageBatchRequestEntry entry : request.getEntries()) {
+            try {
+
+                deleteMessage(new DeleteMessageRequest()
+                        .withQueueUrl(request.getQueueUrl())
+                        .withReceiptHandle(entry.getReceiptHandle()));
+
+                result.getSuccessful().add(
+                        new DeleteMessageBatchResultEntry()
+                                .withId(entry.getId()));
+
+            } catch (QueueDoesNotExistException exception) {
+                throw exception;
+            } catch (AmazonServiceException exception) {
+                result.getFailed().add(toErrorEntry(entry.getId(), exception));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void changeMessageVisibility(
+            ChangeMessageVisibilityRequest request) {
+
+        LocalQueue queue = getQueue(request.getQueueUrl());
+        String id = parseReceiptHandle(request.getReceiptHandle());
+
+        int visibilityTimeout = check(
+                request.getVisibilityTimeout(), 0, MAX_VISIBILITY_TIMEOUT,
+                -1, "VisibilityTimeout");
+
+        synchronized (queue) {
+            long now = currentTimeMillis();
+            queue.promote(now);
+
+            StoredMessage message = queue.messages.get(id);
+            if (message == null || !request.getReceiptHandle().equals(
+                    message.receiptHandle)) {
+
+                throw error(new AmazonServiceException(
+                        "Value " + request.getReceiptHandle() + " for "
+                        + "parameter ReceiptHandle is invalid. Reason: "
+                        + "Message does not exist or is not available for "
+                        + "visibility timeout change."),
+                        "InvalidParameterValue");
+            }
+            if (message.visibleAt <= now) {
+                throw error(new AmazonServiceException(
+                        "Message does not exist or is not available for "
+                        + "visibility timeout change."),
+                        "AWS.SimpleQueueService.MessageNotInflight");
+            }
+
+            queue.hide(message, now + TimeUnit.SECONDS.toMillis(
+                    visibilityTimeout));
+            queue.notifyAll();
+        }
+    }
+
+    @Override
+    public ChangeMessageVisibilityBatchResult changeMessageVisibilityBatch(
+            ChangeMessageVisibilityBatchRequest request) {
+
+        List<String> ids = new ArrayList<>();
+        for (ChangeMessageVisibilityBatchRequestEntry entry
+                : request.getEntries()) {
+
+            ids.add(entry.getId());
+        }
+        checkBatch(ids);
+
+        ChangeMessageVisibilityBatchResult result =
+                new ChangeMessageVisibilityBatchResult();
+
+        for (ChangeMessageVisibilityBatchRequestEntry entry
+                : request.getEntries()) {
+
+            try {
+
+                changeMessageVisibility(new ChangeMessageVisibilityRequest()
+                        .withQueueUrl(request.getQueueUrl())
+                        .withReceiptHandle(entry.getReceiptHandle())
+                        .withVisibilityTimeout(entry.getVisibilityTimeout()));
+
+                result.getSuccessful().add(
+                        new ChangeMessageVisibilityBatchResultEntry()
+                                .withId(entry.getId()));
+
+            } catch (QueueDoesNotExistException exception) {
+                throw exception;
+            } catch (AmazonServiceException exception) {
+                result.getFailed().add(toErrorEntry(entry.getId(), exception));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void addPermission(AddPermissionRequest request) {
+        throw new UnsupportedOperationException(
+                "Permissions are not supported by InMemorySQS");
+    }
+
+    @Override
+    public void removePermission(RemovePermissionRequest request) {
+        throw new UnsupportedOperationException(
+                "Permissions are not supported by InMemorySQS");
+    }
+
+    private LocalQueue getQueue(String url) {
+        if (url == null || !url.startsWith(endpoint + ACCOUNT_ID + "/")) {
+            throw nonExistentQueue();
+        }
+
+        LocalQueue queue = queues.get(url.substring(url.lastIndexOf('/') + 1));
+        if (queue == null || !queue.url.equals(url)) {
+            throw nonExistentQueue();
+        }
+        return queue;
+    }
+
+    private StoredMessage send(
+            LocalQueue queue,
+            String body,
+            Map<String, MessageAttributeValue> attributes,
+            Integer delaySeconds) {
+
+        if (body == null || body.isEmpty()) {
+            throw error(new AmazonServiceException(
+                    "The request must contain the parameter MessageBody."),
+                    "MissingParameter");
+        }
+        if (sizeOf(body, attributes) > MAX_MESSAGE_SIZE) {
+            throw error(new AmazonServiceException(
+                    "One or more parameters are invalid. Reason: Message must "
+                    + "be shorter than " + MAX_MESSAGE_SIZE + " bytes."),
+                    "InvalidParameterValue");
+        }
+
+        Map<String, MessageAttributeValue> copy = new HashMap<>();
+        if (attributes != null) {
+            copy.putAll(attributes);
+        }
+        StoredMessage message = new StoredMessage(body, copy);
+
+        synchronized (queue) {
+            if (queue.deleted) {
+                throw nonExistentQueue();
+            }
+
+            int delay = check(
+                    delaySeconds, 0, MAX_DELAY_SECONDS,
+                    queue.getInt("DelaySeconds"), "DelaySeconds");
+
+            queue.add(message, currentTimeMillis(), delay);
+            queue.notifyAll();
+        }
+        return message;
+    }
+
+    /**
+     * Moves messages which have been received too many times to the dead
+     * letter queue, if it exists; otherwise they are dropped, as SQS does.
+     */
+    private void redrive(String arn, List<StoredMessage> messages) {
+        LocalQueue target = queues.get(arn.substring(arn.lastIndexOf(':') + 1));
+        if (target == null || !target.arn.equals(arn)) {
+            return;
+        }
+
+        synchronized (target) {
+            if (target.deleted) {
+                return;
+            }
+
+            long now = currentTimeMillis();
+            for (StoredMessage message : messages) {
+                target.add(message.redriven(), now, 0);
+            }
+            target.notifyAll();
+        }
+    }
+
+    private static long sizeOf(
+            String body,
+            Map<String, MessageAttributeValue> attributes) {
+
+        long size = utf8Length(body);
+        if (attributes != null) {
+            for (Map.Entry<String, MessageAttributeValue> entry
+                    : attributes.entrySet()) {
+
+                MessageAttributeValue value = entry.getValue();
+                size += utf8Length(entry.getKey());
+                size += utf8Length(value.getDataType());
+                size += utf8Length(value.getStringValue());
+                if (value.getBinaryValue() != null) {
+                    size += value.getBinaryValue().remaining();
+                }
+            }
+        }
+        return size;
+    }
+
+    private static long utf8Length(String value) {
+        return (value == null
+                ? 0
+                : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void checkBatch(List<String> ids) {
+        if (ids.isEmpty()) {
+            throw error(new AmazonServiceException(
+                    "There should be at least one entry in the request."),
+                    "AWS.SimpleQueueService.EmptyBatchRequest");
+        }
+        if (ids.size() > MAX_BATCH_ENTRIES) {
+            throw error(new TooManyEntriesInBatchRequestException(
+                    "Maximum number of entries per request are "
+                    + MAX_BATCH_ENTRIES + ". You have sent " + ids.size()
+                    + "."),
+                    "AWS.SimpleQueueService.TooManyEntriesInBatchRequest");
+        }
+        if (new HashSet<>(ids).size() != ids.size()) {
+            throw error(new BatchEntryIdsNotDistinctException(
+                    "Two or more batch entries in the request have the same "
+                    + "Id."),
+                    "AWS.SimpleQueueService.BatchEntryIdsNotDistinct");
+        }
+    }
+
+    private static void checkAttributes(Map<String, String> attributes) {
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            String name = entry.getKey();
+            if (!DEFAULT_ATTRIBUTES.containsKey(name)
+                    && !"RedrivePolicy".equals(name)
+                    && !"Policy".equals(name)) {
+
+                throw error(new AmazonServiceException(
+                        "Unknown Attribute " + name + "."),
+                        "InvalidAttributeName");
+            }
+        }
+    }
+
+    private static int check(
+            Integer value,
+            int min,
+            int max,
+            int defaultValue,
+            String name) {
+
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value < min || value > max) {
+            throw error(new AmazonServiceException(
+                    "Value " + value + " for parameter " + name + " is "
+                    + "invalid. Reason: Must be between " + min + " and "
+                    + max + "."),
+                    "InvalidParameterValue");
+        }
+        return value;
+    }
+
+    private static String parseReceiptHandle(String receiptHandle) {
+        int separator = (receiptHandle == null
+                ? -1
+                : receiptHandle.lastIndexOf('#'));
+
+        if (separator <= 0) {
+            throw error(new ReceiptHandleIsInvalidException(
+                    "The input receipt handle \"" + receiptHandle
+                    + "\" is not a valid receipt handle."),
+                    "ReceiptHandleIsInvalid");
+        }
+        return receiptHandle.substring(0, separator);
+    }
+
+    private static Set<String> toSet(List<String> names) {
+        return (names == null
+                ? Collections.<String>emptySet()
+                : new HashSet<>(names));
+    }
+
+    /**
+     * Waits on a queue's monitor during a long poll. Like the real client,
+     * an interrupted poll is abandoned with an {@code AbortedException};
+     * the thread's interrupt status is left set for the caller to see.
+     */
+    private static void await(Object monitor, long millis) {
+        try {
+            monitor.wait(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AbortedException();
+        }
+    }
+
+    private static BatchResultErrorEntry toErrorEntry(
+            String id,
+            AmazonServiceException exception) {
+
+        return new BatchResultErrorEntry()
+                .withId(id)
+                .withSenderFault(
+                        exception.getErrorType() != ErrorType.Service)
+                .withCode(exception.getErrorCode())
+                .withMessage(exception.getErrorMessage());
+    }
+
+    private static AmazonServiceException nonExistentQueue() {
+        return error(new QueueDoesNotExistException(
+                "The specified queue does not exist for this wsdl version."),
+                "AWS.SimpleQueueService.NonExistentQueue");
+    }
+
+    private static AmazonServiceException error(
+            AmazonServiceException exception,
+            String errorCode) {
+
+        exception.setErrorCode(errorCode);
+        exception.setErrorType(ErrorType.Client);
+        exception.setStatusCode(400);
+        exception.setServiceName("AmazonSQS");
+        return exception;
+    }
+
+    private static String md5(String value) {
+        try {
+
+            byte[] digest = MessageDigest.getInstance("MD5")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+                builder.append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * A queue and the messages in it. Visible messages are kept in the
+     * order they became visible; messages which are delayed or in flight
+     * are kept in order of when they will next become visible. Entries
+     * for messages which have since been deleted or hidden again are
+     * skipped when they come up, rather than searched for.
+     */
+    private final class LocalQueue {
+
+        private final String name;
+        private final String url;
+        private final String arn;
+        private final Map<String, String> attributes;
+        private final long created;
+        private long modified;
+        private boolean deleted;
+
+        private final Map<String, StoredMessage> messages =
+                new LinkedHashMap<>();
+
+        private final Deque<StoredMessage> visible = new ArrayDeque<>();
+        private final PriorityQueue<Hidden> hidden = new PriorityQueue<>();
+
+        public LocalQueue(String name, Map<String, String> attributes) {
+            this.name = name;
+            this.url = endpoint + ACCOUNT_ID + "/" + name;
+            this.arn = "arn:aws:sqs:local:" + ACCOUNT_ID + ":" + name;
+            this.attributes = attributes;
+            this.created = currentTimeMillis();
+            this.modified = created;
+        }
+
+        public void add(StoredMessage message, long now, int delaySeconds) {
+            messages.put(message.id, message);
+            message.sent = now;
+            if (delaySeconds == 0) {
+                message.visibleAt = now;
+                visible.addLast(message);
+            } else {
+                hide(message, now + TimeUnit.SECONDS.toMillis(delaySeconds));
+            }
+        }
+
+        public void receive(StoredMessage message, long now, int timeout) {
+            message.receiveCount += 1;
+            if (message.firstReceived == 0) {
+                message.firstReceived = now;
+            }
+            message.receiptHandle = message.id + "#" + UUID.randomUUID();
+            hide(message, now + TimeUnit.SECONDS.toMillis(timeout));
+        }
+
+        public void hide(StoredMessage message, long visibleAt) {
+            message.visibleAt = visibleAt;
+            message.version += 1;
+            hidden.add(new Hidden(message, visibleAt, message.version));
+        }
+
+        public void remove(StoredMessage message) {
+            messages.remove(message.id);
+            message.deleted = true;
+        }
+
+        /**
+         * Makes visible every hidden message whose time has come.
+         */
+        public void promote(long now) {
+            while (!hidden.isEmpty() && hidden.peek().visibleAt <= now) {
+                Hidden entry = hidden.poll();
+                StoredMessage message = entry.message;
+                if (!message.deleted && entry.version == message.version) {
+                    visible.addLast(message);
+                }
+            }
+        }
+
+        public int getInt(String attribute) {
+            return Integer.parseInt(attributes.get(attribute));
+        }
+
+        public String getDeadLetterTargetArn() {
+            return find(DEAD_LETTER_TARGET_ARN);
+        }
+
+        public int getMaxReceiveCount() {
+            String count = find(MAX_RECEIVE_COUNT);
+            return (count == null
+                    ? Integer.MAX_VALUE
+                    : Integer.parseInt(count));
+        }
+
+        private String find(Pattern pattern) {
+            String policy = attributes.get("RedrivePolicy");
+            if (policy == null) {
+                return null;
+            }
+            Matcher matcher = pattern.matcher(policy);
+            return (matcher.find() ? matcher.group(1) : null);
+        }
+
+        public Map<String, String> getAttributes(long now) {
+            promote(now);
+
+            int available = 0;
+            int inFlight = 0;
+            int delayed = 0;
+            for (StoredMessage message : messages.values()) {
+                if (message.visibleAt <= now) {
+                    available += 1;
+                } else if (message.receiveCount > 0) {
+                    inFlight += 1;
+                } else {
+                    delayed += 1;
+                }
+            }
+
+            Map<String, String> result = new HashMap<>(attributes);
+            result.put("QueueArn", arn);
+            result.put("ApproximateNumberOfMessages",
+                    Integer.toString(available));
+            result.put("ApproximateNumberOfMessagesNotVisible",
+                    Integer.toString(inFlight));
+            result.put("ApproximateNumberOfMessagesDelayed",
+                    Integer.toString(delayed));
+            result.put("CreatedTimestamp", Long.toString(created / 1000));
+            result.put("LastModifiedTimestamp",
+                    Long.toString(modified / 1000));
+            return result;
+        }
+    }
+
+    /**
+     * An entry in the hidden messages queue, valid only as long as the
+     * message hasn't been hidden again since.
+     */
+    private static final class Hidden implements Comparable<Hidden> {
+
+        private final StoredMessage message;
+        private final long visibleAt;
+        private final long version;
+
+        public Hidden(StoredMessage message, long visibleAt, long version) {
+            this.message = message;
+            this.visibleAt = visibleAt;
+            this.version = version;
+        }
+
+        @Override
+        public int compareTo(Hidden other) {
+            return Long.compare(visibleAt, other.visibleAt);
+        }
+    }
+
+    private static final class StoredMessage {
+
+        private final String id = UUID.randomUUID().toString();
+        private final String body;
+        private final String md5OfBody;
+        private final Map<String, MessageAttributeValue> attributes;
+
+        private long sent;
+        private long firstReceived;
+        private int receiveCount;
+        private long visibleAt;
+        private long version;
+        private String receiptHandle;
+        private boolean deleted;
+
+        public StoredMessage(
+                String body,
+                Map<String, MessageAttributeValue> attributes) {
+
+            this.body = body;
+            this.md5OfBody = md5(body);
+            this.attributes = attributes;
+        }
+
+        /**
+         * @return a copy of this message to put in a dead letter queue
+         */
+        public StoredMessage redriven() {
+            return new StoredMessage(body, attributes);
+        }
+
+        public Message toMessage(
+                Set<String> attributeNames,
+                Set<String> messageAttributeNames) {
+
+            Map<String, String> systemAttributes = new HashMap<>();
+            boolean all = attributeNames.contains("All");
+
+            if (all || attributeNames.contains("SenderId")) {
+                systemAttributes.put("SenderId", ACCOUNT_ID);
+            }
+            if (all || attributeNames.contains("SentTimestamp")) {
+                systemAttributes.put("SentTimestamp", Long.toString(sent));
+            }
+            if (all || attributeNames.contains("ApproximateReceiveCount")) {
+                systemAttributes.put("ApproximateReceiveCount",
+                        Integer.toString(receiveCount));
+            }
+            if (all || attributeNames.contains(
+                    "ApproximateFirstReceiveTimestamp")) {
+
+                systemAttributes.put("ApproximateFirstReceiveTimestamp",
+                        Long.toString(firstReceived));
+            }
+
+            Map<String, MessageAttributeValue> selected = new HashMap<>();
+            boolean allAttributes = messageAttributeNames.contains("All")
+                    || messageAttributeNames.contains(".*");
+
+            for (Map.Entry<String, MessageAttributeValue> entry
+                    : attributes.entrySet()) {
+
+                if (allAttributes
+                        || messageAttributeNames.contains(entry.getKey())) {
+                    selected.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            return new Message()
+                    .withMessageId(id)
+                    .withReceiptHandle(receiptHandle)
+                    .withMD5OfBody(md5OfBody)
+                    .withBody(body)
+                    .withAttributes(systemAttributes)
+                    .withMessageAttributes(selected);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.CreateQueueRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+
+public class InMemorySQSTest {
+
+    private ManualClockSQS client;
+    private SQS sqs;
+    private Queue queue;
+
+    @Before
+    public void setUp() {
+        client = new ManualClockSQS();
+        sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+        queue = sqs.createQueue("test");
+    }
+
+    @Test
+    public void testSendReceiveDelete() {
+        queue.sendMessage("hello");
+
+        List<Message> messages = receive(queue, 10);
+        Assert.assertEquals(1, messages.size());
+        Assert.assertEquals("hello", messages.get(0).getBody());
+        Assert.assertEquals(
+                "5d41402abc4b2a76b9719d911017c592",
+                messages.get(0).getMD5OfBody());
+
+        // In flight until deleted or the visibility timeout runs out.
+        Assert.assertTrue(receive(queue, 10).isEmpty());
+
+        messages.get(0).delete();
+        client.now += 60000;
+        Assert.assertTrue(receive(queue, 10).isEmpty());
+    }
+
+    @Test
+    public void testVisibilityTimeout() {
+        queue.sendMessage("hello");
+
+        Message first = receive(queue, 1).get(0);
+        client.now += 29999;
+        Assert.assertTrue(receive(queue, 1).isEmpty());
+
+        client.now += 1;
+        Message second = receive(queue, 1).get(0);
+        Assert.assertEquals(first.getMessageId(), second.getMessageId());
+        Assert.assertFalse(
+                first.getReceiptHandle().equals(second.getReceiptHandle()));
+        Assert.assertEquals(
+                "2", second.getAttributes().get("ApproximateReceiveCount"));
+
+        second.changeVisibility(0);
+        Assert.assertEquals(1, receive(queue, 1).size());
+
+        // The first receipt handle is stale.
+        try {
+            first.changeVisibility(10);
+            Assert.fail("Expected a stale receipt handle to be rejected");
+        } catch (AmazonServiceException exception) {
+            Assert.assertEquals(
+                    "InvalidParameterValue", exception.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testOrderAndBatches() {
+        SendMessageBatchResult result = queue.sendMessages(batch(10));
+        Assert.assertEquals(10, result.getSuccessful().size());
+
+        List<String> bodies = new ArrayList<>();
+        for (Message message : receive(queue, 10)) {
+            bodies.add(message.getBody());
+        }
+        Assert.assertEquals(bodies(10), bodies);
+
+        assertErrorCode(
+                "AWS.SimpleQueueService.TooManyEntriesInBatchRequest",
+                batch(11));
+
+        SendMessageBatchRequest duplicates = batch(2);
+        duplicates.getEntries().get(1).setId("0");
+        assertErrorCode(
+                "AWS.SimpleQueueService.BatchEntryIdsNotDistinct",
+                duplicates);
+    }
+
+    @Test
+    public void testRedrive() {
+        Queue deadLetters = sqs.createQueue("test-dlq");
+        String arn = deadLetters.getAttributes().get("QueueArn");
+
+        Queue source = sqs.createQueue(new CreateQueueRequest("source")
+                .withAttributes(Collections.singletonMap(
+                        "RedrivePolicy",
+                        "{\"maxReceiveCount\":\"2\","
+                        + "\"deadLetterTargetArn\":\"" + arn + "\"}")));
+
+        source.sendMessage("poison");
+        for (int i = 0; i < 2; ++i) {
+            Assert.assertEquals(1, receive(source, 1).size());
+            client.now += 60000;
+        }
+
+        Assert.assertTrue(receive(source, 1).isEmpty());
+        Assert.assertEquals("poison", receive(deadLetters, 1).get(0).getBody());
+
+        Queue sourceQueue =
+                deadLetters.getDeadLetterSourceQueues().iterator().next();
+        Assert.assertEquals(source.getUrl(), sourceQueue.getUrl());
+    }
+
+    @Test
+    public void testDeletedQueue() {
+        String url = queue.getUrl();
+        queue.delete();
+
+        try {
+            sqs.getQueue(url).sendMessage("hello");
+            Assert.fail("Expected the queue to be gone");
+        } catch (AmazonServiceException exception) {
+            Assert.assertEquals(
+                    QueueUrlCache.NON_EXISTENT_QUEUE,
+                    exception.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testInterruptedLongPoll() throws Exception {
+        final Thread poller = Thread.currentThread();
+        Thread interrupter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException exception) {
+                    return;
+                }
+                poller.interrupt();
+            }
+        });
+        interrupter.start();
+
+        long start = System.nanoTime();
+        try {
+            queue.receiveMessages(
+                    new ReceiveMessageRequest().withWaitTimeSeconds(20));
+            Assert.fail("Expected the poll to be abandoned");
+        } catch (AbortedException expected) {
+        } finally {
+            interrupter.join();
+        }
+
+        // Abandoned right away, with the interrupt still visible.
+        Assert.assertTrue(System.nanoTime() - start
+                < TimeUnit.SECONDS.toNanos(5));
+        Assert.assertTrue(Thread.interrupted());
+
+        // A poll that starts out interrupted doesn't wait at all.
+        Thread.currentThread().interrupt();
+        try {
+            queue.receiveMessages(
+                    new ReceiveMessageRequest().withWaitTimeSeconds(20));
+            Assert.fail("Expected the poll to be abandoned");
+        } catch (AbortedException expected) {
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private void assertErrorCode(
+            String errorCode,
+            SendMessageBatchRequest request) {
+
+        try {
+            queue.sendMessages(request);
+            Assert.fail("Expected " + errorCode);
+        } catch (AmazonServiceException exception) {
+            Assert.assertEquals(errorCode, exception.getErrorCode());
+        }
+    }
+
+    private static List<Message> receive(Queue queue, int maxMessages) {
+        return queue.receiveMessages(new ReceiveMessageRequest()
+                .withMaxNumberOfMessages(maxMessages)
+                .withAttributeNames("All"));
+    }
+
+    private static SendMessageBatchRequest batch(int size) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>();
+        for (String body : bodies(size)) {
+            entries.add(new SendMessageBatchRequestEntry()
+                    .withId(Integer.toString(entries.size()))
+                    .withMessageBody(body));
+        }
+        return new SendMessageBatchRequest().withEntries(entries);
+    }
+
+    private static List<String> bodies(int count) {
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            bodies.add("message " + i);
+        }
+        return bodies;
+    }
+
+    /**
+     * A stand-in whose clock only moves when a test moves it.
+     */
+    public static class ManualClockSQS extends InMemorySQS {
+
+        private volatile long now = 1000000;
+
+        @Override
+        protected long currentTimeMillis() {
+            return now;
+        }
+    }
+}
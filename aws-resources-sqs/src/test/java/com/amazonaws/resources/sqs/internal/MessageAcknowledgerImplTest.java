@@ -0,0 +1,294 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.AcknowledgerOptions;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageAcknowledger;
+import com.amazonaws.resources.sqs.MessageHeartbeat;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+
+public class MessageAcknowledgerImplTest {
+
+    private FailingDeleteSQS client;
+    private SQS sqs;
+    private Queue queue;
+
+    @Before
+    public void setUp() {
+        client = new FailingDeleteSQS();
+        sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+        queue = sqs.createQueue("test");
+    }
+
+    @Test
+    public void testDeletesInFullBatches() throws Exception {
+        List<Message> messages = sendAndReceive(25);
+
+        MessageAcknowledger acknowledger = queue.createAcknowledger(
+                new AcknowledgerOptions()
+                        .withMaxLinger(1, TimeUnit.HOURS));
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Message message : messages) {
+            futures.add(acknowledger.delete(message));
+        }
+
+        // Two full batches have gone; the last five wait for the linger
+        // time, or for close().
+        acknowledger.close();
+
+        for (Future<Void> future : futures) {
+            Assert.assertNull(future.get(0, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(3, client.batches.get());
+        Assert.assertEquals(0, count());
+    }
+
+    @Test
+    public void testPartialBatchFailuresAreRetried() throws Exception {
+        List<Message> messages = sendAndReceive(10);
+        client.serviceFaults.set(3);
+
+        MessageAcknowledger acknowledger = queue.createAcknowledger(
+                new AcknowledgerOptions().withMaxRetries(3));
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Message message : messages) {
+            futures.add(acknowledger.delete(message));
+        }
+        acknowledger.close();
+
+        for (Future<Void> future : futures) {
+            Assert.assertNull(future.get(0, TimeUnit.SECONDS));
+        }
+
+        // The first batch, then one retry for each failure.
+        Assert.assertEquals(4, client.batches.get());
+        Assert.assertEquals(0, count());
+    }
+
+    @Test
+    public void testRetriesRunOut() throws Exception {
+        List<Message> messages = sendAndReceive(1);
+        client.serviceFaults.set(Integer.MAX_VALUE);
+
+        MessageAcknowledger acknowledger = queue.createAcknowledger(
+                new AcknowledgerOptions().withMaxRetries(2));
+
+        Future<Void> future = acknowledger.delete(messages.get(0));
+        acknowledger.close();
+
+        assertFailure(future, "InternalError");
+        Assert.assertEquals(3, client.batches.get());
+        Assert.assertEquals(1, count());
+    }
+
+    @Test
+    public void testSenderFaultsAreNotRetried() throws Exception {
+        List<Message> messages = sendAndReceive(2);
+
+        MessageAcknowledger acknowledger = queue.createAcknowledger(null);
+
+        Future<Void> good = acknowledger.delete(messages.get(0));
+        Future<Void> bad = acknowledger.delete(
+                queue.getMessage("not-a-receipt-handle"));
+        acknowledger.close();
+
+        Assert.assertNull(good.get(0, TimeUnit.SECONDS));
+        assertFailure(bad, "ReceiptHandleIsInvalid");
+        Assert.assertEquals(1, client.batches.get());
+    }
+
+    @Test
+    public void testEntriesMissingFromResultFail() throws Exception {
+        List<Message> messages = sendAndReceive(3);
+        client.dropped.set(1);
+
+        MessageHeartbeat heartbeat = queue.createHeartbeat(60);
+        MessageAcknowledger acknowledger = queue.createAcknowledger(null);
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Message message : messages) {
+            heartbeat.track(message);
+            futures.add(acknowledger.delete(message));
+        }
+        acknowledger.close();
+
+        Assert.assertNull(futures.get(0).get(0, TimeUnit.SECONDS));
+        Assert.assertNull(futures.get(1).get(0, TimeUnit.SECONDS));
+        try {
+            futures.get(2).get(0, TimeUnit.SECONDS);
+            Assert.fail("Expected the missing entry to fail");
+        } catch (ExecutionException exception) {
+            Assert.assertTrue(exception.getCause()
+                    instanceof AmazonClientException);
+            Assert.assertTrue(exception.getCause().getMessage()
+                    .contains("missing"));
+        }
+        Assert.assertEquals(1, client.batches.get());
+
+        // Only the messages known to be deleted stop being extended.
+        Assert.assertEquals(1, heartbeat.getTrackedCount());
+        heartbeat.close();
+    }
+
+    @Test
+    public void testChangeVisibility() throws Exception {
+        List<Message> messages = sendAndReceive(3);
+
+        MessageAcknowledger acknowledger = queue.createAcknowledger(null);
+        for (Message message : messages) {
+            acknowledger.changeVisibility(message, 0);
+        }
+        acknowledger.close();
+
+        Assert.assertEquals(3, queue.receiveMessages(
+                new ReceiveMessageRequest().withMaxNumberOfMessages(10))
+                .size());
+    }
+
+    @Test
+    public void testClosedAcknowledgerRejectsEntries() {
+        List<Message> messages = sendAndReceive(1);
+
+        MessageAcknowledger acknowledger = queue.createAcknowledger(null);
+        acknowledger.close();
+
+        try {
+            acknowledger.delete(messages.get(0));
+            Assert.fail("Expected the closed acknowledger to refuse");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMessageFromAnotherQueue() {
+        Queue other = sqs.createQueue("other");
+        other.sendMessage("hello");
+        Message message = other.receiveMessages(
+                new ReceiveMessageRequest()).get(0);
+
+        queue.createAcknowledger(null).delete(message);
+    }
+
+    private List<Message> sendAndReceive(int count) {
+        for (int i = 0; i < count; ++i) {
+            queue.sendMessage("message " + i);
+        }
+
+        List<Message> messages = new ArrayList<>();
+        while (messages.size() < count) {
+            messages.addAll(queue.receiveMessages(new ReceiveMessageRequest()
+                    .withMaxNumberOfMessages(10)));
+        }
+        return messages;
+    }
+
+    private int count() {
+        String visible = "ApproximateNumberOfMessages";
+        String hidden = "ApproximateNumberOfMessagesNotVisible";
+
+        Map<String, String> attributes = client.getQueueAttributes(
+                new GetQueueAttributesRequest(queue.getUrl())
+                        .withAttributeNames(visible, hidden))
+                .getAttributes();
+
+        return Integer.parseInt(attributes.get(visible))
+                + Integer.parseInt(attributes.get(hidden));
+    }
+
+    private static void assertFailure(Future<Void> future, String errorCode)
+            throws InterruptedException {
+
+        try {
+            future.get();
+            Assert.fail("Expected " + errorCode);
+        } catch (ExecutionException exception) {
+            Assert.assertEquals(errorCode,
+                    ((AmazonServiceException) exception.getCause())
+                            .getErrorCode());
+        }
+    }
+
+    /**
+     * A stand-in which counts delete batches, and can fail the first entry
+     * of a batch with a service fault instead of deleting it.
+     */
+    public static class FailingDeleteSQS extends InMemorySQS {
+
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger serviceFaults = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+
+        @Override
+        public DeleteMessageBatchResult deleteMessageBatch(
+                DeleteMessageBatchRequest request) {
+
+            batches.incrementAndGet();
+
+            List<DeleteMessageBatchRequestEntry> entries =
+                    new ArrayList<>(request.getEntries());
+
+            BatchResultErrorEntry fault = null;
+            if (serviceFaults.getAndDecrement() > 0) {
+                fault = new BatchResultErrorEntry()
+                        .withId(entries.remove(0).getId())
+                        .withSenderFault(false)
+                        .withCode("InternalError")
+                        .withMessage("try again");
+            }
+
+            // Leave the last entry out of the result altogether.
+            if (dropped.getAndDecrement() > 0) {
+                entries.remove(entries.size() - 1);
+            }
+
+            DeleteMessageBatchResult result = (entries.isEmpty()
+                    ? new DeleteMessageBatchResult()
+                    : super.deleteMessageBatch(new DeleteMessageBatchRequest(
+                            request.getQueueUrl(), entries)));
+
+            if (fault != null) {
+                result.getFailed().add(fault);
+            }
+            return result;
+        }
+    }
+}
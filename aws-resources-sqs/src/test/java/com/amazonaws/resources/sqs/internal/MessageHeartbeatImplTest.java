@@ -0,0 +1,225 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageAcknowledger;
+import com.amazonaws.resources.sqs.MessageHeartbeat;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+
+public class MessageHeartbeatImplTest {
+
+    private CountingSQS client;
+    private SQS sqs;
+    private Queue queue;
+
+    @Before
+    public void setUp() {
+        client = new CountingSQS();
+        sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+        queue = sqs.createQueue("test");
+    }
+
+    @Test
+    public void testExtendsTrackedMessages() throws Exception {
+        Message message = sendAndReceive();
+
+        MessageHeartbeat heartbeat = queue.createHeartbeat(2);
+        heartbeat.track(message);
+
+        // The queue's clock only moves when told to, so the extension is
+        // made as of 1.5 seconds after the receive, whenever it really
+        // happens.
+        client.now += 1500;
+        awaitExtensions(1);
+
+        // Past the original timeout, but not past the extended one.
+        client.now += 1900;
+        Assert.assertTrue(receive().isEmpty());
+        Assert.assertEquals(1, heartbeat.getTrackedCount());
+
+        heartbeat.close();
+        Assert.assertEquals(0, heartbeat.getTrackedCount());
+
+        client.now += 2000;
+        Assert.assertEquals(1, receive().size());
+    }
+
+    @Test
+    public void testReleasedOnDelete() throws Exception {
+        Message message = sendAndReceive();
+
+        MessageHeartbeat heartbeat = queue.createHeartbeat(2);
+        heartbeat.track(message);
+        Assert.assertEquals(1, heartbeat.getTrackedCount());
+
+        MessageAcknowledger acknowledger = queue.createAcknowledger(null);
+        acknowledger.delete(message).get(5, TimeUnit.SECONDS);
+        acknowledger.close();
+
+        Assert.assertEquals(0, heartbeat.getTrackedCount());
+
+        // Nothing is left to extend.
+        Thread.sleep(1500);
+        Assert.assertEquals(0, client.extensions.get());
+        heartbeat.close();
+    }
+
+    @Test
+    public void testReleasedOnMessageDelete() throws Exception {
+        Message message = sendAndReceive();
+
+        MessageHeartbeat heartbeat = queue.createHeartbeat(2);
+        heartbeat.track(message);
+        Assert.assertEquals(1, heartbeat.getTrackedCount());
+
+        message.delete();
+        Assert.assertEquals(0, heartbeat.getTrackedCount());
+
+        // Nothing is left to extend.
+        Thread.sleep(1500);
+        Assert.assertEquals(0, client.extensions.get());
+        heartbeat.close();
+    }
+
+    @Test
+    public void testNotReleasedWhenMessageDeleteFails() {
+        Message message = sendAndReceive();
+
+        MessageHeartbeat heartbeat = queue.createHeartbeat(2);
+        heartbeat.track(message);
+        queue.delete();
+
+        try {
+            message.delete();
+            Assert.fail("Expected the delete to fail");
+        } catch (AmazonServiceException expected) {
+        }
+        Assert.assertEquals(1, heartbeat.getTrackedCount());
+        heartbeat.close();
+    }
+
+    @Test
+    public void testRelease() {
+        Message message = sendAndReceive();
+
+        MessageHeartbeat heartbeat = queue.createHeartbeat(2);
+        heartbeat.track(message);
+
+        Assert.assertTrue(heartbeat.release(message));
+        Assert.assertFalse(heartbeat.release(message));
+        Assert.assertEquals(0, heartbeat.getTrackedCount());
+        heartbeat.close();
+    }
+
+    @Test
+    public void testDropsMessagesThatAreGone() throws Exception {
+        MessageHeartbeat heartbeat = queue.createHeartbeat(2);
+        heartbeat.track(queue.getMessage("not-a-receipt-handle"));
+
+        awaitExtensions(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (heartbeat.getTrackedCount() > 0
+                && System.nanoTime() < deadline) {
+
+            Thread.sleep(10);
+        }
+
+        Assert.assertEquals(0, heartbeat.getTrackedCount());
+        heartbeat.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMessageFromAnotherQueue() {
+        Queue other = sqs.createQueue("other");
+        queue.createHeartbeat(2).track(other.getMessage("handle"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTimeoutTooShort() {
+        queue.createHeartbeat(1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTrackAfterClose() {
+        MessageHeartbeat heartbeat = queue.createHeartbeat(2);
+        heartbeat.close();
+        heartbeat.track(queue.getMessage("handle"));
+    }
+
+    private Message sendAndReceive() {
+        queue.sendMessage("hello");
+        List<Message> messages = queue.receiveMessages(
+                new ReceiveMessageRequest().withVisibilityTimeout(2));
+        Assert.assertEquals(1, messages.size());
+        return messages.get(0);
+    }
+
+    private List<Message> receive() {
+        return queue.receiveMessages(
+                new ReceiveMessageRequest().withWaitTimeSeconds(0));
+    }
+
+    private void awaitExtensions(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.extensions.get() < count) {
+            Assert.assertTrue("Timed out waiting for an extension",
+                    System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * A stand-in with a clock that only moves when told to, which counts
+     * the visibility extensions sent to it.
+     */
+    public static class CountingSQS extends InMemorySQS {
+
+        private volatile long now = 1000000;
+        private final AtomicInteger extensions = new AtomicInteger();
+
+        @Override
+        protected long currentTimeMillis() {
+            return now;
+        }
+
+        @Override
+        public ChangeMessageVisibilityBatchResult changeMessageVisibilityBatch(
+                ChangeMessageVisibilityBatchRequest request) {
+
+            try {
+                return super.changeMessageVisibilityBatch(request);
+            } finally {
+                extensions.addAndGet(request.getEntries().size());
+            }
+        }
+    }
+}
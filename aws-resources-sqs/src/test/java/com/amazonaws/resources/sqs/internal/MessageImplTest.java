@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.internal.ResourceImpl;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+
+public class MessageImplTest {
+
+    private Queue queue;
+
+    @Before
+    public void setUp() {
+        SQS sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(new InMemorySQS())
+                .build();
+        queue = sqs.createQueue("test");
+    }
+
+    @Test
+    public void testReadsStraightFromReceivedMessage() {
+        queue.sendMessage(new SendMessageRequest()
+                .withMessageBody("hello")
+                .withMessageAttributes(Collections.singletonMap(
+                        "color",
+                        new MessageAttributeValue()
+                                .withDataType("String")
+                                .withStringValue("blue"))));
+
+        List<Message> messages = queue.receiveMessages(
+                new ReceiveMessageRequest()
+                        .withAttributeNames("All")
+                        .withMessageAttributeNames("All"));
+        Assert.assertEquals(1, messages.size());
+
+        Message message = messages.get(0);
+        ResourceImpl resource = ((MessageImpl) message).getResourceImpl();
+
+        Object data = resource.getLoadedData();
+        Assert.assertTrue(
+                data instanceof com.amazonaws.services.sqs.model.Message);
+
+        com.amazonaws.services.sqs.model.Message raw =
+                (com.amazonaws.services.sqs.model.Message) data;
+
+        // The typed getters hand back the SDK's own objects.
+        Assert.assertSame(raw.getBody(), message.getBody());
+        Assert.assertSame(raw.getAttributes(), message.getAttributes());
+        Assert.assertSame(
+                raw.getMessageAttributes(), message.getMessageAttributes());
+
+        Assert.assertEquals("hello", message.getBody());
+        Assert.assertEquals("blue", message.getMessageAttributes()
+                .get("color").getStringValue());
+        Assert.assertNotNull(message.getAttributes().get("SentTimestamp"));
+    }
+
+    @Test
+    public void testTypedGettersMatchAttributesByName() {
+        queue.sendMessage("hello");
+
+        Message message = queue.receiveMessages(
+                new ReceiveMessageRequest().withAttributeNames("All"))
+                .get(0);
+        ResourceImpl resource = ((MessageImpl) message).getResourceImpl();
+
+        Assert.assertEquals(resource.getAttribute("Body"),
+                message.getBody());
+        Assert.assertEquals(resource.getAttribute("MessageId"),
+                message.getMessageId());
+        Assert.assertEquals(resource.getAttribute("MD5OfBody"),
+                message.getMD5OfBody());
+        Assert.assertEquals(resource.getAttribute("Attributes"),
+                message.getAttributes());
+    }
+
+    @Test
+    public void testMessageNotFromReceive() {
+        Message message = queue.getMessage("handle");
+
+        Assert.assertFalse(message.isLoaded());
+        Assert.assertNull(
+                ((MessageImpl) message).getResourceImpl().getLoadedData());
+        Assert.assertEquals("handle", message.getReceiptHandle());
+        Assert.assertEquals(queue.getUrl(), message.getQueueUrl());
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageReceiver;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.ReceiverOptions;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+public class MessageReceiverImplTest {
+
+    /**
+     * Messages may be handed out for one second after they are received.
+     */
+    private static final ReceiverOptions OPTIONS = new ReceiverOptions()
+            .withBufferSize(5)
+            .withWaitTimeSeconds(1)
+            .withVisibilityTimeout(2)
+            .withMinRemainingVisibility(1);
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private RecordingSQS client;
+    private Queue queue;
+
+    @Before
+    public void setUp() {
+        client = new RecordingSQS();
+        SQS sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+        queue = sqs.createQueue("test");
+    }
+
+    @Test
+    public void testReceivesEveryMessage() throws Exception {
+        send(12);
+
+        MessageReceiver receiver = queue.createReceiver(OPTIONS);
+        try {
+
+            for (int i = 0; i < 12; ++i) {
+                Message message = receiver.receive(5, TimeUnit.SECONDS);
+                Assert.assertNotNull(message);
+                assertNotExpired(message);
+            }
+            Assert.assertNull(receiver.receive(10, TimeUnit.MILLISECONDS));
+
+        } finally {
+            receiver.close();
+        }
+    }
+
+    @Test
+    public void testNeverHandsOutExpiredMessages() throws Exception {
+        send(5);
+
+        MessageReceiver receiver = queue.createReceiver(OPTIONS);
+        try {
+
+            awaitBuffered(receiver, 5);
+
+            // Everything buffered so far has outlived the window; it has to
+            // be released and received again rather than handed out.
+            Thread.sleep(1500);
+
+            for (int i = 0; i < 5; ++i) {
+                Message message = receiver.receive(5, TimeUnit.SECONDS);
+                Assert.assertNotNull(message);
+                assertNotExpired(message);
+            }
+            Assert.assertTrue(client.receives.get() > 1);
+
+        } finally {
+            receiver.close();
+        }
+    }
+
+    @Test
+    public void testCloseReleasesBufferedMessages() throws Exception {
+        send(3);
+
+        MessageReceiver receiver = queue.createReceiver(OPTIONS);
+        awaitBuffered(receiver, 3);
+        receiver.close();
+
+        Assert.assertNull(receiver.receive());
+        Assert.assertEquals(0, receiver.getBufferedCount());
+
+        // Released through an acknowledger, which the fetcher closes once
+        // its last poll returns.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(3, count());
+    }
+
+    @Test
+    public void testSurvivesUnexpectedExceptions() throws Exception {
+        client.receiveFailures.set(2);
+        send(1);
+
+        MessageReceiver receiver = queue.createReceiver(OPTIONS);
+        try {
+            Assert.assertNotNull(receiver.receive(5, TimeUnit.SECONDS));
+        } finally {
+            receiver.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWindowMustNotBeEmpty() {
+        queue.createReceiver(new ReceiverOptions()
+                .withVisibilityTimeout(5)
+                .withMinRemainingVisibility(5));
+    }
+
+    private void send(int count) {
+        for (int i = 0; i < count; ++i) {
+            queue.sendMessage("message " + i);
+        }
+    }
+
+    private void assertNotExpired(Message message) {
+        long received = client.receivedAt.get(message.getReceiptHandle());
+        long age = System.nanoTime() - received;
+        Assert.assertTrue("Handed out "
+                + TimeUnit.NANOSECONDS.toMillis(age) + "ms after receive",
+                age < WINDOW);
+    }
+
+    private int count() {
+        String visible = "ApproximateNumberOfMessages";
+        return Integer.parseInt(client.getQueueAttributes(
+                new GetQueueAttributesRequest(queue.getUrl())
+                        .withAttributeNames(visible))
+                .getAttributes()
+                .get(visible));
+    }
+
+    private static void awaitBuffered(MessageReceiver receiver, int count)
+            throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (receiver.getBufferedCount() < count) {
+            Assert.assertTrue("Timed out filling the buffer",
+                    System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * A stand-in which remembers when each receipt handle was handed out,
+     * and whose receives can be made to fail unexpectedly.
+     */
+    public static class RecordingSQS extends InMemorySQS {
+
+        private final Map<String, Long> receivedAt =
+                new ConcurrentHashMap<>();
+        private final AtomicInteger receives = new AtomicInteger();
+        private final AtomicInteger receiveFailures = new AtomicInteger();
+
+        @Override
+        public ReceiveMessageResult receiveMessage(
+                ReceiveMessageRequest request) {
+
+            if (receiveFailures.getAndDecrement() > 0) {
+                throw new IllegalStateException("unexpected failure");
+            }
+
+            long started = System.nanoTime();
+            ReceiveMessageResult result = super.receiveMessage(request);
+            receives.incrementAndGet();
+
+            for (com.amazonaws.services.sqs.model.Message message
+                    : result.getMessages()) {
+
+                receivedAt.put(message.getReceiptHandle(), started);
+            }
+            return result;
+        }
+    }
+}
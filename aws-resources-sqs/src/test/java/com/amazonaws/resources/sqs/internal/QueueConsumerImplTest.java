@@ -0,0 +1,250 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.ConsumerOptions;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.MessageHandler;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.QueueConsumer;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+public class QueueConsumerImplTest {
+
+    private static final ConsumerOptions OPTIONS = new ConsumerOptions()
+            .withReceivers(2)
+            .withWorkers(4)
+            .withWaitTimeSeconds(1);
+
+    private FlakySQS client;
+    private Queue queue;
+
+    @Before
+    public void setUp() {
+        client = new FlakySQS();
+        SQS sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+        queue = sqs.createQueue("test");
+    }
+
+    @Test
+    public void testHandlesAndDeletesEveryMessage() throws Exception {
+        send(50);
+
+        final Set<String> bodies =
+                Collections.newSetFromMap(
+                        new ConcurrentHashMap<String, Boolean>());
+        final CountDownLatch handled = new CountDownLatch(50);
+
+        QueueConsumer consumer = queue.consume(new MessageHandler() {
+            @Override
+            public void handle(Message message) {
+                bodies.add(message.getBody());
+                handled.countDown();
+            }
+        }, OPTIONS);
+
+        Assert.assertTrue(handled.await(10, TimeUnit.SECONDS));
+        shutdown(consumer);
+
+        Assert.assertEquals(50, bodies.size());
+        Assert.assertEquals(0, count("ApproximateNumberOfMessages"));
+        Assert.assertEquals(0, count("ApproximateNumberOfMessagesNotVisible"));
+    }
+
+    @Test
+    public void testFailedMessagesAreNotDeleted() throws Exception {
+        send(1);
+
+        final CountDownLatch handled = new CountDownLatch(1);
+        QueueConsumer consumer = queue.consume(new MessageHandler() {
+            @Override
+            public void handle(Message message) {
+                handled.countDown();
+                throw new IllegalStateException("handler failed");
+            }
+        }, OPTIONS);
+
+        Assert.assertTrue(handled.await(10, TimeUnit.SECONDS));
+        shutdown(consumer);
+
+        Assert.assertEquals(1, count("ApproximateNumberOfMessagesNotVisible"));
+    }
+
+    @Test
+    public void testInFlightMessagesAreBounded() throws Exception {
+        send(30);
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch handled = new CountDownLatch(30);
+
+        QueueConsumer consumer = queue.consume(new MessageHandler() {
+            @Override
+            public void handle(Message message) throws Exception {
+                int now = running.incrementAndGet();
+                while (true) {
+                    int max = maxRunning.get();
+                    if (now <= max || maxRunning.compareAndSet(max, now)) {
+                        break;
+                    }
+                }
+                release.await();
+                running.decrementAndGet();
+                handled.countDown();
+            }
+        }, new ConsumerOptions()
+                .withReceivers(2)
+                .withWorkers(10)
+                .withMaxInFlight(5)
+                .withWaitTimeSeconds(1));
+
+        // Give the receivers time to take more than they should, if they
+        // were going to.
+        while (running.get() < 5) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+
+        Assert.assertEquals(5, running.get());
+        Assert.assertEquals(5, count("ApproximateNumberOfMessagesNotVisible"));
+
+        release.countDown();
+        Assert.assertTrue(handled.await(10, TimeUnit.SECONDS));
+        shutdown(consumer);
+
+        Assert.assertEquals(5, maxRunning.get());
+    }
+
+    @Test
+    public void testReceiversSurviveUnexpectedExceptions() throws Exception {
+        client.receiveFailures.set(4);
+        send(10);
+
+        final CountDownLatch handled = new CountDownLatch(10);
+        QueueConsumer consumer = queue.consume(new MessageHandler() {
+            @Override
+            public void handle(Message message) {
+                handled.countDown();
+            }
+        }, OPTIONS);
+
+        Assert.assertTrue(handled.await(10, TimeUnit.SECONDS));
+        Assert.assertFalse(consumer.isShutdown());
+        Assert.assertFalse(consumer.isTerminated());
+
+        shutdown(consumer);
+        Assert.assertTrue(client.receiveFailures.get() <= 0);
+    }
+
+    @Test
+    public void testHeartbeatTimeoutIsUsedForReceives() throws Exception {
+        send(1);
+
+        final CountDownLatch handled = new CountDownLatch(1);
+        QueueConsumer consumer = queue.consume(new MessageHandler() {
+            @Override
+            public void handle(Message message) {
+                handled.countDown();
+            }
+        }, new ConsumerOptions()
+                .withWaitTimeSeconds(1)
+                .withVisibilityTimeout(1)
+                .withHeartbeatTimeout(5));
+
+        Assert.assertTrue(handled.await(10, TimeUnit.SECONDS));
+        shutdown(consumer);
+
+        // A shorter timeout could run out before the first extension.
+        Assert.assertEquals(Integer.valueOf(5), client.visibilityTimeout);
+    }
+
+    @Test
+    public void testShutdownStopsReceiving() throws Exception {
+        QueueConsumer consumer = queue.consume(new MessageHandler() {
+            @Override
+            public void handle(Message message) {
+                Assert.fail("No message should be received");
+            }
+        }, OPTIONS);
+
+        shutdown(consumer);
+        Assert.assertTrue(consumer.isShutdown());
+        Assert.assertTrue(consumer.isTerminated());
+
+        send(1);
+        Thread.sleep(100);
+        Assert.assertEquals(1, count("ApproximateNumberOfMessages"));
+    }
+
+    private void send(int count) {
+        for (int i = 0; i < count; ++i) {
+            queue.sendMessage("message " + i);
+        }
+    }
+
+    private int count(String attribute) {
+        return Integer.parseInt(client.getQueueAttributes(
+                new GetQueueAttributesRequest(queue.getUrl())
+                        .withAttributeNames(attribute))
+                .getAttributes().get(attribute));
+    }
+
+    private static void shutdown(QueueConsumer consumer)
+            throws InterruptedException {
+
+        consumer.shutdown();
+        Assert.assertTrue(consumer.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * A stand-in whose receives can be made to fail with an exception that
+     * isn't an {@code AmazonClientException}, and which remembers the last
+     * visibility timeout asked for.
+     */
+    public static class FlakySQS extends InMemorySQS {
+
+        private final AtomicInteger receiveFailures = new AtomicInteger();
+        private volatile Integer visibilityTimeout;
+
+        @Override
+        public ReceiveMessageResult receiveMessage(
+                ReceiveMessageRequest request) {
+
+            visibilityTimeout = request.getVisibilityTimeout();
+            if (receiveFailures.getAndDecrement() > 0) {
+                throw new IllegalStateException("unexpected failure");
+            }
+            return super.receiveMessage(request);
+        }
+    }
+}
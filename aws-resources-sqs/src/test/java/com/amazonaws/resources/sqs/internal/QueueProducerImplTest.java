@@ -0,0 +1,222 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.ProducerOptions;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.QueueProducer;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+
+public class QueueProducerImplTest {
+
+    private static final ProducerOptions NO_LINGER = new ProducerOptions()
+            .withFlushInterval(1, TimeUnit.HOURS);
+
+    private SlowSQS client;
+    private Queue queue;
+
+    @Before
+    public void setUp() {
+        client = new SlowSQS();
+        SQS sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+        queue = sqs.createQueue("test");
+    }
+
+    @Test
+    public void testFlushesWhenBatchIsFull() throws Exception {
+        QueueProducer producer = queue.createProducer(NO_LINGER);
+
+        List<Future<SendMessageResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; ++i) {
+            futures.add(producer.send("message " + i));
+        }
+
+        // The first twenty go out in full batches without waiting.
+        for (int i = 0; i < 20; ++i) {
+            Assert.assertNotNull(
+                    futures.get(i).get(5, TimeUnit.SECONDS).getMessageId());
+        }
+        Assert.assertEquals(2, producer.getBatchesSent());
+        Assert.assertFalse(futures.get(20).isDone());
+        Assert.assertEquals(5, producer.getQueueDepth());
+
+        producer.flush();
+
+        Assert.assertTrue(futures.get(24).isDone());
+        Assert.assertEquals(3, producer.getBatchesSent());
+        Assert.assertEquals(25, count());
+        Assert.assertEquals(25.0 / 3, producer.getAverageBatchFill(), 1e-9);
+    }
+
+    @Test
+    public void testFlushesWhenBatchIsTooBig() throws Exception {
+        QueueProducer producer = queue.createProducer(NO_LINGER);
+
+        String body = body(100 * 1024);
+        Future<SendMessageResult> first = producer.send(body);
+        Future<SendMessageResult> second = producer.send(body);
+        Assert.assertEquals(0, producer.getBatchesSent());
+
+        // The third would take the batch past 256 KB, so the first two go
+        // out on their own.
+        Future<SendMessageResult> third = producer.send(body);
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        Assert.assertFalse(third.isDone());
+        Assert.assertEquals(1, producer.getBatchesSent());
+
+        producer.close();
+
+        Assert.assertTrue(third.isDone());
+        Assert.assertEquals(2, producer.getBatchesSent());
+        Assert.assertEquals(3, count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsMessageBiggerThanBatch() {
+        queue.createProducer(null).send(
+                body(QueueProducerImpl.MAX_BATCH_BYTES + 1));
+    }
+
+    @Test
+    public void testFlushesAfterLinger() throws Exception {
+        QueueProducer producer = queue.createProducer(new ProducerOptions()
+                .withFlushInterval(50, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        Future<SendMessageResult> future = producer.send("hello");
+        future.get(5, TimeUnit.SECONDS);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(
+                System.nanoTime() - start);
+
+        Assert.assertTrue("Sent after " + elapsed + "ms", elapsed >= 40);
+        Assert.assertEquals(1, producer.getBatchesSent());
+        producer.close();
+    }
+
+    @Test
+    public void testCloseWaitsForSends() throws Exception {
+        client.delayMillis = 200;
+        QueueProducer producer = queue.createProducer(NO_LINGER);
+
+        List<Future<SendMessageResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 15; ++i) {
+            futures.add(producer.send("message " + i));
+        }
+        producer.close();
+
+        for (Future<SendMessageResult> future : futures) {
+            Assert.assertTrue(future.isDone());
+        }
+        Assert.assertEquals(0, producer.getQueueDepth());
+        Assert.assertEquals(15, count());
+
+        try {
+            producer.send("too late");
+            Assert.fail("Expected the closed producer to refuse");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void testFailsEntriesMissingFromResult() throws Exception {
+        client.dropLast.set(1);
+        QueueProducer producer = queue.createProducer(NO_LINGER);
+
+        Future<SendMessageResult> first = producer.send("first");
+        Future<SendMessageResult> second = producer.send("second");
+
+        // Must not hang waiting for an entry nobody reported on.
+        producer.close();
+
+        Assert.assertNotNull(first.get(0, TimeUnit.SECONDS).getMessageId());
+        try {
+            second.get(0, TimeUnit.SECONDS);
+            Assert.fail("Expected the unreported message to fail");
+        } catch (ExecutionException exception) {
+            Assert.assertTrue(
+                    exception.getCause() instanceof AmazonClientException);
+        } catch (TimeoutException exception) {
+            Assert.fail("Unreported message never completed");
+        }
+    }
+
+    private int count() {
+        String visible = "ApproximateNumberOfMessages";
+        return Integer.parseInt(client.getQueueAttributes(
+                new GetQueueAttributesRequest(queue.getUrl())
+                        .withAttributeNames(visible))
+                .getAttributes()
+                .get(visible));
+    }
+
+    private static String body(int length) {
+        char[] chars = new char[length];
+        Arrays.fill(chars, 'x');
+        return new String(chars);
+    }
+
+    /**
+     * A stand-in which can take its time over batches, and can leave the
+     * last entry of a batch out of the result entirely.
+     */
+    public static class SlowSQS extends InMemorySQS {
+
+        private volatile long delayMillis;
+        private final AtomicInteger dropLast = new AtomicInteger();
+
+        @Override
+        public SendMessageBatchResult sendMessageBatch(
+                SendMessageBatchRequest request) {
+
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            SendMessageBatchResult result = super.sendMessageBatch(request);
+            if (dropLast.getAndDecrement() > 0) {
+                result.getSuccessful().remove(
+                        result.getSuccessful().size() - 1);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+
+/**
+ * Measures the throughput of the batch message actions on {@code Queue},
+ * through the whole resource layer, against an {@link InMemorySQS}. Each
+ * operation moves a full batch of ten messages. Run {@link #main} to run
+ * every benchmark with the GC profiler; pass {@code -t} to JMH to run
+ * several threads, each of which gets a queue of its own.
+ * <ul>
+ * <li>{@code sendMessages} sends a batch, then purges the queue so it
+ * doesn't grow without bound.</li>
+ * <li>{@code receiveMessages} receives a batch with a visibility timeout
+ * of zero from a queue of a hundred messages, so the same messages are
+ * received again and again.</li>
+ * <li>{@code deleteMessages} deletes the same batch of received messages
+ * over and over; deleting an already deleted message succeeds, as it does
+ * in SQS.</li>
+ * <li>{@code roundTrip} sends, receives and deletes a batch.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueThroughputBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int PREFILL = 100;
+
+    private static final AtomicInteger QUEUES = new AtomicInteger();
+
+    private InMemorySQS client;
+    private Queue queue;
+
+    private SendMessageBatchRequest send;
+    private ReceiveMessageRequest receiveAgain;
+    private ReceiveMessageRequest receive;
+    private DeleteMessageBatchRequest delete;
+
+    @Setup
+    public void setUp() {
+        client = new InMemorySQS();
+
+        SQS sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+
+        queue = sqs.createQueue("benchmark-" + QUEUES.incrementAndGet());
+
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; ++i) {
+            entries.add(new SendMessageBatchRequestEntry()
+                    .withId(Integer.toString(i))
+                    .withMessageBody("body of message " + i));
+        }
+        send = new SendMessageBatchRequest().withEntries(entries);
+
+        receiveAgain = new ReceiveMessageRequest()
+                .withMaxNumberOfMessages(BATCH_SIZE)
+                .withVisibilityTimeout(0);
+
+        receive = new ReceiveMessageRequest()
+                .withMaxNumberOfMessages(BATCH_SIZE);
+
+        for (int i = 0; i < PREFILL; i += BATCH_SIZE) {
+            queue.sendMessages(send);
+        }
+        delete = toDeleteRequest(queue.receiveMessages(receive));
+    }
+
+    @Benchmark
+    public void sendMessages(Blackhole blackhole) {
+        blackhole.consume(queue.sendMessages(send));
+        client.purge(queue.getUrl());
+    }
+
+    @Benchmark
+    public void receiveMessages(Blackhole blackhole) {
+        for (Message message : queue.receiveMessages(receiveAgain)) {
+            blackhole.consume(message.getBody());
+        }
+    }
+
+    @Benchmark
+    public void deleteMessages(Blackhole blackhole) {
+        blackhole.consume(queue.deleteMessages(delete));
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole blackhole) {
+        queue.sendMessages(send);
+
+        List<Message> messages = queue.receiveMessages(receive);
+        for (Message message : messages) {
+            blackhole.consume(message.getBody());
+        }
+
+        blackhole.consume(queue.deleteMessages(toDeleteRequest(messages)));
+    }
+
+    private static DeleteMessageBatchRequest toDeleteRequest(
+            List<Message> messages) {
+
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>();
+        for (Message message : messages) {
+            entries.add(new DeleteMessageBatchRequestEntry()
+                    .withId(Integer.toString(entries.size()))
+                    .withReceiptHandle(message.getReceiptHandle()));
+        }
+        return new DeleteMessageBatchRequest().withEntries(entries);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QueueThroughputBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
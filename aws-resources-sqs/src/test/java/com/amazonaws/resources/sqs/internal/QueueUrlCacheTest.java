@@ -0,0 +1,307 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.GetQueueUrlRequest;
+import com.amazonaws.services.sqs.model.GetQueueUrlResult;
+
+public class QueueUrlCacheTest {
+
+    @Test
+    public void testCachesUrls() {
+        QueueUrlCache cache = new QueueUrlCache(10, TimeUnit.HOURS.toMillis(1));
+        CountingLoader loader = new CountingLoader();
+
+        Assert.assertEquals("url/a", cache.get("a", loader));
+        Assert.assertEquals("url/a", cache.get("a", loader));
+        Assert.assertEquals("url/b", cache.get("b", loader));
+
+        Assert.assertEquals(2, loader.calls.get());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEntriesExpire() throws Exception {
+        QueueUrlCache cache = new QueueUrlCache(10, 50);
+        CountingLoader loader = new CountingLoader();
+
+        cache.get("a", loader);
+        cache.get("a", loader);
+        Assert.assertEquals(1, loader.calls.get());
+
+        Thread.sleep(100);
+
+        cache.get("a", loader);
+        Assert.assertEquals(2, loader.calls.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsDropped() {
+        QueueUrlCache cache = new QueueUrlCache(2, TimeUnit.HOURS.toMillis(1));
+        CountingLoader loader = new CountingLoader();
+
+        cache.get("a", loader);
+        cache.get("b", loader);
+        cache.get("a", loader);
+
+        // b is the least recently used, so it makes way for c.
+        cache.get("c", loader);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(3, loader.calls.get());
+
+        cache.get("a", loader);
+        Assert.assertEquals(3, loader.calls.get());
+
+        cache.get("b", loader);
+        Assert.assertEquals(4, loader.calls.get());
+    }
+
+    @Test
+    public void testMissesAreNotCached() {
+        QueueUrlCache cache = new QueueUrlCache(10, TimeUnit.HOURS.toMillis(1));
+        final AtomicInteger calls = new AtomicInteger();
+
+        QueueUrlCache.Loader loader = new QueueUrlCache.Loader() {
+            @Override
+            public String load(String queueName) {
+                calls.incrementAndGet();
+                return null;
+            }
+        };
+
+        Assert.assertNull(cache.get("a", loader));
+        Assert.assertNull(cache.get("a", loader));
+        Assert.assertEquals(2, calls.get());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConcurrentLookupsShareOneCall() throws Exception {
+        final QueueUrlCache cache =
+                new QueueUrlCache(10, TimeUnit.HOURS.toMillis(1));
+
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final QueueUrlCache.Loader loader = new QueueUrlCache.Loader() {
+            @Override
+            public String load(String queueName) {
+                calls.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    throw new IllegalStateException(exception);
+                }
+                return "url/" + queueName;
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+
+            Future<?>[] lookups = new Future<?>[8];
+            for (int i = 0; i < lookups.length; ++i) {
+                lookups[i] = executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        Assert.assertEquals("url/a", cache.get("a", loader));
+                    }
+                });
+            }
+
+            Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<?> lookup : lookups) {
+                lookup.get(5, TimeUnit.SECONDS);
+            }
+            Assert.assertEquals(1, calls.get());
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailuresAreShared() throws Exception {
+        final QueueUrlCache cache =
+                new QueueUrlCache(10, TimeUnit.HOURS.toMillis(1));
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final QueueUrlCache.Loader loader = new QueueUrlCache.Loader() {
+            @Override
+            public String load(String queueName) {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    throw new IllegalStateException(exception);
+                }
+                throw new AmazonServiceException("throttled");
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+
+            Future<?> leader = executor.submit(new Lookup(cache, loader));
+            Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<?> follower = executor.submit(new Lookup(cache, loader));
+            Thread.sleep(100);
+            release.countDown();
+
+            leader.get(5, TimeUnit.SECONDS);
+            follower.get(5, TimeUnit.SECONDS);
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // A failed lookup leaves nothing behind.
+        Assert.assertEquals("url/a", cache.get("a", new CountingLoader()));
+    }
+
+    @Test
+    public void testInvalidation() {
+        QueueUrlCache cache = new QueueUrlCache(10, TimeUnit.HOURS.toMillis(1));
+        CountingLoader loader = new CountingLoader();
+
+        cache.get("a", loader);
+        cache.get("b", loader);
+
+        cache.invalidateName("a");
+        Assert.assertEquals(1, cache.size());
+
+        cache.invalidateUrl("url/b");
+        Assert.assertEquals(0, cache.size());
+
+        cache.get("a", loader);
+        cache.get("b", loader);
+        Assert.assertEquals(4, loader.calls.get());
+    }
+
+    @Test
+    public void testInvalidatedWhileLoadingIsNotCached() {
+        final QueueUrlCache cache =
+                new QueueUrlCache(10, TimeUnit.HOURS.toMillis(1));
+
+        Assert.assertEquals("url/a", cache.get("a",
+                new QueueUrlCache.Loader() {
+                    @Override
+                    public String load(String queueName) {
+                        // Deleted while the lookup was in flight.
+                        cache.invalidateUrl("url/a");
+                        return "url/a";
+                    }
+                }));
+
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxSizeTooSmall() {
+        new QueueUrlCache(0, 1000);
+    }
+
+    @Test
+    public void testGetQueueByNameUsesCache() {
+        CountingSQS client = new CountingSQS();
+        SQS sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+
+        Queue created = sqs.createQueue("test");
+
+        Assert.assertEquals(created.getUrl(),
+                sqs.getQueueByName("test").getUrl());
+        Assert.assertEquals(created.getUrl(),
+                sqs.getQueueByName("test").getUrl());
+        Assert.assertEquals(1, client.lookups.get());
+
+        // Deleting the queue removes it from the cache.
+        created.delete();
+        try {
+            sqs.getQueueByName("test");
+            Assert.fail("Expected the deleted queue to be looked up again");
+        } catch (AmazonServiceException exception) {
+            Assert.assertTrue(QueueUrlCache.isNonExistentQueue(exception));
+        }
+        Assert.assertEquals(2, client.lookups.get());
+    }
+
+    private static final class CountingLoader implements QueueUrlCache.Loader {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String load(String queueName) {
+            calls.incrementAndGet();
+            return "url/" + queueName;
+        }
+    }
+
+    private static final class Lookup implements Runnable {
+
+        private final QueueUrlCache cache;
+        private final QueueUrlCache.Loader loader;
+
+        public Lookup(QueueUrlCache cache, QueueUrlCache.Loader loader) {
+            this.cache = cache;
+            this.loader = loader;
+        }
+
+        @Override
+        public void run() {
+            try {
+                cache.get("a", loader);
+                Assert.fail("Expected the lookup to fail");
+            } catch (AmazonServiceException exception) {
+                Assert.assertEquals("throttled", exception.getErrorMessage());
+            }
+        }
+    }
+
+    /**
+     * A stand-in which counts {@code GetQueueUrl} calls.
+     */
+    public static class CountingSQS extends InMemorySQS {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public GetQueueUrlResult getQueueUrl(GetQueueUrlRequest request) {
+            lookups.incrementAndGet();
+            return super.getQueueUrl(request);
+        }
+    }
+}
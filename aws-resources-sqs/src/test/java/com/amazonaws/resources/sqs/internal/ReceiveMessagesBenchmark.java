@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.amazonaws.resources.internal.ResourceFacade;
+import com.amazonaws.resources.internal.ResourceImpl;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+/**
+ * Measures the cost of turning a {@code ReceiveMessageResult} into
+ * {@code Message} resources and reading their attributes. The client
+ * returns the same canned result of ten messages every time, so no
+ * requests are made to SQS and only the resource layer is measured.
+ * <p>
+ * The {@code typed} mode reads attributes through the {@code Message}
+ * getters, which read straight from the SDK message. The {@code generic}
+ * mode reads them by name through {@code ResourceImpl.getAttribute}, which
+ * copies every attribute into a map by reflection - the only way to read
+ * them before the getters had a fast path. Run {@link #main} to compare
+ * the two; the GC profiler's {@code gc.alloc.rate.norm} is the allocation
+ * per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReceiveMessagesBenchmark {
+
+    private static final String QUEUE_URL =
+            "https://sqs.us-east-1.amazonaws.com/123456789012/benchmark";
+
+    @Param({"typed", "generic"})
+    public String access;
+
+    private Queue queue;
+    private ReceiveMessageRequest request;
+
+    @Setup
+    public void setUp() {
+        queue = new SQSImpl(new CannedClient()).getQueue(QUEUE_URL);
+        request = new ReceiveMessageRequest().withMaxNumberOfMessages(10);
+    }
+
+    @Benchmark
+    public void receiveMessages(Blackhole blackhole) {
+        List<Message> messages = queue.receiveMessages(request);
+
+        if ("typed".equals(access)) {
+            for (Message message : messages) {
+                blackhole.consume(message.getMessageId());
+                blackhole.consume(message.getBody());
+                blackhole.consume(message.getAttributes());
+            }
+        } else {
+            for (Message message : messages) {
+                ResourceImpl resource =
+                        ((ResourceFacade) message).getResourceImpl();
+
+                blackhole.consume(resource.getAttribute("MessageId"));
+                blackhole.consume(resource.getAttribute("Body"));
+                blackhole.consume(resource.getAttribute("Attributes"));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReceiveMessagesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    /**
+     * Answers every receive with the same ten messages.
+     */
+    public static final class CannedClient extends AmazonSQSClient {
+
+        private final ReceiveMessageResult result;
+
+        public CannedClient() {
+            List<com.amazonaws.services.sqs.model.Message> messages =
+                    new ArrayList<>();
+
+            for (int i = 0; i < 10; ++i) {
+                messages.add(new com.amazonaws.services.sqs.model.Message()
+                        .withMessageId("message-" + i)
+                        .withReceiptHandle("receipt-handle-" + i)
+                        .withBody("body of message " + i)
+                        .withMD5OfBody("d41d8cd98f00b204e9800998ecf8427e"));
+            }
+
+            result = new ReceiveMessageResult().withMessages(messages);
+        }
+
+        @Override
+        public ReceiveMessageResult receiveMessage(
+                ReceiveMessageRequest request) {
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2014 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.resources.sqs.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.resources.ServiceBuilder;
+import com.amazonaws.resources.sqs.Message;
+import com.amazonaws.resources.sqs.Queue;
+import com.amazonaws.resources.sqs.RedriveOptions;
+import com.amazonaws.resources.sqs.RedriveResult;
+import com.amazonaws.resources.sqs.SQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+
+public class RedriverTest {
+
+    private static final RedriveOptions OPTIONS = new RedriveOptions()
+            .withMovers(3)
+            .withWaitTimeSeconds(1)
+            .withVisibilityTimeout(1);
+
+    private FailingSQS client;
+    private Queue source;
+    private Queue target;
+
+    @Before
+    public void setUp() {
+        client = new FailingSQS();
+        SQS sqs = ServiceBuilder.forService(SQS.class)
+                .withClient(client)
+                .build();
+
+        source = sqs.createQueue("dead-letters");
+        target = sqs.createQueue("work");
+        client.targetUrl = target.getUrl();
+    }
+
+    @Test
+    public void testMovesEveryMessage() {
+        for (int i = 0; i < 45; ++i) {
+            source.sendMessage(new SendMessageRequest()
+                    .withMessageBody("message " + i)
+                    .withMessageAttributes(Collections.singletonMap(
+                            "index",
+                            new MessageAttributeValue()
+                                    .withDataType("Number")
+                                    .withStringValue(Integer.toString(i)))));
+        }
+
+        RedriveResult result = source.redrive(target, OPTIONS);
+
+        Assert.assertEquals(45, result.getMoved());
+        Assert.assertEquals(0, result.getSendFailures());
+        Assert.assertEquals(0, result.getDeleteFailures());
+        Assert.assertEquals(0, count(source));
+
+        Set<String> bodies = new HashSet<>();
+        for (Message message : drain(target)) {
+            Assert.assertEquals("message "
+                    + message.getMessageAttributes().get("index")
+                            .getStringValue(),
+                    message.getBody());
+            bodies.add(message.getBody());
+        }
+        Assert.assertEquals(45, bodies.size());
+    }
+
+    @Test
+    public void testUnsentMessagesAreNeverDeleted() {
+        send(source, 20);
+        source.sendMessage("poison 1");
+        source.sendMessage("poison 2");
+
+        RedriveResult result = source.redrive(target, OPTIONS);
+
+        Assert.assertEquals(20, result.getMoved());
+        Assert.assertEquals(2, result.getSendFailures());
+        Assert.assertEquals(20, count(target));
+
+        // Tried three times each, then left behind.
+        Assert.assertEquals(6, client.poisonSends.get());
+        Assert.assertEquals(2, count(source));
+    }
+
+    @Test
+    public void testFailedSendsAreRetried() {
+        send(source, 10);
+        client.batchFailures.set(1);
+
+        RedriveResult result = source.redrive(target, new RedriveOptions()
+                .withMovers(1)
+                .withWaitTimeSeconds(1)
+                .withVisibilityTimeout(2));
+
+        // The first batch failed outright; the redrive waited for its
+        // messages to become visible again rather than stopping at the
+        // empty receive that came first.
+        Assert.assertEquals(10, result.getMoved());
+        Assert.assertEquals(0, result.getSendFailures());
+        Assert.assertEquals(0, count(source));
+        Assert.assertEquals(10, count(target));
+    }
+
+    @Test
+    public void testDeleteFailuresAreCounted() {
+        send(source, 5);
+        client.deleteFailures.set(1);
+
+        RedriveResult result = source.redrive(target, new RedriveOptions()
+                .withMovers(1)
+                .withWaitTimeSeconds(1)
+                .withVisibilityTimeout(30));
+
+        Assert.assertEquals(5, result.getMoved());
+        Assert.assertEquals(1, result.getDeleteFailures());
+        Assert.assertEquals(5, count(target));
+        Assert.assertEquals(1, count(source));
+    }
+
+    @Test
+    public void testRateLimit() {
+        send(source, 30);
+
+        RedriveResult result = source.redrive(target, new RedriveOptions()
+                .withMovers(3)
+                .withWaitTimeSeconds(1)
+                .withMaxMessagesPerSecond(20));
+
+        Assert.assertEquals(30, result.getMoved());
+        Assert.assertTrue(result.toString(),
+                result.getElapsed(TimeUnit.MILLISECONDS) >= 900);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIntoItself() {
+        source.redrive(source, OPTIONS);
+    }
+
+    private static void send(Queue queue, int count) {
+        for (int i = 0; i < count; ++i) {
+            queue.sendMessage("message " + i);
+        }
+    }
+
+    private static List<Message> drain(Queue queue) {
+        List<Message> messages = new ArrayList<>();
+        while (true) {
+            List<Message> batch = queue.receiveMessages(
+                    new ReceiveMessageRequest()
+                            .withMaxNumberOfMessages(10)
+                            .withMessageAttributeNames("All"));
+            if (batch.isEmpty()) {
+                return messages;
+            }
+            messages.addAll(batch);
+        }
+    }
+
+    private int count(Queue queue) {
+        String visible = "ApproximateNumberOfMessages";
+        String hidden = "ApproximateNumberOfMessagesNotVisible";
+
+        Map<String, String> attributes = client.getQueueAttributes(
+                new GetQueueAttributesRequest(queue.getUrl())
+                        .withAttributeNames(visible, hidden))
+                .getAttributes();
+
+        return Integer.parseInt(attributes.get(visible))
+                + Integer.parseInt(attributes.get(hidden));
+    }
+
+    /**
+     * A stand-in which refuses to send messages whose body starts with
+     * "poison" to the target queue, and can fail whole send batches or
+     * the first entry of delete batches.
+     */
+    public static class FailingSQS extends InMemorySQS {
+
+        private volatile String targetUrl;
+        private final AtomicInteger poisonSends = new AtomicInteger();
+        private final AtomicInteger batchFailures = new AtomicInteger();
+        private final AtomicInteger deleteFailures = new AtomicInteger();
+
+        @Override
+        public SendMessageBatchResult sendMessageBatch(
+                SendMessageBatchRequest request) {
+
+            if (!request.getQueueUrl().equals(targetUrl)) {
+                return super.sendMessageBatch(request);
+            }
+            if (batchFailures.getAndDecrement() > 0) {
+                throw new AmazonServiceException("service unavailable");
+            }
+
+            List<SendMessageBatchRequestEntry> entries = new ArrayList<>();
+            List<BatchResultErrorEntry> failed = new ArrayList<>();
+
+            for (SendMessageBatchRequestEntry entry : request.getEntries()) {
+                if (entry.getMessageBody().startsWith("poison")) {
+                    poisonSends.incrementAndGet();
+                    failed.add(new BatchResultErrorEntry()
+                            .withId(entry.getId())
+                            .withSenderFault(true)
+                            .withCode("InvalidMessageContents")
+                            .withMessage("poison"));
+                } else {
+                    entries.add(entry);
+                }
+            }
+
+            SendMessageBatchResult result = (entries.isEmpty()
+                    ? new SendMessageBatchResult()
+                    : super.sendMessageBatch(new SendMessageBatchRequest(
+                            request.getQueueUrl(), entries)));
+
+            result.getFailed().addAll(failed);
+            return result;
+        }
+
+        @Override
+        public DeleteMessageBatchResult deleteMessageBatch(
+                DeleteMessageBatchRequest request) {
+
+            if (deleteFailures.getAndDecrement() <= 0) {
+                return super.deleteMessageBatch(request);
+            }
+
+            DeleteMessageBatchRequest rest = new DeleteMessageBatchRequest(
+                    request.getQueueUrl(),
+                    request.getEntries().subList(
+                            1, request.getEntries().size()));
+
+            DeleteMessageBatchResult result = (rest.getEntries().isEmpty()
+                    ? new DeleteMessageBatchResult()
+                    : super.deleteMessageBatch(rest));
+
+            result.getFailed().add(new BatchResultErrorEntry()
+                    .withId(request.getEntries().get(0).getId())
+                    .withSenderFault(false)
+                    .withCode("InternalError")
+                    .withMessage("try again"));
+            return result;
+        }
+    }
+}